@@ -15,11 +15,35 @@
  */
 package example;
 
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.Join;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Slice;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.repository.CrudRepository;
+import io.micronaut.data.repository.jpa.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 @JdbcRepository(dialect = Dialect.H2)
-public interface BookRepository extends CrudRepository<Book, Long> {
+public interface BookRepository extends CrudRepository<Book, Long>, JpaSpecificationExecutor<Book> {
     Book findByTitle(String title);
+
+    @Join("author")
+    List<Book> readByPagesGreaterThan(int pages);
+
+    Page<Book> queryByPagesGreaterThan(int pages, Pageable pageable);
+
+    Slice<Book> retrieveByPagesGreaterThan(int pages, Pageable pageable);
+
+    List<Book> findByPagesGreaterThan(int pages);
+
+    List<BookDto> searchByPagesGreaterThan(int pages);
+
+    Stream<Book> findByPagesGreaterThanEquals(int pages);
+
+    void update(@Id Long id, int pages);
 }
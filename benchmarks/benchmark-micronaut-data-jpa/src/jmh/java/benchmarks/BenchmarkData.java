@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import example.Author;
+import example.AuthorRepository;
+import example.Book;
+import example.BookRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Populates the embedded database with the data set shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    static final int AUTHORS = 10;
+    static final int BOOKS_PER_AUTHOR = 100;
+
+    private BenchmarkData() {
+    }
+
+    static void populate(AuthorRepository authorRepository, BookRepository bookRepository) {
+        for (int i = 0; i < AUTHORS; i++) {
+            Author author = authorRepository.save(new Author("Author " + i));
+            List<Book> books = new ArrayList<>(BOOKS_PER_AUTHOR);
+            for (int j = 0; j < BOOKS_PER_AUTHOR; j++) {
+                books.add(new Book("Book " + i + "-" + j, 10 * j, author));
+            }
+            bookRepository.saveAll(books);
+        }
+    }
+
+    static void populate(BookRepository bookRepository, int count) {
+        int chunk = 10_000;
+        for (int i = 0; i < count; i += chunk) {
+            bookRepository.saveAll(books(i, Math.min(chunk, count - i)));
+        }
+    }
+
+    static List<Book> books(int offset, int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = offset; i < offset + count; i++) {
+            books.add(new Book("Book " + i, i % 1000));
+        }
+        return books;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import example.AuthorRepository;
+import example.Book;
+import example.BookRepository;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.jpa.repository.criteria.Specification;
+import io.micronaut.transaction.TransactionOperations;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+public class CriteriaBenchmark {
+
+    static final Specification<Book> LONG_BOOKS = (root, query, criteriaBuilder) -> criteriaBuilder.and(
+            criteriaBuilder.greaterThan(root.get("pages"), 500),
+            criteriaBuilder.like(root.get("title"), "Book 1-%")
+    );
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    TransactionOperations<?> transactionOperations;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.builder().packages("example").start();
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        this.transactionOperations = applicationContext.getBean(TransactionOperations.class);
+        BenchmarkData.populate(applicationContext.getBean(AuthorRepository.class), bookRepository);
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Object measureFindAll() {
+        return transactionOperations.executeRead(status -> bookRepository.findAll(LONG_BOOKS));
+    }
+
+    @Benchmark
+    public Object measureCount() {
+        return transactionOperations.executeRead(status -> bookRepository.count(LONG_BOOKS));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + CriteriaBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
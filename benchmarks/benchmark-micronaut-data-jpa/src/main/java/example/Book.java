@@ -24,12 +24,20 @@ public class Book {
     private Long id;
     private String title;
     private int pages;
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Author author;
 
     public Book(String title, int pages) {
         this.title = title;
         this.pages = pages;
     }
 
+    public Book(String title, int pages, Author author) {
+        this.title = title;
+        this.pages = pages;
+        this.author = author;
+    }
+
     public Book() {
     }
 
@@ -56,4 +64,12 @@ public class Book {
     public void setPages(int pages) {
         this.pages = pages;
     }
+
+    public Author getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(Author author) {
+        this.author = author;
+    }
 }
@@ -18,10 +18,12 @@ package example;
 import io.micronaut.data.annotation.*;
 import io.micronaut.data.model.*;
 import io.micronaut.data.repository.CrudRepository;
+import io.micronaut.data.jpa.repository.JpaSpecificationExecutor;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository // <1>
-public interface BookRepository extends CrudRepository<Book, Long> { // <2>
+public interface BookRepository extends CrudRepository<Book, Long>, JpaSpecificationExecutor<Book> { // <2>
 // end::repository[]
 
     // tag::simple[]
@@ -111,6 +113,17 @@ public interface BookRepository extends CrudRepository<Book, Long> { // <2>
     List<Book> findNativeBooks(String title);
     // end::native[]
 
+    @Join("author")
+    List<Book> readByPagesGreaterThan(int pages);
+
+    Page<Book> queryByPagesGreaterThan(int pages, Pageable pageable);
+
+    Slice<Book> retrieveByPagesGreaterThan(int pages, Pageable pageable);
+
+    List<BookDTO> searchByPagesGreaterThan(int pages);
+
+    Stream<Book> findByPagesGreaterThanEquals(int pages);
+
 // tag::repository[]
 }
 // end::repository[]
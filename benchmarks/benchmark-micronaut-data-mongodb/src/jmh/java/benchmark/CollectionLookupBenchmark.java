@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import example.Book;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compares resolving the database and the collection for every operation, as the repository operations did before
+ * the handles were cached, with the cached lookup keyed by the database, collection, document class and read and
+ * write settings. Collection handles are created locally, no server is required.
+ */
+@State(Scope.Benchmark)
+public class CollectionLookupBenchmark {
+
+    MongoClient mongoClient;
+    MongoDatabase database;
+    Map<Key, MongoCollection<?>> collections;
+
+    @Setup
+    public void prepare() {
+        mongoClient = MongoClients.create("mongodb://localhost:27017");
+        database = mongoClient.getDatabase("benchmark");
+        collections = new ConcurrentHashMap<>();
+    }
+
+    @TearDown
+    public void cleanup() {
+        mongoClient.close();
+    }
+
+    @Benchmark
+    public MongoCollection<Book> measureGetCollection() {
+        return mongoClient.getDatabase("benchmark").getCollection("book", Book.class);
+    }
+
+    @Benchmark
+    public MongoCollection<Book> measureCachedCollection() {
+        Key key = new Key(database.getName(), "book", Book.class, database.getReadPreference(), database.getReadConcern(), database.getWriteConcern());
+        return (MongoCollection<Book>) collections.computeIfAbsent(key, k -> database.getCollection(k.collectionName, Book.class));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + CollectionLookupBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    static final class Key {
+        final String databaseName;
+        final String collectionName;
+        final Class<?> documentClass;
+        final ReadPreference readPreference;
+        final ReadConcern readConcern;
+        final WriteConcern writeConcern;
+        final int hashCode;
+
+        Key(String databaseName, String collectionName, Class<?> documentClass, ReadPreference readPreference, ReadConcern readConcern, WriteConcern writeConcern) {
+            this.databaseName = databaseName;
+            this.collectionName = collectionName;
+            this.documentClass = documentClass;
+            this.readPreference = readPreference;
+            this.readConcern = readConcern;
+            this.writeConcern = writeConcern;
+            this.hashCode = (databaseName.hashCode() * 31 + collectionName.hashCode()) * 31 + documentClass.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return documentClass == key.documentClass
+                    && collectionName.equals(key.collectionName)
+                    && databaseName.equals(key.databaseName)
+                    && Objects.equals(readPreference, key.readPreference)
+                    && Objects.equals(readConcern, key.readConcern)
+                    && Objects.equals(writeConcern, key.writeConcern);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
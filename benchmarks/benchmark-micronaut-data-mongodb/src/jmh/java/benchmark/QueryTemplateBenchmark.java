@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import io.micronaut.data.document.model.query.builder.MongoQueryBuilder;
+import io.micronaut.data.mongodb.operations.BsonTemplate;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares rendering a compiled {@link BsonTemplate} with cloning and walking the parsed query document,
+ * which is how the parameters were replaced before the templates were introduced.
+ */
+@State(Scope.Benchmark)
+public class QueryTemplateBenchmark {
+
+    static final String QUERY = "{$and: ["
+            + "{title: {$eq: {$mn_qp: 0}}}, "
+            + "{pages: {$gt: {$mn_qp: 1}}}, "
+            + "{status: {$in: [\"PUBLISHED\", \"DRAFT\", \"ARCHIVED\"]}}, "
+            + "{'author.name': {$regex: \"^S\", $options: \"i\"}}, "
+            + "{tags: {$in: [{$mn_qp: 2}]}}"
+            + "]}";
+
+    BsonDocument query;
+    BsonTemplate template;
+    BsonValue[] values;
+
+    @Setup
+    public void prepare() {
+        query = BsonDocument.parse(QUERY);
+        template = BsonTemplate.compile(query);
+        values = new BsonValue[] {
+                new BsonString("The Stand"),
+                new BsonInt32(100),
+                new BsonArray(Arrays.asList(new BsonString("horror"), new BsonString("classic")))
+        };
+    }
+
+    @Benchmark
+    public BsonDocument measureCloneAndWalk() {
+        return (BsonDocument) replace(query.clone());
+    }
+
+    @Benchmark
+    public BsonDocument measureTemplate() {
+        return template.render(index -> values[index]);
+    }
+
+    private BsonValue replace(BsonValue value) {
+        if (value instanceof BsonDocument) {
+            BsonDocument bsonDocument = (BsonDocument) value;
+            BsonInt32 queryParameterIndex = bsonDocument.getInt32(MongoQueryBuilder.QUERY_PARAMETER_PLACEHOLDER, null);
+            if (queryParameterIndex != null) {
+                return values[queryParameterIndex.getValue()];
+            }
+            for (Map.Entry<String, BsonValue> entry : bsonDocument.entrySet()) {
+                BsonValue bsonValue = entry.getValue();
+                BsonValue newValue = replace(bsonValue);
+                if (bsonValue != newValue) {
+                    entry.setValue(newValue);
+                }
+            }
+            return bsonDocument;
+        } else if (value instanceof BsonArray) {
+            BsonArray bsonArray = (BsonArray) value;
+            for (int i = 0; i < bsonArray.size(); i++) {
+                BsonValue bsonValue = bsonArray.get(i);
+                BsonValue newValue = replace(bsonValue);
+                if (bsonValue != newValue) {
+                    if (newValue.isNull()) {
+                        bsonArray.remove(i);
+                        i -= 1;
+                    } else if (newValue.isArray()) {
+                        bsonArray.remove(i);
+                        List<BsonValue> values = newValue.asArray().getValues();
+                        bsonArray.addAll(i, values);
+                        i += values.size() - 1;
+                    } else {
+                        bsonArray.set(i, newValue);
+                    }
+                }
+            }
+        }
+        return value;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + QueryTemplateBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Book;
+import example.BookRepository;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares operations executed with an explicit client session per operation with session-less operations.
+ */
+@State(Scope.Benchmark)
+public class SessionBenchmark {
+
+    @Param({"true", "false"})
+    boolean sessionPerOperation;
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    MongoDBContainer mongoDBContainer;
+    Book book;
+
+    @Setup
+    public void prepare() {
+        mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo").withTag("5"));
+        mongoDBContainer.start();
+        Map<String, Object> props = new HashMap<>();
+        props.put("mongodb.uri", mongoDBContainer.getReplicaSetUrl());
+        props.put(MongoDataConfiguration.SESSION_PER_OPERATION_PROPERTY, sessionPerOperation);
+        this.applicationContext = ApplicationContext.run(props);
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        this.bookRepository.saveAll(Arrays.asList(
+                new Book("The Stand", 1000),
+                new Book("The Shining", 600),
+                new Book("The Power of the Dog", 500),
+                new Book("The Border", 700)
+        ));
+        this.book = bookRepository.findByTitle("The Shining");
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+        mongoDBContainer.close();
+    }
+
+    @Benchmark
+    public Book measureFinder() {
+        return bookRepository.findByTitle("The Border");
+    }
+
+    @Benchmark
+    public Book measureUpdate() {
+        return bookRepository.update(book);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + SessionBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
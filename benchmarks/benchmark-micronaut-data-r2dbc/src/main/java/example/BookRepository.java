@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package example;
+
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.Join;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Slice;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.repository.jpa.reactive.ReactorJpaSpecificationExecutor;
+import io.micronaut.data.repository.reactive.ReactorCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@R2dbcRepository(dialect = Dialect.H2)
+public interface BookRepository extends ReactorCrudRepository<Book, Long>, ReactorJpaSpecificationExecutor<Book> {
+
+    Mono<Book> findByTitle(String title);
+
+    Mono<BookDto> searchByTitle(String title);
+
+    Mono<Integer> findPagesByTitle(String title);
+
+    Mono<Boolean> existsByPagesGreaterThan(int pages);
+
+    @Join("author")
+    Flux<Book> readByPagesGreaterThan(int pages);
+
+    Mono<Page<Book>> queryByPagesGreaterThan(int pages, Pageable pageable);
+
+    Mono<Slice<Book>> retrieveByPagesGreaterThan(int pages, Pageable pageable);
+
+    Flux<Book> findByPagesGreaterThan(int pages);
+
+    Flux<BookDto> searchByPagesGreaterThan(int pages);
+
+    Flux<Book> findByPagesGreaterThanEquals(int pages);
+
+    Mono<Long> update(@Id Long id, int pages);
+}
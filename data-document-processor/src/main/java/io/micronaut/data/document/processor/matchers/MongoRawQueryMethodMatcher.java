@@ -22,6 +22,7 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.data.annotation.MappedEntity;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.TypeRole;
+import io.micronaut.data.document.model.query.builder.MongoQueryBuilder;
 import io.micronaut.data.document.mongo.MongoAnnotations;
 import io.micronaut.data.intercept.DataInterceptor;
 import io.micronaut.data.intercept.annotation.DataMethod;
@@ -30,6 +31,7 @@ import io.micronaut.data.model.query.BindingParameter.BindingContext;
 import io.micronaut.data.model.query.builder.QueryParameterBinding;
 import io.micronaut.data.model.query.builder.QueryResult;
 import io.micronaut.data.processor.model.SourcePersistentEntity;
+import io.micronaut.data.processor.model.SourcePersistentProperty;
 import io.micronaut.data.processor.model.criteria.impl.SourceParameterExpressionImpl;
 import io.micronaut.data.processor.visitors.MatchFailedException;
 import io.micronaut.data.processor.visitors.MethodMatchContext;
@@ -42,6 +44,8 @@ import io.micronaut.inject.annotation.MutableAnnotationMetadata;
 import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.ast.MethodElement;
 import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.serde.config.annotation.SerdeConfig;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,6 +53,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.regex.Pattern;
 
 /**
@@ -152,6 +157,10 @@ public class MongoRawQueryMethodMatcher implements MethodMatcher {
 
                 methodMatchInfo.dto(isDto);
 
+                if (isDto && operationType == DataMethod.OperationType.QUERY) {
+                    deriveDtoProjection(matchContext, resultType);
+                }
+
                 buildRawQuery(matchContext, methodMatchInfo, entityParameter, entitiesParameter, operationType);
 
                 if (entityParameter != null) {
@@ -164,6 +173,56 @@ public class MongoRawQueryMethodMatcher implements MethodMatcher {
         };
     }
 
+    /**
+     * Derives the find projection from the DTO properties, so only the fields required to build the DTO are fetched.
+     * Nothing is derived if the projection is defined or one of the properties is not mapped to the entity.
+     *
+     * @param matchContext The match context
+     * @param dtoType      The DTO type
+     */
+    private void deriveDtoProjection(MethodMatchContext matchContext, ClassElement dtoType) {
+        AnnotationMetadata annotationMetadata = matchContext.getAnnotationMetadata();
+        if (!annotationMetadata.hasAnnotation(MongoAnnotations.FIND_QUERY)
+                || annotationMetadata.stringValue(MongoAnnotations.PROJECTION).isPresent()) {
+            return;
+        }
+        SourcePersistentEntity entity = matchContext.getRootEntity();
+        StringJoiner projection = new StringJoiner(", ", "{", "}");
+        boolean includesIdentity = false;
+        for (PropertyElement dtoProperty : dtoType.getBeanProperties()) {
+            String propertyName = dtoProperty.getName();
+            if ("metaClass".equals(propertyName) && dtoProperty.getType().isAssignable("groovy.lang.MetaClass")) {
+                // ignore Groovy meta class
+                continue;
+            }
+            SourcePersistentProperty property = entity.getPropertyByName(propertyName);
+            if (property == null) {
+                property = entity.getIdOrVersionPropertyByName(propertyName);
+            }
+            if (property == null) {
+                return;
+            }
+            String persistedName;
+            if (property == entity.getIdentity()) {
+                includesIdentity = true;
+                persistedName = MongoQueryBuilder.MONGO_ID_FIELD;
+            } else {
+                persistedName = property.getAnnotationMetadata()
+                        .stringValue(SerdeConfig.class, SerdeConfig.PROPERTY)
+                        .orElseGet(property::getName);
+            }
+            projection.add("\"" + persistedName + "\": 1");
+        }
+        if (projection.length() == 2) {
+            return;
+        }
+        if (!includesIdentity) {
+            projection.add("\"" + MongoQueryBuilder.MONGO_ID_FIELD + "\": 0");
+        }
+        String value = projection.toString();
+        matchContext.getMethodElement().annotate(MongoAnnotations.PROJECTION, builder -> builder.value(value));
+    }
+
     private void buildRawQuery(@NonNull MethodMatchContext matchContext,
                                MethodMatchInfo methodMatchInfo,
                                ParameterElement entityParameter,
@@ -108,6 +108,30 @@ interface MyInterface2 extends CrudRepository<Book, String> {
             resultType == 'org.bson.BsonDocument'
     }
 
+    void "test raw document query method"() {
+        given:
+            def repository = buildRepository('test.MyInterface2', """
+import io.micronaut.data.mongodb.annotation.*;
+import io.micronaut.data.document.tck.entities.Book;
+
+@MongoRepository
+interface MyInterface2 extends CrudRepository<Book, String> {
+
+    List<org.bson.RawBsonDocument> queryByTitle(String title);
+
+}
+"""
+            )
+
+            def method = repository.getRequiredMethod("queryByTitle", String)
+        when:
+            String resultType = method.stringValue(DataMethod.NAME, DataMethod.META_MEMBER_RESULT_TYPE).get()
+            String q = TestUtils.getQuery(method)
+        then:
+            resultType == 'org.bson.RawBsonDocument'
+            q == '{title:{$eq:{$mn_qp:0}}}'
+    }
+
     void "test find query method"() {
         given:
             def repository = buildRepository('test.MyInterface2', """
@@ -226,6 +250,80 @@ interface MyInterface2 extends GenericRepository<Book, String> {
             collation == '{ locale: \'en_US\', numericOrdering: true}'
     }
 
+    void "test find query method with DTO projection"() {
+        given:
+            def repository = buildRepository('test.MyInterface2', """
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.data.mongodb.annotation.*;
+import io.micronaut.data.document.tck.entities.Book;
+
+@MongoRepository
+interface MyInterface2 extends GenericRepository<Book, String> {
+
+    @MongoFindQuery(\"{title:{\$eq: :t}}\")
+    List<BookDto> listBooks(String t);
+
+    @MongoFindQuery(\"{title:{\$eq: :t}}\")
+    List<BookIdDto> listBookIds(String t);
+
+    @MongoFindQuery(filter = \"{title:{\$eq: :t}}\", project = \"{ title: 1 }\")
+    List<BookDto> listBooksProjected(String t);
+
+}
+
+@Introspected
+class BookDto {
+    private String title;
+    private int totalPages;
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+}
+
+@Introspected
+class BookIdDto {
+    private String id;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+}
+"""
+            )
+
+        when:
+            String project = repository.getRequiredMethod("listBooks", String).stringValue(MongoAnnotations.PROJECTION).get()
+        then:
+            project == '{"title": 1, "totalPages": 1, "_id": 0}'
+
+        when:
+            project = repository.getRequiredMethod("listBookIds", String).stringValue(MongoAnnotations.PROJECTION).get()
+        then:
+            project == '{"_id": 1}'
+
+        when:
+            project = repository.getRequiredMethod("listBooksProjected", String).stringValue(MongoAnnotations.PROJECTION).get()
+        then:
+            project == '{ title: 1 }'
+    }
+
     void "test delete query method"() {
         given:
             def repository = buildRepository('test.MyInterface2', """
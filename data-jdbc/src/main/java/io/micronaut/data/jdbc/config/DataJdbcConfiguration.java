@@ -56,6 +56,21 @@ public class DataJdbcConfiguration implements Named {
      */
     private boolean allowConnectionPerOperation;
 
+    /**
+     * If true, the transaction manager will acquire the physical connection when it's first used instead of at transaction begin.
+     */
+    private boolean lazyConnectionAcquisition;
+
+    /**
+     * If true, async and reactive operations are executed on virtual threads when supported by the JVM.
+     */
+    private boolean virtualThreads;
+
+    /**
+     * The maximum number of async and reactive operations executed concurrently on virtual threads.
+     */
+    private int virtualThreadsMaxConcurrency;
+
     /**
      * The configuration.
      * @param name The configuration name
@@ -161,4 +176,52 @@ public class DataJdbcConfiguration implements Named {
     public void setAllowConnectionPerOperation(boolean allowConnectionPerOperation) {
         this.allowConnectionPerOperation = allowConnectionPerOperation;
     }
+
+    /**
+     * @return true if property is set
+     * @since 3.8.2
+     */
+    public boolean isLazyConnectionAcquisition() {
+        return lazyConnectionAcquisition;
+    }
+
+    /**
+     * @param lazyConnectionAcquisition The property
+     * @since 3.8.2
+     */
+    public void setLazyConnectionAcquisition(boolean lazyConnectionAcquisition) {
+        this.lazyConnectionAcquisition = lazyConnectionAcquisition;
+    }
+
+    /**
+     * @return true if property is set
+     * @since 3.8.2
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @param virtualThreads The property
+     * @since 3.8.2
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * @return The maximum number of operations executed concurrently on virtual threads, zero or less to use the connection pool size.
+     * @since 3.8.2
+     */
+    public int getVirtualThreadsMaxConcurrency() {
+        return virtualThreadsMaxConcurrency;
+    }
+
+    /**
+     * @param virtualThreadsMaxConcurrency The maximum number of operations executed concurrently on virtual threads
+     * @since 3.8.2
+     */
+    public void setVirtualThreadsMaxConcurrency(int virtualThreadsMaxConcurrency) {
+        this.virtualThreadsMaxConcurrency = virtualThreadsMaxConcurrency;
+    }
 }
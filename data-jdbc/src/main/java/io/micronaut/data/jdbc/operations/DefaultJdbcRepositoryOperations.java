@@ -25,6 +25,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.data.annotation.Query;
@@ -64,6 +65,7 @@ import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.convert.RuntimePersistentPropertyConversionContext;
 import io.micronaut.data.runtime.date.DateTimeProvider;
+import io.micronaut.data.runtime.execution.QueryExecution;
 import io.micronaut.data.runtime.mapper.DTOMapper;
 import io.micronaut.data.runtime.mapper.ResultConsumer;
 import io.micronaut.data.runtime.mapper.ResultReader;
@@ -77,6 +79,7 @@ import io.micronaut.data.runtime.operations.internal.AbstractSyncEntitiesOperati
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntityOperations;
 import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.SyncCascadeOperations;
+import io.micronaut.data.runtime.operations.internal.VirtualThreadExecutorService;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
 import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
@@ -86,13 +89,19 @@ import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.transaction.TransactionOperations;
 import io.micronaut.transaction.jdbc.DataSourceUtils;
 import io.micronaut.transaction.jdbc.DelegatingDataSource;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
 import jakarta.inject.Named;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.PreDestroy;
 import javax.sql.DataSource;
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -140,9 +149,11 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     private final DataSource dataSource;
     private final DataSource unwrapedDataSource;
     private ExecutorAsyncOperations asyncOperations;
+    private ReactiveRepositoryOperations reactiveOperations;
     private ExecutorService executorService;
     private final SyncCascadeOperations<JdbcOperationContext> cascadeOperations;
     private final DataJdbcConfiguration jdbcConfiguration;
+    private final String dataSourceName;
 
     /**
      * Default constructor.
@@ -189,6 +200,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         this.executorService = executorService;
         this.cascadeOperations = new SyncCascadeOperations<>(conversionService, this);
         this.jdbcConfiguration = jdbcConfiguration;
+        this.dataSourceName = dataSourceName;
     }
 
     @NonNull
@@ -197,6 +209,51 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return executorService;
     }
 
+    @NonNull
+    private ExecutorService newVirtualThreadExecutor() {
+        int maxConcurrency = jdbcConfiguration.getVirtualThreadsMaxConcurrency();
+        if (maxConcurrency <= 0) {
+            maxConcurrency = findMaximumPoolSize(unwrapedDataSource);
+        }
+        this.executorService = VirtualThreadExecutorService.create(maxConcurrency);
+        return executorService;
+    }
+
+    @NonNull
+    private ExecutorService resolveAsyncExecutor() {
+        if (jdbcConfiguration.isVirtualThreads()) {
+            if (VirtualThreadExecutorService.isSupported()) {
+                return newVirtualThreadExecutor();
+            }
+            LOG.warn("Virtual threads are not supported by the JVM, using the default executor for the datasource: {}", jdbcConfiguration.getName());
+        }
+        return executorService != null ? executorService : newLocalThreadPool();
+    }
+
+    /**
+     * Finds the maximum size of the connection pool backing the data source.
+     *
+     * @param dataSource The data source
+     * @return The pool size or zero if unknown
+     */
+    private static int findMaximumPoolSize(DataSource dataSource) {
+        // Hikari, Tomcat JDBC, Commons DBCP 2 and Oracle UCP
+        for (String methodName : Arrays.asList("getMaximumPoolSize", "getMaxActive", "getMaxTotal", "getMaxPoolSize")) {
+            Optional<Method> method = ReflectionUtils.findMethod(dataSource.getClass(), methodName);
+            if (method.isPresent() && (method.get().getReturnType() == int.class || method.get().getReturnType() == Integer.class)) {
+                try {
+                    Object size = method.get().invoke(dataSource);
+                    if (size instanceof Integer) {
+                        return (Integer) size;
+                    }
+                } catch (Exception e) {
+                    LOG.debug("Cannot determine the connection pool size of the datasource", e);
+                }
+            }
+        }
+        return 0;
+    }
+
     @Override
     public <T> T persistOne(JdbcOperationContext ctx, T value, RuntimePersistentEntity<T> persistentEntity) {
         SqlStoredQuery<T, ?> storedQuery = resolveEntityInsert(ctx.annotationMetadata, ctx.repositoryType, (Class<T>) value.getClass(), persistentEntity);
@@ -267,7 +324,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (asyncOperations == null) {
                     asyncOperations = new ExecutorAsyncOperations(
                             this,
-                            executorService != null ? executorService : newLocalThreadPool()
+                            resolveAsyncExecutor()
                     );
                     this.asyncOperations = asyncOperations;
                 }
@@ -279,7 +336,17 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @NonNull
     @Override
     public ReactiveRepositoryOperations reactive() {
-        return new ExecutorReactiveOperations(async(), conversionService);
+        ReactiveRepositoryOperations reactiveOperations = this.reactiveOperations;
+        if (reactiveOperations == null) {
+            synchronized (this) { // double check
+                reactiveOperations = this.reactiveOperations;
+                if (reactiveOperations == null) {
+                    reactiveOperations = new JdbcReactiveOperations(async());
+                    this.reactiveOperations = reactiveOperations;
+                }
+            }
+        }
+        return reactiveOperations;
     }
 
     @Nullable
@@ -287,81 +354,111 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     public <T, R> R findOne(@NonNull PreparedQuery<T, R> pq) {
         return executeRead(connection -> {
             SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
-            RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
-            try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, false, true)) {
-                preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery.getDialect()));
-                try (ResultSet rs = ps.executeQuery()) {
-                    Class<R> resultType = preparedQuery.getResultType();
-                    if (preparedQuery.getResultDataType() == DataType.ENTITY) {
-                        RuntimePersistentEntity<R> resultPersistentEntity = getEntity(resultType);
-
-                        final Set<JoinPath> joinFetchPaths = preparedQuery.getJoinFetchPaths();
-                        SqlResultEntityTypeMapper<ResultSet, R> mapper = new SqlResultEntityTypeMapper<>(
-                                resultPersistentEntity,
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            try {
+                return findOne(connection, preparedQuery, execution);
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
+            }
+        });
+    }
+
+    @Nullable
+    private <T, R> R findOne(Connection connection, SqlPreparedQuery<T, R> preparedQuery, QueryExecution execution) {
+        RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
+        try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, false, true)) {
+            preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery.getDialect()));
+            try (ResultSet rs = ps.executeQuery()) {
+                execution.executed();
+                Class<R> resultType = preparedQuery.getResultType();
+                if (preparedQuery.getResultDataType() == DataType.ENTITY) {
+                    RuntimePersistentEntity<R> resultPersistentEntity = getEntity(resultType);
+
+                    final Set<JoinPath> joinFetchPaths = preparedQuery.getJoinFetchPaths();
+                    SqlResultEntityTypeMapper<ResultSet, R> mapper = new SqlResultEntityTypeMapper<>(
+                            resultPersistentEntity,
+                            columnNameResultSetReader,
+                            joinFetchPaths,
+                            jsonCodec,
+                            (loadedEntity, o) -> {
+                                if (loadedEntity.hasPostLoadEventListeners()) {
+                                    return triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
+                                } else {
+                                    return o;
+                                }
+                            },
+                            conversionService);
+                    SqlResultEntityTypeMapper.PushingMapper<ResultSet, R> oneMapper = mapper.readOneWithJoins();
+                    if (rs.next()) {
+                        execution.addRows(1);
+                        oneMapper.processRow(rs);
+                    }
+                    while (!joinFetchPaths.isEmpty() && rs.next()) {
+                        execution.addRows(1);
+                        oneMapper.processRow(rs);
+                    }
+                    R result = oneMapper.getResult();
+                    if (preparedQuery.hasResultConsumer()) {
+                        preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class)
+                                .ifPresent(consumer -> consumer.accept(result, newMappingContext(rs)));
+                    }
+                    return result;
+                } else if (rs.next()) {
+                    execution.addRows(1);
+                    if (preparedQuery.isDtoProjection()) {
+                        TypeMapper<ResultSet, R> introspectedDataMapper = new DTOMapper<>(
+                                persistentEntity,
                                 columnNameResultSetReader,
-                                joinFetchPaths,
                                 jsonCodec,
-                                (loadedEntity, o) -> {
-                                    if (loadedEntity.hasPostLoadEventListeners()) {
-                                        return triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
-                                    } else {
-                                        return o;
-                                    }
-                                },
                                 conversionService);
-                        SqlResultEntityTypeMapper.PushingMapper<ResultSet, R> oneMapper = mapper.readOneWithJoins();
-                        if (rs.next()) {
-                            oneMapper.processRow(rs);
-                        }
-                        while (!joinFetchPaths.isEmpty() && rs.next()) {
-                            oneMapper.processRow(rs);
-                        }
-                        R result = oneMapper.getResult();
-                        if (preparedQuery.hasResultConsumer()) {
-                            preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class)
-                                    .ifPresent(consumer -> consumer.accept(result, newMappingContext(rs)));
-                        }
-                        return result;
-                    } else if (rs.next()) {
-                        if (preparedQuery.isDtoProjection()) {
-                            TypeMapper<ResultSet, R> introspectedDataMapper = new DTOMapper<>(
-                                    persistentEntity,
-                                    columnNameResultSetReader,
-                                    jsonCodec,
-                                    conversionService);
-                            return introspectedDataMapper.map(rs, resultType);
+                        return introspectedDataMapper.map(rs, resultType);
+                    } else {
+                        Object v = columnIndexResultSetReader.readDynamic(rs, 1, preparedQuery.getResultDataType());
+                        if (v == null) {
+                            return null;
+                        } else if (resultType.isInstance(v)) {
+                            return (R) v;
                         } else {
-                            Object v = columnIndexResultSetReader.readDynamic(rs, 1, preparedQuery.getResultDataType());
-                            if (v == null) {
-                                return null;
-                            } else if (resultType.isInstance(v)) {
-                                return (R) v;
-                            } else {
-                                return columnIndexResultSetReader.convertRequired(v, resultType);
-                            }
+                            return columnIndexResultSetReader.convertRequired(v, resultType);
                         }
                     }
                 }
-            } catch (SQLException e) {
-                throw new DataAccessException("Error executing SQL Query: " + e.getMessage(), e);
             }
-            return null;
-        });
+        } catch (SQLException e) {
+            throw new DataAccessException("Error executing SQL Query: " + e.getMessage(), e);
+        }
+        return null;
     }
 
     @Override
     public <T> boolean exists(@NonNull PreparedQuery<T, Boolean> pq) {
         return executeRead(connection -> {
+            SqlPreparedQuery<T, Boolean> preparedQuery = getSqlPreparedQuery(pq);
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
             try {
-                SqlPreparedQuery<T, Boolean> preparedQuery = getSqlPreparedQuery(pq);
                 try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, false, true)) {
                     preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery.getDialect()));
                     try (ResultSet rs = ps.executeQuery()) {
-                        return rs.next();
+                        execution.executed();
+                        boolean exists = rs.next();
+                        if (exists) {
+                            execution.addRows(1);
+                        }
+                        return exists;
                     }
                 }
             } catch (SQLException e) {
-                throw new DataAccessException("Error executing SQL query: " + e.getMessage(), e);
+                DataAccessException error = new DataAccessException("Error executing SQL query: " + e.getMessage(), e);
+                execution.failed(error);
+                throw error;
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
             }
         });
     }
@@ -376,19 +473,24 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
         Class<R> resultType = preparedQuery.getResultType();
         AtomicBoolean finished = new AtomicBoolean();
+        QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
 
         PreparedStatement ps;
         try {
             ps = prepareStatement(connection::prepareStatement, preparedQuery, false, false);
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery.getDialect()));
         } catch (Exception e) {
-            throw new DataAccessException("SQL Error preparing Query: " + e.getMessage(), e);
+            DataAccessException error = new DataAccessException("SQL Error preparing Query: " + e.getMessage(), e);
+            execution.failed(error);
+            finishQueryExecution(execution);
+            throw error;
         }
 
         ResultSet openedRs = null;
         ResultSet rs;
         try {
             openedRs = ps.executeQuery();
+            execution.executed();
             rs = openedRs;
 
             boolean dtoProjection = preparedQuery.isDtoProjection();
@@ -429,11 +531,12 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                         try {
                             SqlResultEntityTypeMapper.PushingMapper<ResultSet, List<R>> manyMapper = entityTypeMapper.readAllWithJoins();
                             while (rs.next()) {
+                                execution.addRows(1);
                                 manyMapper.processRow(rs);
                             }
                             return manyMapper.getResult().stream();
                         } finally {
-                            closeResultSet(ps, rs, finished);
+                            closeResultSet(ps, rs, finished, execution);
                         }
                     } else {
                         mapper = entityTypeMapper;
@@ -448,13 +551,14 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                         }
                         boolean hasNext = mapper.hasNext(rs);
                         if (hasNext) {
+                            execution.addRows(1);
                             R o = mapper.map(rs, resultType);
                             if (sqlMappingConsumer != null) {
                                 sqlMappingConsumer.accept(rs, o);
                             }
                             action.accept(o);
                         } else {
-                            closeResultSet(ps, rs, finished);
+                            closeResultSet(ps, rs, finished, execution);
                         }
                         return hasNext;
                     }
@@ -470,6 +574,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                         try {
                             boolean hasNext = rs.next();
                             if (hasNext) {
+                                execution.addRows(1);
                                 Object v = columnIndexResultSetReader
                                         .readDynamic(rs, 1, preparedQuery.getResultDataType());
                                 if (resultType.isInstance(v)) {
@@ -482,7 +587,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                                     }
                                 }
                             } else {
-                                closeResultSet(ps, rs, finished);
+                                closeResultSet(ps, rs, finished, execution);
                             }
                             return hasNext;
                         } catch (SQLException e) {
@@ -493,16 +598,19 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             }
 
             return StreamSupport.stream(spliterator, false).onClose(() -> {
-                closeResultSet(ps, rs, finished);
+                closeResultSet(ps, rs, finished, execution);
             });
         } catch (Exception e) {
-            closeResultSet(ps, openedRs, finished);
-            throw new DataAccessException("SQL Error executing Query: " + e.getMessage(), e);
+            DataAccessException error = new DataAccessException("SQL Error executing Query: " + e.getMessage(), e);
+            execution.failed(error);
+            closeResultSet(ps, openedRs, finished, execution);
+            throw error;
         }
     }
 
-    private void closeResultSet(PreparedStatement ps, ResultSet rs, AtomicBoolean finished) {
+    private void closeResultSet(PreparedStatement ps, ResultSet rs, AtomicBoolean finished, QueryExecution execution) {
         if (finished.compareAndSet(false, true)) {
+            finishQueryExecution(execution);
             try {
                 if (rs != null) {
                     rs.close();
@@ -530,11 +638,14 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Override
     public Optional<Number> executeUpdate(@NonNull PreparedQuery<?, Number> pq) {
         return executeWrite(connection -> {
+            SqlPreparedQuery<?, Number> preparedQuery = getSqlPreparedQuery(pq);
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.UPDATE);
             try {
-                SqlPreparedQuery<?, Number> preparedQuery = getSqlPreparedQuery(pq);
                 try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, true, false)) {
                     preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery.getDialect()));
                     int result = ps.executeUpdate();
+                    execution.executed();
+                    execution.addRows(result);
                     if (QUERY_LOG.isTraceEnabled()) {
                         QUERY_LOG.trace("Update operation updated {} records", result);
                     }
@@ -544,7 +655,14 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     return Optional.of(result);
                 }
             } catch (SQLException e) {
-                throw new DataAccessException("Error executing SQL UPDATE: " + e.getMessage(), e);
+                DataAccessException error = new DataAccessException("Error executing SQL UPDATE: " + e.getMessage(), e);
+                execution.failed(error);
+                throw error;
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
             }
         });
     }
@@ -686,30 +804,54 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     private <I> I executeRead(Function<Connection, I> fn) {
         if (jdbcConfiguration.isTransactionPerOperation()) {
-            return transactionOperations.executeRead(status -> fn.apply(status.getConnection()));
+            long acquiredAt = operationConnectionAcquired();
+            try {
+                return transactionOperations.executeRead(status -> fn.apply(status.getConnection()));
+            } finally {
+                connectionReleased(dataSourceName, acquiredAt);
+            }
         }
         if (!jdbcConfiguration.isAllowConnectionPerOperation() || transactionOperations.hasConnection()) {
             return fn.apply(transactionOperations.getConnection());
         }
+        long acquiredAt = connectionAcquired(dataSourceName);
         try (Connection connection = unwrapedDataSource.getConnection()) {
             return fn.apply(connection);
         } catch (SQLException e) {
             throw new DataAccessException("Cannot get connection: " + e.getMessage(), e);
+        } finally {
+            connectionReleased(dataSourceName, acquiredAt);
         }
     }
 
     private <I> I executeWrite(Function<Connection, I> fn) {
         if (jdbcConfiguration.isTransactionPerOperation()) {
-            return transactionOperations.executeWrite(status -> fn.apply(status.getConnection()));
+            long acquiredAt = operationConnectionAcquired();
+            try {
+                return transactionOperations.executeWrite(status -> fn.apply(status.getConnection()));
+            } finally {
+                connectionReleased(dataSourceName, acquiredAt);
+            }
         }
         if (!jdbcConfiguration.isAllowConnectionPerOperation() || transactionOperations.hasConnection()) {
             return fn.apply(transactionOperations.getConnection());
         }
+        long acquiredAt = connectionAcquired(dataSourceName);
         try (Connection connection = unwrapedDataSource.getConnection()) {
             return fn.apply(connection);
         } catch (SQLException e) {
             throw new DataAccessException("Cannot get connection: " + e.getMessage(), e);
+        } finally {
+            connectionReleased(dataSourceName, acquiredAt);
+        }
+    }
+
+    private long operationConnectionAcquired() {
+        // Joining the connection of an outer transaction, the operation doesn't hold it
+        if (!getQueryExecutionListener().isEnabled() || transactionOperations.hasConnection()) {
+            return 0;
         }
+        return connectionAcquired(dataSourceName);
     }
 
     @Override
@@ -879,7 +1021,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     }
 
     private <T> JdbcOperationContext createContext(EntityOperation<T> operation, Connection connection, SqlStoredQuery<T, ?> storedQuery) {
-        return new JdbcOperationContext(operation.getAnnotationMetadata(), operation.getRepositoryType(), storedQuery.getDialect(), connection);
+        return new JdbcOperationContext(operation.getAnnotationMetadata(), operation.getRepositoryType(), methodName(operation.getName()), storedQuery.getDialect(), connection);
     }
 
     @Override
@@ -887,6 +1029,124 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return isSupportsBatchInsert(persistentEntity, jdbcOperationContext.dialect);
     }
 
+    /**
+     * Opens a result stream for the reactive streaming read. A connection bound to the propagated transaction is reused,
+     * otherwise a dedicated connection is acquired for the lifetime of the stream.
+     *
+     * @param state         The propagated transaction state
+     * @param preparedQuery The prepared query
+     * @param <T>           The entity type
+     * @param <R>           The result type
+     * @return The stream resource
+     */
+    private <T, R> StreamingResult<R> openStreamingResult(@Nullable TransactionSynchronizationManager.TransactionSynchronizationState state,
+                                                          PreparedQuery<T, R> preparedQuery) {
+        try (TransactionSynchronizationManager.TransactionSynchronizationStateOp ignore = TransactionSynchronizationManager.withState(state)) {
+            if (transactionOperations.hasConnection()
+                    || !jdbcConfiguration.isTransactionPerOperation() && !jdbcConfiguration.isAllowConnectionPerOperation()) {
+                return new StreamingResult<>(findStream(preparedQuery, transactionOperations.getConnection()), null, false);
+            }
+        }
+        Connection connection;
+        boolean resetAutoCommit = false;
+        try {
+            connection = unwrapedDataSource.getConnection();
+        } catch (SQLException e) {
+            throw new DataAccessException("Cannot get connection: " + e.getMessage(), e);
+        }
+        try {
+            if (jdbcConfiguration.isTransactionPerOperation() && connection.getAutoCommit()) {
+                // Most drivers only use a server side cursor when the auto-commit is disabled
+                connection.setAutoCommit(false);
+                resetAutoCommit = true;
+            }
+            return new StreamingResult<>(findStream(preparedQuery, connection), connection, resetAutoCommit);
+        } catch (SQLException | RuntimeException e) {
+            StreamingResult.release(connection, resetAutoCommit);
+            if (e instanceof SQLException) {
+                throw new DataAccessException("Cannot prepare connection: " + e.getMessage(), e);
+            }
+            throw (RuntimeException) e;
+        }
+    }
+
+    /**
+     * The reactive operations that stream the results of {@link #findAll(PreparedQuery)} from the JDBC cursor.
+     * Rows are only read once requested and the statement and connection are released on completion, error or cancellation.
+     */
+    private final class JdbcReactiveOperations extends ExecutorReactiveOperations {
+
+        private final Scheduler scheduler;
+
+        JdbcReactiveOperations(ExecutorAsyncOperations asyncOperations) {
+            super(asyncOperations, conversionService);
+            // The trampolining worker never runs two reads of the same cursor concurrently
+            this.scheduler = Schedulers.fromExecutor(asyncOperations.getExecutor(), true);
+        }
+
+        @NonNull
+        @Override
+        public <T, R> Publisher<R> findAll(@NonNull PreparedQuery<T, R> preparedQuery) {
+            TransactionSynchronizationManager.TransactionSynchronizationState state = TransactionSynchronizationManager.getState();
+            return Flux.using(
+                    () -> openStreamingResult(state, preparedQuery),
+                    result -> Flux.fromStream(result.stream),
+                    StreamingResult::close
+            ).subscribeOn(scheduler).cancelOn(scheduler);
+        }
+    }
+
+    /**
+     * The resources of a streaming read.
+     *
+     * @param <R> The result type
+     */
+    private static final class StreamingResult<R> {
+
+        private final Stream<R> stream;
+        @Nullable
+        private final Connection connection;
+        private final boolean resetAutoCommit;
+
+        StreamingResult(Stream<R> stream, @Nullable Connection connection, boolean resetAutoCommit) {
+            this.stream = stream;
+            this.connection = connection;
+            this.resetAutoCommit = resetAutoCommit;
+        }
+
+        void close() {
+            try {
+                stream.close();
+            } finally {
+                if (connection != null) {
+                    release(connection, resetAutoCommit);
+                }
+            }
+        }
+
+        static void release(Connection connection, boolean resetAutoCommit) {
+            try {
+                if (resetAutoCommit) {
+                    // Nothing was written, end the read transaction before returning the connection
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Failed to reset the streaming connection: " + e.getMessage(), e);
+                }
+            } finally {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Failed to close the streaming connection: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
     private final class JdbcParameterBinder implements BindableParametersStoredQuery.Binder {
 
         private final Connection connection;
@@ -1000,9 +1260,12 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
+            QueryExecution execution = startQueryExecution(ctx, storedQuery, QueryExecution.Kind.UPDATE);
             try (PreparedStatement ps = prepare(ctx.connection, storedQuery)) {
                 storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, ps, ctx.dialect), null, entity, previousValues);
                 rowsUpdated = ps.executeUpdate();
+                execution.executed();
+                execution.addRows(rowsUpdated);
                 if (hasGeneratedId) {
                     try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
                         if (generatedKeys.next()) {
@@ -1018,6 +1281,11 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (storedQuery.isOptimisticLock()) {
                     checkOptimisticLocking(1, rowsUpdated);
                 }
+            } catch (SQLException | RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
             }
         }
     }
@@ -1093,9 +1361,13 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
+            QueryExecution execution = startQueryExecution(ctx, storedQuery, QueryExecution.Kind.BATCH);
             try (PreparedStatement ps = prepare(ctx.connection)) {
                 setParameters(ps, storedQuery);
+                execution.setBatchSize((int) entities.stream().filter(d -> !d.vetoed).count());
                 rowsUpdated = Arrays.stream(ps.executeBatch()).sum();
+                execution.executed();
+                execution.addRows(rowsUpdated);
                 if (hasGeneratedId) {
                     RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
                     List<Object> ids = new ArrayList<>();
@@ -1122,6 +1394,11 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     int expected = (int) entities.stream().filter(d -> !d.vetoed).count();
                     checkOptimisticLocking(expected, rowsUpdated);
                 }
+            } catch (SQLException | RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
             }
         }
 
@@ -1134,7 +1411,11 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         public final Dialect dialect;
 
         public JdbcOperationContext(AnnotationMetadata annotationMetadata, Class<?> repositoryType, Dialect dialect, Connection connection) {
-            super(annotationMetadata, repositoryType);
+            this(annotationMetadata, repositoryType, null, dialect, connection);
+        }
+
+        public JdbcOperationContext(AnnotationMetadata annotationMetadata, Class<?> repositoryType, String methodName, Dialect dialect, Connection connection) {
+            super(annotationMetadata, repositoryType, methodName);
             this.dialect = dialect;
             this.connection = connection;
         }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.transaction;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.data.jdbc.config.DataJdbcConfiguration;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.transaction.jdbc.DataSourceTransactionManager;
+import io.micronaut.transaction.support.TransactionRetryClassifier;
+import jakarta.inject.Singleton;
+
+/**
+ * Applies the {@link DataJdbcConfiguration} of the data source to its {@link DataSourceTransactionManager}.
+ *
+ * @since 3.8.2
+ */
+@Singleton
+final class DataSourceTransactionManagerConfigurer implements BeanCreatedEventListener<DataSourceTransactionManager> {
+
+    private final BeanLocator beanLocator;
+
+    DataSourceTransactionManagerConfigurer(BeanLocator beanLocator) {
+        this.beanLocator = beanLocator;
+    }
+
+    @Override
+    public DataSourceTransactionManager onCreated(BeanCreatedEvent<DataSourceTransactionManager> event) {
+        String name = event.getBeanIdentifier().getName();
+        if (name.equalsIgnoreCase("primary")) {
+            name = "default";
+        }
+        DataSourceTransactionManager transactionManager = event.getBean();
+        beanLocator.findBean(DataJdbcConfiguration.class, Qualifiers.byName(name))
+                .ifPresent(configuration -> {
+                    transactionManager.setLazyConnectionAcquisition(configuration.isLazyConnectionAcquisition());
+                    Dialect dialect = configuration.getDialect();
+                    transactionManager.setRetryClassifier(TransactionRetryClassifier.sqlState(dialect::isRetryableTransactionError));
+                });
+        return transactionManager;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.data.runtime.execution.QueryExecution
+import io.micronaut.data.runtime.execution.QueryExecutionListener
+import io.micronaut.data.runtime.execution.QueryStatisticsRegistry
+import io.micronaut.data.tck.entities.Person
+import jakarta.inject.Singleton
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.CopyOnWriteArrayList
+
+class H2QueryExecutionSpec extends Specification implements H2TestPropertyProvider {
+
+    @Shared
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.builder()
+            .properties(getProperties() + ['spec.name': 'H2QueryExecutionSpec', 'micronaut.data.query-statistics.enabled': true])
+            .singletons(meterRegistry)
+            .start()
+
+    @Shared
+    H2PersonRepository personRepository = applicationContext.getBean(H2PersonRepository)
+
+    @Shared
+    QueryStatisticsRegistry queryStatistics = applicationContext.getBean(QueryStatisticsRegistry)
+
+    @Shared
+    RecordingQueryExecutionListener listener = applicationContext.getBean(RecordingQueryExecutionListener)
+
+    void cleanup() {
+        personRepository.deleteAll()
+        listener.executions.clear()
+        listener.connectionHolds.clear()
+    }
+
+    void "test the statements are recorded by repository method"() {
+        when:
+            personRepository.saveAll([new Person(name: "Fred"), new Person(name: "Bob"), new Person(name: "Joe")])
+            def person = personRepository.findByName("Bob")
+            personRepository.updatePerson(person.id, "Bobby")
+
+        then:
+            def saveAll = listener.executions.findAll { it.methodName == 'saveAll' }
+            saveAll*.rows.sum() == 3
+            saveAll.every { H2PersonRepository.isAssignableFrom(it.repositoryType) && it.dataSource == 'default' }
+
+        and:
+            def findByName = listener.executions.find { it.methodName == 'findByName' }
+            findByName.kind == QueryExecution.Kind.QUERY
+            findByName.rows == 1
+            findByName.query.contains('SELECT')
+            findByName.totalNanos >= findByName.executionNanos + findByName.mappingNanos
+            findByName.error == null
+
+        and:
+            def updatePerson = listener.executions.find { it.methodName == 'updatePerson' }
+            updatePerson.kind == QueryExecution.Kind.UPDATE
+            updatePerson.rows == 1
+
+        and:
+            listener.connectionHolds.size() >= 3
+    }
+
+    void "test the statements are exported to Micrometer"() {
+        when:
+            personRepository.save(new Person(name: "Fred"))
+            personRepository.findByName("Fred")
+            personRepository.findByName("Fred")
+
+        then:
+            meterRegistry.find("micronaut.data.query")
+                    .tag("method", "findByName")
+                    .tag("kind", "query")
+                    .timer()
+                    .count() == 2
+            meterRegistry.find("micronaut.data.query.rows")
+                    .tag("method", "findByName")
+                    .summary()
+                    .totalAmount() == 2
+            meterRegistry.find("micronaut.data.connection.hold")
+                    .tag("dataSource", "default")
+                    .timer()
+                    .count() > 0
+    }
+
+    void "test the statistics of the queries are accumulated"() {
+        given:
+            queryStatistics.reset()
+
+        when:
+            personRepository.save(new Person(name: "Fred"))
+            3.times { personRepository.findByName("Fred") }
+            def findByName = queryStatistics.statistics.find { it.method == 'findByName' }
+
+        then:
+            findByName.dataSource == 'default'
+            findByName.repository == H2PersonRepository.simpleName
+            findByName.calls == 3
+            findByName.rows == 3
+            findByName.errors == 0
+            findByName.maxNanos <= findByName.totalNanos
+            findByName.meanNanos == (long) (findByName.totalNanos / 3)
+            queryStatistics.getTop(1).size() == 1
+
+        when:
+            queryStatistics.reset()
+
+        then:
+            queryStatistics.statistics.isEmpty()
+    }
+
+    void "test the statements are emitted as JFR events"() {
+        given:
+            Recording recording = new Recording()
+            recording.enable("io.micronaut.data.QueryExecuted")
+            recording.enable("io.micronaut.data.RowsMapped")
+            recording.enable("io.micronaut.data.BatchExecuted")
+            recording.start()
+
+        when:
+            personRepository.saveAll([new Person(name: "Fred"), new Person(name: "Bob")])
+            personRepository.findByName("Fred")
+            recording.stop()
+            Path file = Files.createTempFile("queries", ".jfr")
+            recording.dump(file)
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file)
+
+        then:
+            def batch = events.find { it.eventType.name == "io.micronaut.data.BatchExecuted" && it.getString("method") == "saveAll" }
+            batch.getInt("batchSize") == 2
+            batch.getString("repository") == H2PersonRepository.simpleName
+            def query = events.find { it.eventType.name == "io.micronaut.data.QueryExecuted" && it.getString("method") == "findByName" }
+            query.getString("kind") == "QUERY"
+            query.getLong("rows") == 1
+            events.any { it.eventType.name == "io.micronaut.data.RowsMapped" && it.getString("method") == "findByName" }
+
+        cleanup:
+            recording.close()
+            Files.deleteIfExists(file)
+    }
+
+    @Requires(property = "spec.name", value = "H2QueryExecutionSpec")
+    @Singleton
+    static class RecordingQueryExecutionListener implements QueryExecutionListener {
+
+        final List<QueryExecution> executions = new CopyOnWriteArrayList<>()
+        final List<Long> connectionHolds = new CopyOnWriteArrayList<>()
+
+        @Override
+        void onQueryExecuted(QueryExecution execution) {
+            executions.add(execution)
+        }
+
+        @Override
+        void onConnectionReleased(String dataSource, long heldNanos) {
+            connectionHolds.add(heldNanos)
+        }
+    }
+}
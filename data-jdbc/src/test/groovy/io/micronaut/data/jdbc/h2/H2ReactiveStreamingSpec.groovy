@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.data.runtime.execution.QueryExecution
+import io.micronaut.data.runtime.execution.QueryExecutionListener
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import org.reactivestreams.Subscription
+import reactor.core.publisher.BaseSubscriber
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+@MicronautTest
+@H2DBProperties
+@Property(name = "datasources.default.max-active", value = "2")
+@Property(name = "spec.name", value = "H2ReactiveStreamingSpec")
+class H2ReactiveStreamingSpec extends Specification {
+
+    @Inject
+    H2ReactivePersonRepository personRepository
+
+    @Inject
+    RowsRecordingListener listener
+
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    void setup() {
+        personRepository.deleteAll().block()
+        personRepository.saveAll((1..20).collect { new Person(name: "Person $it", age: it) }).collectList().block()
+        listener.rows.clear()
+    }
+
+    void "test streaming find all honours the requested amount"() {
+        given:
+            def requests = new CopyOnWriteArrayList<Long>()
+            def subscriber = new RequestingSubscriber()
+
+        when:"3 people are requested"
+            Flux.from(personRepository.findAll()).doOnRequest { requests << it }.subscribe(subscriber)
+
+        then:
+            conditions.eventually {
+                assert subscriber.received.size() == 3
+            }
+
+        when:"no more is requested"
+            Thread.sleep(200)
+
+        then:"no more people are emitted and the stream is still open"
+            subscriber.received.size() == 3
+            listener.rows.isEmpty()
+
+        when:"2 more people are requested and the stream is cancelled"
+            subscriber.request(2)
+            conditions.eventually {
+                assert subscriber.received.size() == 5
+            }
+            subscriber.cancel()
+
+        then:"the cursor was read on demand and closed on cancel"
+            requests == [3L, 2L]
+            conditions.eventually {
+                // The stream checks for a next row after the last requested one
+                assert listener.rows.size() == 1
+                assert listener.rows[0] <= 6
+            }
+    }
+
+    void "test streaming find all reads the cursor at the rate of the subscriber"() {
+        when:
+            def people = Flux.from(personRepository.findAll()).limitRate(3).collectList().block()
+
+        then:
+            people.size() == 20
+            listener.rows == [20L]
+    }
+
+    void "test cancelling the stream releases the connection"() {
+        when:"the stream is cancelled more times than there are pooled connections"
+            def firsts = (1..10).collect {
+                Flux.from(personRepository.findAll()).take(2).collectList().block()
+            }
+
+        then:
+            firsts.every { it.size() == 2 }
+            personRepository.count().block() == 20
+
+        and:"every statement is closed without reading the remaining rows"
+            conditions.eventually {
+                assert listener.rows.size() == 10
+                assert listener.rows.every { it <= 3 }
+            }
+    }
+
+    static class RequestingSubscriber extends BaseSubscriber<Person> {
+
+        final List<Person> received = new CopyOnWriteArrayList<>()
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            subscription.request(3)
+        }
+
+        @Override
+        protected void hookOnNext(Person person) {
+            received << person
+        }
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "H2ReactiveStreamingSpec")
+    static class RowsRecordingListener implements QueryExecutionListener {
+
+        final List<Long> rows = new CopyOnWriteArrayList<>()
+
+        @Override
+        void onQueryExecuted(QueryExecution execution) {
+            if (execution.methodName == "findAll") {
+                rows << execution.rows
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.jdbc.operations.DefaultJdbcRepositoryOperations
+import io.micronaut.data.runtime.operations.internal.VirtualThreadExecutorService
+import spock.lang.Requires
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+
+@Requires({ VirtualThreadExecutorService.isSupported() })
+class H2VirtualThreadsAsyncRepositorySpec extends H2AsyncRepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'datasources.default.virtual-threads'                : "true",
+                'datasources.default.virtual-threads-max-concurrency': "2"
+        ]
+    }
+
+    void "test operations run on virtual threads within the concurrency bound"() {
+        given:
+            def executor = context.getBean(DefaultJdbcRepositoryOperations).async().executor
+            def inFlight = new AtomicInteger()
+            def maxInFlight = new AtomicInteger()
+            def virtualThreads = new ConcurrentLinkedQueue<Boolean>()
+
+        when:
+            def futures = (1..20).collect {
+                CompletableFuture.runAsync({
+                    int current = inFlight.incrementAndGet()
+                    maxInFlight.accumulateAndGet(current, { a, b -> Math.max(a, b) })
+                    try {
+                        virtualThreads << Thread.currentThread().isVirtual()
+                        Thread.sleep(20)
+                    } finally {
+                        inFlight.decrementAndGet()
+                    }
+                }, executor)
+            }
+            CompletableFuture.allOf(futures as CompletableFuture[]).get()
+
+        then:
+            executor instanceof VirtualThreadExecutorService
+            virtualThreads.size() == 20
+            virtualThreads.every()
+            maxInFlight.get() <= 2
+    }
+}
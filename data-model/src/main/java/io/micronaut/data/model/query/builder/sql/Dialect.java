@@ -16,6 +16,7 @@
 package io.micronaut.data.model.query.builder.sql;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.DataType;
 
 /**
@@ -106,4 +107,39 @@ public enum Dialect {
     public final boolean requiresStringUUID(@NonNull DataType type) {
         return type == DataType.UUID && this.stringUUID;
     }
+
+    /**
+     * Determines whether an error reported with the given SQL state and vendor code is transient, so that
+     * the transaction that failed with it can be retried. Serialization failures ({@code 40001}) are
+     * retryable for every dialect, additionally the deadlock and lock timeout codes of each database are.
+     *
+     * @param sqlState  The SQL state
+     * @param errorCode The vendor error code
+     * @return True if the transaction can be retried
+     * @since 3.8.2
+     */
+    public final boolean isRetryableTransactionError(@Nullable String sqlState, int errorCode) {
+        if ("40001".equals(sqlState)) {
+            return true;
+        }
+        switch (this) {
+            case POSTGRES:
+                // deadlock_detected
+                return "40P01".equals(sqlState);
+            case MYSQL:
+                // ER_LOCK_DEADLOCK, ER_LOCK_WAIT_TIMEOUT
+                return errorCode == 1213 || errorCode == 1205;
+            case SQL_SERVER:
+                // Deadlock victim
+                return errorCode == 1205;
+            case ORACLE:
+                // ORA-08177 can't serialize access, ORA-00060 deadlock detected
+                return errorCode == 8177 || errorCode == 60;
+            case H2:
+                // DEADLOCK_1, LOCK_TIMEOUT_1
+                return errorCode == 40001 || errorCode == 50200;
+            default:
+                return sqlState != null && sqlState.startsWith("40") && !"40002".equals(sqlState);
+        }
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines the read preference of the queries of a repository or a repository method. The read preference is not
+ * applied to the queries executed in a transaction, a MongoDB transaction only reads from the primary.
+ *
+ * @since 3.8.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE})
+@Documented
+@Inherited
+public @interface MongoReadPreference {
+
+    /**
+     * The read preference mode, for example {@code secondaryPreferred} or {@code nearest}.
+     *
+     * @return The read preference mode
+     */
+    String value();
+
+    /**
+     * The maximum replication lag of the selected secondaries in seconds.
+     *
+     * @return The maxStalenessSeconds value
+     */
+    long maxStalenessSeconds() default -1;
+}
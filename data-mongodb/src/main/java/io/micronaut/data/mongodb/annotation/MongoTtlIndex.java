@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a TTL index on a date property, MongoDB removes the documents the given number of seconds after the date.
+ * The index is created with the collections, see {@code micronaut.data.mongodb.create-collections}.
+ *
+ * @since 3.8.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface MongoTtlIndex {
+
+    /**
+     * The name of the index; defaults to the name generated by MongoDB.
+     *
+     * @return The name
+     */
+    String name() default "";
+
+    /**
+     * The number of seconds after the date of the property when the document expires.
+     *
+     * @return The seconds
+     */
+    long expireAfterSeconds();
+}
@@ -29,6 +29,7 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.model.Page;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.mongodb.conf.RequiresReactiveMongo;
@@ -39,9 +40,11 @@ import io.micronaut.data.operations.async.AsyncCapableRepository;
 import io.micronaut.data.operations.reactive.BlockingReactorRepositoryOperations;
 import io.micronaut.data.operations.reactive.ReactorReactiveRepositoryOperations;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
+import io.micronaut.data.runtime.operations.SingleQueryPageOperations;
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
 import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import jakarta.inject.Singleton;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -87,7 +90,8 @@ final class MongoReactiveFactory {
             AsyncCapableRepository,
             HintsCapableRepository,
             MethodContextAwareStoredQueryDecorator,
-            PreparedQueryDecorator {
+            PreparedQueryDecorator,
+            SingleQueryPageOperations {
 
         private final DefaultReactiveMongoRepositoryOperations reactiveOperations;
         private ExecutorService executorService;
@@ -146,6 +150,12 @@ final class MongoReactiveFactory {
             return reactiveOperations.decorate(preparedQuery);
         }
 
+        @Override
+        public <E, R> Page<R> findPageInSingleQuery(PreparedQuery<E, R> preparedQuery) {
+            Mono<Page<R>> page = reactiveOperations.findPageInSingleQuery(preparedQuery);
+            return page == null ? null : page.block();
+        }
+
     }
 
 }
@@ -32,6 +32,7 @@ public final class SimpleMongoDatabaseFactory implements MongoDatabaseFactory {
 
     private final MongoClient mongoClient;
     private final String databaseName;
+    private MongoDatabase database;
 
     /**
      * Default constructor.
@@ -46,11 +47,21 @@ public final class SimpleMongoDatabaseFactory implements MongoDatabaseFactory {
 
     @Override
     public MongoDatabase getDatabase(PersistentEntity persistentEntity) throws DataAccessException {
-        return mongoClient.getDatabase(databaseName);
+        return getDatabase();
     }
 
     @Override
     public MongoDatabase getDatabase(Class<?> entityClass) throws DataAccessException {
-        return mongoClient.getDatabase(databaseName);
+        return getDatabase();
+    }
+
+    private MongoDatabase getDatabase() {
+        // The database is immutable, a concurrent initialization creates an equivalent instance
+        MongoDatabase database = this.database;
+        if (database == null) {
+            database = mongoClient.getDatabase(databaseName);
+            this.database = database;
+        }
+        return database;
     }
 }
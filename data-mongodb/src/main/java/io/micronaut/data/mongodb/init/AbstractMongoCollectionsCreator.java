@@ -15,30 +15,45 @@
  */
 package io.micronaut.data.mongodb.init;
 
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
 import io.micronaut.configuration.mongo.core.AbstractMongoConfiguration;
 import io.micronaut.configuration.mongo.core.DefaultMongoConfiguration;
 import io.micronaut.configuration.mongo.core.NamedMongoConfiguration;
 import io.micronaut.context.BeanLocator;
 import io.micronaut.context.Qualifier;
 import io.micronaut.context.annotation.Context;
+import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.Index;
+import io.micronaut.data.annotation.Indexes;
 import io.micronaut.data.annotation.MappedEntity;
 import io.micronaut.data.annotation.Relation;
+import io.micronaut.data.document.model.query.builder.MongoQueryBuilder;
 import io.micronaut.data.model.Association;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.naming.NamingStrategy;
 import io.micronaut.data.model.runtime.RuntimeEntityRegistry;
+import io.micronaut.data.mongodb.annotation.MongoTtlIndex;
+import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -52,6 +67,10 @@ import java.util.function.Function;
 @Internal
 public class AbstractMongoCollectionsCreator<Dtbs> {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractMongoCollectionsCreator.class);
+    private static final int INDEX_OPTIONS_CONFLICT = 85;
+    private static final int INDEX_KEY_SPECS_CONFLICT = 86;
+    // The index builds are resource intensive on the server, only a few collections are indexed at the same time
+    static final int MAX_CONCURRENT_INDEX_BUILDS = 4;
 
     /**
      * Get MongoDB database factory.
@@ -78,10 +97,12 @@ public class AbstractMongoCollectionsCreator<Dtbs> {
      *
      * @param runtimeEntityRegistry      The entity registry
      * @param mongoConfigurations        The configuration
+     * @param mongoDataConfiguration     The data configuration
      * @param databaseOperationsProvider The database provider
      */
     protected void initialize(RuntimeEntityRegistry runtimeEntityRegistry,
                               List<AbstractMongoConfiguration> mongoConfigurations,
+                              MongoDataConfiguration mongoDataConfiguration,
                               DatabaseOperationsProvider<Dtbs> databaseOperationsProvider) {
 
         for (AbstractMongoConfiguration mongoConfiguration : mongoConfigurations) {
@@ -94,6 +115,7 @@ public class AbstractMongoCollectionsCreator<Dtbs> {
                     .map(e -> runtimeEntityRegistry.getEntity(e.getBeanType())).toArray(PersistentEntity[]::new);
 
             DatabaseOperations<Dtbs> databaseOperations = databaseOperationsProvider.get(mongoConfiguration);
+            List<CollectionIndexes<Dtbs>> collectionIndexes = new ArrayList<>();
 
             for (PersistentEntity entity : entities) {
                 Dtbs database = databaseOperations.find(entity);
@@ -105,6 +127,10 @@ public class AbstractMongoCollectionsCreator<Dtbs> {
                     }
                     databaseOperations.createCollection(database, persistedName);
                 }
+                List<IndexModel> indexes = getIndexes(entity, mongoDataConfiguration.isCreateIndexesInBackground());
+                if (!indexes.isEmpty()) {
+                    collectionIndexes.add(new CollectionIndexes<>(database, persistedName, indexes));
+                }
                 for (PersistentProperty persistentProperty : entity.getPersistentProperties()) {
                     if (persistentProperty instanceof Association) {
                         Association association = (Association) persistentProperty;
@@ -124,8 +150,106 @@ public class AbstractMongoCollectionsCreator<Dtbs> {
                 }
 
             }
+            createIndexes(databaseOperations, collectionIndexes);
+        }
+
+    }
+
+    private void createIndexes(DatabaseOperations<Dtbs> databaseOperations, List<CollectionIndexes<Dtbs>> collectionIndexes) {
+        if (collectionIndexes.isEmpty()) {
+            return;
+        }
+        if (LOG.isInfoEnabled()) {
+            for (CollectionIndexes<Dtbs> indexes : collectionIndexes) {
+                LOG.info("Creating {} indexes for collection: {} in database: {}", indexes.indexes.size(), indexes.collection, databaseOperations.getDatabaseName(indexes.database));
+            }
+        }
+        // The index builds of different collections don't depend on each other
+        databaseOperations.createIndexes(collectionIndexes);
+    }
+
+    /**
+     * Whether the error is caused by an existing index with the same name or keys and different options.
+     *
+     * @param e The error
+     * @return True if it's an index conflict
+     */
+    static boolean isIndexConflict(Throwable e) {
+        if (e instanceof MongoCommandException) {
+            int errorCode = ((MongoCommandException) e).getErrorCode();
+            return errorCode == INDEX_OPTIONS_CONFLICT || errorCode == INDEX_KEY_SPECS_CONFLICT;
+        }
+        return false;
+    }
+
+    /**
+     * Log an index that isn't created because it conflicts with an existing index.
+     *
+     * @param collection The collection
+     * @param index      The index
+     * @param e          The conflict
+     */
+    static void logSkippedIndex(String collection, IndexModel index, Throwable e) {
+        String name = index.getOptions().getName();
+        LOG.warn("Skipping index {} of collection: {}, an existing index has the same name or keys with different options: {}",
+                name == null ? index.getKeys().toBsonDocument().toJson() : name, collection, ((MongoCommandException) e).getErrorMessage());
+    }
+
+    private List<IndexModel> getIndexes(PersistentEntity entity, boolean background) {
+        List<AnnotationValue<Index>> indexAnnotations = entity.findAnnotation(Indexes.class)
+                .map(indexes -> indexes.getAnnotations("value", Index.class))
+                .orElse(Collections.emptyList());
+        List<IndexModel> indexes = new ArrayList<>(indexAnnotations.size());
+        for (AnnotationValue<Index> index : indexAnnotations) {
+            String[] columns = index.stringValues("columns");
+            if (columns.length == 0) {
+                continue;
+            }
+            BsonDocument keys = new BsonDocument();
+            for (String column : columns) {
+                String name = column.trim();
+                int direction = 1;
+                int separator = name.lastIndexOf(' ');
+                if (separator > -1) {
+                    String order = name.substring(separator + 1);
+                    if (order.equalsIgnoreCase("desc")) {
+                        direction = -1;
+                        name = name.substring(0, separator).trim();
+                    } else if (order.equalsIgnoreCase("asc")) {
+                        name = name.substring(0, separator).trim();
+                    }
+                }
+                keys.append(getPersistedName(entity, name), new BsonInt32(direction));
+            }
+            IndexOptions options = new IndexOptions()
+                    .unique(index.booleanValue("unique").orElse(false))
+                    .background(background);
+            index.stringValue("name").filter(StringUtils::isNotEmpty).ifPresent(options::name);
+            indexes.add(new IndexModel(keys, options));
+        }
+        for (PersistentProperty property : entity.getPersistentProperties()) {
+            AnnotationValue<MongoTtlIndex> ttlIndex = property.getAnnotationMetadata().getAnnotation(MongoTtlIndex.class);
+            if (ttlIndex != null) {
+                IndexOptions options = new IndexOptions()
+                        .expireAfter(ttlIndex.longValue("expireAfterSeconds").orElse(0), TimeUnit.SECONDS)
+                        .background(background);
+                ttlIndex.stringValue("name").filter(StringUtils::isNotEmpty).ifPresent(options::name);
+                indexes.add(new IndexModel(new BsonDocument(property.getPersistedName(), new BsonInt32(1)), options));
+            }
         }
+        return indexes;
+    }
 
+    private String getPersistedName(PersistentEntity entity, String name) {
+        if (name.indexOf('.') > -1) {
+            return name;
+        }
+        PersistentProperty identity = entity.getIdentity();
+        if (identity != null && identity.getName().equals(name)) {
+            return MongoQueryBuilder.MONGO_ID_FIELD;
+        }
+        PersistentProperty property = entity.getPropertyByName(name);
+        return property == null ? name : property.getPersistedName();
     }
 
     /**
@@ -184,6 +308,44 @@ public class AbstractMongoCollectionsCreator<Dtbs> {
          */
         void createCollection(Dtbs database, String collection);
 
+        /**
+         * Create the indexes of the collections, the collections are processed concurrently. Existing indexes with the same
+         * specification are left unchanged. An index conflicting with an existing index is skipped and logged
+         * with {@link AbstractMongoCollectionsCreator#logSkippedIndex(String, IndexModel, Throwable)}, the other indexes of its collection are still created.
+         *
+         * @param collectionIndexes The indexes of each collection
+         */
+        void createIndexes(List<CollectionIndexes<Dtbs>> collectionIndexes);
+
+    }
+
+    /**
+     * The indexes to create for a collection.
+     *
+     * @param <Dtbs> The database type
+     */
+    static final class CollectionIndexes<Dtbs> {
+        private final Dtbs database;
+        private final String collection;
+        private final List<IndexModel> indexes;
+
+        CollectionIndexes(Dtbs database, String collection, List<IndexModel> indexes) {
+            this.database = database;
+            this.collection = collection;
+            this.indexes = indexes;
+        }
+
+        Dtbs getDatabase() {
+            return database;
+        }
+
+        String getCollection() {
+            return collection;
+        }
+
+        List<IndexModel> getIndexes() {
+            return indexes;
+        }
     }
 
 }
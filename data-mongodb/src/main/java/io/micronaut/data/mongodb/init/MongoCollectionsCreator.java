@@ -15,7 +15,10 @@
  */
 package io.micronaut.data.mongodb.init;
 
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexModel;
 import io.micronaut.configuration.mongo.core.AbstractMongoConfiguration;
 import io.micronaut.context.BeanLocator;
 import io.micronaut.context.annotation.Context;
@@ -27,13 +30,20 @@ import io.micronaut.data.model.runtime.RuntimeEntityRegistry;
 import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
 import io.micronaut.data.mongodb.conf.RequiresSyncMongo;
 import io.micronaut.data.mongodb.database.MongoDatabaseFactory;
+import org.bson.Document;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * MongoDB's collections creator.
@@ -50,9 +60,10 @@ public final class MongoCollectionsCreator extends AbstractMongoCollectionsCreat
     @PostConstruct
     void initialize(BeanLocator beanLocator,
                     RuntimeEntityRegistry runtimeEntityRegistry,
-                    List<AbstractMongoConfiguration> mongoConfigurations) {
+                    List<AbstractMongoConfiguration> mongoConfigurations,
+                    MongoDataConfiguration mongoDataConfiguration) {
 
-        super.initialize(runtimeEntityRegistry, mongoConfigurations, mongoConfiguration -> {
+        super.initialize(runtimeEntityRegistry, mongoConfigurations, mongoDataConfiguration, mongoConfiguration -> {
             MongoDatabaseFactory mongoDatabaseFactory = getMongoFactory(MongoDatabaseFactory.class, beanLocator, mongoConfiguration);
             Map<String, Set<String>> databaseCollections = new HashMap<>();
             return new DatabaseOperations<MongoDatabase>() {
@@ -76,6 +87,53 @@ public final class MongoCollectionsCreator extends AbstractMongoCollectionsCreat
                 public void createCollection(MongoDatabase database, String collection) {
                     database.createCollection(collection);
                 }
+
+                @Override
+                public void createIndexes(List<CollectionIndexes<MongoDatabase>> collectionIndexes) {
+                    ExecutorService executor = Executors.newFixedThreadPool(Math.min(collectionIndexes.size(), MAX_CONCURRENT_INDEX_BUILDS));
+                    try {
+                        List<Future<?>> builds = new ArrayList<>(collectionIndexes.size());
+                        for (CollectionIndexes<MongoDatabase> indexes : collectionIndexes) {
+                            builds.add(executor.submit(() -> createIndexes(indexes)));
+                        }
+                        for (Future<?> build : builds) {
+                            build.get();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while creating the indexes", e);
+                    } catch (ExecutionException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        }
+                        throw new IllegalStateException("Failed to create the indexes", cause);
+                    } finally {
+                        executor.shutdownNow();
+                    }
+                }
+
+                private void createIndexes(CollectionIndexes<MongoDatabase> indexes) {
+                    MongoCollection<Document> collection = indexes.getDatabase().getCollection(indexes.getCollection());
+                    try {
+                        collection.createIndexes(indexes.getIndexes());
+                    } catch (MongoCommandException e) {
+                        if (!isIndexConflict(e)) {
+                            throw e;
+                        }
+                        // The command fails as a whole, create the indexes one by one to skip only the conflicting ones
+                        for (IndexModel index : indexes.getIndexes()) {
+                            try {
+                                collection.createIndexes(Collections.singletonList(index));
+                            } catch (MongoCommandException indexException) {
+                                if (!isIndexConflict(indexException)) {
+                                    throw indexException;
+                                }
+                                logSkippedIndex(indexes.getCollection(), index, indexException);
+                            }
+                        }
+                    }
+                }
             };
         });
     }
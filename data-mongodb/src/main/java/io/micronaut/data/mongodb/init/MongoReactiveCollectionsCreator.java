@@ -15,6 +15,7 @@
  */
 package io.micronaut.data.mongodb.init;
 
+import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import io.micronaut.configuration.mongo.core.AbstractMongoConfiguration;
 import io.micronaut.context.BeanLocator;
@@ -27,10 +28,12 @@ import io.micronaut.data.model.runtime.RuntimeEntityRegistry;
 import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
 import io.micronaut.data.mongodb.conf.RequiresReactiveMongo;
 import io.micronaut.data.mongodb.database.ReactiveMongoDatabaseFactory;
+import org.bson.Document;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.annotation.PostConstruct;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,9 +55,10 @@ public final class MongoReactiveCollectionsCreator extends AbstractMongoCollecti
     @PostConstruct
     void initialize(BeanLocator beanLocator,
                     RuntimeEntityRegistry runtimeEntityRegistry,
-                    List<AbstractMongoConfiguration> mongoConfigurations) {
+                    List<AbstractMongoConfiguration> mongoConfigurations,
+                    MongoDataConfiguration mongoDataConfiguration) {
 
-        super.initialize(runtimeEntityRegistry, mongoConfigurations, mongoConfiguration -> {
+        super.initialize(runtimeEntityRegistry, mongoConfigurations, mongoDataConfiguration, mongoConfiguration -> {
             ReactiveMongoDatabaseFactory mongoDatabaseFactory = getMongoFactory(ReactiveMongoDatabaseFactory.class, beanLocator, mongoConfiguration);
             Map<String, Set<String>> databaseCollections = new HashMap<>();
             return new DatabaseOperations<MongoDatabase>() {
@@ -78,6 +82,24 @@ public final class MongoReactiveCollectionsCreator extends AbstractMongoCollecti
                 public void createCollection(MongoDatabase database, String collection) {
                     Mono.from(database.createCollection(collection)).block();
                 }
+
+                @Override
+                public void createIndexes(List<CollectionIndexes<MongoDatabase>> collectionIndexes) {
+                    Flux.merge(collectionIndexes.stream().map(this::createIndexes).collect(Collectors.toList())).blockLast();
+                }
+
+                private Mono<Void> createIndexes(CollectionIndexes<MongoDatabase> indexes) {
+                    MongoCollection<Document> collection = indexes.getDatabase().getCollection(indexes.getCollection());
+                    return Flux.from(collection.createIndexes(indexes.getIndexes())).then()
+                            // The command fails as a whole, create the indexes one by one to skip only the conflicting ones
+                            .onErrorResume(AbstractMongoCollectionsCreator::isIndexConflict, e -> Flux.fromIterable(indexes.getIndexes())
+                                    .concatMap(index -> Flux.from(collection.createIndexes(Collections.singletonList(index))).then()
+                                            .onErrorResume(AbstractMongoCollectionsCreator::isIndexConflict, indexException -> {
+                                                logSkippedIndex(indexes.getCollection(), index, indexException);
+                                                return Mono.empty();
+                                            }))
+                                    .then());
+                }
             };
         });
     }
@@ -15,6 +15,7 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.InsertManyOptions;
@@ -24,11 +25,14 @@ import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.model.Page;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimeEntityRegistry;
@@ -36,6 +40,7 @@ import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.mongodb.annotation.MongoRepository;
+import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
 import io.micronaut.data.mongodb.operations.options.MongoAggregationOptions;
 import io.micronaut.data.mongodb.operations.options.MongoFindOptions;
 import io.micronaut.data.mongodb.operations.options.MongoOptionsUtils;
@@ -44,22 +49,31 @@ import io.micronaut.data.repository.GenericRepository;
 import io.micronaut.data.runtime.config.DataSettings;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.date.DateTimeProvider;
+import io.micronaut.data.runtime.execution.QueryExecution;
 import io.micronaut.data.runtime.mapper.BeanIntrospectionMapper;
 import io.micronaut.data.runtime.operations.internal.AbstractRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
 import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.internal.QueryResultStoredQuery;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import org.bson.BsonArray;
 import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.BsonDocumentWrapper;
 import org.bson.BsonNull;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -81,7 +95,11 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
 
     protected static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
     protected static final BsonDocument EMPTY = new BsonDocument();
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
     protected final Map<Class, String> repoDatabaseConfig;
+    protected final boolean bulkOrdered;
+    private final int bulkChunkSize;
+    private final String serverName;
 
     /**
      * Default constructor.
@@ -102,6 +120,7 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
                                                 DataConversionService<?> conversionService,
                                                 AttributeConverterRegistry attributeConverterRegistry) {
         super(codecs, dateTimeProvider, runtimeEntityRegistry, conversionService, attributeConverterRegistry);
+        this.serverName = server;
         Collection<BeanDefinition<GenericRepository>> beanDefinitions = beanContext
                 .getBeanDefinitions(GenericRepository.class, Qualifiers.byStereotype(MongoRepository.class));
         HashMap<Class, String> repoDatabaseConfig = new HashMap<>();
@@ -115,6 +134,9 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
             }
         }
         this.repoDatabaseConfig = Collections.unmodifiableMap(repoDatabaseConfig);
+        MongoDataConfiguration mongoDataConfiguration = beanContext.getBean(MongoDataConfiguration.class);
+        this.bulkChunkSize = mongoDataConfiguration.getBulkChunkSize();
+        this.bulkOrdered = mongoDataConfiguration.isBulkOrdered();
     }
 
     protected final ReplaceOptions getReplaceOptions(AnnotationMetadata annotationMetadata) {
@@ -126,13 +148,68 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
     }
 
     protected final InsertManyOptions getInsertManyOptions(AnnotationMetadata annotationMetadata) {
-        return MongoOptionsUtils.buildInsertManyOptions(annotationMetadata).orElseGet(InsertManyOptions::new);
+        return MongoOptionsUtils.buildInsertManyOptions(annotationMetadata).orElseGet(() -> new InsertManyOptions().ordered(bulkOrdered));
+    }
+
+    protected final BulkWriteOptions getBulkWriteOptions() {
+        return new BulkWriteOptions().ordered(bulkOrdered);
+    }
+
+    /**
+     * Splits the documents or the write models of a batch operation into chunks sent in separate bulk commands.
+     *
+     * @param values The values
+     * @param <T>    The value type
+     * @return The chunks, empty if there are no values
+     */
+    protected final <T> List<List<T>> chunks(List<T> values) {
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (bulkChunkSize <= 0 || values.size() <= bulkChunkSize) {
+            return Collections.singletonList(values);
+        }
+        List<List<T>> chunks = new ArrayList<>((values.size() + bulkChunkSize - 1) / bulkChunkSize);
+        for (int i = 0; i < values.size(); i += bulkChunkSize) {
+            chunks.add(values.subList(i, Math.min(values.size(), i + bulkChunkSize)));
+        }
+        return chunks;
     }
 
     protected final DeleteOptions getDeleteOptions(AnnotationMetadata annotationMetadata) {
         return MongoOptionsUtils.buildDeleteOptions(annotationMetadata, true).orElseGet(DeleteOptions::new);
     }
 
+    /**
+     * Starts the execution of a repository query.
+     *
+     * @param preparedQuery The prepared query
+     * @param kind          The kind of the command
+     * @return The execution
+     */
+    @NonNull
+    protected final QueryExecution startQueryExecution(@NonNull PreparedQuery<?, ?> preparedQuery, @NonNull QueryExecution.Kind kind) {
+        QueryExecution execution = startQueryExecution(serverName, preparedQuery.getRepositoryType(), preparedQuery.getName(),
+            preparedQuery.getQuery(), kind, preparedQuery.getAnnotationMetadata());
+        if (execution.isRecording()) {
+            execution.setParameters(preparedQuery.getParameterArray());
+        }
+        return execution;
+    }
+
+    /**
+     * Starts the execution of an entity operation, the query being the name of the collection.
+     *
+     * @param ctx              The operation context
+     * @param persistentEntity The persistent entity
+     * @param kind             The kind of the command
+     * @return The execution
+     */
+    @NonNull
+    protected final QueryExecution startQueryExecution(@NonNull OperationContext ctx, @NonNull RuntimePersistentEntity<?> persistentEntity, @NonNull QueryExecution.Kind kind) {
+        return startQueryExecution(serverName, ctx.repositoryType, ctx.methodName, persistentEntity.getPersistedName(), kind, ctx.annotationMetadata);
+    }
+
     protected abstract Dtb getDatabase(RuntimePersistentEntity<?> persistentEntity, Class<?> repository);
 
     protected abstract CodecRegistry getCodecRegistry(Dtb database);
@@ -174,6 +251,17 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
                 runtimeEntityRegistry, conversionService, persistentEntity, database);
     }
 
+    /**
+     * Checks whether the query results are returned as the documents read from the collection, without decoding
+     * them into an entity or a DTO. A {@link RawBsonDocument} keeps the document as the bytes read from the server.
+     *
+     * @param resultType The result type
+     * @return true if the result is a document
+     */
+    protected static boolean isDocumentResult(Class<?> resultType) {
+        return resultType == BsonDocument.class || resultType == RawBsonDocument.class;
+    }
+
     protected <R> R convertResult(CodecRegistry codecRegistry,
                                   Class<R> resultType,
                                   BsonDocument result,
@@ -181,6 +269,12 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
         if (resultType == BsonDocument.class) {
             return (R) result;
         }
+        if (resultType == RawBsonDocument.class) {
+            if (result == null || result instanceof RawBsonDocument) {
+                return (R) result;
+            }
+            return (R) new RawBsonDocument(result, BSON_DOCUMENT_CODEC);
+        }
         Optional<BeanIntrospection<R>> introspection = BeanIntrospector.SHARED.findIntrospection(resultType);
         if (introspection.isPresent()) {
             return (new BeanIntrospectionMapper<BsonDocument, R>() {
@@ -224,6 +318,41 @@ abstract class AbstractMongoRepositoryOperations<Dtb> extends AbstractRepository
         return conversionService.convertRequired(MongoUtils.toValue(value), resultType);
     }
 
+    /**
+     * Reads the page from the result of {@link MongoPreparedQuery#getPageAggregation()}.
+     *
+     * @param preparedQuery The prepared query
+     * @param codecRegistry The codec registry
+     * @param result        The facet result
+     * @param <E>           The entity type
+     * @param <R>           The result type
+     * @return The page
+     */
+    protected <E, R> Page<R> toPage(MongoPreparedQuery<E, R, Dtb> preparedQuery,
+                                    CodecRegistry codecRegistry,
+                                    @Nullable BsonDocument result) {
+        if (result == null) {
+            return Page.of(Collections.emptyList(), preparedQuery.getPageable(), 0);
+        }
+        Class<R> resultType = preparedQuery.getResultType();
+        BsonArray documents = result.getArray(DefaultMongoPreparedQuery.FACET_CONTENT);
+        List<R> content = new ArrayList<>(documents.size());
+        if (resultType.isAssignableFrom(preparedQuery.getRootEntity())) {
+            Decoder<R> decoder = codecRegistry.get(resultType);
+            DecoderContext decoderContext = DecoderContext.builder().build();
+            for (BsonValue document : documents) {
+                content.add(decoder.decode(new BsonDocumentReader(document.asDocument()), decoderContext));
+            }
+        } else {
+            for (BsonValue document : documents) {
+                content.add(convertResult(codecRegistry, resultType, document.asDocument(), preparedQuery.isDtoProjection()));
+            }
+        }
+        BsonArray count = result.getArray(DefaultMongoPreparedQuery.FACET_COUNT);
+        long total = count.isEmpty() ? 0 : count.get(0).asDocument().getNumber(DefaultMongoPreparedQuery.FACET_COUNT).longValue();
+        return Page.of(content, preparedQuery.getPageable(), total);
+    }
+
     protected BsonDocument association(CodecRegistry codecRegistry,
                                        Object value, RuntimePersistentEntity<Object> persistentEntity,
                                        Object child, RuntimePersistentEntity<Object> childPersistentEntity) {
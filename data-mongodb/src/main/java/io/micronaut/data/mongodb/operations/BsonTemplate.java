@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.document.model.query.builder.MongoQueryBuilder;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A query document compiled once into a tree of constant parts and parameter slots.
+ *
+ * <p>Parameter placeholders produced by {@link MongoQueryBuilder} are located when the template is compiled, so
+ * rendering only resolves the parameter values and assembles the documents on the path to each slot. Subtrees
+ * without parameters are shared between the rendered documents and are never copied.</p>
+ *
+ * <p>A parameter inside an array that resolves to {@code null} is removed from the array and a parameter that
+ * resolves to an array is spliced into it.</p>
+ *
+ * @since 3.8.2
+ */
+@Internal
+public final class BsonTemplate {
+
+    private final BsonDocument document;
+    private final Node root;
+
+    private BsonTemplate(BsonDocument document, Node root) {
+        this.document = document;
+        this.root = root;
+    }
+
+    /**
+     * Compiles the template.
+     *
+     * @param document The document with parameter placeholders
+     * @return The template
+     */
+    @NonNull
+    public static BsonTemplate compile(@NonNull BsonDocument document) {
+        return new BsonTemplate(document, compileValue(document));
+    }
+
+    /**
+     * @return true if the template contains parameter slots
+     */
+    public boolean hasParameters() {
+        return !(root instanceof ConstantNode);
+    }
+
+    /**
+     * @return The source document, to be used as is when there are no parameters
+     */
+    @NonNull
+    public BsonDocument getDocument() {
+        return document;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param resolver The parameter resolver
+     * @return A new document with the parameters replaced
+     */
+    @NonNull
+    public BsonDocument render(@NonNull ParameterResolver resolver) {
+        return root.render(resolver).asDocument();
+    }
+
+    private static Node compileValue(BsonValue value) {
+        if (value instanceof BsonDocument) {
+            BsonDocument bsonDocument = (BsonDocument) value;
+            BsonInt32 queryParameterIndex = bsonDocument.getInt32(MongoQueryBuilder.QUERY_PARAMETER_PLACEHOLDER, null);
+            if (queryParameterIndex != null) {
+                return new ParameterNode(queryParameterIndex.getValue());
+            }
+            int size = bsonDocument.size();
+            String[] keys = new String[size];
+            Node[] values = new Node[size];
+            boolean constant = true;
+            int i = 0;
+            for (Map.Entry<String, BsonValue> entry : bsonDocument.entrySet()) {
+                keys[i] = entry.getKey();
+                values[i] = compileValue(entry.getValue());
+                constant &= values[i] instanceof ConstantNode;
+                i++;
+            }
+            return constant ? new ConstantNode(value) : new DocumentNode(keys, values);
+        }
+        if (value instanceof BsonArray) {
+            BsonArray bsonArray = (BsonArray) value;
+            Node[] values = new Node[bsonArray.size()];
+            boolean constant = true;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = compileValue(bsonArray.get(i));
+                constant &= values[i] instanceof ConstantNode;
+            }
+            return constant ? new ConstantNode(value) : new ArrayNode(values);
+        }
+        return new ConstantNode(value);
+    }
+
+    /**
+     * Resolves the value of a parameter slot.
+     */
+    @FunctionalInterface
+    public interface ParameterResolver {
+
+        /**
+         * @param index The index of the query parameter binding
+         * @return The value
+         */
+        @NonNull
+        BsonValue resolve(int index);
+    }
+
+    private abstract static class Node {
+        abstract BsonValue render(ParameterResolver resolver);
+    }
+
+    private static final class ConstantNode extends Node {
+        private final BsonValue value;
+
+        ConstantNode(BsonValue value) {
+            this.value = value;
+        }
+
+        @Override
+        BsonValue render(ParameterResolver resolver) {
+            return value;
+        }
+    }
+
+    private static final class ParameterNode extends Node {
+        private final int index;
+
+        ParameterNode(int index) {
+            this.index = index;
+        }
+
+        @Override
+        BsonValue render(ParameterResolver resolver) {
+            return resolver.resolve(index);
+        }
+    }
+
+    private static final class DocumentNode extends Node {
+        private final String[] keys;
+        private final Node[] values;
+
+        DocumentNode(String[] keys, Node[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        BsonValue render(ParameterResolver resolver) {
+            BsonDocument document = new BsonDocument(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                document.put(keys[i], values[i].render(resolver));
+            }
+            return document;
+        }
+    }
+
+    private static final class ArrayNode extends Node {
+        private final Node[] values;
+
+        ArrayNode(Node[] values) {
+            this.values = values;
+        }
+
+        @Override
+        BsonValue render(ParameterResolver resolver) {
+            List<BsonValue> array = new ArrayList<>(values.length);
+            for (Node node : values) {
+                BsonValue value = node.render(resolver);
+                if (node instanceof ParameterNode) {
+                    if (value.isNull()) {
+                        continue;
+                    }
+                    if (value.isArray()) {
+                        array.addAll(value.asArray().getValues());
+                        continue;
+                    }
+                }
+                array.add(value);
+            }
+            return new BsonArray(array);
+        }
+    }
+}
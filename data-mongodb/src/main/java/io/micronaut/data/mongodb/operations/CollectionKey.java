@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.Objects;
+
+/**
+ * The key of a cached Mongo collection. Collections are immutable, the same instance can be used by every operation
+ * on the same database, collection and document class with the same read and write settings and codec registry.
+ *
+ * @since 3.8.2
+ */
+final class CollectionKey {
+
+    private final String databaseName;
+    private final String collectionName;
+    private final Class<?> documentClass;
+    private final ReadPreference readPreference;
+    private final ReadConcern readConcern;
+    private final WriteConcern writeConcern;
+    private final CodecRegistry codecRegistry;
+    private final int hashCode;
+
+    /**
+     * Default constructor.
+     *
+     * @param databaseName   The database name
+     * @param collectionName The collection name
+     * @param documentClass  The document class
+     * @param readPreference The read preference of the database
+     * @param readConcern    The read concern of the database
+     * @param writeConcern   The write concern of the database
+     * @param codecRegistry  The codec registry of the database
+     */
+    CollectionKey(String databaseName,
+                  String collectionName,
+                  Class<?> documentClass,
+                  ReadPreference readPreference,
+                  ReadConcern readConcern,
+                  WriteConcern writeConcern,
+                  CodecRegistry codecRegistry) {
+        this.databaseName = databaseName;
+        this.collectionName = collectionName;
+        this.documentClass = documentClass;
+        this.readPreference = readPreference;
+        this.readConcern = readConcern;
+        this.writeConcern = writeConcern;
+        this.codecRegistry = codecRegistry;
+        // The settings are only compared on a hit, hashing them costs more than creating the collection
+        this.hashCode = (databaseName.hashCode() * 31 + collectionName.hashCode()) * 31 + documentClass.hashCode();
+    }
+
+    /**
+     * @return The collection name
+     */
+    String getCollectionName() {
+        return collectionName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CollectionKey that = (CollectionKey) o;
+        return documentClass == that.documentClass
+                && collectionName.equals(that.collectionName)
+                && databaseName.equals(that.databaseName)
+                && Objects.equals(readPreference, that.readPreference)
+                && Objects.equals(readConcern, that.readConcern)
+                && Objects.equals(writeConcern, that.writeConcern)
+                && Objects.equals(codecRegistry, that.codecRegistry);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
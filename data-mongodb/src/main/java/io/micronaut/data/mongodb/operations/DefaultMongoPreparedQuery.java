@@ -15,21 +15,26 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.ReadPreference;
 import com.mongodb.client.model.Sorts;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.mongodb.operations.options.MongoAggregationOptions;
 import io.micronaut.data.mongodb.operations.options.MongoFindOptions;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersPreparedQuery;
 import io.micronaut.data.runtime.query.internal.DefaultPreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegatePreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
 import org.bson.BsonDocument;
+import org.bson.BsonArray;
 import org.bson.BsonInt32;
+import org.bson.BsonString;
 import org.bson.conversions.Bson;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -45,6 +50,9 @@ import java.util.stream.Collectors;
 @Internal
 final class DefaultMongoPreparedQuery<E, R, Dtb> extends DefaultBindableParametersPreparedQuery<E, R> implements DelegatePreparedQuery<E, R>, MongoPreparedQuery<E, R, Dtb> {
 
+    static final String FACET_CONTENT = "content";
+    static final String FACET_COUNT = "count";
+
     private final DefaultPreparedQuery<E, R> defaultPreparedQuery;
     private final MongoStoredQuery<E, R, Dtb> mongoStoredQuery;
 
@@ -64,6 +72,11 @@ final class DefaultMongoPreparedQuery<E, R, Dtb> extends DefaultBindableParamete
         return mongoStoredQuery.isAggregate();
     }
 
+    @Override
+    public ReadPreference getReadPreference() {
+        return mongoStoredQuery.getReadPreference();
+    }
+
     @Override
     public MongoAggregation getAggregation() {
         MongoAggregation aggregation = mongoStoredQuery.getAggregation(defaultPreparedQuery.getContext());
@@ -95,6 +108,56 @@ final class DefaultMongoPreparedQuery<E, R, Dtb> extends DefaultBindableParamete
         return find;
     }
 
+    @Override
+    public MongoAggregation getPageAggregation() {
+        Pageable pageable = getPageable();
+        if (pageable == Pageable.UNPAGED || pageable.getSize() <= 0) {
+            return null;
+        }
+        List<Bson> pipeline;
+        List<Bson> content = new ArrayList<>(4);
+        MongoAggregationOptions options;
+        Bson projection = null;
+        if (isAggregate()) {
+            MongoAggregation aggregation = mongoStoredQuery.getAggregation(defaultPreparedQuery.getContext());
+            pipeline = new ArrayList<>(aggregation.getPipeline());
+            options = aggregation.getOptions();
+        } else {
+            MongoFindOptions findOptions = mongoStoredQuery.getFind(defaultPreparedQuery.getContext()).getOptions();
+            pipeline = new ArrayList<>(2);
+            options = new MongoAggregationOptions();
+            if (findOptions != null) {
+                Bson filter = findOptions.getFilter();
+                if (filter != null) {
+                    pipeline.add(new BsonDocument().append("$match", filter.toBsonDocument()));
+                }
+                Bson sort = findOptions.getSort();
+                if (sort != null && !pageable.getSort().isSorted()) {
+                    content.add(new BsonDocument().append("$sort", sort.toBsonDocument()));
+                }
+                projection = findOptions.getProjection();
+                options.collation(findOptions.getCollation())
+                    .hint(findOptions.getHint())
+                    .maxTimeMS(findOptions.getMaxTimeMS())
+                    .comment(findOptions.getComment())
+                    .allowDiskUse(findOptions.getAllowDiskUse());
+            }
+        }
+        applyPageable(pageable, content);
+        if (projection != null) {
+            content.add(new BsonDocument().append("$project", projection.toBsonDocument()));
+        }
+        BsonArray contentStages = new BsonArray(content.size());
+        for (Bson stage : content) {
+            contentStages.add(stage.toBsonDocument());
+        }
+        BsonDocument facet = new BsonDocument()
+            .append(FACET_CONTENT, contentStages)
+            .append(FACET_COUNT, new BsonArray(Collections.singletonList(new BsonDocument().append("$count", new BsonString(FACET_COUNT)))));
+        pipeline.add(new BsonDocument().append("$facet", facet));
+        return new MongoAggregation(pipeline, options);
+    }
+
     @Override
     public MongoUpdate getUpdateMany() {
         return mongoStoredQuery.getUpdateMany(defaultPreparedQuery.getContext());
@@ -16,6 +16,7 @@
 package io.micronaut.data.mongodb.operations;
 
 import com.mongodb.CursorType;
+import com.mongodb.ReadPreference;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
@@ -60,6 +61,8 @@ import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.model.runtime.UpdateBatchOperation;
 import io.micronaut.data.model.runtime.UpdateOperation;
+import io.micronaut.data.mongodb.annotation.MongoFacetPagination;
+import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
 import io.micronaut.data.mongodb.conf.RequiresSyncMongo;
 import io.micronaut.data.mongodb.database.MongoDatabaseFactory;
 import io.micronaut.data.mongodb.operations.options.MongoAggregationOptions;
@@ -70,29 +73,33 @@ import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.date.DateTimeProvider;
+import io.micronaut.data.runtime.execution.QueryExecution;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
+import io.micronaut.data.runtime.operations.SingleQueryPageOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntitiesOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntityOperations;
 import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.SyncCascadeOperations;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
 import jakarta.inject.Named;
 import org.bson.BsonDocument;
-import org.bson.BsonDocumentWrapper;
 import org.bson.BsonValue;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -113,14 +120,19 @@ import java.util.stream.StreamSupport;
 @EachBean(MongoClient.class)
 @Internal
 public final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOperations<MongoDatabase> implements
-        MongoRepositoryOperations,
+        MongoSynchronousRepositoryOperations,
         AsyncCapableRepository,
         ReactiveCapableRepository,
+        SingleQueryPageOperations,
         SyncCascadeOperations.SyncCascadeOperationsHelper<DefaultMongoRepositoryOperations.MongoOperationContext> {
     private final MongoClient mongoClient;
     private final SyncCascadeOperations<MongoOperationContext> cascadeOperations;
     private final MongoSynchronousTransactionManager transactionManager;
     private final MongoDatabaseFactory mongoDatabaseFactory;
+    private final boolean sessionPerOperation;
+    private final boolean facetPagination;
+    private final Map<String, MongoDatabase> databases = new ConcurrentHashMap<>();
+    private final Map<CollectionKey, MongoCollection<?>> collections = new ConcurrentHashMap<>();
     private ExecutorAsyncOperations asyncOperations;
     private ExecutorService executorService;
 
@@ -152,12 +164,15 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         boolean isPrimary = "Primary".equals(serverName);
         this.transactionManager = beanContext.getBean(MongoSynchronousTransactionManager.class, isPrimary ? null : Qualifiers.byName(serverName));
         this.mongoDatabaseFactory = beanContext.getBean(MongoDatabaseFactory.class, isPrimary ? null : Qualifiers.byName(serverName));
+        MongoDataConfiguration mongoDataConfiguration = beanContext.getBean(MongoDataConfiguration.class);
+        this.sessionPerOperation = mongoDataConfiguration.isSessionPerOperation();
+        this.facetPagination = mongoDataConfiguration.isFacetPagination();
         this.executorService = executorService;
     }
 
     @Override
     public <T> T findOne(Class<T> type, Serializable id) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(type);
             MongoDatabase database = getDatabase(persistentEntity, null);
             MongoCollection<T> collection = getCollection(database, persistentEntity, type);
@@ -165,28 +180,44 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'find' with filter: {}", filter.toBsonDocument().toJson());
             }
-            return collection.find(clientSession, filter, type).first();
+            return (clientSession == null ? collection.find(filter, type) : collection.find(clientSession, filter, type)).first();
         });
     }
 
     @Override
     public <T, R> R findOne(PreparedQuery<T, R> preparedQuery) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             MongoPreparedQuery<T, R, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
-            if (mongoPreparedQuery.isCount()) {
-                return getCount(clientSession, mongoPreparedQuery);
-            }
-            if (mongoPreparedQuery.isAggregate()) {
-                return findOneAggregated(clientSession, mongoPreparedQuery);
-            } else {
-                return findOneFiltered(clientSession, mongoPreparedQuery);
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            try {
+                R result = findOne(clientSession, mongoPreparedQuery);
+                execution.executed();
+                if (result != null) {
+                    execution.addRows(1);
+                }
+                return result;
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
             }
         });
     }
 
+    private <T, R> R findOne(ClientSession clientSession, MongoPreparedQuery<T, R, MongoDatabase> preparedQuery) {
+        if (preparedQuery.isCount()) {
+            return getCount(clientSession, preparedQuery);
+        }
+        if (preparedQuery.isAggregate()) {
+            return findOneAggregated(clientSession, preparedQuery);
+        } else {
+            return findOneFiltered(clientSession, preparedQuery);
+        }
+    }
+
     private <T, R> R getCount(ClientSession clientSession, MongoPreparedQuery<T, R, MongoDatabase> preparedQuery) {
         Class<R> resultType = preparedQuery.getResultType();
-        RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
         MongoDatabase database = preparedQuery.getDatabase();
         if (preparedQuery.isAggregate()) {
             MongoAggregation aggregation = preparedQuery.getAggregation();
@@ -208,22 +239,36 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'countDocuments' with filter: {}", filter.toBsonDocument().toJson());
             }
-            long count = getCollection(database, persistentEntity, BsonDocument.class)
-                    .countDocuments(clientSession, filter);
+            MongoCollection<BsonDocument> collection = getReadCollection(clientSession, preparedQuery, BsonDocument.class);
+            long count = clientSession == null ? collection.countDocuments(filter) : collection.countDocuments(clientSession, filter);
             return conversionService.convertRequired(count, resultType);
         }
     }
 
     @Override
     public <T> boolean exists(PreparedQuery<T, Boolean> preparedQuery) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             MongoPreparedQuery<T, Boolean, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
-            if (mongoPreparedQuery.isAggregate()) {
-                return aggregate(clientSession, mongoPreparedQuery, BsonDocument.class).iterator().hasNext();
-            } else {
-                return find(clientSession, mongoPreparedQuery)
-                        .limit(1)
-                        .iterator().hasNext();
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            try {
+                boolean exists;
+                if (mongoPreparedQuery.isAggregate()) {
+                    exists = aggregate(clientSession, mongoPreparedQuery, BsonDocument.class).iterator().hasNext();
+                } else {
+                    exists = find(clientSession, mongoPreparedQuery)
+                            .limit(1)
+                            .iterator().hasNext();
+                }
+                execution.executed();
+                if (exists) {
+                    execution.addRows(1);
+                }
+                return exists;
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
             }
         });
     }
@@ -248,29 +293,103 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         throw new DataAccessException("Not supported!");
     }
 
+    @Override
+    public <E, R> Page<R> findPageInSingleQuery(PreparedQuery<E, R> preparedQuery) {
+        if (!preparedQuery.getAnnotationMetadata().booleanValue(MongoFacetPagination.class).orElse(facetPagination)) {
+            return null;
+        }
+        MongoPreparedQuery<E, R, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
+        if (mongoPreparedQuery.isCount()) {
+            return null;
+        }
+        MongoAggregation aggregation = mongoPreparedQuery.getPageAggregation();
+        if (aggregation == null) {
+            return null;
+        }
+        return withOptionalClientSession(clientSession -> {
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            try {
+                if (QUERY_LOG.isDebugEnabled()) {
+                    logAggregate(aggregation);
+                }
+                MongoCollection<BsonDocument> collection = getReadCollection(clientSession, mongoPreparedQuery, BsonDocument.class);
+                AggregateIterable<BsonDocument> aggregateIterable = clientSession == null
+                        ? collection.aggregate(aggregation.getPipeline(), BsonDocument.class)
+                        : collection.aggregate(clientSession, aggregation.getPipeline(), BsonDocument.class);
+                BsonDocument result = applyAggregateOptions(aggregation.getOptions(), aggregateIterable).first();
+                execution.executed();
+                Page<R> page = toPage(mongoPreparedQuery, collection.getCodecRegistry(), result);
+                execution.addRows(page.getNumberOfElements());
+                return page;
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
+            }
+        });
+    }
+
     @Override
     public <T, R> Iterable<R> findAll(PreparedQuery<T, R> preparedQuery) {
-        return withClientSession(clientSession -> findAll(clientSession, getMongoPreparedQuery(preparedQuery), false));
+        return withOptionalClientSession(clientSession -> {
+            MongoPreparedQuery<T, R, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            try {
+                Iterable<R> results = findAll(clientSession, mongoPreparedQuery, false);
+                execution.executed();
+                if (results instanceof Collection) {
+                    execution.addRows(((Collection<R>) results).size());
+                }
+                return results;
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
+            }
+        });
     }
 
     @Override
     public <T, R> Stream<R> findStream(PreparedQuery<T, R> preparedQuery) {
-        return withClientSession(clientSession -> {
-            MongoIterable<R> iterable = (MongoIterable<R>) findAll(clientSession, getMongoPreparedQuery(preparedQuery), true);
-            MongoCursor<R> iterator = iterable.iterator();
+        return withOptionalClientSession(clientSession -> {
+            MongoPreparedQuery<T, R, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            MongoCursor<R> iterator;
+            try {
+                MongoIterable<R> iterable = (MongoIterable<R>) findAll(clientSession, mongoPreparedQuery, true);
+                iterator = iterable.iterator();
+                execution.executed();
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                finishQueryExecution(execution);
+                throw e;
+            }
+            Runnable close = () -> {
+                iterator.close();
+                finishQueryExecution(execution);
+            };
             Spliterators.AbstractSpliterator<R> spliterator = new Spliterators.AbstractSpliterator<R>(Long.MAX_VALUE,
                     Spliterator.ORDERED | Spliterator.IMMUTABLE) {
                 @Override
                 public boolean tryAdvance(Consumer<? super R> action) {
-                    if (iterator.hasNext()) {
-                        action.accept(iterator.next());
-                        return true;
+                    try {
+                        if (iterator.hasNext()) {
+                            action.accept(iterator.next());
+                            execution.addRows(1);
+                            return true;
+                        }
+                    } catch (RuntimeException e) {
+                        execution.failed(e);
+                        close.run();
+                        throw e;
                     }
-                    iterator.close();
+                    close.run();
                     return false;
                 }
             };
-            return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+            return StreamSupport.stream(spliterator, false).onClose(close);
         });
     }
 
@@ -301,7 +420,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         MongoDatabase database = preparedQuery.getDatabase();
         Class<T> type = preparedQuery.getRootEntity();
         Class<R> resultType = preparedQuery.getResultType();
-        if (!resultType.isAssignableFrom(type)) {
+        if (!isDocumentResult(resultType) && !resultType.isAssignableFrom(type)) {
             BsonDocument result = aggregate(clientSession, preparedQuery, BsonDocument.class).first();
             return convertResult(database.getCodecRegistry(), resultType, result, preparedQuery.isDtoProjection());
         }
@@ -322,7 +441,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         Class<T> type = preparedQuery.getRootEntity();
         Class<R> resultType = preparedQuery.getResultType();
         MongoIterable<R> aggregate;
-        if (!resultType.isAssignableFrom(type)) {
+        if (!isDocumentResult(resultType) && !resultType.isAssignableFrom(type)) {
             MongoDatabase database = preparedQuery.getDatabase();
             aggregate = aggregate(clientSession, preparedQuery, BsonDocument.class)
                     .map(result -> convertResult(database.getCodecRegistry(), resultType, result, preparedQuery.isDtoProjection()));
@@ -340,7 +459,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         Class<T> type = preparedQuery.getRootEntity();
         Class<R> resultType = preparedQuery.getResultType();
         MongoIterable<R> findIterable;
-        if (!resultType.isAssignableFrom(type)) {
+        if (!isDocumentResult(resultType) && !resultType.isAssignableFrom(type)) {
             MongoDatabase database = preparedQuery.getDatabase();
             findIterable = find(clientSession, preparedQuery, BsonDocument.class)
                     .map(result -> convertResult(database.getCodecRegistry(), resultType, result, preparedQuery.isDtoProjection()));
@@ -361,8 +480,8 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         if (QUERY_LOG.isDebugEnabled()) {
             logFind(find);
         }
-        MongoCollection<MR> collection = getCollection(preparedQuery.getDatabase(), preparedQuery.getPersistentEntity(), resultType);
-        FindIterable<MR> findIterable = collection.find(clientSession, resultType);
+        MongoCollection<MR> collection = getReadCollection(clientSession, preparedQuery, resultType);
+        FindIterable<MR> findIterable = clientSession == null ? collection.find(resultType) : collection.find(clientSession, resultType);
         return applyFindOptions(find.getOptions(), findIterable);
     }
 
@@ -452,12 +571,14 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
     private <T, R, MR> AggregateIterable<MR> aggregate(ClientSession clientSession,
                                                        MongoPreparedQuery<T, R, MongoDatabase> preparedQuery,
                                                        Class<MR> resultType) {
-        MongoCollection<MR> collection = getCollection(preparedQuery.getDatabase(), preparedQuery.getPersistentEntity(), resultType);
+        MongoCollection<MR> collection = getReadCollection(clientSession, preparedQuery, resultType);
         MongoAggregation aggregation = preparedQuery.getAggregation();
         if (QUERY_LOG.isDebugEnabled()) {
             logAggregate(aggregation);
         }
-        AggregateIterable<MR> aggregateIterable = collection.aggregate(clientSession, aggregation.getPipeline(), resultType);
+        AggregateIterable<MR> aggregateIterable = clientSession == null
+                ? collection.aggregate(aggregation.getPipeline(), resultType)
+                : collection.aggregate(clientSession, aggregation.getPipeline(), resultType);
         return applyAggregateOptions(aggregation.getOptions(), aggregateIterable);
     }
 
@@ -502,24 +623,24 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
 
     @Override
     public <T> T persist(InsertOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType(), methodName(operation.getName()));
             return persistOne(ctx, operation.getEntity(), runtimeEntityRegistry.getEntity(operation.getRootEntity()));
         });
     }
 
     @Override
     public <T> Iterable<T> persistAll(InsertBatchOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType(), methodName(operation.getName()));
             return persistBatch(ctx, operation, runtimeEntityRegistry.getEntity(operation.getRootEntity()), null);
         });
     }
 
     @Override
     public <T> T update(UpdateOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType(), methodName(operation.getName()));
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, ?, MongoDatabase> mongoStoredQuery = getMongoStoredQuery(storedQuery);
@@ -534,8 +655,8 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
 
     @Override
     public <T> Iterable<T> updateAll(UpdateBatchOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType(), methodName(operation.getName()));
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, ?, MongoDatabase> mongoStoredQuery = getMongoStoredQuery(storedQuery);
@@ -551,8 +672,8 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
 
     @Override
     public <T> int delete(DeleteOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType(), methodName(operation.getName()));
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, ?, MongoDatabase> mongoStoredQuery = getMongoStoredQuery(storedQuery);
@@ -569,8 +690,8 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
 
     @Override
     public <T> Optional<Number> deleteAll(DeleteBatchOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType(), methodName(operation.getName()));
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, ?, MongoDatabase> mongoStoredQuery = getMongoStoredQuery(storedQuery);
@@ -592,35 +713,59 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
 
     @Override
     public Optional<Number> executeUpdate(PreparedQuery<?, Number> preparedQuery) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             MongoPreparedQuery<?, Number, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
             MongoUpdate updateMany = mongoPreparedQuery.getUpdateMany();
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'updateMany' with filter: {} and update: {}", updateMany.getFilter().toBsonDocument().toJson(), updateMany.getUpdate().toBsonDocument().toJson());
             }
-            UpdateResult updateResult = getCollection(mongoPreparedQuery)
-                    .updateMany(clientSession, updateMany.getFilter(), updateMany.getUpdate(), updateMany.getOptions());
-            if (preparedQuery.isOptimisticLock()) {
-                checkOptimisticLocking(1, (int) updateResult.getModifiedCount());
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.UPDATE);
+            try {
+                MongoCollection<?> collection = getCollection(mongoPreparedQuery);
+                UpdateResult updateResult = clientSession == null
+                        ? collection.updateMany(updateMany.getFilter(), updateMany.getUpdate(), updateMany.getOptions())
+                        : collection.updateMany(clientSession, updateMany.getFilter(), updateMany.getUpdate(), updateMany.getOptions());
+                execution.executed();
+                execution.addRows(updateResult.getModifiedCount());
+                if (preparedQuery.isOptimisticLock()) {
+                    checkOptimisticLocking(1, (int) updateResult.getModifiedCount());
+                }
+                return Optional.of(updateResult.getModifiedCount());
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
             }
-            return Optional.of(updateResult.getModifiedCount());
         });
     }
 
     @Override
     public Optional<Number> executeDelete(PreparedQuery<?, Number> preparedQuery) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             MongoPreparedQuery<?, Number, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
             MongoDelete deleteMany = mongoPreparedQuery.getDeleteMany();
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'deleteMany' with filter: {}", deleteMany.getFilter().toBsonDocument().toJson());
             }
-            DeleteResult deleteResult = getCollection(mongoPreparedQuery).
-                    deleteMany(clientSession, deleteMany.getFilter(), deleteMany.getOptions());
-            if (preparedQuery.isOptimisticLock()) {
-                checkOptimisticLocking(1, (int) deleteResult.getDeletedCount());
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.UPDATE);
+            try {
+                MongoCollection<?> collection = getCollection(mongoPreparedQuery);
+                DeleteResult deleteResult = clientSession == null
+                        ? collection.deleteMany(deleteMany.getFilter(), deleteMany.getOptions())
+                        : collection.deleteMany(clientSession, deleteMany.getFilter(), deleteMany.getOptions());
+                execution.executed();
+                execution.addRows(deleteResult.getDeletedCount());
+                if (preparedQuery.isOptimisticLock()) {
+                    checkOptimisticLocking(1, (int) deleteResult.getDeletedCount());
+                }
+                return Optional.of(deleteResult.getDeletedCount());
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
             }
-            return Optional.of(deleteResult.getDeletedCount());
         });
     }
 
@@ -666,8 +811,50 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         return entity;
     }
 
+    /**
+     * Returns the collection to execute a query with. The read preference of the query or of the read-only client
+     * session is only applied outside transactions, a transaction always reads from the primary.
+     *
+     * @param clientSession The client session
+     * @param preparedQuery The query
+     * @param resultType    The result type
+     * @param <T>           The entity type
+     * @param <R>           The collection document type
+     * @return The collection
+     */
+    private <T, R> MongoCollection<R> getReadCollection(@Nullable ClientSession clientSession,
+                                                        MongoPreparedQuery<T, ?, MongoDatabase> preparedQuery,
+                                                        Class<R> resultType) {
+        ReadPreference readPreference = null;
+        if (clientSession == null || !clientSession.hasActiveTransaction()) {
+            readPreference = preparedQuery.getReadPreference();
+            if (readPreference == null && clientSession != null) {
+                readPreference = clientSession.getOptions().getDefaultTransactionOptions().getReadPreference();
+            }
+        }
+        return getCollection(preparedQuery.getDatabase(), preparedQuery.getPersistentEntity(), resultType, readPreference);
+    }
+
     private <T, R> MongoCollection<R> getCollection(MongoDatabase database, RuntimePersistentEntity<T> persistentEntity, Class<R> resultType) {
-        return database.getCollection(persistentEntity.getPersistedName(), resultType);
+        return getCollection(database, persistentEntity, resultType, null);
+    }
+
+    private <T, R> MongoCollection<R> getCollection(MongoDatabase database,
+                                                    RuntimePersistentEntity<T> persistentEntity,
+                                                    Class<R> resultType,
+                                                    @Nullable ReadPreference readPreference) {
+        ReadPreference collectionReadPreference = readPreference == null ? database.getReadPreference() : readPreference;
+        CollectionKey key = new CollectionKey(
+                database.getName(),
+                persistentEntity.getPersistedName(),
+                resultType,
+                collectionReadPreference,
+                database.getReadConcern(),
+                database.getWriteConcern(),
+                database.getCodecRegistry()
+        );
+        return (MongoCollection<R>) collections.computeIfAbsent(key, k -> database.getCollection(k.getCollectionName(), resultType)
+                .withReadPreference(collectionReadPreference));
     }
 
     @Override
@@ -675,7 +862,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         if (repositoryClass != null) {
             String database = repoDatabaseConfig.get(repositoryClass);
             if (database != null) {
-                return mongoClient.getDatabase(database);
+                return databases.computeIfAbsent(database, mongoClient::getDatabase);
             }
         }
         return mongoDatabaseFactory.getDatabase(persistentEntity);
@@ -724,7 +911,11 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         if (QUERY_LOG.isDebugEnabled()) {
             QUERY_LOG.debug("Executing Mongo 'insertOne' for collection: {} with document: {}", collection.getNamespace().getFullName(), association);
         }
-        collection.insertOne(ctx.clientSession, association, getInsertOneOptions(ctx.annotationMetadata));
+        if (ctx.clientSession == null) {
+            collection.insertOne(association, getInsertOneOptions(ctx.annotationMetadata));
+        } else {
+            collection.insertOne(ctx.clientSession, association, getInsertOneOptions(ctx.annotationMetadata));
+        }
     }
 
     @Override
@@ -742,14 +933,44 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         if (QUERY_LOG.isDebugEnabled()) {
             QUERY_LOG.debug("Executing Mongo 'insertMany' for collection: {} with documents: {}", collection.getNamespace().getFullName(), associations);
         }
-        collection.insertMany(ctx.clientSession, associations, getInsertManyOptions(ctx.annotationMetadata));
+        if (ctx.clientSession == null) {
+            collection.insertMany(associations, getInsertManyOptions(ctx.annotationMetadata));
+        } else {
+            collection.insertMany(ctx.clientSession, associations, getInsertManyOptions(ctx.annotationMetadata));
+        }
     }
 
-    private <T> T withClientSession(Function<ClientSession, T> function) {
+    @Override
+    public <T> T withClientSession(Function<ClientSession, T> function) {
+        ClientSession clientSession = transactionManager.findClientSession();
+        if (clientSession != null) {
+            return function.apply(clientSession);
+        }
+        try (ClientSession cs = mongoClient.startSession()) {
+            TransactionSynchronizationManager.bindResource(mongoClient, cs);
+            try {
+                return function.apply(cs);
+            } finally {
+                TransactionSynchronizationManager.unbindResource(mongoClient);
+            }
+        }
+    }
+
+    /**
+     * Executes the function with the bound session, a new session or without a session when sessions per operation are disabled.
+     *
+     * @param function The function
+     * @param <T>      The result type
+     * @return The result
+     */
+    private <T> T withOptionalClientSession(Function<ClientSession, T> function) {
         ClientSession clientSession = transactionManager.findClientSession();
         if (clientSession != null) {
             return function.apply(clientSession);
         }
+        if (!sessionPerOperation) {
+            return function.apply(null);
+        }
         try (ClientSession cs = mongoClient.startSession()) {
             return function.apply(cs);
         }
@@ -759,13 +980,15 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         return new MongoEntityOperation<T>(ctx, persistentEntity, entity, true) {
 
             @Override
-            protected void execute() throws RuntimeException {
+            protected void executeCommand() {
                 MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
                 MongoCollection<T> collection = getCollection(mongoDatabase, persistentEntity, persistentEntity.getIntrospection().getBeanType());
                 if (QUERY_LOG.isDebugEnabled()) {
                     QUERY_LOG.debug("Executing Mongo 'insertOne' with entity: {}", entity);
                 }
-                InsertOneResult insertOneResult = collection.insertOne(ctx.clientSession, entity, getInsertOneOptions(ctx.annotationMetadata));
+                InsertOneResult insertOneResult = ctx.clientSession == null
+                        ? collection.insertOne(entity, getInsertOneOptions(ctx.annotationMetadata))
+                        : collection.insertOne(ctx.clientSession, entity, getInsertOneOptions(ctx.annotationMetadata));
                 BsonValue insertedId = insertOneResult.getInsertedId();
                 BeanProperty<T, Object> property = (BeanProperty<T, Object>) persistentEntity.getIdentity().getProperty();
                 if (property.get(entity) == null) {
@@ -788,13 +1011,14 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
             }
 
             @Override
-            protected void execute() throws RuntimeException {
+            protected void executeCommand() {
                 if (QUERY_LOG.isDebugEnabled()) {
                     QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
                 }
-                BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(entity, mongoDatabase.getCodecRegistry());
-                bsonDocument.remove("_id");
-                UpdateResult updateResult = collection.replaceOne(ctx.clientSession, filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata));
+                BsonDocument bsonDocument = ReplacementEncoder.toReplacementDocument(entity, mongoDatabase.getCodecRegistry());
+                UpdateResult updateResult = ctx.clientSession == null
+                        ? collection.replaceOne(filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata))
+                        : collection.replaceOne(ctx.clientSession, filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata));
                 modifiedCount = updateResult.getModifiedCount();
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(1, (int) modifiedCount);
@@ -815,7 +1039,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
             }
 
             @Override
-            protected void execute() throws RuntimeException {
+            protected void executeCommand() {
                 List<UpdateOneModel<T>> updates = new ArrayList<>(entities.size());
                 for (Data d : entities) {
                     if (d.vetoed) {
@@ -827,8 +1051,13 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
                     }
                     updates.add(new UpdateOneModel<>(updateOne.getFilter(), updateOne.getUpdate(), updateOne.getOptions()));
                 }
-                BulkWriteResult bulkWriteResult = getCollection(storedQuery).bulkWrite(ctx.clientSession, updates);
-                modifiedCount += bulkWriteResult.getModifiedCount();
+                MongoCollection<T> collection = getCollection(storedQuery);
+                for (List<UpdateOneModel<T>> chunk : chunks(updates)) {
+                    BulkWriteResult bulkWriteResult = ctx.clientSession == null
+                            ? collection.bulkWrite(chunk, getBulkWriteOptions())
+                            : collection.bulkWrite(ctx.clientSession, chunk, getBulkWriteOptions());
+                    modifiedCount += bulkWriteResult.getModifiedCount();
+                }
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(updates.size(), (int) modifiedCount);
                 }
@@ -850,7 +1079,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
             }
 
             @Override
-            protected void execute() throws RuntimeException {
+            protected void executeCommand() {
                 List<ReplaceOneModel<BsonDocument>> replaces = new ArrayList<>(entities.size());
                 for (Data d : entities) {
                     if (d.vetoed) {
@@ -860,12 +1089,15 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
                     if (QUERY_LOG.isDebugEnabled()) {
                         QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
                     }
-                    BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(d.entity, mongoDatabase.getCodecRegistry());
-                    bsonDocument.remove("_id");
+                    BsonDocument bsonDocument = ReplacementEncoder.toReplacementDocument(d.entity, mongoDatabase.getCodecRegistry());
                     replaces.add(new ReplaceOneModel<>(filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata)));
                 }
-                BulkWriteResult bulkWriteResult = collection.bulkWrite(ctx.clientSession, replaces);
-                modifiedCount = bulkWriteResult.getModifiedCount();
+                for (List<ReplaceOneModel<BsonDocument>> chunk : chunks(replaces)) {
+                    BulkWriteResult bulkWriteResult = ctx.clientSession == null
+                            ? collection.bulkWrite(chunk, getBulkWriteOptions())
+                            : collection.bulkWrite(ctx.clientSession, chunk, getBulkWriteOptions());
+                    modifiedCount += bulkWriteResult.getModifiedCount();
+                }
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(replaces.size(), (int) modifiedCount);
                 }
@@ -886,11 +1118,13 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
             }
 
             @Override
-            protected void execute() throws RuntimeException {
+            protected void executeCommand() {
                 if (QUERY_LOG.isDebugEnabled()) {
                     QUERY_LOG.debug("Executing Mongo 'deleteOne' with filter: {}", filter.toBsonDocument().toJson());
                 }
-                DeleteResult deleteResult = collection.deleteOne(ctx.clientSession, filter, getDeleteOptions(ctx.annotationMetadata));
+                DeleteResult deleteResult = ctx.clientSession == null
+                        ? collection.deleteOne(filter, getDeleteOptions(ctx.annotationMetadata))
+                        : collection.deleteOne(ctx.clientSession, filter, getDeleteOptions(ctx.annotationMetadata));
                 modifiedCount = deleteResult.getDeletedCount();
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(1, (int) modifiedCount);
@@ -912,15 +1146,17 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
             }
 
             @Override
-            protected void execute() throws RuntimeException {
+            protected void executeCommand() {
                 List<Bson> filters = entities.stream().filter(d -> !d.vetoed).map(d -> this.filters.get(d)).collect(Collectors.toList());
-                if (!filters.isEmpty()) {
-                    Bson filter = Filters.or(filters);
+                for (List<Bson> chunk : chunks(filters)) {
+                    Bson filter = Filters.or(chunk);
                     if (QUERY_LOG.isDebugEnabled()) {
                         QUERY_LOG.debug("Executing Mongo 'deleteMany' with filter: {}", filter.toBsonDocument().toJson());
                     }
-                    DeleteResult deleteResult = collection.deleteMany(ctx.clientSession, filter, getDeleteOptions(ctx.annotationMetadata));
-                    modifiedCount = deleteResult.getDeletedCount();
+                    DeleteResult deleteResult = ctx.clientSession == null
+                            ? collection.deleteMany(filter, getDeleteOptions(ctx.annotationMetadata))
+                            : collection.deleteMany(ctx.clientSession, filter, getDeleteOptions(ctx.annotationMetadata));
+                    modifiedCount += deleteResult.getDeletedCount();
                 }
                 if (persistentEntity.getVersion() != null) {
                     int expected = (int) entities.stream().filter(d -> !d.vetoed).count();
@@ -937,7 +1173,7 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         return new MongoEntitiesOperation<T>(ctx, persistentEntity, entities, false) {
 
             @Override
-            protected void execute() throws RuntimeException {
+            protected void executeCommand() {
                 List<DeleteOneModel<T>> deletes = new ArrayList<>(entities.size());
                 for (Data d : entities) {
                     if (d.vetoed) {
@@ -949,8 +1185,13 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
                     }
                     deletes.add(new DeleteOneModel<>(deleteOne.getFilter(), deleteOne.getOptions()));
                 }
-                BulkWriteResult bulkWriteResult = getCollection(storedQuery).bulkWrite(ctx.clientSession, deletes);
-                modifiedCount = bulkWriteResult.getDeletedCount();
+                MongoCollection<T> collection = getCollection(storedQuery);
+                for (List<DeleteOneModel<T>> chunk : chunks(deletes)) {
+                    BulkWriteResult bulkWriteResult = ctx.clientSession == null
+                            ? collection.bulkWrite(chunk, getBulkWriteOptions())
+                            : collection.bulkWrite(ctx.clientSession, chunk, getBulkWriteOptions());
+                    modifiedCount += bulkWriteResult.getDeletedCount();
+                }
                 if (persistentEntity.getVersion() != null) {
                     checkOptimisticLocking(deletes.size(), (int) modifiedCount);
                 }
@@ -962,32 +1203,38 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         return new MongoEntitiesOperation<T>(ctx, persistentEntity, entities, true) {
 
             @Override
-            protected void execute() throws RuntimeException {
-                List<T> toInsert = entities.stream().filter(d -> !d.vetoed).map(d -> d.entity).collect(Collectors.toList());
+            protected void executeCommand() {
+                List<Data> toInsert = entities.stream().filter(d -> !d.vetoed).collect(Collectors.toList());
                 if (toInsert.isEmpty()) {
                     return;
                 }
-                if (QUERY_LOG.isDebugEnabled()) {
-                    QUERY_LOG.debug("Executing Mongo 'insertMany' with entities: {}", toInsert);
-                }
                 MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
-                InsertManyResult insertManyResult = getCollection(mongoDatabase, persistentEntity, persistentEntity.getIntrospection().getBeanType())
-                        .insertMany(ctx.clientSession, toInsert, getInsertManyOptions(ctx.annotationMetadata));
-                if (hasGeneratedId) {
-                    Map<Integer, BsonValue> insertedIds = insertManyResult.getInsertedIds();
-                    RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
-                    BeanProperty<T, Object> idProperty = (BeanProperty<T, Object>) identity.getProperty();
-                    int index = 0;
-                    for (Data d : entities) {
-                        if (!d.vetoed) {
-                            BsonValue id = insertedIds.get(index);
-                            if (id == null) {
-                                throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
-                            }
-                            d.entity = updateEntityId(idProperty, d.entity, id);
-                        }
-                        index++;
+                MongoCollection<T> collection = getCollection(mongoDatabase, persistentEntity, persistentEntity.getIntrospection().getBeanType());
+                for (List<Data> chunk : chunks(toInsert)) {
+                    List<T> documents = chunk.stream().map(d -> d.entity).collect(Collectors.toList());
+                    if (QUERY_LOG.isDebugEnabled()) {
+                        QUERY_LOG.debug("Executing Mongo 'insertMany' with entities: {}", documents);
+                    }
+                    InsertManyResult insertManyResult = ctx.clientSession == null
+                            ? collection.insertMany(documents, getInsertManyOptions(ctx.annotationMetadata))
+                            : collection.insertMany(ctx.clientSession, documents, getInsertManyOptions(ctx.annotationMetadata));
+                    if (hasGeneratedId) {
+                        updateInsertedIds(chunk, insertManyResult.getInsertedIds());
+                    }
+                }
+            }
+
+            private void updateInsertedIds(List<Data> chunk, Map<Integer, BsonValue> insertedIds) {
+                RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+                BeanProperty<T, Object> idProperty = (BeanProperty<T, Object>) identity.getProperty();
+                // The inserted ids are indexed by the position of the document in the chunk
+                for (int index = 0; index < chunk.size(); index++) {
+                    Data d = chunk.get(index);
+                    BsonValue id = insertedIds.get(index);
+                    if (id == null) {
+                        throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
                     }
+                    d.entity = updateEntityId(idProperty, d.entity, id);
                 }
             }
         };
@@ -1043,6 +1290,26 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         @Override
         protected void collectAutoPopulatedPreviousValues() {
         }
+
+        @Override
+        protected final void execute() throws RuntimeException {
+            QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.UPDATE);
+            try {
+                executeCommand();
+                execution.executed();
+                execution.addRows(insert ? 1 : modifiedCount);
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
+            }
+        }
+
+        /**
+         * Executes the Mongo command of the operation.
+         */
+        protected abstract void executeCommand();
     }
 
     private abstract class MongoEntitiesOperation<T> extends AbstractSyncEntitiesOperations<MongoOperationContext, T, RuntimeException> {
@@ -1057,6 +1324,28 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         protected void collectAutoPopulatedPreviousValues() {
         }
 
+        @Override
+        protected final void execute() throws RuntimeException {
+            QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.BATCH);
+            try {
+                int batchSize = (int) entities.stream().filter(d -> !d.vetoed).count();
+                execution.setBatchSize(batchSize);
+                executeCommand();
+                execution.executed();
+                execution.addRows(insert ? batchSize : modifiedCount);
+            } catch (RuntimeException e) {
+                execution.failed(e);
+                throw e;
+            } finally {
+                finishQueryExecution(execution);
+            }
+        }
+
+        /**
+         * Executes the Mongo command of the operation.
+         */
+        protected abstract void executeCommand();
+
     }
 
     protected static class MongoOperationContext extends OperationContext {
@@ -1064,7 +1353,11 @@ public final class DefaultMongoRepositoryOperations extends AbstractMongoReposit
         private final ClientSession clientSession;
 
         public MongoOperationContext(ClientSession clientSession, AnnotationMetadata annotationMetadata, Class<?> repositoryType) {
-            super(annotationMetadata, repositoryType);
+            this(clientSession, annotationMetadata, repositoryType, null);
+        }
+
+        public MongoOperationContext(ClientSession clientSession, AnnotationMetadata annotationMetadata, Class<?> repositoryType, String methodName) {
+            super(annotationMetadata, repositoryType, methodName);
             this.clientSession = clientSession;
         }
     }
@@ -15,6 +15,7 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.ReadPreference;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.UpdateOptions;
@@ -27,7 +28,6 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.data.annotation.Query;
-import io.micronaut.data.document.model.query.builder.MongoQueryBuilder;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.PersistentPropertyPath;
@@ -50,7 +50,6 @@ import io.micronaut.data.runtime.query.internal.DefaultStoredQuery;
 import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
-import org.bson.BsonInt32;
 import org.bson.BsonObjectId;
 import org.bson.BsonValue;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -91,6 +90,8 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
     private final AggregateData aggregateData;
     private final DeleteData deleteData;
     private final boolean isCount;
+    @Nullable
+    private final ReadPreference readPreference;
 
     DefaultMongoStoredQuery(StoredQuery<E, R> storedQuery,
                             CodecRegistry codecRegistry,
@@ -141,25 +142,27 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
                 findData = null;
             } else if (StringUtils.isEmpty(query)) {
                 aggregateData = null;
-                findData = new FindData(BsonDocument.parse(query));
+                findData = new FindData(BsonTemplate.compile(BsonDocument.parse(query)));
             } else if (query.startsWith("[")) {
-                aggregateData = new AggregateData(BsonArray.parse(query).stream().map(BsonValue::asDocument).collect(Collectors.toList()));
+                aggregateData = new AggregateData(BsonArray.parse(query).stream().map(value -> BsonTemplate.compile(value.asDocument())).collect(Collectors.toList()));
                 findData = null;
             } else {
                 aggregateData = null;
-                findData = new FindData(BsonDocument.parse(query));
+                findData = new FindData(BsonTemplate.compile(BsonDocument.parse(query)));
             }
             isCount = operationType == DataMethod.OperationType.COUNT || storedQuery.isCount() || query.contains("$count");
+            readPreference = MongoOptionsUtils.buildReadPreference(storedQuery.getAnnotationMetadata()).orElse(null);
         } else {
             aggregateData = null;
             findData = null;
             isCount = false;
+            readPreference = null;
         }
 
         if (operationType == DataMethod.OperationType.DELETE) {
             String query = storedQuery.getQuery();
             deleteData = new DeleteData(
-                    StringUtils.isEmpty(query) ? EMPTY : BsonDocument.parse(query),
+                    BsonTemplate.compile(StringUtils.isEmpty(query) ? EMPTY : BsonDocument.parse(query)),
                     getParameterInRole(MongoRoles.FILTER_ROLE),
                     getParameterInRole(MongoRoles.DELETE_OPTIONS_ROLE)
             );
@@ -173,7 +176,8 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
             }
             String query = storedQuery.getQuery();
             updateData = new UpdateData(
-                    BsonDocument.parse(updateJson), StringUtils.isEmpty(query) ? EMPTY : BsonDocument.parse(query),
+                    BsonTemplate.compile(BsonDocument.parse(updateJson)),
+                    BsonTemplate.compile(StringUtils.isEmpty(query) ? EMPTY : BsonDocument.parse(query)),
                     getParameterInRole(MongoRoles.FILTER_ROLE),
                     getParameterInRole(MongoRoles.UPDATE_ROLE),
                     getParameterInRole(MongoRoles.UPDATE_OPTIONS_ROLE)
@@ -230,6 +234,11 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
         return aggregateData != null;
     }
 
+    @Override
+    public ReadPreference getReadPreference() {
+        return readPreference;
+    }
+
     @Override
     public MongoAggregation getAggregation(InvocationContext<?, ?> invocationContext) {
         if (aggregateData == null) {
@@ -279,68 +288,29 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
         return deleteData.getDeleteOne(entity);
     }
 
-    private boolean needsProcessing(Bson value) {
-        if (value == null) {
-            return false;
-        }
-        if (value instanceof BsonDocument) {
-            return needsProcessingValue(value.toBsonDocument());
-        }
-        throw new IllegalStateException("Unrecognized value: " + value);
+    @Nullable
+    private static BsonTemplate compile(@Nullable BsonDocument document) {
+        return document == null ? null : BsonTemplate.compile(document);
     }
 
-    private boolean needsProcessing(List<Bson> values) {
-        if (values == null) {
-            return false;
-        }
-        for (Bson value : values) {
-            if (needsProcessing(value)) {
-                return true;
-            }
+    private Bson render(BsonTemplate template, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
+        if (!template.hasParameters()) {
+            return template.getDocument();
         }
-        return false;
-    }
-
-    private boolean needsProcessingValue(BsonValue value) {
-        if (value instanceof BsonDocument) {
-            BsonDocument bsonDocument = (BsonDocument) value;
-            BsonInt32 queryParameterIndex = bsonDocument.getInt32(MongoQueryBuilder.QUERY_PARAMETER_PLACEHOLDER, null);
-            if (queryParameterIndex != null) {
-                return true;
-            }
-            for (Map.Entry<String, BsonValue> entry : bsonDocument.entrySet()) {
-                BsonValue bsonValue = entry.getValue();
-                if (needsProcessingValue(bsonValue)) {
-                    return true;
-                }
-            }
-            return false;
-        } else if (value instanceof BsonArray) {
-            BsonArray bsonArray = (BsonArray) value;
-            for (BsonValue bsonValue : bsonArray) {
-                if (needsProcessingValue(bsonValue)) {
-                    return true;
-                }
+        return template.render(index -> {
+            QueryParameterBinding queryParameterBinding = getQueryBindings().get(index);
+            Map.Entry<QueryParameterBinding, Object> e = bind(queryParameterBinding, invocationContext, entity);
+            if (e == null) {
+                throw new DataAccessException("Cannot bind a value at index: " + index);
             }
-        }
-        return false;
+            return getValue(e.getKey(), e.getValue());
+        });
     }
 
-    private Bson replaceQueryParameters(Bson value, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
-        if (value instanceof BsonDocument) {
-            return (BsonDocument) replaceQueryParametersInBsonValue(((BsonDocument) value).clone(), invocationContext, entity);
-        }
-        throw new IllegalStateException("Unrecognized value: " + value);
-    }
-
-    private List<Bson> replaceQueryParametersInList(List<Bson> values, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
-        values = new ArrayList<>(values);
-        for (int i = 0; i < values.size(); i++) {
-            Bson value = values.get(i);
-            Bson newValue = replaceQueryParameters(value, invocationContext, entity);
-            if (value != newValue) {
-                values.set(i, newValue);
-            }
+    private List<Bson> render(List<BsonTemplate> templates, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
+        List<Bson> values = new ArrayList<>(templates.size());
+        for (BsonTemplate template : templates) {
+            values.add(render(template, invocationContext, entity));
         }
         return values;
     }
@@ -397,50 +367,6 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
         return (Map.Entry<QueryParameterBinding, Object>) holder[0];
     }
 
-    private BsonValue replaceQueryParametersInBsonValue(BsonValue value, @Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
-        if (value instanceof BsonDocument) {
-            BsonDocument bsonDocument = (BsonDocument) value;
-            BsonInt32 queryParameterIndex = bsonDocument.getInt32(MongoQueryBuilder.QUERY_PARAMETER_PLACEHOLDER, null);
-            if (queryParameterIndex != null) {
-                int index = queryParameterIndex.getValue();
-                QueryParameterBinding queryParameterBinding = getQueryBindings().get(index);
-                Map.Entry<QueryParameterBinding, Object> e = bind(queryParameterBinding, invocationContext, entity);
-                if (e == null) {
-                    throw new DataAccessException("Cannot bind a value at index: " + index);
-                }
-                return getValue(e.getKey(), e.getValue());
-            }
-            for (Map.Entry<String, BsonValue> entry : bsonDocument.entrySet()) {
-                BsonValue bsonValue = entry.getValue();
-                BsonValue newValue = replaceQueryParametersInBsonValue(bsonValue, invocationContext, entity);
-                if (bsonValue != newValue) {
-                    entry.setValue(newValue);
-                }
-            }
-            return bsonDocument;
-        } else if (value instanceof BsonArray) {
-            BsonArray bsonArray = (BsonArray) value;
-            for (int i = 0; i < bsonArray.size(); i++) {
-                BsonValue bsonValue = bsonArray.get(i);
-                BsonValue newValue = replaceQueryParametersInBsonValue(bsonValue, invocationContext, entity);
-                if (bsonValue != newValue) {
-                    if (newValue.isNull()) {
-                        bsonArray.remove(i);
-                        i -= 1;
-                    } else if (newValue.isArray()) {
-                        bsonArray.remove(i);
-                        List<BsonValue> values = newValue.asArray().getValues();
-                        bsonArray.addAll(i, values);
-                        i += values.size() - 1;
-                    } else {
-                        bsonArray.set(i, newValue);
-                    }
-                }
-            }
-        }
-        return value;
-    }
-
     private BsonValue getValue(QueryParameterBinding queryParameterBinding, Object value) {
         // Check if the parameter is not an id which might be represented as String but needs to mapped as ObjectId
         if (value instanceof String && queryParameterBinding.getPropertyPath() != null) {
@@ -474,14 +400,15 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
     }
 
     private final class AggregateData extends CollationSupported {
-        private final List<Bson> pipeline;
-        private final boolean pipelineNeedsProcessing;
+        private final List<BsonTemplate> pipeline;
+        @Nullable
+        private final List<Bson> constantPipeline;
         @Nullable
         private final MongoAggregationOptions options;
         private final int pipelineParameterIndex;
         private final int optionsParameterIndex;
 
-        private AggregateData(List<Bson> pipeline) {
+        private AggregateData(List<BsonTemplate> pipeline) {
             this(pipeline, null, null);
         }
 
@@ -489,11 +416,12 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
             this(null, pipelineParameter, optionsParameter);
         }
 
-        private AggregateData(List<Bson> pipeline, String pipelineParameter, String optionsParameter) {
+        private AggregateData(List<BsonTemplate> pipeline, String pipelineParameter, String optionsParameter) {
             this.pipeline = pipeline;
+            this.constantPipeline = pipeline == null || pipeline.stream().anyMatch(BsonTemplate::hasParameters)
+                    ? null : pipeline.stream().map(BsonTemplate::getDocument).collect(Collectors.toList());
             this.pipelineParameterIndex = getParameterIndexByName(pipelineParameter);
             this.optionsParameterIndex = getParameterIndexByName(optionsParameter);
-            this.pipelineNeedsProcessing = needsProcessing(pipeline);
             options = MongoOptionsUtils.buildAggregateOptions(storedQuery.getAnnotationMetadata()).orElse(null);
         }
 
@@ -514,10 +442,10 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
             if (pipelineParameterIndex != -1) {
                 return getParameterAtIndex(invocationContext, pipelineParameterIndex);
             }
-            if (pipelineNeedsProcessing) {
-                return replaceQueryParametersInList(pipeline, invocationContext, null);
+            if (constantPipeline != null) {
+                return constantPipeline;
             }
-            return pipeline;
+            return render(pipeline, invocationContext, null);
         }
 
         @Nullable
@@ -538,21 +466,17 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
     }
 
     private final class UpdateData extends CollationSupported {
-        private final Bson update;
-        private final boolean updateNeedsProcessing;
-        private final Bson filter;
-        private final boolean filterNeedsProcessing;
+        private final BsonTemplate update;
+        private final BsonTemplate filter;
         @Nullable
         private final UpdateOptions options;
         private final int filterParameterIndex;
         private final int updateParameterIndex;
         private final int optionsParameterIndex;
 
-        private UpdateData(Bson update, Bson filter, String filterParameter, String updateParameter, String optionsParameter) {
+        private UpdateData(BsonTemplate update, BsonTemplate filter, String filterParameter, String updateParameter, String optionsParameter) {
             this.update = update;
-            this.updateNeedsProcessing = needsProcessing(update);
             this.filter = filter;
-            this.filterNeedsProcessing = needsProcessing(filter);
             this.filterParameterIndex = getParameterIndexByName(filterParameter);
             this.updateParameterIndex = getParameterIndexByName(updateParameter);
             this.optionsParameterIndex = getParameterIndexByName(optionsParameter);
@@ -604,17 +528,15 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
         }
 
         private Bson getUpdate(InvocationContext<?, ?> invocationContext, E entity) {
-            Bson update = this.update;
+            Bson update;
             if (updateParameterIndex != -1) {
                 update = getParameterAtIndex(invocationContext, updateParameterIndex);
+            } else {
+                update = render(this.update, invocationContext, entity);
             }
             if (update == null) {
                 throw new IllegalStateException("Update query is not provided!");
             }
-            update = updateNeedsProcessing ? replaceQueryParameters(update, invocationContext, entity) : update;
-            if (update == null) {
-                throw new IllegalStateException("Update query is not provided!");
-            }
             return update;
         }
 
@@ -649,23 +571,20 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
             if (filterParameterIndex != -1) {
                 return getParameterAtIndex(invocationContext, filterParameterIndex);
             }
-            return filterNeedsProcessing ? replaceQueryParameters(filter, invocationContext, entity) : filter;
+            return render(filter, invocationContext, entity);
         }
     }
 
     private final class FindData extends CollationSupported {
-        private final Bson filter;
-        private final boolean filterNeedsProcessing;
-        private final Bson sort;
-        private final boolean sortNeedsProcessing;
-        private final Bson projection;
-        private final boolean projectionNeedsProcessing;
+        private final BsonTemplate filter;
+        private final BsonTemplate sort;
+        private final BsonTemplate projection;
         @Nullable
         private final MongoFindOptions options;
         private final int filterParameterIndex;
         private final int optionsParameterIndex;
 
-        private FindData(Bson filter) {
+        private FindData(BsonTemplate filter) {
             this(filter, null, null);
         }
 
@@ -673,15 +592,12 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
             this(null, filterParameter, optionsParameter);
         }
 
-        private FindData(Bson filter, String filterParameter, String optionsParameter) {
+        private FindData(BsonTemplate filter, String filterParameter, String optionsParameter) {
             this.filterParameterIndex = getParameterIndexByName(filterParameter);
             this.optionsParameterIndex = getParameterIndexByName(optionsParameter);
-            sort = storedQuery.getAnnotationMetadata().stringValue(MongoSort.class).map(BsonDocument::parse).orElse(null);
-            sortNeedsProcessing = needsProcessing(sort);
-            projection = storedQuery.getAnnotationMetadata().stringValue(MongoProjection.class).map(BsonDocument::parse).orElse(null);
-            projectionNeedsProcessing = needsProcessing(projection);
+            sort = compile(storedQuery.getAnnotationMetadata().stringValue(MongoSort.class).map(BsonDocument::parse).orElse(null));
+            projection = compile(storedQuery.getAnnotationMetadata().stringValue(MongoProjection.class).map(BsonDocument::parse).orElse(null));
             this.filter = filter;
-            this.filterNeedsProcessing = needsProcessing(filter);
             options = MongoOptionsUtils.buildFindOptions(storedQuery.getAnnotationMetadata()).orElse(null);
         }
 
@@ -732,36 +648,34 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
             if (filter == null) {
                 return null;
             }
-            return filterNeedsProcessing ? replaceQueryParameters(filter, invocationContext, entity) : filter;
+            return render(filter, invocationContext, entity);
         }
 
         private Bson getSort(@Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
             if (sort == null) {
                 return null;
             }
-            return sortNeedsProcessing ? replaceQueryParameters(sort, invocationContext, entity) : sort;
+            return render(sort, invocationContext, entity);
         }
 
         private Bson getProjection(@Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
             if (projection == null) {
                 return null;
             }
-            return projectionNeedsProcessing ? replaceQueryParameters(projection, invocationContext, entity) : projection;
+            return render(projection, invocationContext, entity);
         }
 
     }
 
     private final class DeleteData extends CollationSupported {
-        private final Bson filter;
-        private final boolean filterNeedsProcessing;
+        private final BsonTemplate filter;
         @Nullable
         private final DeleteOptions options;
         private final int filterParameterIndex;
         private final int optionsParameterIndex;
 
-        private DeleteData(Bson filter, String filterParameter, String optionsParameter) {
+        private DeleteData(BsonTemplate filter, String filterParameter, String optionsParameter) {
             this.filter = filter;
-            this.filterNeedsProcessing = needsProcessing(filter);
             this.filterParameterIndex = getParameterIndexByName(filterParameter);
             this.optionsParameterIndex = getParameterIndexByName(optionsParameter);
             options = MongoOptionsUtils.buildDeleteOptions(storedQuery.getAnnotationMetadata(), false).orElse(null);
@@ -828,19 +742,17 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
             if (filterParameterIndex != -1) {
                 return getParameterAtIndex(invocationContext, filterParameterIndex);
             }
-            return filterNeedsProcessing ? replaceQueryParameters(filter, invocationContext, entity) : filter;
+            return render(filter, invocationContext, entity);
         }
     }
 
     private abstract class CollationSupported {
-        private final Bson collationAsBson;
-        private final boolean collationNeedsProcessing;
+        private final BsonTemplate collationAsBson;
         private final Collation collation;
 
         protected CollationSupported() {
-            collationAsBson = storedQuery.getAnnotationMetadata().stringValue(MongoCollation.class).map(BsonDocument::parse).orElse(null);
-            collationNeedsProcessing = needsProcessing(collationAsBson);
-            collation = collationAsBson == null || collationNeedsProcessing ? null : MongoOptionsUtils.bsonDocumentAsCollation(collationAsBson.toBsonDocument());
+            collationAsBson = compile(storedQuery.getAnnotationMetadata().stringValue(MongoCollation.class).map(BsonDocument::parse).orElse(null));
+            collation = collationAsBson == null || collationAsBson.hasParameters() ? null : MongoOptionsUtils.bsonDocumentAsCollation(collationAsBson.getDocument());
         }
 
         protected Collation getCollation(@Nullable InvocationContext<?, ?> invocationContext, @Nullable E entity) {
@@ -850,8 +762,7 @@ final class DefaultMongoStoredQuery<E, R, Dtb> extends DefaultBindableParameters
             if (collationAsBson == null) {
                 return null;
             }
-            Bson collationAsBson = collationNeedsProcessing ? replaceQueryParameters(this.collationAsBson, invocationContext, entity) : this.collationAsBson;
-            return MongoOptionsUtils.bsonDocumentAsCollation(collationAsBson.toBsonDocument());
+            return MongoOptionsUtils.bsonDocumentAsCollation(render(collationAsBson, invocationContext, entity).toBsonDocument());
         }
     }
 }
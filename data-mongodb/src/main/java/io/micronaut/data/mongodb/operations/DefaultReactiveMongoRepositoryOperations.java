@@ -15,7 +15,9 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.ClientSessionOptions;
 import com.mongodb.CursorType;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.Filters;
@@ -53,14 +55,19 @@ import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.model.runtime.UpdateBatchOperation;
 import io.micronaut.data.model.runtime.UpdateOperation;
+import io.micronaut.data.mongodb.annotation.MongoFacetPagination;
+import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
 import io.micronaut.data.mongodb.conf.RequiresReactiveMongo;
 import io.micronaut.data.mongodb.database.ReactiveMongoDatabaseFactory;
 import io.micronaut.data.mongodb.operations.options.MongoAggregationOptions;
 import io.micronaut.data.mongodb.operations.options.MongoFindOptions;
+import io.micronaut.data.mongodb.operations.options.MongoOptionsUtils;
 import io.micronaut.data.operations.reactive.ReactorReactiveRepositoryOperations;
 import io.micronaut.data.runtime.config.DataSettings;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.date.DateTimeProvider;
+import io.micronaut.data.runtime.execution.QueryExecution;
+import io.micronaut.data.runtime.operations.ReactiveSingleQueryPageOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractReactiveEntitiesOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractReactiveEntityOperations;
 import io.micronaut.data.runtime.operations.internal.OperationContext;
@@ -74,8 +81,8 @@ import io.micronaut.transaction.exceptions.TransactionUsageException;
 import io.micronaut.transaction.reactive.ReactiveTransactionOperations;
 import io.micronaut.transaction.reactive.ReactiveTransactionStatus;
 import io.micronaut.transaction.reactive.ReactorReactiveTransactionOperations;
+import io.micronaut.transaction.support.TransactionFlightRecorder;
 import org.bson.BsonDocument;
-import org.bson.BsonDocumentWrapper;
 import org.bson.BsonValue;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
@@ -94,6 +101,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -112,7 +120,8 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
     implements MongoReactorRepositoryOperations,
     ReactorReactiveRepositoryOperations,
     ReactiveCascadeOperations.ReactiveCascadeOperationsHelper<DefaultReactiveMongoRepositoryOperations.MongoOperationContext>,
-    ReactorReactiveTransactionOperations<ClientSession> {
+    ReactorReactiveTransactionOperations<ClientSession>,
+    ReactiveSingleQueryPageOperations {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultReactiveMongoRepositoryOperations.class);
     private static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
     private static final String NAME = "mongodb.reactive";
@@ -123,6 +132,13 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
     private final String txStatusKey;
     private final String txDefinitionKey;
     private final String currentSessionKey;
+    private final boolean sessionPerOperation;
+    private final boolean facetPagination;
+    private final Map<String, MongoDatabase> databases = new ConcurrentHashMap<>();
+    private final Map<CollectionKey, MongoCollection<?>> collections = new ConcurrentHashMap<>();
+    private final int bulkConcurrency;
+    @Nullable
+    private final ClientSessionOptions readOnlySessionOptions;
 
     /**
      * Default constructor.
@@ -150,6 +166,11 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         this.cascadeOperations = new ReactiveCascadeOperations<>(conversionService, this);
         boolean isPrimary = "Primary".equals(serverName);
         this.mongoDatabaseFactory = beanContext.getBean(ReactiveMongoDatabaseFactory.class, isPrimary ? null : Qualifiers.byName(serverName));
+        MongoDataConfiguration mongoDataConfiguration = beanContext.getBean(MongoDataConfiguration.class);
+        this.sessionPerOperation = mongoDataConfiguration.isSessionPerOperation();
+        this.facetPagination = mongoDataConfiguration.isFacetPagination();
+        this.bulkConcurrency = mongoDataConfiguration.getBulkConcurrency();
+        this.readOnlySessionOptions = MongoOptionsUtils.buildReadOnlySessionOptions(mongoDataConfiguration);
         String name = serverName;
         if (name == null) {
             name = "default";
@@ -161,7 +182,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
 
     @Override
     public <T> Mono<T> findOne(Class<T> type, Serializable id) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             RuntimePersistentEntity<T> persistentEntity = runtimeEntityRegistry.getEntity(type);
             MongoDatabase database = getDatabase(persistentEntity, null);
             MongoCollection<T> collection = getCollection(database, persistentEntity, type);
@@ -169,34 +190,46 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'find' with filter: {}", filter.toBsonDocument().toJson());
             }
-            return Mono.from(collection.find(clientSession, filter, type).first());
+            return Mono.from((clientSession == null ? collection.find(filter, type) : collection.find(clientSession, filter, type)).first());
         });
     }
 
     @Override
     public <T, R> Mono<R> findOne(PreparedQuery<T, R> preparedQuery) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             MongoPreparedQuery<T, R, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
-            if (mongoPreparedQuery.isCount()) {
-                return getCount(clientSession, mongoPreparedQuery);
-            }
-            if (mongoPreparedQuery.isAggregate()) {
-                return findOneAggregated(clientSession, mongoPreparedQuery);
-            } else {
-                return findOneFiltered(clientSession, mongoPreparedQuery);
-            }
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            return observe(findOne(clientSession, mongoPreparedQuery).doOnNext(result -> execution.addRows(1)), execution);
         });
     }
 
+    private <T, R> Mono<R> findOne(ClientSession clientSession, MongoPreparedQuery<T, R, MongoDatabase> preparedQuery) {
+        if (preparedQuery.isCount()) {
+            return getCount(clientSession, preparedQuery);
+        }
+        if (preparedQuery.isAggregate()) {
+            return findOneAggregated(clientSession, preparedQuery);
+        } else {
+            return findOneFiltered(clientSession, preparedQuery);
+        }
+    }
+
     @Override
     public <T> Mono<Boolean> exists(PreparedQuery<T, Boolean> preparedQuery) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             MongoPreparedQuery<T, Boolean, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            Mono<Boolean> exists;
             if (mongoPreparedQuery.isAggregate()) {
-                return Flux.from(aggregate(clientSession, mongoPreparedQuery, BsonDocument.class)).hasElements();
+                exists = Flux.from(aggregate(clientSession, mongoPreparedQuery, BsonDocument.class)).hasElements();
             } else {
-                return Flux.from(find(clientSession, mongoPreparedQuery, BsonDocument.class).limit(1)).hasElements();
+                exists = Flux.from(find(clientSession, mongoPreparedQuery, BsonDocument.class).limit(1)).hasElements();
             }
+            return observe(exists.doOnNext(result -> {
+                if (result) {
+                    execution.addRows(1);
+                }
+            }), execution);
         });
     }
 
@@ -212,7 +245,11 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
 
     @Override
     public <T, R> Flux<R> findAll(PreparedQuery<T, R> preparedQuery) {
-        return withClientSessionMany(clientSession -> findAll(clientSession, getMongoPreparedQuery(preparedQuery)));
+        return withOptionalClientSessionMany(clientSession -> {
+            MongoPreparedQuery<T, R, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            return observe(findAll(clientSession, mongoPreparedQuery), execution);
+        });
     }
 
     @Override
@@ -230,26 +267,55 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         throw new DataAccessException("Not supported!");
     }
 
+    @Override
+    public <E, R> Mono<Page<R>> findPageInSingleQuery(PreparedQuery<E, R> preparedQuery) {
+        if (!preparedQuery.getAnnotationMetadata().booleanValue(MongoFacetPagination.class).orElse(facetPagination)) {
+            return null;
+        }
+        MongoPreparedQuery<E, R, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
+        if (mongoPreparedQuery.isCount()) {
+            return null;
+        }
+        MongoAggregation aggregation = mongoPreparedQuery.getPageAggregation();
+        if (aggregation == null) {
+            return null;
+        }
+        return withOptionalClientSession(clientSession -> {
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+            if (QUERY_LOG.isDebugEnabled()) {
+                logAggregate(aggregation);
+            }
+            MongoCollection<BsonDocument> collection = getReadCollection(clientSession, mongoPreparedQuery, BsonDocument.class);
+            AggregatePublisher<BsonDocument> aggregatePublisher = clientSession == null
+                ? collection.aggregate(aggregation.getPipeline(), BsonDocument.class)
+                : collection.aggregate(clientSession, aggregation.getPipeline(), BsonDocument.class);
+            Mono<Page<R>> page = Mono.from(applyAggregateOptions(aggregation.getOptions(), aggregatePublisher).first())
+                .map(result -> toPage(mongoPreparedQuery, collection.getCodecRegistry(), result))
+                .switchIfEmpty(Mono.fromSupplier(() -> toPage(mongoPreparedQuery, collection.getCodecRegistry(), null)));
+            return observe(page.doOnNext(result -> execution.addRows(result.getNumberOfElements())), execution);
+        });
+    }
+
     @Override
     public <T> Mono<T> persist(InsertOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata(), methodName(operation.getName()));
             return persistOne(ctx, operation.getEntity(), runtimeEntityRegistry.getEntity(operation.getRootEntity()));
         });
     }
 
     @Override
     public <T> Flux<T> persistAll(InsertBatchOperation<T> operation) {
-        return withClientSessionMany(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata());
+        return withOptionalClientSessionMany(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata(), methodName(operation.getName()));
             return persistBatch(ctx, operation, runtimeEntityRegistry.getEntity(operation.getRootEntity()), null);
         });
     }
 
     @Override
     public <T> Mono<T> update(UpdateOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata(), methodName(operation.getName()));
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, ?, MongoDatabase> mongoStoredQuery = getMongoStoredQuery(storedQuery);
@@ -264,8 +330,8 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
 
     @Override
     public <T> Flux<T> updateAll(UpdateBatchOperation<T> operation) {
-        return withClientSessionMany(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata());
+        return withOptionalClientSessionMany(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata(), methodName(operation.getName()));
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, ?, MongoDatabase> mongoStoredQuery = getMongoStoredQuery(storedQuery);
@@ -279,8 +345,8 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
 
     @Override
     public <T> Mono<Number> delete(DeleteOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata(), methodName(operation.getName()));
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, Number, MongoDatabase> mongoStoredQuery = (MongoStoredQuery) getMongoStoredQuery(storedQuery);
@@ -298,8 +364,8 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
 
     @Override
     public <T> Mono<Number> deleteAll(DeleteBatchOperation<T> operation) {
-        return withClientSession(clientSession -> {
-            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata());
+        return withOptionalClientSession(clientSession -> {
+            MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata(), methodName(operation.getName()));
             StoredQuery<T, ?> storedQuery = operation.getStoredQuery();
             if (storedQuery != null) {
                 MongoStoredQuery<T, Number, MongoDatabase> mongoStoredQuery = (MongoStoredQuery) getMongoStoredQuery(storedQuery);
@@ -320,14 +386,18 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
 
     @Override
     public Mono<Number> executeUpdate(PreparedQuery<?, Number> preparedQuery) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             MongoPreparedQuery<?, Number, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
             MongoUpdate updateMany = mongoPreparedQuery.getUpdateMany();
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'updateMany' with filter: {} and update: {}", updateMany.getFilter().toBsonDocument().toJson(), updateMany.getUpdate().toBsonDocument().toJson());
             }
-            return Mono.from(getCollection(mongoPreparedQuery)
-                .updateMany(clientSession, updateMany.getFilter(), updateMany.getUpdate(), updateMany.getOptions())).map(updateResult -> {
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.UPDATE);
+            MongoCollection<?> collection = getCollection(mongoPreparedQuery);
+            return observe(Mono.from(clientSession == null
+                ? collection.updateMany(updateMany.getFilter(), updateMany.getUpdate(), updateMany.getOptions())
+                : collection.updateMany(clientSession, updateMany.getFilter(), updateMany.getUpdate(), updateMany.getOptions())), execution).map(updateResult -> {
+                execution.addRows(updateResult.getModifiedCount());
                 if (mongoPreparedQuery.isOptimisticLock()) {
                     checkOptimisticLocking(1, (int) updateResult.getModifiedCount());
                 }
@@ -338,14 +408,18 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
 
     @Override
     public Mono<Number> executeDelete(PreparedQuery<?, Number> preparedQuery) {
-        return withClientSession(clientSession -> {
+        return withOptionalClientSession(clientSession -> {
             MongoPreparedQuery<?, Number, MongoDatabase> mongoPreparedQuery = getMongoPreparedQuery(preparedQuery);
             MongoDelete deleteMany = mongoPreparedQuery.getDeleteMany();
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'deleteMany' with filter: {}", deleteMany.getFilter().toBsonDocument().toJson());
             }
-            return Mono.from(getCollection(mongoPreparedQuery).
-                deleteMany(clientSession, deleteMany.getFilter(), deleteMany.getOptions())).map(deleteResult -> {
+            QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.UPDATE);
+            MongoCollection<?> collection = getCollection(mongoPreparedQuery);
+            return observe(Mono.from(clientSession == null
+                ? collection.deleteMany(deleteMany.getFilter(), deleteMany.getOptions())
+                : collection.deleteMany(clientSession, deleteMany.getFilter(), deleteMany.getOptions())), execution).map(deleteResult -> {
+                execution.addRows(deleteResult.getDeletedCount());
                 if (mongoPreparedQuery.isOptimisticLock()) {
                     checkOptimisticLocking(1, (int) deleteResult.getDeletedCount());
                 }
@@ -354,6 +428,27 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         });
     }
 
+    private <T> Flux<T> observe(Flux<T> results, QueryExecution execution) {
+        if (!execution.isRecording()) {
+            return results;
+        }
+        return results.doOnNext(result -> {
+                execution.executed();
+                execution.addRows(1);
+            })
+            .doOnError(execution::failed)
+            .doFinally(signal -> finishQueryExecution(execution));
+    }
+
+    private <T> Mono<T> observe(Mono<T> result, QueryExecution execution) {
+        if (!execution.isRecording()) {
+            return result;
+        }
+        return result.doOnSuccess(ignore -> execution.executed())
+            .doOnError(execution::failed)
+            .doFinally(signal -> finishQueryExecution(execution));
+    }
+
     private <E> MongoCollection<E> getCollection(MongoPreparedQuery<E, ?, MongoDatabase> preparedQuery) {
         return getCollection(preparedQuery.getDatabase(), preparedQuery.getPersistentEntity(), preparedQuery.getRootEntity());
     }
@@ -375,7 +470,6 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
     private <T, R> Mono<R> getCount(ClientSession clientSession, MongoPreparedQuery<T, R, MongoDatabase> preparedQuery) {
         Class<R> resultType = preparedQuery.getResultType();
         MongoDatabase database = preparedQuery.getDatabase();
-        RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
         if (preparedQuery.isAggregate()) {
             MongoAggregation aggregation = preparedQuery.getAggregation();
             if (QUERY_LOG.isDebugEnabled()) {
@@ -392,8 +486,8 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing Mongo 'countDocuments' with filter: {}", filter.toBsonDocument().toJson());
             }
-            return Mono.from(getCollection(database, persistentEntity, BsonDocument.class)
-                    .countDocuments(clientSession, filter))
+            MongoCollection<BsonDocument> collection = getReadCollection(clientSession, preparedQuery, BsonDocument.class);
+            return Mono.from(clientSession == null ? collection.countDocuments(filter) : collection.countDocuments(clientSession, filter))
                 .map(count -> conversionService.convertRequired(count, resultType));
         }
     }
@@ -413,7 +507,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
     private <T, R> Mono<R> findOneAggregated(ClientSession clientSession, MongoPreparedQuery<T, R, MongoDatabase> preparedQuery) {
         Class<R> resultType = preparedQuery.getResultType();
         Class<T> type = preparedQuery.getRootEntity();
-        if (!resultType.isAssignableFrom(type)) {
+        if (!isDocumentResult(resultType) && !resultType.isAssignableFrom(type)) {
             return Mono.from(aggregate(clientSession, preparedQuery, BsonDocument.class).first())
                 .map(bsonDocument -> convertResult(preparedQuery.getDatabase().getCodecRegistry(), resultType, bsonDocument, preparedQuery.isDtoProjection()));
         }
@@ -431,7 +525,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         Class<T> type = preparedQuery.getRootEntity();
         Class<R> resultType = preparedQuery.getResultType();
         Flux<R> aggregate;
-        if (!resultType.isAssignableFrom(type)) {
+        if (!isDocumentResult(resultType) && !resultType.isAssignableFrom(type)) {
             aggregate = Flux.from(aggregate(clientSession, preparedQuery, BsonDocument.class))
                 .map(result -> convertResult(preparedQuery.getDatabase().getCodecRegistry(), resultType, result, isDtoProjection));
         } else {
@@ -451,8 +545,8 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         if (QUERY_LOG.isDebugEnabled()) {
             logFind(find);
         }
-        MongoCollection<MR> collection = getCollection(preparedQuery.getDatabase(), preparedQuery.getPersistentEntity(), resultType);
-        FindPublisher<MR> findIterable = collection.find(clientSession, resultType);
+        MongoCollection<MR> collection = getReadCollection(clientSession, preparedQuery, resultType);
+        FindPublisher<MR> findIterable = clientSession == null ? collection.find(resultType) : collection.find(clientSession, resultType);
         return applyFindOptions(find.getOptions(), findIterable);
     }
 
@@ -542,12 +636,14 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
     private <T, R, MR> AggregatePublisher<MR> aggregate(ClientSession clientSession,
                                                         MongoPreparedQuery<T, R, MongoDatabase> preparedQuery,
                                                         Class<MR> resultType) {
-        MongoCollection<MR> collection = getCollection(preparedQuery.getDatabase(), preparedQuery.getPersistentEntity(), resultType);
+        MongoCollection<MR> collection = getReadCollection(clientSession, preparedQuery, resultType);
         MongoAggregation aggregation = preparedQuery.getAggregation();
         if (QUERY_LOG.isDebugEnabled()) {
             logAggregate(aggregation);
         }
-        AggregatePublisher<MR> aggregateIterable = collection.aggregate(clientSession, aggregation.getPipeline(), resultType);
+        AggregatePublisher<MR> aggregateIterable = clientSession == null
+                ? collection.aggregate(aggregation.getPipeline(), resultType)
+                : collection.aggregate(clientSession, aggregation.getPipeline(), resultType);
         return applyAggregateOptions(aggregation.getOptions(), aggregateIterable);
     }
 
@@ -625,7 +721,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
     }
 
     private <T> MongoCollection<T> getCollection(RuntimePersistentEntity<T> persistentEntity, Class<?> repositoryClass) {
-        return getDatabase(persistentEntity, repositoryClass).getCollection(persistentEntity.getPersistedName(), persistentEntity.getIntrospection().getBeanType());
+        return getCollection(getDatabase(persistentEntity, repositoryClass), persistentEntity, persistentEntity.getIntrospection().getBeanType());
     }
 
     @Override
@@ -658,8 +754,50 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         return op.getEntities();
     }
 
+    /**
+     * Returns the collection to execute a query with. The read preference of the query or of the read-only client
+     * session is only applied outside transactions, a transaction always reads from the primary.
+     *
+     * @param clientSession The client session
+     * @param preparedQuery The query
+     * @param resultType    The result type
+     * @param <T>           The entity type
+     * @param <R>           The collection document type
+     * @return The collection
+     */
+    private <T, R> MongoCollection<R> getReadCollection(@Nullable ClientSession clientSession,
+                                                        MongoPreparedQuery<T, ?, MongoDatabase> preparedQuery,
+                                                        Class<R> resultType) {
+        ReadPreference readPreference = null;
+        if (clientSession == null || !clientSession.hasActiveTransaction()) {
+            readPreference = preparedQuery.getReadPreference();
+            if (readPreference == null && clientSession != null) {
+                readPreference = clientSession.getOptions().getDefaultTransactionOptions().getReadPreference();
+            }
+        }
+        return getCollection(preparedQuery.getDatabase(), preparedQuery.getPersistentEntity(), resultType, readPreference);
+    }
+
     private <T, R> MongoCollection<R> getCollection(MongoDatabase database, RuntimePersistentEntity<T> persistentEntity, Class<R> resultType) {
-        return database.getCollection(persistentEntity.getPersistedName(), resultType);
+        return getCollection(database, persistentEntity, resultType, null);
+    }
+
+    private <T, R> MongoCollection<R> getCollection(MongoDatabase database,
+                                                    RuntimePersistentEntity<T> persistentEntity,
+                                                    Class<R> resultType,
+                                                    @Nullable ReadPreference readPreference) {
+        ReadPreference collectionReadPreference = readPreference == null ? database.getReadPreference() : readPreference;
+        CollectionKey key = new CollectionKey(
+                database.getName(),
+                persistentEntity.getPersistedName(),
+                resultType,
+                collectionReadPreference,
+                database.getReadConcern(),
+                database.getWriteConcern(),
+                database.getCodecRegistry()
+        );
+        return (MongoCollection<R>) collections.computeIfAbsent(key, k -> database.getCollection(k.getCollectionName(), resultType)
+                .withReadPreference(collectionReadPreference));
     }
 
     @Override
@@ -667,7 +805,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         if (repositoryClass != null) {
             String database = repoDatabaseConfig.get(repositoryClass);
             if (database != null) {
-                return mongoClient.getDatabase(database);
+                return databases.computeIfAbsent(database, mongoClient::getDatabase);
             }
         }
         return mongoDatabaseFactory.getDatabase(persistentEntity);
@@ -687,7 +825,9 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         if (QUERY_LOG.isDebugEnabled()) {
             QUERY_LOG.debug("Executing Mongo 'insertOne' for collection: {} with document: {}", collection.getNamespace().getFullName(), association);
         }
-        return Mono.from(collection.insertOne(ctx.clientSession, association, getInsertOneOptions(ctx.annotationMetadata))).then();
+        return Mono.from(ctx.clientSession == null
+                ? collection.insertOne(association, getInsertOneOptions(ctx.annotationMetadata))
+                : collection.insertOne(ctx.clientSession, association, getInsertOneOptions(ctx.annotationMetadata))).then();
     }
 
     @Override
@@ -701,7 +841,37 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         if (QUERY_LOG.isDebugEnabled()) {
             QUERY_LOG.debug("Executing Mongo 'insertMany' for collection: {} with associations: {}", collection.getNamespace().getFullName(), associations);
         }
-        return Mono.from(collection.insertMany(ctx.clientSession, associations, getInsertManyOptions(ctx.annotationMetadata))).then();
+        return Mono.from(ctx.clientSession == null
+                ? collection.insertMany(associations, getInsertManyOptions(ctx.annotationMetadata))
+                : collection.insertMany(ctx.clientSession, associations, getInsertManyOptions(ctx.annotationMetadata))).then();
+    }
+
+    /**
+     * Executes the function with the session from the context, a new session or without a session when sessions per operation are disabled.
+     *
+     * @param function The function
+     * @param <T>      The emitted type
+     * @return The processed publisher
+     */
+    private <T> Mono<T> withOptionalClientSession(Function<ClientSession, Mono<? extends T>> function) {
+        if (sessionPerOperation) {
+            return withClientSession(function);
+        }
+        return Mono.deferContextual(contextView -> function.apply(contextView.getOrDefault(currentSessionKey, null)));
+    }
+
+    /**
+     * Executes the function with the session from the context, a new session or without a session when sessions per operation are disabled.
+     *
+     * @param function The function
+     * @param <T>      The emitted type
+     * @return The processed publisher
+     */
+    private <T> Flux<T> withOptionalClientSessionMany(Function<ClientSession, Flux<? extends T>> function) {
+        if (sessionPerOperation) {
+            return withClientSessionMany(function);
+        }
+        return Flux.deferContextual(contextView -> Flux.from(function.apply(contextView.getOrDefault(currentSessionKey, null))));
     }
 
     @Override
@@ -729,6 +899,18 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
 
     @Override
     public <T> Flux<T> withClientSessionMany(Function<ClientSession, Flux<? extends T>> function) {
+        return withClientSessionMany(null, function);
+    }
+
+    /**
+     * Executes the function with the session from the context or a new session started with the given options.
+     *
+     * @param sessionOptions The options of a new session
+     * @param function       The function
+     * @param <T>            The emitted type
+     * @return The processed publisher
+     */
+    private <T> Flux<T> withClientSessionMany(@Nullable ClientSessionOptions sessionOptions, Function<ClientSession, Flux<? extends T>> function) {
         Objects.requireNonNull(function, "Handler cannot be null");
         return Flux.deferContextual(contextView -> {
             ClientSession clientSession = contextView.getOrDefault(currentSessionKey, null);
@@ -738,7 +920,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Creating a new client session for MongoDB configuration: {}", serverName);
             }
-            return Flux.usingWhen(mongoClient.startSession(),
+            return Flux.usingWhen(sessionOptions == null ? mongoClient.startSession() : mongoClient.startSession(sessionOptions),
                 cs -> function.apply(cs).contextWrite(ctx -> ctx.put(currentSessionKey, cs)),
                 connection -> {
                     if (LOG.isDebugEnabled()) {
@@ -762,7 +944,11 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                     if (QUERY_LOG.isDebugEnabled()) {
                         QUERY_LOG.debug("Executing Mongo 'insertOne' with entity: {}", d.entity);
                     }
-                    return Mono.from(collection.insertOne(ctx.clientSession, d.entity, getInsertOneOptions(ctx.annotationMetadata))).map(insertOneResult -> {
+                    QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.UPDATE);
+                    return observe(Mono.from(ctx.clientSession == null
+                        ? collection.insertOne(d.entity, getInsertOneOptions(ctx.annotationMetadata))
+                        : collection.insertOne(ctx.clientSession, d.entity, getInsertOneOptions(ctx.annotationMetadata))), execution).map(insertOneResult -> {
+                        execution.addRows(1);
                         BsonValue insertedId = insertOneResult.getInsertedId();
                         BeanProperty<T, Object> property = (BeanProperty<T, Object>) persistentEntity.getIdentity().getProperty();
                         if (property.get(d.entity) == null) {
@@ -796,10 +982,13 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                     if (QUERY_LOG.isDebugEnabled()) {
                         QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
                     }
-                    BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(d.entity, mongoDatabase.getCodecRegistry());
-                    bsonDocument.remove("_id");
-                    return Mono.from(collection.replaceOne(ctx.clientSession, filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata))).map(updateResult -> {
+                    BsonDocument bsonDocument = ReplacementEncoder.toReplacementDocument(d.entity, mongoDatabase.getCodecRegistry());
+                    QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.UPDATE);
+                    return observe(Mono.from(ctx.clientSession == null
+                        ? collection.replaceOne(filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata))
+                        : collection.replaceOne(ctx.clientSession, filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata))), execution).map(updateResult -> {
                         d.rowsUpdated = updateResult.getModifiedCount();
+                        execution.addRows(d.rowsUpdated);
                         if (persistentEntity.getVersion() != null) {
                             checkOptimisticLocking(1, (int) d.rowsUpdated);
                         }
@@ -841,15 +1030,20 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                         if (QUERY_LOG.isDebugEnabled()) {
                             QUERY_LOG.debug("Executing Mongo 'replaceOne' with filter: {}", filter.toBsonDocument().toJson());
                         }
-                        BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(d.entity, mongoDatabase.getCodecRegistry());
-                        bsonDocument.remove("_id");
+                        BsonDocument bsonDocument = ReplacementEncoder.toReplacementDocument(d.entity, mongoDatabase.getCodecRegistry());
                         replaces.add(new ReplaceOneModel<>(filter, bsonDocument, getReplaceOptions(ctx.annotationMetadata)));
                     }
-                    return Mono.from(collection.bulkWrite(ctx.clientSession, replaces)).map(bulkWriteResult -> {
+                    QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.BATCH);
+                    execution.setBatchSize(replaces.size());
+                    Mono<Long> modifiedCount = executeChunks(ctx, replaces, chunk -> Mono.from(ctx.clientSession == null
+                        ? collection.bulkWrite(chunk, getBulkWriteOptions())
+                        : collection.bulkWrite(ctx.clientSession, chunk, getBulkWriteOptions())).map(result -> (long) result.getModifiedCount()));
+                    return observe(modifiedCount, execution).map(count -> {
+                        execution.addRows(count);
                         if (persistentEntity.getVersion() != null) {
-                            checkOptimisticLocking(replaces.size(), bulkWriteResult.getModifiedCount());
+                            checkOptimisticLocking(replaces.size(), count);
                         }
-                        return Tuples.of(data, (long) bulkWriteResult.getModifiedCount());
+                        return Tuples.of(data, count);
                     });
                 }).cache();
                 entities = entitiesWithRowsUpdated.flatMapMany(t -> Flux.fromIterable(t.getT1()));
@@ -875,11 +1069,17 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                         MongoUpdate updateOne = storedQuery.getUpdateOne(d.entity);
                         updates.add(new UpdateOneModel<>(updateOne.getFilter(), updateOne.getUpdate(), updateOne.getOptions()));
                     }
-                    Mono<Long> modifiedCount = Mono.from(getCollection(storedQuery).bulkWrite(ctx.clientSession, updates)).map(result -> {
+                    QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.BATCH);
+                    execution.setBatchSize(updates.size());
+                    MongoCollection<T> collection = getCollection(storedQuery);
+                    Mono<Long> modifiedCount = observe(executeChunks(ctx, updates, chunk -> Mono.from(ctx.clientSession == null
+                        ? collection.bulkWrite(chunk, getBulkWriteOptions())
+                        : collection.bulkWrite(ctx.clientSession, chunk, getBulkWriteOptions())).map(result -> (long) result.getModifiedCount())), execution).map(count -> {
+                        execution.addRows(count);
                         if (storedQuery.isOptimisticLock()) {
-                            checkOptimisticLocking(updates.size(), result.getModifiedCount());
+                            checkOptimisticLocking(updates.size(), count);
                         }
-                        return (long) result.getModifiedCount();
+                        return count;
                     });
                     return modifiedCount.map(count -> Tuples.of(data, count));
                 }).cache();
@@ -913,8 +1113,13 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                     if (QUERY_LOG.isDebugEnabled()) {
                         QUERY_LOG.debug("Executing Mongo 'deleteOne' with filter: {}", filter.toBsonDocument().toJson());
                     }
-                    return Mono.from(getCollection(persistentEntity, ctx.repositoryType).deleteOne(ctx.clientSession, filter, getDeleteOptions(ctx.annotationMetadata))).map(deleteResult -> {
+                    QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.UPDATE);
+                    MongoCollection<T> collection = getCollection(persistentEntity, ctx.repositoryType);
+                    return observe(Mono.from(ctx.clientSession == null
+                        ? collection.deleteOne(filter, getDeleteOptions(ctx.annotationMetadata))
+                        : collection.deleteOne(ctx.clientSession, filter, getDeleteOptions(ctx.annotationMetadata))), execution).map(deleteResult -> {
                         d.rowsUpdated = (int) deleteResult.getDeletedCount();
+                        execution.addRows(d.rowsUpdated);
                         if (persistentEntity.getVersion() != null) {
                             checkOptimisticLocking(1, d.rowsUpdated);
                         }
@@ -950,11 +1155,20 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                     List<Bson> filters = data.stream().filter(d -> !d.vetoed).map(d -> ((Bson) d.filter)).collect(Collectors.toList());
                     Mono<Long> modifiedCount;
                     if (!filters.isEmpty()) {
-                        Bson filter = Filters.or(filters);
-                        if (QUERY_LOG.isDebugEnabled()) {
-                            QUERY_LOG.debug("Executing Mongo 'deleteMany' with filter: {}", filter.toBsonDocument().toJson());
-                        }
-                        modifiedCount = Mono.from(collection.deleteMany(ctx.clientSession, filter, getDeleteOptions(ctx.annotationMetadata))).map(DeleteResult::getDeletedCount);
+                        QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.BATCH);
+                        execution.setBatchSize(filters.size());
+                        modifiedCount = observe(executeChunks(ctx, filters, chunk -> {
+                            Bson filter = Filters.or(chunk);
+                            if (QUERY_LOG.isDebugEnabled()) {
+                                QUERY_LOG.debug("Executing Mongo 'deleteMany' with filter: {}", filter.toBsonDocument().toJson());
+                            }
+                            return Mono.from(ctx.clientSession == null
+                                ? collection.deleteMany(filter, getDeleteOptions(ctx.annotationMetadata))
+                                : collection.deleteMany(ctx.clientSession, filter, getDeleteOptions(ctx.annotationMetadata))).map(DeleteResult::getDeletedCount);
+                        }), execution).map(count -> {
+                            execution.addRows(count);
+                            return count;
+                        });
                     } else {
                         modifiedCount = Mono.just(0L);
                     }
@@ -989,11 +1203,18 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                         MongoDelete deleteOne = storedQuery.getDeleteOne(d.entity);
                         deletes.add(new DeleteOneModel<>(deleteOne.getFilter(), deleteOne.getOptions()));
                     }
-                    return Mono.from(getCollection(storedQuery).bulkWrite(ctx.clientSession, deletes)).map(bulkWriteResult -> {
+                    QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.BATCH);
+                    execution.setBatchSize(deletes.size());
+                    MongoCollection<T> collection = getCollection(storedQuery);
+                    Mono<Long> deletedCount = executeChunks(ctx, deletes, chunk -> Mono.from(ctx.clientSession == null
+                        ? collection.bulkWrite(chunk, getBulkWriteOptions())
+                        : collection.bulkWrite(ctx.clientSession, chunk, getBulkWriteOptions())).map(result -> (long) result.getDeletedCount()));
+                    return observe(deletedCount, execution).map(count -> {
+                        execution.addRows(count);
                         if (storedQuery.isOptimisticLock()) {
-                            checkOptimisticLocking(deletes.size(), bulkWriteResult.getDeletedCount());
+                            checkOptimisticLocking(deletes.size(), count);
                         }
-                        return Tuples.of(data, (long) bulkWriteResult.getDeletedCount());
+                        return Tuples.of(data, count);
                     });
                 }).cache();
                 entities = entitiesWithRowsUpdated.flatMapMany(t -> Flux.fromIterable(t.getT1()));
@@ -1008,40 +1229,73 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
             @Override
             protected void execute() throws RuntimeException {
                 entities = entities.collectList().flatMapMany(data -> {
-                    List<T> toInsert = data.stream().filter(d -> !d.vetoed).map(d -> d.entity).collect(Collectors.toList());
+                    List<Data> toInsert = data.stream().filter(d -> !d.vetoed).collect(Collectors.toList());
                     if (toInsert.isEmpty()) {
                         return Flux.fromIterable(data);
                     }
 
                     MongoCollection<T> collection = getCollection(persistentEntity, ctx.repositoryType);
-                    if (QUERY_LOG.isDebugEnabled()) {
-                        QUERY_LOG.debug("Executing Mongo 'insertMany' for collection: {} with documents: {}", collection.getNamespace().getFullName(), toInsert);
-                    }
-                    return Mono.from(collection.insertMany(ctx.clientSession, toInsert, getInsertManyOptions(ctx.annotationMetadata))).flatMapMany(insertManyResult -> {
-                        if (hasGeneratedId) {
-                            Map<Integer, BsonValue> insertedIds = insertManyResult.getInsertedIds();
-                            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
-                            BeanProperty<T, Object> idProperty = (BeanProperty<T, Object>) identity.getProperty();
-                            int index = 0;
-                            for (Data d : data) {
-                                if (!d.vetoed) {
-                                    BsonValue id = insertedIds.get(index);
-                                    if (id == null) {
-                                        throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
-                                    }
-                                    d.entity = updateEntityId(idProperty, d.entity, id);
-                                }
-                                index++;
-                            }
+                    QueryExecution execution = startQueryExecution(ctx, persistentEntity, QueryExecution.Kind.BATCH);
+                    execution.setBatchSize(toInsert.size());
+                    Mono<Long> insertedCount = executeChunks(ctx, toInsert, chunk -> {
+                        List<T> documents = chunk.stream().map(d -> d.entity).collect(Collectors.toList());
+                        if (QUERY_LOG.isDebugEnabled()) {
+                            QUERY_LOG.debug("Executing Mongo 'insertMany' for collection: {} with documents: {}", collection.getNamespace().getFullName(), documents);
                         }
+                        return Mono.from(ctx.clientSession == null
+                            ? collection.insertMany(documents, getInsertManyOptions(ctx.annotationMetadata))
+                            : collection.insertMany(ctx.clientSession, documents, getInsertManyOptions(ctx.annotationMetadata))).map(insertManyResult -> {
+                            if (hasGeneratedId) {
+                                updateInsertedIds(chunk, insertManyResult.getInsertedIds());
+                            }
+                            return (long) chunk.size();
+                        });
+                    });
+                    return observe(insertedCount, execution).flatMapMany(count -> {
+                        execution.addRows(count);
                         return Flux.fromIterable(data);
                     });
 
                 });
             }
+
+            private void updateInsertedIds(List<Data> chunk, Map<Integer, BsonValue> insertedIds) {
+                RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+                BeanProperty<T, Object> idProperty = (BeanProperty<T, Object>) identity.getProperty();
+                // The inserted ids are indexed by the position of the document in the chunk
+                for (int index = 0; index < chunk.size(); index++) {
+                    Data d = chunk.get(index);
+                    BsonValue id = insertedIds.get(index);
+                    if (id == null) {
+                        throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
+                    }
+                    d.entity = updateEntityId(idProperty, d.entity, id);
+                }
+            }
         };
     }
 
+    /**
+     * Executes the chunks of a batch operation and sums their results. Unordered chunks are executed concurrently when
+     * the operation doesn't use a client session, a session doesn't support concurrent operations.
+     *
+     * @param ctx           The operation context
+     * @param values        The documents or the write models
+     * @param chunkExecutor The chunk executor
+     * @param <M>           The value type
+     * @return The sum of the chunk results
+     */
+    private <M> Mono<Long> executeChunks(MongoOperationContext ctx, List<M> values, Function<List<M>, Mono<Long>> chunkExecutor) {
+        Flux<List<M>> chunks = Flux.fromIterable(chunks(values));
+        Flux<Long> results;
+        if (bulkOrdered || bulkConcurrency <= 1 || ctx.clientSession != null) {
+            results = chunks.concatMap(chunkExecutor);
+        } else {
+            results = chunks.flatMap(chunkExecutor, bulkConcurrency);
+        }
+        return results.reduce(0L, Long::sum);
+    }
+
     @Override
     public ReactiveTransactionStatus<ClientSession> getTransactionStatus(ContextView contextView) {
         return contextView.getOrDefault(txStatusKey, null);
@@ -1079,7 +1333,9 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                 if (propagationBehavior == TransactionDefinition.Propagation.MANDATORY) {
                     return Flux.error(new NoTransactionException("Expected an existing transaction, but none was found in the Reactive context."));
                 }
-                return withClientSessionMany(clientSession -> {
+                // A read-only transaction doesn't start a MongoDB transaction to be able to read from the secondaries
+                boolean readOnlySession = definition.isReadOnly() && readOnlySessionOptions != null;
+                return withClientSessionMany(readOnlySession ? readOnlySessionOptions : null, clientSession -> {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Transaction Begin for MongoDB configuration: {}", serverName);
                     }
@@ -1087,7 +1343,10 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                     if (definition.getIsolationLevel() != TransactionDefinition.DEFAULT.getIsolationLevel()) {
                         throw new TransactionUsageException("Isolation level not supported");
                     } else {
-                        clientSession.startTransaction();
+                        if (!readOnlySession) {
+                            clientSession.startTransaction();
+                        }
+                        status.flightRecording = TransactionFlightRecorder.begin(definition);
                     }
 
                     return Flux.usingWhen(Mono.just(status), sts -> {
@@ -1102,7 +1361,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                         }
                         Flux<Void> abort;
                         if (definition.rollbackOn(throwable)) {
-                            abort = Flux.from(sts.getConnection().abortTransaction());
+                            abort = abortTransaction(sts.getConnection());
                         } else {
                             abort = Flux.error(throwable);
                         }
@@ -1111,7 +1370,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
                                 LOG.warn("Error occurred during transaction rollback: " + rollbackError.getMessage(), rollbackError);
                             }
                             return Mono.error(throwable);
-                        }).as(flux -> doFinish(flux, status));
+                        }).as(flux -> doFinish(flux, status, TransactionFlightRecorder.ROLLBACK));
 
                     }, this::doCommit);
                 });
@@ -1154,18 +1413,26 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Rolling back transaction on MongoDB configuration {}.", status);
             }
-            return Flux.from(status.getConnection().abortTransaction()).as(flux -> doFinish(flux, status));
+            return abortTransaction(status.getConnection()).as(flux -> doFinish(flux, status, TransactionFlightRecorder.ROLLBACK));
         } else {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Committing transaction for MongoDB configuration {}.", status);
             }
-            return Flux.from(status.getConnection().commitTransaction()).as(flux -> doFinish(flux, status));
+            ClientSession clientSession = status.getConnection();
+            Flux<Void> commit = clientSession.hasActiveTransaction() ? Flux.from(clientSession.commitTransaction()) : Flux.empty();
+            return commit.as(flux -> doFinish(flux, status, TransactionFlightRecorder.COMMIT));
         }
     }
 
-    private <T> Publisher<Void> doFinish(Flux<T> flux, DefaultReactiveTransactionStatus status) {
+    private Flux<Void> abortTransaction(ClientSession clientSession) {
+        // A read-only client session has no transaction to abort
+        return clientSession.hasActiveTransaction() ? Flux.from(clientSession.abortTransaction()) : Flux.empty();
+    }
+
+    private <T> Publisher<Void> doFinish(Flux<T> flux, DefaultReactiveTransactionStatus status, String outcome) {
         return flux.hasElements().map(ignore -> {
                 status.completed = true;
+                TransactionFlightRecorder.end(status.flightRecording, outcome);
                 return ignore;
             }).then();
     }
@@ -1178,6 +1445,7 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         private final boolean isNew;
         private boolean rollbackOnly;
         private boolean completed;
+        private Object flightRecording;
 
         public DefaultReactiveTransactionStatus(ClientSession connection, boolean isNew) {
             this.connection = connection;
@@ -1246,7 +1514,11 @@ public class DefaultReactiveMongoRepositoryOperations extends AbstractMongoRepos
         private final ClientSession clientSession;
 
         public MongoOperationContext(ClientSession clientSession, Class<?> repositoryType, AnnotationMetadata annotationMetadata) {
-            super(annotationMetadata, repositoryType);
+            this(clientSession, repositoryType, annotationMetadata, null);
+        }
+
+        public MongoOperationContext(ClientSession clientSession, Class<?> repositoryType, AnnotationMetadata annotationMetadata, String methodName) {
+            super(annotationMetadata, repositoryType, methodName);
             this.clientSession = clientSession;
         }
     }
@@ -15,7 +15,9 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.ReadPreference;
 import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.runtime.operations.internal.query.PersistentEntityAwareQuery;
 
@@ -41,6 +43,13 @@ public interface MongoPreparedQuery<E, R, Dtb> extends PreparedQuery<E, R>, Pers
      */
     boolean isAggregate();
 
+    /**
+     * @return The read preference of the query or null if not specified
+     * @since 3.8.2
+     */
+    @Nullable
+    ReadPreference getReadPreference();
+
     /**
      * @return The data to execute the aggregation
      */
@@ -51,6 +60,16 @@ public interface MongoPreparedQuery<E, R, Dtb> extends PreparedQuery<E, R>, Pers
      */
     MongoFind getFind();
 
+    /**
+     * Returns an aggregation selecting the page of the results and the total count in a single {@code $facet} stage.
+     * The output is one document with the results in the {@code content} field and the count in the {@code count} field.
+     *
+     * @return The data to execute the page aggregation or null if the query is not paged
+     * @since 3.8.2
+     */
+    @Nullable
+    MongoAggregation getPageAggregation();
+
     /**
      * @return The data to execute the update many
      */
@@ -15,8 +15,10 @@
  */
 package io.micronaut.data.mongodb.operations;
 
+import com.mongodb.ReadPreference;
 import io.micronaut.aop.InvocationContext;
 import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.runtime.operations.internal.query.PersistentEntityAwareQuery;
 
@@ -42,6 +44,13 @@ public interface MongoStoredQuery<E, R, Dtb> extends StoredQuery<E, R>, Persiste
      */
     boolean isAggregate();
 
+    /**
+     * @return The read preference of the query or null if not specified
+     * @since 3.8.2
+     */
+    @Nullable
+    ReadPreference getReadPreference();
+
     /**
      * @param invocationContext The invocation context to have query parameters extracted from
      * @return The data to execute the aggregation
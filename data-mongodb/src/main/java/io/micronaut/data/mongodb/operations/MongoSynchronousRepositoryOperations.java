@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import com.mongodb.client.ClientSession;
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.function.Function;
+
+/**
+ * A variation of {@link MongoRepositoryOperations} for the synchronous driver with a method to execute operations with a shared {@link ClientSession}.
+ *
+ * @since 3.8.2
+ */
+@Experimental
+public interface MongoSynchronousRepositoryOperations extends MongoRepositoryOperations {
+
+    /**
+     * Starts a new session or reuses the one bound to the current transaction. A new session is bound for the duration
+     * of the call, so that every repository operation invoked by the function is executed in it with causal consistency.
+     *
+     * @param function The function
+     * @param <T>      The result type
+     * @return The result
+     */
+    <T> T withClientSession(@NonNull Function<ClientSession, T> function);
+
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonWriter;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+/**
+ * Encodes an entity as a replacement document, which cannot change the {@code _id} field.
+ *
+ * <p>The entity is written by its codec directly into the writer of the driver, with the top level {@code _id} field
+ * left out, instead of being encoded into an intermediate {@link BsonDocument} first.</p>
+ *
+ * @param <T> The entity type
+ * @since 3.8.2
+ */
+final class ReplacementEncoder<T> implements Encoder<T> {
+
+    private final Encoder<T> encoder;
+
+    private ReplacementEncoder(Encoder<T> encoder) {
+        this.encoder = encoder;
+    }
+
+    /**
+     * Creates the replacement document of the entity. The document is encoded when the driver writes the command.
+     *
+     * @param entity        The entity
+     * @param codecRegistry The codec registry
+     * @param <T>           The entity type
+     * @return The replacement document
+     */
+    static <T> BsonDocument toReplacementDocument(T entity, CodecRegistry codecRegistry) {
+        Encoder<T> encoder = (Encoder<T>) codecRegistry.get(entity.getClass());
+        return new BsonDocumentWrapper<>(entity, new ReplacementEncoder<>(encoder));
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        encoder.encode(new IdExcludingBsonWriter(writer), value, encoderContext);
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return encoder.getEncoderClass();
+    }
+
+    /**
+     * Writer skipping the {@code _id} field of the top level document.
+     */
+    private static final class IdExcludingBsonWriter implements BsonWriter {
+
+        private final BsonWriter writer;
+        private int depth;
+        private int skippedDepth = -1;
+
+        IdExcludingBsonWriter(BsonWriter writer) {
+            this.writer = writer;
+        }
+
+        /**
+         * @return true if the value is a part of the skipped {@code _id} value, ends the skipping on its last part
+         */
+        private boolean skipValue() {
+            if (skippedDepth == 0) {
+                skippedDepth = -1;
+                return true;
+            }
+            return skippedDepth > 0;
+        }
+
+        @Override
+        public void writeName(String name) {
+            if (skippedDepth >= 0) {
+                return;
+            }
+            if (depth == 1 && MongoUtils.ID.equals(name)) {
+                skippedDepth = 0;
+                return;
+            }
+            writer.writeName(name);
+        }
+
+        @Override
+        public void writeStartDocument() {
+            if (skippedDepth >= 0) {
+                skippedDepth++;
+                return;
+            }
+            depth++;
+            writer.writeStartDocument();
+        }
+
+        @Override
+        public void writeStartDocument(String name) {
+            writeName(name);
+            writeStartDocument();
+        }
+
+        @Override
+        public void writeEndDocument() {
+            if (skippedDepth > 0) {
+                if (--skippedDepth == 0) {
+                    skippedDepth = -1;
+                }
+                return;
+            }
+            depth--;
+            writer.writeEndDocument();
+        }
+
+        @Override
+        public void writeStartArray() {
+            if (skippedDepth >= 0) {
+                skippedDepth++;
+                return;
+            }
+            depth++;
+            writer.writeStartArray();
+        }
+
+        @Override
+        public void writeStartArray(String name) {
+            writeName(name);
+            writeStartArray();
+        }
+
+        @Override
+        public void writeEndArray() {
+            if (skippedDepth > 0) {
+                if (--skippedDepth == 0) {
+                    skippedDepth = -1;
+                }
+                return;
+            }
+            depth--;
+            writer.writeEndArray();
+        }
+
+        @Override
+        public void flush() {
+            writer.flush();
+        }
+
+        @Override
+        public void writeBinaryData(BsonBinary binary) {
+            if (!skipValue()) {
+                writer.writeBinaryData(binary);
+            }
+        }
+
+        @Override
+        public void writeBinaryData(String name, BsonBinary binary) {
+            writeName(name);
+            writeBinaryData(binary);
+        }
+
+        @Override
+        public void writeBoolean(boolean value) {
+            if (!skipValue()) {
+                writer.writeBoolean(value);
+            }
+        }
+
+        @Override
+        public void writeBoolean(String name, boolean value) {
+            writeName(name);
+            writeBoolean(value);
+        }
+
+        @Override
+        public void writeDateTime(long value) {
+            if (!skipValue()) {
+                writer.writeDateTime(value);
+            }
+        }
+
+        @Override
+        public void writeDateTime(String name, long value) {
+            writeName(name);
+            writeDateTime(value);
+        }
+
+        @Override
+        public void writeDBPointer(BsonDbPointer value) {
+            if (!skipValue()) {
+                writer.writeDBPointer(value);
+            }
+        }
+
+        @Override
+        public void writeDBPointer(String name, BsonDbPointer value) {
+            writeName(name);
+            writeDBPointer(value);
+        }
+
+        @Override
+        public void writeDouble(double value) {
+            if (!skipValue()) {
+                writer.writeDouble(value);
+            }
+        }
+
+        @Override
+        public void writeDouble(String name, double value) {
+            writeName(name);
+            writeDouble(value);
+        }
+
+        @Override
+        public void writeInt32(int value) {
+            if (!skipValue()) {
+                writer.writeInt32(value);
+            }
+        }
+
+        @Override
+        public void writeInt32(String name, int value) {
+            writeName(name);
+            writeInt32(value);
+        }
+
+        @Override
+        public void writeInt64(long value) {
+            if (!skipValue()) {
+                writer.writeInt64(value);
+            }
+        }
+
+        @Override
+        public void writeInt64(String name, long value) {
+            writeName(name);
+            writeInt64(value);
+        }
+
+        @Override
+        public void writeDecimal128(Decimal128 value) {
+            if (!skipValue()) {
+                writer.writeDecimal128(value);
+            }
+        }
+
+        @Override
+        public void writeDecimal128(String name, Decimal128 value) {
+            writeName(name);
+            writeDecimal128(value);
+        }
+
+        @Override
+        public void writeJavaScript(String code) {
+            if (!skipValue()) {
+                writer.writeJavaScript(code);
+            }
+        }
+
+        @Override
+        public void writeJavaScript(String name, String code) {
+            writeName(name);
+            writeJavaScript(code);
+        }
+
+        @Override
+        public void writeJavaScriptWithScope(String code) {
+            if (skippedDepth >= 0) {
+                // the value ends with the scope document written next
+                return;
+            }
+            writer.writeJavaScriptWithScope(code);
+        }
+
+        @Override
+        public void writeJavaScriptWithScope(String name, String code) {
+            writeName(name);
+            writeJavaScriptWithScope(code);
+        }
+
+        @Override
+        public void writeMaxKey() {
+            if (!skipValue()) {
+                writer.writeMaxKey();
+            }
+        }
+
+        @Override
+        public void writeMaxKey(String name) {
+            writeName(name);
+            writeMaxKey();
+        }
+
+        @Override
+        public void writeMinKey() {
+            if (!skipValue()) {
+                writer.writeMinKey();
+            }
+        }
+
+        @Override
+        public void writeMinKey(String name) {
+            writeName(name);
+            writeMinKey();
+        }
+
+        @Override
+        public void writeNull() {
+            if (!skipValue()) {
+                writer.writeNull();
+            }
+        }
+
+        @Override
+        public void writeNull(String name) {
+            writeName(name);
+            writeNull();
+        }
+
+        @Override
+        public void writeObjectId(ObjectId objectId) {
+            if (!skipValue()) {
+                writer.writeObjectId(objectId);
+            }
+        }
+
+        @Override
+        public void writeObjectId(String name, ObjectId objectId) {
+            writeName(name);
+            writeObjectId(objectId);
+        }
+
+        @Override
+        public void writeRegularExpression(BsonRegularExpression regularExpression) {
+            if (!skipValue()) {
+                writer.writeRegularExpression(regularExpression);
+            }
+        }
+
+        @Override
+        public void writeRegularExpression(String name, BsonRegularExpression regularExpression) {
+            writeName(name);
+            writeRegularExpression(regularExpression);
+        }
+
+        @Override
+        public void writeString(String value) {
+            if (!skipValue()) {
+                writer.writeString(value);
+            }
+        }
+
+        @Override
+        public void writeString(String name, String value) {
+            writeName(name);
+            writeString(value);
+        }
+
+        @Override
+        public void writeSymbol(String value) {
+            if (!skipValue()) {
+                writer.writeSymbol(value);
+            }
+        }
+
+        @Override
+        public void writeSymbol(String name, String value) {
+            writeName(name);
+            writeSymbol(value);
+        }
+
+        @Override
+        public void writeTimestamp(BsonTimestamp value) {
+            if (!skipValue()) {
+                writer.writeTimestamp(value);
+            }
+        }
+
+        @Override
+        public void writeTimestamp(String name, BsonTimestamp value) {
+            writeName(name);
+            writeTimestamp(value);
+        }
+
+        @Override
+        public void writeUndefined() {
+            if (!skipValue()) {
+                writer.writeUndefined();
+            }
+        }
+
+        @Override
+        public void writeUndefined(String name) {
+            writeName(name);
+            writeUndefined();
+        }
+
+        @Override
+        public void pipe(BsonReader reader) {
+            if (skipValue()) {
+                new BsonDocumentWriter(new BsonDocument()).pipe(reader);
+                return;
+            }
+            writer.pipe(reader);
+        }
+    }
+}
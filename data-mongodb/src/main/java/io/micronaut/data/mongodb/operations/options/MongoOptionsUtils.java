@@ -15,7 +15,10 @@
  */
 package io.micronaut.data.mongodb.operations.options;
 
+import com.mongodb.ClientSessionOptions;
 import com.mongodb.CursorType;
+import com.mongodb.ReadPreference;
+import com.mongodb.TransactionOptions;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.CollationAlternate;
 import com.mongodb.client.model.CollationCaseFirst;
@@ -32,11 +35,16 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.mongodb.annotation.MongoCollation;
 import io.micronaut.data.mongodb.annotation.MongoDeleteOptions;
+import io.micronaut.data.mongodb.annotation.MongoReadPreference;
 import io.micronaut.data.mongodb.annotation.MongoUpdateOptions;
+import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Mongo internal utils for building options.
@@ -137,6 +145,43 @@ public final class MongoOptionsUtils {
         return Optional.of(options);
     }
 
+    public static Optional<ReadPreference> buildReadPreference(AnnotationMetadata annotationMetadata) {
+        AnnotationValue<MongoReadPreference> readPreferenceAnn = annotationMetadata.getAnnotation(MongoReadPreference.class);
+        if (readPreferenceAnn == null) {
+            return Optional.empty();
+        }
+        long maxStalenessSeconds = readPreferenceAnn.longValue("maxStalenessSeconds").orElse(-1);
+        Duration maxStaleness = maxStalenessSeconds > 0 ? Duration.ofSeconds(maxStalenessSeconds) : null;
+        return readPreferenceAnn.stringValue().map(mode -> buildReadPreference(mode, maxStaleness));
+    }
+
+    public static ReadPreference buildReadPreference(String mode, @Nullable Duration maxStaleness) {
+        if (maxStaleness == null) {
+            return ReadPreference.valueOf(mode);
+        }
+        return ReadPreference.valueOf(mode, Collections.emptyList(), maxStaleness.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Builds the options of the client sessions started by read-only transactions. The read-only read preference is
+     * carried by the default transaction options of the session and applied to the queries executed with it.
+     *
+     * @param configuration The configuration
+     * @return The session options or null if the read-only read preference is not configured
+     */
+    @Nullable
+    public static ClientSessionOptions buildReadOnlySessionOptions(MongoDataConfiguration configuration) {
+        String readOnlyReadPreference = configuration.getReadOnlyReadPreference();
+        if (readOnlyReadPreference == null) {
+            return null;
+        }
+        ReadPreference readPreference = buildReadPreference(readOnlyReadPreference, configuration.getReadOnlyMaxStaleness());
+        return ClientSessionOptions.builder()
+                .causallyConsistent(true)
+                .defaultTransactionOptions(TransactionOptions.builder().readPreference(readPreference).build())
+                .build();
+    }
+
     public static Optional<DeleteOptions> buildDeleteOptions(AnnotationMetadata annotationMetadata, boolean includeCollation) {
         AnnotationValue<MongoDeleteOptions> optionsAnn = annotationMetadata
                 .getAnnotation(MongoDeleteOptions.class);
@@ -27,6 +27,7 @@ import org.bson.codecs.configuration.CodecRegistry;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -43,6 +44,7 @@ final class DataCodecRegistry implements CodecRegistry {
     private final DataSerdeRegistry dataSerdeRegistry;
     private final RuntimeEntityRegistry runtimeEntityRegistry;
     private final Map<Class, Codec> codecs = new ConcurrentHashMap<>();
+    private final Set<Class> unsupported = ConcurrentHashMap.newKeySet();
 
     /**
      * Default constructor.
@@ -70,7 +72,11 @@ final class DataCodecRegistry implements CodecRegistry {
         if (codec != null) {
             return codec;
         }
+        if (unsupported.contains(clazz)) {
+            return null;
+        }
         if (clazz.isEnum() || entities != null && !entities.contains(clazz)) {
+            unsupported.add(clazz);
             return null;
         }
         if (BeanIntrospector.SHARED.findIntrospection(clazz).isPresent()) {
@@ -84,6 +90,7 @@ final class DataCodecRegistry implements CodecRegistry {
             codecs.put(clazz, codec);
             return codec;
         }
+        unsupported.add(clazz);
         return null;
     }
 
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.serde;
+
+import io.micronaut.core.annotation.NonNull;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriter;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the documents returned by the repositories as JSON, without decoding them into entities.
+ *
+ * <p>A {@link RawBsonDocument} is streamed from its bytes to the writer, no intermediate document tree or string
+ * is created.</p>
+ *
+ * @since 3.8.2
+ */
+public final class MongoJsonWriter {
+
+    /**
+     * The default settings, writing the relaxed extended JSON.
+     */
+    public static final JsonWriterSettings DEFAULT_SETTINGS = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+    private MongoJsonWriter() {
+    }
+
+    /**
+     * Writes the document as JSON with the default settings.
+     *
+     * @param document The document
+     * @param writer   The writer
+     */
+    public static void writeJson(@NonNull BsonDocument document, @NonNull Writer writer) {
+        writeJson(document, writer, DEFAULT_SETTINGS);
+    }
+
+    /**
+     * Writes the document as JSON.
+     *
+     * @param document The document
+     * @param writer   The writer
+     * @param settings The JSON settings
+     */
+    public static void writeJson(@NonNull BsonDocument document, @NonNull Writer writer, @NonNull JsonWriterSettings settings) {
+        JsonWriter jsonWriter = new JsonWriter(writer, settings);
+        if (document instanceof RawBsonDocument) {
+            try (BsonBinaryReader reader = new BsonBinaryReader(((RawBsonDocument) document).getByteBuffer().asNIO())) {
+                jsonWriter.pipe(reader);
+            }
+        } else {
+            BSON_DOCUMENT_CODEC.encode(jsonWriter, document, ENCODER_CONTEXT);
+        }
+    }
+
+    /**
+     * Writes the documents as a JSON array with the default settings.
+     *
+     * @param documents The documents
+     * @param writer    The writer
+     * @throws IOException If the writer fails
+     */
+    public static void writeJsonArray(@NonNull Iterable<? extends BsonDocument> documents, @NonNull Writer writer) throws IOException {
+        writeJsonArray(documents, writer, DEFAULT_SETTINGS);
+    }
+
+    /**
+     * Writes the documents as a JSON array. The documents are written as they are iterated, a {@link java.util.stream.Stream}
+     * returned by a repository can be written with {@code stream::iterator}.
+     *
+     * @param documents The documents
+     * @param writer    The writer
+     * @param settings  The JSON settings
+     * @throws IOException If the writer fails
+     */
+    public static void writeJsonArray(@NonNull Iterable<? extends BsonDocument> documents,
+                                      @NonNull Writer writer,
+                                      @NonNull JsonWriterSettings settings) throws IOException {
+        writer.write('[');
+        boolean first = true;
+        for (BsonDocument document : documents) {
+            if (!first) {
+                writer.write(',');
+            }
+            writeJson(document, writer, settings);
+            first = false;
+        }
+        writer.write(']');
+    }
+}
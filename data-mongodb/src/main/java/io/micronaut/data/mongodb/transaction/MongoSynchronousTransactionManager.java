@@ -15,6 +15,7 @@
  */
 package io.micronaut.data.mongodb.transaction;
 
+import com.mongodb.ClientSessionOptions;
 import com.mongodb.TransactionOptions;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
@@ -22,7 +23,9 @@ import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.mongodb.conf.MongoDataConfiguration;
 import io.micronaut.data.mongodb.conf.RequiresSyncMongo;
+import io.micronaut.data.mongodb.operations.options.MongoOptionsUtils;
 import io.micronaut.transaction.TransactionDefinition;
 import io.micronaut.transaction.exceptions.CannotCreateTransactionException;
 import io.micronaut.transaction.exceptions.NoTransactionException;
@@ -48,16 +51,22 @@ public final class MongoSynchronousTransactionManager extends AbstractSynchronou
 
     private final MongoClient mongoClient;
     private final String name;
+    @Nullable
+    private final ClientSessionOptions readOnlySessionOptions;
 
     /**
      * Default constructor.
      *
-     * @param mongoClient The mongo client
-     * @param name        The datasource name
+     * @param mongoClient            The mongo client
+     * @param name                   The datasource name
+     * @param mongoDataConfiguration The configuration
      */
-    public MongoSynchronousTransactionManager(MongoClient mongoClient, @Nullable @Parameter String name) {
+    public MongoSynchronousTransactionManager(MongoClient mongoClient,
+                                              @Nullable @Parameter String name,
+                                              MongoDataConfiguration mongoDataConfiguration) {
         this.mongoClient = mongoClient;
         this.name = name == null ? "default" : name;
+        this.readOnlySessionOptions = MongoOptionsUtils.buildReadOnlySessionOptions(mongoDataConfiguration);
     }
 
     @Override
@@ -121,23 +130,30 @@ public final class MongoSynchronousTransactionManager extends AbstractSynchronou
         MongoTransaction mongoTransaction = (MongoTransaction) transaction;
         try {
             mongoTransaction.setName(definition.getName());
+            // A read-only transaction doesn't start a MongoDB transaction to be able to read from the secondaries
+            boolean readOnlySession = definition.isReadOnly() && readOnlySessionOptions != null;
             if (!mongoTransaction.hasClientSession()) {
                 if (logger.isDebugEnabled()) {
                     logger.debug("Acquired ClientSession for MongoDB transaction [{}] of datasource: [{}]", mongoTransaction, name);
                 }
-                ClientSession clientSession = mongoClient.startSession();
+                ClientSession clientSession = readOnlySession ? mongoClient.startSession(readOnlySessionOptions) : mongoClient.startSession();
                 mongoTransaction.setClientSessionHolder(clientSession, true);
             }
-
-            TransactionOptions.Builder txOptionsBuilder = TransactionOptions.builder();
-            Duration timeout = determineTimeout(definition);
-            if (timeout != TransactionDefinition.TIMEOUT_DEFAULT) {
-                txOptionsBuilder = txOptionsBuilder.maxCommitTime(timeout.toMillis(), TimeUnit.MILLISECONDS);
-            }
-            if (logger.isDebugEnabled()) {
-                logger.debug("Starting MongoDB transaction [{}] of datasource: [{}]", transaction, name);
+            if (readOnlySession) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Using read-only ClientSession for MongoDB transaction [{}] of datasource: [{}]", transaction, name);
+                }
+            } else {
+                TransactionOptions.Builder txOptionsBuilder = TransactionOptions.builder();
+                Duration timeout = determineTimeout(definition);
+                if (timeout != TransactionDefinition.TIMEOUT_DEFAULT) {
+                    txOptionsBuilder = txOptionsBuilder.maxCommitTime(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Starting MongoDB transaction [{}] of datasource: [{}]", transaction, name);
+                }
+                mongoTransaction.beginTransaction(txOptionsBuilder.build());
             }
-            mongoTransaction.beginTransaction(txOptionsBuilder.build());
 
             // Bind the client session holder to the thread.
             if (mongoTransaction.isNewClientSession()) {
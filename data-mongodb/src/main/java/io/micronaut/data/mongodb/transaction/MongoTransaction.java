@@ -27,6 +27,7 @@ final class MongoTransaction implements AutoCloseable {
     private ClientSession clientSession;
     private boolean newClientSession;
     private boolean rollbackOnly = false;
+    private boolean transactionStarted;
 
     public MongoTransaction(ClientSession clientSession) {
         this.clientSession = clientSession;
@@ -47,14 +48,19 @@ final class MongoTransaction implements AutoCloseable {
 
     public void beginTransaction(TransactionOptions transactionOptions) {
         clientSession.startTransaction(transactionOptions);
+        transactionStarted = true;
     }
 
     public void commitTransaction() {
-        clientSession.commitTransaction();
+        if (transactionStarted) {
+            clientSession.commitTransaction();
+        }
     }
 
     public void abortTransaction() {
-        clientSession.abortTransaction();
+        if (transactionStarted) {
+            clientSession.abortTransaction();
+        }
     }
 
     public boolean hasActiveTransaction() {
@@ -0,0 +1,13 @@
+package io.micronaut.data.document.mongodb
+
+class MongoBulkChunksSpec extends MongoDocumentRepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                "micronaut.data.mongodb.bulk-chunk-size": "2",
+                "micronaut.data.mongodb.bulk-ordered"   : "false"
+        ]
+    }
+
+}
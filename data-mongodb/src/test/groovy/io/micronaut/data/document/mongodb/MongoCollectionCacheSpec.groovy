@@ -0,0 +1,57 @@
+package io.micronaut.data.document.mongodb
+
+import com.mongodb.ReadPreference
+import com.mongodb.WriteConcern
+import com.mongodb.client.MongoClient
+import com.mongodb.client.MongoCollection
+import com.mongodb.client.MongoDatabase
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.document.tck.entities.Person
+import io.micronaut.data.model.runtime.RuntimeEntityRegistry
+import io.micronaut.data.mongodb.operations.MongoRepositoryOperations
+import org.bson.codecs.configuration.CodecRegistries
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class MongoCollectionCacheSpec extends Specification implements MongoTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    MongoClient mongoClient = applicationContext.getBean(MongoClient)
+
+    @Shared
+    MongoRepositoryOperations operations = applicationContext.getBean(MongoRepositoryOperations)
+
+    @Shared
+    RuntimeEntityRegistry entityRegistry = applicationContext.getBean(RuntimeEntityRegistry)
+
+    void 'test the collection is reused for the same database settings'() {
+        expect:
+            collection(mongoClient.getDatabase("test")).is(collection(mongoClient.getDatabase("test")))
+            !collection(mongoClient.getDatabase("test")).is(collection(mongoClient.getDatabase("other")))
+    }
+
+    void 'test the collection follows the settings of the database'() {
+        given:
+            MongoDatabase database = mongoClient.getDatabase("test")
+            MongoDatabase customCodecs = database.withCodecRegistry(CodecRegistries.fromRegistries(database.codecRegistry))
+            MongoDatabase secondary = database.withReadPreference(ReadPreference.secondaryPreferred())
+            MongoDatabase majority = database.withWriteConcern(WriteConcern.MAJORITY)
+
+        expect:
+            collection(customCodecs).codecRegistry.is(customCodecs.codecRegistry)
+            collection(database).codecRegistry.is(database.codecRegistry)
+            collection(secondary).readPreference == ReadPreference.secondaryPreferred()
+            collection(majority).writeConcern == WriteConcern.MAJORITY
+            collection(database).readPreference == database.readPreference
+            collection(database).writeConcern == database.writeConcern
+    }
+
+    private MongoCollection<Person> collection(MongoDatabase database) {
+        return operations.getCollection(database, entityRegistry.getEntity(Person), Person)
+    }
+}
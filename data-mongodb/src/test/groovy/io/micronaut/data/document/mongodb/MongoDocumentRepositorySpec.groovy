@@ -28,7 +28,9 @@ import io.micronaut.data.document.tck.repositories.StudentRepository
 import io.micronaut.data.model.Pageable
 import io.micronaut.data.mongodb.operations.options.MongoAggregationOptions
 import io.micronaut.data.mongodb.operations.options.MongoFindOptions
+import io.micronaut.data.mongodb.serde.MongoJsonWriter
 import org.bson.BsonDocument
+import org.bson.RawBsonDocument
 
 import java.util.stream.Collectors
 
@@ -45,6 +47,22 @@ class MongoDocumentRepositorySpec extends AbstractDocumentRepositorySpec impleme
             people.every {it.size() == 5 && !it.id }
     }
 
+    void "test raw document results"() {
+        given:
+            savePersons(["Dennis", "Jeff", "James", "Dennis"])
+        when:
+            List<RawBsonDocument> people = personRepository.queryByName("Dennis")
+        then:
+            people.size() == 2
+            people.every { it instanceof RawBsonDocument && it.getString("name").value == "Dennis" }
+        when:
+            people = personRepository.customFindRaw("J.*")
+            StringWriter writer = new StringWriter()
+            MongoJsonWriter.writeJsonArray(people, writer)
+        then:
+            writer.toString() == '[{"name": "James"},{"name": "Jeff"}]'
+    }
+
     void "test attribute converter"() {
         when:
             def quantity = new Quantity(123)
@@ -0,0 +1,12 @@
+package io.micronaut.data.document.mongodb
+
+class MongoFacetPaginationSpec extends MongoDocumentRepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                "micronaut.data.mongodb.facet-pagination": "true"
+        ]
+    }
+
+}
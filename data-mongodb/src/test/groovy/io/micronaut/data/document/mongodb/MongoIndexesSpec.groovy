@@ -0,0 +1,90 @@
+package io.micronaut.data.document.mongodb
+
+import com.mongodb.client.MongoClient
+import com.mongodb.client.model.IndexOptions
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Index
+import io.micronaut.data.annotation.Indexes
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.MappedProperty
+import io.micronaut.data.mongodb.annotation.MongoTtlIndex
+import org.bson.Document
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Instant
+
+class MongoIndexesSpec extends Specification implements MongoTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    MongoClient mongoClient = applicationContext.getBean(MongoClient)
+
+    void 'test indexes are created'() {
+        when:
+            Map<String, Document> indexes = mongoClient.getDatabase("test").getCollection("indexed_parcel")
+                    .listIndexes().into(new ArrayList<>()).collectEntries { [(it.getString("name")): it] }
+        then:
+            indexes["tracking_number_idx"].get("key") == new Document("trackingNumber", 1)
+            indexes["tracking_number_idx"].getBoolean("unique")
+            indexes["parcel_route_idx"].get("key") == new Document("origin", 1).append("dest", -1)
+            !indexes["parcel_route_idx"].getBoolean("unique", false)
+            indexes["parcel_expiry_idx"].get("key") == new Document("deliveredAt", 1)
+            indexes["parcel_expiry_idx"].get("expireAfterSeconds") == 3600
+    }
+
+    void 'test creating the indexes again is a no-op'() {
+        when:
+            ApplicationContext context = ApplicationContext.run(getProperties())
+        then:
+            mongoClient.getDatabase("test").getCollection("indexed_parcel").listIndexes().into(new ArrayList<>()).size() == 4
+        cleanup:
+            context?.close()
+    }
+
+    void 'test the indexes not conflicting with an existing index are created'() {
+        given:
+            def collection = mongoClient.getDatabase("test").getCollection("indexed_parcel")
+            collection.dropIndex("tracking_number_idx")
+            collection.dropIndex("parcel_route_idx")
+            collection.createIndex(new Document("trackingNumber", 1), new IndexOptions().name("tracking_number_idx"))
+
+        when:
+            ApplicationContext context = ApplicationContext.run(getProperties())
+            Map<String, Document> indexes = collection.listIndexes().into(new ArrayList<>()).collectEntries { [(it.getString("name")): it] }
+
+        then:"the conflicting index is left unchanged"
+            !indexes["tracking_number_idx"].getBoolean("unique", false)
+
+        and:"the other indexes are created"
+            indexes["parcel_route_idx"].get("key") == new Document("origin", 1).append("dest", -1)
+            indexes.size() == 4
+
+        cleanup:
+            context?.close()
+    }
+
+}
+
+@MappedEntity("indexed_parcel")
+@Indexes([
+        @Index(name = "tracking_number_idx", columns = ["trackingNumber"], unique = true),
+        @Index(name = "parcel_route_idx", columns = ["origin", "destination DESC"])
+])
+class IndexedParcel {
+    @Id
+    @GeneratedValue
+    String id
+    String trackingNumber
+    String origin
+    @MappedProperty("dest")
+    String destination
+    @MongoTtlIndex(name = "parcel_expiry_idx", expireAfterSeconds = 3600L)
+    Instant deliveredAt
+}
@@ -0,0 +1,120 @@
+package io.micronaut.data.document.mongodb
+
+import com.mongodb.ReadPreference
+import com.mongodb.client.ClientSession
+import io.micronaut.data.document.mongodb.repositories.MongoPersonRepository
+import io.micronaut.data.document.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.SynchronousTransactionManager
+import io.micronaut.transaction.annotation.ReadOnly
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+import javax.transaction.Transactional
+import java.util.concurrent.TimeUnit
+
+@MicronautTest(transactional = false)
+class MongoReadPreferenceSpec extends Specification implements MongoTestPropertyProvider {
+
+    @Inject
+    TestService testService
+
+    @Inject
+    MongoPersonRepository personRepository
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                "micronaut.data.mongodb.read-only-read-preference": "secondaryPreferred",
+                "micronaut.data.mongodb.read-only-max-staleness"  : "120s"
+        ]
+    }
+
+    void cleanup() {
+        personRepository.deleteAll()
+    }
+
+    void "test read-only transactions read with the configured read preference"() {
+        given:
+            personRepository.saveAll([new Person(name: "Jeff"), new Person(name: "James")])
+
+        when:
+            Map<String, Object> session = testService.readOnlySession()
+
+        then:
+            !session.activeTransaction
+            session.causallyConsistent
+            session.readPreference == ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS)
+
+        and:
+            testService.readOnlyCount() == 2
+
+        when:
+            session = testService.transactionalSession()
+
+        then:
+            session.activeTransaction
+            testService.transactionalCount() == 2
+    }
+
+    void "test repository read preference"() {
+        given:
+            personRepository.saveAll([new Person(name: "Jeff"), new Person(name: "James")])
+
+        when:
+            List<Person> people = personRepository.customFindSecondaryPreferred("J.*")
+
+        then:
+            people*.name == ["James", "Jeff"]
+
+        when:
+            people = testService.readOnlyFind("Je.*")
+
+        then:
+            people*.name == ["Jeff"]
+    }
+
+    @Singleton
+    static class TestService {
+
+        @Inject
+        SynchronousTransactionManager<ClientSession> manager
+
+        @Inject
+        MongoPersonRepository personRepository
+
+        @ReadOnly
+        Map<String, Object> readOnlySession() {
+            return describe(manager.getConnection())
+        }
+
+        @ReadOnly
+        long readOnlyCount() {
+            return personRepository.count()
+        }
+
+        @ReadOnly
+        List<Person> readOnlyFind(String t) {
+            return personRepository.customFindSecondaryPreferred(t)
+        }
+
+        @Transactional
+        Map<String, Object> transactionalSession() {
+            return describe(manager.getConnection())
+        }
+
+        @Transactional
+        long transactionalCount() {
+            return personRepository.count()
+        }
+
+        private static Map<String, Object> describe(ClientSession clientSession) {
+            return [
+                    activeTransaction : clientSession.hasActiveTransaction(),
+                    causallyConsistent: clientSession.options.causallyConsistent,
+                    readPreference    : clientSession.options.defaultTransactionOptions.readPreference
+            ]
+        }
+    }
+}
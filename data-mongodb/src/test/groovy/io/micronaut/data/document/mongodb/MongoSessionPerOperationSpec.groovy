@@ -0,0 +1,142 @@
+package io.micronaut.data.document.mongodb
+
+import com.mongodb.client.ClientSession
+import com.mongodb.client.MongoClient
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.BeanCreatedEvent
+import io.micronaut.context.event.BeanCreatedEventListener
+import io.micronaut.data.document.mongodb.repositories.MongoPersonRepository
+import io.micronaut.data.document.tck.entities.Person
+import io.micronaut.data.mongodb.operations.MongoSynchronousRepositoryOperations
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.SynchronousTransactionManager
+import io.micronaut.transaction.support.TransactionSynchronizationManager
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+import javax.transaction.Transactional
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Proxy
+import java.util.concurrent.CopyOnWriteArrayList
+
+@MicronautTest(transactional = false)
+class MongoSessionPerOperationSpec extends Specification implements MongoTestPropertyProvider {
+
+    @Inject
+    MongoClient mongoClient
+
+    @Inject
+    MongoSynchronousRepositoryOperations operations
+
+    @Inject
+    MongoPersonRepository personRepository
+
+    @Inject
+    SessionRecorder recorder
+
+    @Inject
+    TestService testService
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                "spec.name"                                   : "MongoSessionPerOperationSpec",
+                "micronaut.data.mongodb.session-per-operation": "false"
+        ]
+    }
+
+    void setup() {
+        recorder.sessions.clear()
+    }
+
+    void cleanup() {
+        personRepository.deleteAll()
+    }
+
+    void "test operations outside a transaction don't start a session"() {
+        when:
+            personRepository.saveAll([new Person(name: "Jeff"), new Person(name: "James")])
+            def found = personRepository.findAll()
+            def count = personRepository.count()
+            personRepository.deleteAll()
+
+        then:
+            found*.name.sort() == ["James", "Jeff"]
+            count == 2
+            recorder.sessions.isEmpty()
+    }
+
+    void "test nested operations reuse the session of withClientSession"() {
+        when:
+            def result = operations.withClientSession { ClientSession session ->
+                personRepository.save(new Person(name: "Jeff"))
+                [session: session,
+                 bound  : TransactionSynchronizationManager.getResource(mongoClient),
+                 count  : personRepository.count()]
+            }
+
+        then:"one session is started and bound for the nested operations"
+            recorder.sessions == [result.session]
+            result.bound.is(result.session)
+            result.count == 1
+
+        and:"the operations were executed with it"
+            result.session.operationTime != null
+
+        and:"the session is unbound afterwards"
+            TransactionSynchronizationManager.getResource(mongoClient) == null
+    }
+
+    void "test transactions use their own session"() {
+        when:
+            def session = testService.saveInTransaction(new Person(name: "Jeff"))
+
+        then:
+            recorder.sessions == [session.session]
+            session.activeTransaction
+            session.session.operationTime != null
+            personRepository.count() == 1
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "MongoSessionPerOperationSpec")
+    static class SessionRecorder implements BeanCreatedEventListener<MongoClient> {
+
+        final List<ClientSession> sessions = new CopyOnWriteArrayList<>()
+
+        @Override
+        MongoClient onCreated(BeanCreatedEvent<MongoClient> event) {
+            MongoClient client = event.bean
+            return (MongoClient) Proxy.newProxyInstance(MongoClient.classLoader, [MongoClient] as Class[], { proxy, method, args ->
+                try {
+                    def result = method.invoke(client, args)
+                    if (method.name == "startSession") {
+                        sessions << (ClientSession) result
+                    }
+                    return result
+                } catch (InvocationTargetException e) {
+                    throw e.targetException
+                }
+            })
+        }
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "MongoSessionPerOperationSpec")
+    static class TestService {
+
+        @Inject
+        SynchronousTransactionManager<ClientSession> manager
+
+        @Inject
+        MongoPersonRepository personRepository
+
+        @Transactional
+        Map<String, Object> saveInTransaction(Person person) {
+            personRepository.save(person)
+            ClientSession session = manager.getConnection()
+            return [session: session, activeTransaction: session.hasActiveTransaction()]
+        }
+    }
+}
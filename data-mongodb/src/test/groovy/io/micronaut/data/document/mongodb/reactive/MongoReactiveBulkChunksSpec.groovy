@@ -0,0 +1,15 @@
+package io.micronaut.data.document.mongodb.reactive
+
+import io.micronaut.data.document.mongodb.MongoBulkChunksSpec
+
+class MongoReactiveBulkChunksSpec extends MongoBulkChunksSpec implements MongoSelectReactiveDriver {
+
+    @Override
+    Map<String, String> getProperties() {
+        return MongoSelectReactiveDriver.super.getProperties() + [
+                "micronaut.data.mongodb.bulk-concurrency"     : "2",
+                "micronaut.data.mongodb.session-per-operation": "false"
+        ]
+    }
+
+}
@@ -0,0 +1,6 @@
+package io.micronaut.data.document.mongodb.reactive
+
+import io.micronaut.data.document.mongodb.MongoFacetPaginationSpec
+
+class MongoReactiveFacetPaginationSpec extends MongoFacetPaginationSpec implements MongoSelectReactiveDriver {
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations
+
+import org.bson.BsonArray
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.BsonNull
+import org.bson.BsonString
+import spock.lang.Specification
+
+class BsonTemplateSpec extends Specification {
+
+    void "test template without parameters returns the source document"() {
+        given:
+            def document = BsonDocument.parse('{title: {$eq: "The Stand"}}')
+            def template = BsonTemplate.compile(document)
+
+        expect:
+            !template.hasParameters()
+            template.getDocument().is(document)
+    }
+
+    void "test parameters are replaced and constant parts are shared"() {
+        given:
+            def document = BsonDocument.parse('{$and: [{title: {$eq: {$mn_qp: 0}}}, {pages: {$gt: 100}}], author: {$eq: {$mn_qp: 1}}}')
+            def template = BsonTemplate.compile(document)
+            def values = [new BsonString("The Stand"), new BsonInt32(5)]
+
+        when:
+            def rendered = template.render { values[it] }
+
+        then:
+            template.hasParameters()
+            rendered == BsonDocument.parse('{$and: [{title: {$eq: "The Stand"}}, {pages: {$gt: 100}}], author: {$eq: 5}}')
+            rendered.getArray('$and').get(1).is(document.getArray('$and').get(1))
+            document == BsonDocument.parse('{$and: [{title: {$eq: {$mn_qp: 0}}}, {pages: {$gt: 100}}], author: {$eq: {$mn_qp: 1}}}')
+    }
+
+    void "test every render creates a new document"() {
+        given:
+            def template = BsonTemplate.compile(BsonDocument.parse('{title: {$eq: {$mn_qp: 0}}}'))
+
+        when:
+            def first = template.render { new BsonString("A") }
+            def second = template.render { new BsonString("B") }
+
+        then:
+            first == BsonDocument.parse('{title: {$eq: "A"}}')
+            second == BsonDocument.parse('{title: {$eq: "B"}}')
+    }
+
+    void "test array parameters are spliced and null parameters removed"() {
+        given:
+            def template = BsonTemplate.compile(BsonDocument.parse('{title: {$in: [{$mn_qp: 0}, "X", {$mn_qp: 1}]}}'))
+            def values = [new BsonArray([new BsonString("A"), new BsonString("B")]), BsonNull.VALUE]
+
+        expect:
+            template.render { values[it] } == BsonDocument.parse('{title: {$in: ["A", "B", "X"]}}')
+    }
+}
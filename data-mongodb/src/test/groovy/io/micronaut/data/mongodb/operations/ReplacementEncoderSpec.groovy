@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.operations
+
+import org.bson.BsonDocument
+import org.bson.BsonDocumentWrapper
+import org.bson.BsonDocumentWriter
+import org.bson.codecs.BsonDocumentCodec
+import org.bson.codecs.BsonDocumentWrapperCodec
+import org.bson.codecs.BsonValueCodecProvider
+import org.bson.codecs.EncoderContext
+import org.bson.codecs.configuration.CodecRegistries
+import spock.lang.Specification
+
+class ReplacementEncoderSpec extends Specification {
+
+    void "test replacement document excludes the top level id"() {
+        given:
+            def codecRegistry = CodecRegistries.fromProviders(new BsonValueCodecProvider())
+            def document = BsonDocument.parse(source)
+
+        when:
+            def replacement = ReplacementEncoder.toReplacementDocument(document, codecRegistry)
+            def encoded = new BsonDocument()
+            new BsonDocumentWrapperCodec(new BsonDocumentCodec())
+                    .encode(new BsonDocumentWriter(encoded), (BsonDocumentWrapper) replacement, EncoderContext.builder().build())
+
+        then:
+            encoded == BsonDocument.parse(expected)
+
+        where:
+            source                                                          || expected
+            '{_id: "abc", title: "The Stand"}'                              || '{title: "The Stand"}'
+            '{title: "The Stand", _id: {a: 1, b: [1, {_id: 2}]}, pages: 5}' || '{title: "The Stand", pages: 5}'
+            '{_id: 1, author: {_id: 2, name: "King"}, tags: [{_id: 3}]}'    || '{author: {_id: 2, name: "King"}, tags: [{_id: 3}]}'
+    }
+
+}
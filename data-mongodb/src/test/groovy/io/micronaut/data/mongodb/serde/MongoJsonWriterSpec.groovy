@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.mongodb.serde
+
+import org.bson.BsonDocument
+import org.bson.RawBsonDocument
+import org.bson.codecs.BsonDocumentCodec
+import org.bson.json.JsonMode
+import org.bson.json.JsonWriterSettings
+import spock.lang.Specification
+
+class MongoJsonWriterSpec extends Specification {
+
+    static final BsonDocument DOCUMENT = BsonDocument.parse("{_id: {\$oid: '5f8f8c44b54764421b7156c3'}, title: 'The Stand', pages: 1000, tags: ['horror']}")
+
+    void "test write raw and parsed documents"() {
+        given:
+            StringWriter writer = new StringWriter()
+        when:
+            MongoJsonWriter.writeJson(document, writer)
+        then:
+            writer.toString() == '{"_id": {"$oid": "5f8f8c44b54764421b7156c3"}, "title": "The Stand", "pages": 1000, "tags": ["horror"]}'
+        where:
+            document << [DOCUMENT, new RawBsonDocument(DOCUMENT, new BsonDocumentCodec())]
+    }
+
+    void "test write array"() {
+        given:
+            StringWriter writer = new StringWriter()
+            RawBsonDocument first = new RawBsonDocument(BsonDocument.parse("{title: 'The Stand'}"), new BsonDocumentCodec())
+            RawBsonDocument second = new RawBsonDocument(BsonDocument.parse("{title: 'The Shining'}"), new BsonDocumentCodec())
+        when:
+            MongoJsonWriter.writeJsonArray([first, second], writer)
+        then:
+            writer.toString() == '[{"title": "The Stand"},{"title": "The Shining"}]'
+        when:
+            writer = new StringWriter()
+            MongoJsonWriter.writeJsonArray([], writer)
+        then:
+            writer.toString() == '[]'
+    }
+
+    void "test write with settings"() {
+        given:
+            StringWriter writer = new StringWriter()
+        when:
+            MongoJsonWriter.writeJson(new RawBsonDocument(BsonDocument.parse("{pages: 1000}"), new BsonDocumentCodec()), writer,
+                    JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build())
+        then:
+            writer.toString() == '{"pages": {"$numberInt": "1000"}}'
+    }
+}
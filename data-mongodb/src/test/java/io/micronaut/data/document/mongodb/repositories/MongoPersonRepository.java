@@ -8,10 +8,12 @@ import io.micronaut.data.mongodb.annotation.MongoDeleteOptions;
 import io.micronaut.data.mongodb.annotation.MongoDeleteQuery;
 import io.micronaut.data.mongodb.annotation.MongoFindOptions;
 import io.micronaut.data.mongodb.annotation.MongoFindQuery;
+import io.micronaut.data.mongodb.annotation.MongoReadPreference;
 import io.micronaut.data.mongodb.annotation.MongoRepository;
 import io.micronaut.data.mongodb.annotation.MongoUpdateOptions;
 import io.micronaut.data.mongodb.annotation.MongoUpdateQuery;
 import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
 
 import java.util.List;
 
@@ -24,9 +26,18 @@ public interface MongoPersonRepository extends PersonRepository {
 
     List<BsonDocument> queryAll();
 
+    List<RawBsonDocument> queryByName(String name);
+
     @MongoFindQuery(filter = "{name:{$regex: :t}}", sort = "{ name : 1 }", project = "{ name: 1}")
     List<Person> customFind(String t);
 
+    @MongoFindQuery(filter = "{name:{$regex: :t}}", sort = "{ name : 1 }", project = "{ name: 1, _id: 0}")
+    List<RawBsonDocument> customFindRaw(String t);
+
+    @MongoReadPreference(value = "secondaryPreferred", maxStalenessSeconds = 90)
+    @MongoFindQuery(filter = "{name:{$regex: :t}}", sort = "{ name : 1 }")
+    List<Person> customFindSecondaryPreferred(String t);
+
     @MongoAggregateQuery("[{$match: {name:{$regex: :t}}}, {$sort: {name: 1}}, {$project: {name: 1}}]")
     List<Person> customAgg(String t);
 
@@ -262,7 +262,8 @@ public class QueryCriteriaMethodMatch extends AbstractCriteriaMethodMatch {
     }
 
     private boolean isDtoType(ClassElement classElement) {
-        if (classElement.getName().equals("org.bson.BsonDocument")) {
+        String name = classElement.getName();
+        if (name.equals("org.bson.BsonDocument") || name.equals("org.bson.RawBsonDocument")) {
             return true;
         }
         return false;
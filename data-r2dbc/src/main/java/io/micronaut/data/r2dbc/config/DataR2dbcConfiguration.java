@@ -37,10 +37,22 @@ import java.util.List;
 @EachProperty(value = BasicR2dbcProperties.PREFIX, primary = "default")
 public class DataR2dbcConfiguration implements Named {
 
+    /**
+     * The default maximum fetch size derived from the subscriber demand.
+     * @since 3.8.2
+     */
+    public static final int DEFAULT_MAX_FETCH_SIZE = 1000;
+
     private SchemaGenerate schemaGenerate = SchemaGenerate.NONE;
     private boolean batchGenerate = false;
     private Dialect dialect = Dialect.ANSI;
     private List<String> packages = new ArrayList<>(3);
+    private int fetchSize;
+    private boolean adaptiveFetchSize;
+    private int maxFetchSize = DEFAULT_MAX_FETCH_SIZE;
+    private boolean cascadeBatch;
+    private int bulkWindowSize;
+    private int bulkConcurrency;
     private final String name;
     private final ConnectionFactory connectionFactory;
     private final R2dbcOperations r2dbcOperations;
@@ -140,6 +152,122 @@ public class DataR2dbcConfiguration implements Named {
         this.dialect = dialect;
     }
 
+    /**
+     * @return The number of rows fetched in a batch by queries, 0 to use the driver default.
+     * @since 3.8.2
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the number of rows fetched in a batch by queries. 0 uses the driver default.
+     *
+     * @param fetchSize The fetch size
+     * @since 3.8.2
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = Math.max(0, fetchSize);
+    }
+
+    /**
+     * @return Whether the fetch size is derived from the initial demand of the subscriber.
+     * @since 3.8.2
+     */
+    public boolean isAdaptiveFetchSize() {
+        return adaptiveFetchSize;
+    }
+
+    /**
+     * Sets whether the fetch size of queries returning multiple results is derived from the initial demand of the subscriber,
+     * bounded by the {@link #getMaxFetchSize() maximum fetch size}.
+     *
+     * @param adaptiveFetchSize Whether the fetch size is adaptive
+     * @since 3.8.2
+     */
+    public void setAdaptiveFetchSize(boolean adaptiveFetchSize) {
+        this.adaptiveFetchSize = adaptiveFetchSize;
+    }
+
+    /**
+     * @return The maximum fetch size derived from the subscriber demand.
+     * @since 3.8.2
+     */
+    public int getMaxFetchSize() {
+        return maxFetchSize;
+    }
+
+    /**
+     * Sets the maximum fetch size derived from the subscriber demand. Default value ({@value #DEFAULT_MAX_FETCH_SIZE}).
+     *
+     * @param maxFetchSize The maximum fetch size
+     * @since 3.8.2
+     */
+    public void setMaxFetchSize(int maxFetchSize) {
+        if (maxFetchSize > 0) {
+            this.maxFetchSize = maxFetchSize;
+        }
+    }
+
+    /**
+     * @return Whether the inserts of a cascade level are executed as a connection batch.
+     * @since 3.8.2
+     */
+    public boolean isCascadeBatch() {
+        return cascadeBatch;
+    }
+
+    /**
+     * Sets whether the join table inserts and the inserts of children without generated identity of a cascade level
+     * are executed as one statement with a binding set per row, even if the dialect doesn't support batch inserts
+     * for the parent entity (SQL Server, or MySQL and Oracle with a generated identity).
+     *
+     * @param cascadeBatch Whether to batch the cascaded inserts
+     * @since 3.8.2
+     */
+    public void setCascadeBatch(boolean cascadeBatch) {
+        this.cascadeBatch = cascadeBatch;
+    }
+
+    /**
+     * @return The number of entities saved or updated in a window by bulk operations, 0 for a single batch.
+     * @since 3.8.2
+     */
+    public int getBulkWindowSize() {
+        return bulkWindowSize;
+    }
+
+    /**
+     * Sets the number of entities saved or updated in a window by the bulk operations {@code saveAll} and
+     * {@code updateAll}. Each window is executed as a batch and the entities are emitted as their window completes.
+     * Outside an existing transaction each window runs in its own transaction. Default value (0, a single batch).
+     *
+     * @param bulkWindowSize The window size
+     * @since 3.8.2
+     */
+    public void setBulkWindowSize(int bulkWindowSize) {
+        this.bulkWindowSize = Math.max(0, bulkWindowSize);
+    }
+
+    /**
+     * @return The maximum number of windows executed at the same time for the data source.
+     * @since 3.8.2
+     */
+    public int getBulkConcurrency() {
+        return bulkConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of bulk operation windows executed at the same time for the data source, across all
+     * bulk operations. Defaults to the {@code max-size} option of the connection pool, or 1 without a pool.
+     *
+     * @param bulkConcurrency The number of concurrent windows
+     * @since 3.8.2
+     */
+    public void setBulkConcurrency(int bulkConcurrency) {
+        this.bulkConcurrency = Math.max(0, bulkConcurrency);
+    }
+
     @NonNull
     @Override
     public String getName() {
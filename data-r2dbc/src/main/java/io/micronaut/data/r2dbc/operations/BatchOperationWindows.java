@@ -0,0 +1,191 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.operations;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.value.ConvertibleValues;
+import io.micronaut.core.type.Argument;
+import io.micronaut.data.model.runtime.BatchOperation;
+import io.micronaut.data.model.runtime.EntityInstanceOperation;
+import io.micronaut.data.model.runtime.InsertBatchOperation;
+import io.micronaut.data.model.runtime.InsertOperation;
+import io.micronaut.data.model.runtime.StoredQuery;
+import io.micronaut.data.model.runtime.UpdateBatchOperation;
+import io.micronaut.data.model.runtime.UpdateOperation;
+import io.micronaut.transaction.TransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Splits batch operations into windows of a fixed number of entities.
+ *
+ * @since 3.8.2
+ */
+@Internal
+final class BatchOperationWindows {
+
+    private BatchOperationWindows() {
+    }
+
+    /**
+     * Split the insert batch.
+     *
+     * @param operation  The operation
+     * @param inserts    The split inserts
+     * @param windowSize The window size
+     * @param <E>        The entity type
+     * @return The insert batches
+     */
+    static <E> List<InsertBatchOperation<E>> insertWindows(InsertBatchOperation<E> operation, List<InsertOperation<E>> inserts, int windowSize) {
+        List<InsertBatchOperation<E>> windows = new ArrayList<>(inserts.size() / windowSize + 1);
+        for (int i = 0; i < inserts.size(); i += windowSize) {
+            List<InsertOperation<E>> window = inserts.subList(i, Math.min(i + windowSize, inserts.size()));
+            windows.add(new InsertWindow<>(operation, window));
+        }
+        return windows;
+    }
+
+    /**
+     * Split the update batch.
+     *
+     * @param operation  The operation
+     * @param updates    The split updates
+     * @param windowSize The window size
+     * @param <E>        The entity type
+     * @return The update batches
+     */
+    static <E> List<UpdateBatchOperation<E>> updateWindows(UpdateBatchOperation<E> operation, List<UpdateOperation<E>> updates, int windowSize) {
+        List<UpdateBatchOperation<E>> windows = new ArrayList<>(updates.size() / windowSize + 1);
+        for (int i = 0; i < updates.size(); i += windowSize) {
+            List<UpdateOperation<E>> window = updates.subList(i, Math.min(i + windowSize, updates.size()));
+            windows.add(new UpdateWindow<>(operation, window));
+        }
+        return windows;
+    }
+
+    private static final class InsertWindow<E> extends Window<E, InsertOperation<E>> implements InsertBatchOperation<E> {
+
+        InsertWindow(BatchOperation<E> operation, List<InsertOperation<E>> operations) {
+            super(operation, operations);
+        }
+
+        @Override
+        public List<InsertOperation<E>> split() {
+            return operations;
+        }
+    }
+
+    private static final class UpdateWindow<E> extends Window<E, UpdateOperation<E>> implements UpdateBatchOperation<E> {
+
+        UpdateWindow(BatchOperation<E> operation, List<UpdateOperation<E>> operations) {
+            super(operation, operations);
+        }
+
+        @Override
+        public List<UpdateOperation<E>> split() {
+            return operations;
+        }
+    }
+
+    /**
+     * A window of a batch operation, delegating everything but the entities to the batch.
+     *
+     * @param <E> The entity type
+     * @param <O> The split operation type
+     */
+    private abstract static class Window<E, O extends EntityInstanceOperation<E>> implements BatchOperation<E> {
+
+        protected final List<O> operations;
+        private final BatchOperation<E> operation;
+
+        Window(BatchOperation<E> operation, List<O> operations) {
+            this.operation = operation;
+            this.operations = operations;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            Iterator<O> iterator = operations.iterator();
+            return new Iterator<E>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    return iterator.next().getEntity();
+                }
+            };
+        }
+
+        @NonNull
+        @Override
+        public Class<E> getRootEntity() {
+            return operation.getRootEntity();
+        }
+
+        @NonNull
+        @Override
+        public Class<?> getRepositoryType() {
+            return operation.getRepositoryType();
+        }
+
+        @Override
+        public StoredQuery<E, ?> getStoredQuery() {
+            return operation.getStoredQuery();
+        }
+
+        @NonNull
+        @Override
+        public String getName() {
+            return operation.getName();
+        }
+
+        @NonNull
+        @Override
+        public <RT> Optional<RT> getParameterInRole(@NonNull String role, @NonNull Class<RT> type) {
+            return operation.getParameterInRole(role, type);
+        }
+
+        @NonNull
+        @Override
+        public Optional<TransactionDefinition> getTransactionDefinition() {
+            return operation.getTransactionDefinition();
+        }
+
+        @Override
+        public Argument<E> getResultArgument() {
+            return operation.getResultArgument();
+        }
+
+        @Override
+        public ConvertibleValues<Object> getAttributes() {
+            return operation.getAttributes();
+        }
+
+        @Override
+        public AnnotationMetadata getAnnotationMetadata() {
+            return operation.getAnnotationMetadata();
+        }
+
+    }
+}
@@ -37,6 +37,7 @@ import io.micronaut.data.model.Page;
 import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
+import io.micronaut.data.model.runtime.BatchOperation;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
 import io.micronaut.data.model.runtime.DeleteOperation;
 import io.micronaut.data.model.runtime.EntityOperation;
@@ -55,6 +56,7 @@ import io.micronaut.data.model.runtime.convert.AttributeConverter;
 import io.micronaut.data.operations.async.AsyncRepositoryOperations;
 import io.micronaut.data.operations.reactive.BlockingExecutorReactorRepositoryOperations;
 import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.r2dbc.config.DataR2dbcConfiguration;
 import io.micronaut.data.r2dbc.convert.R2dbcConversionContext;
 import io.micronaut.data.r2dbc.mapper.ColumnIndexR2dbcResultReader;
 import io.micronaut.data.r2dbc.mapper.ColumnNameR2dbcResultReader;
@@ -62,6 +64,7 @@ import io.micronaut.data.r2dbc.mapper.R2dbcQueryStatement;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.convert.RuntimePersistentPropertyConversionContext;
 import io.micronaut.data.runtime.date.DateTimeProvider;
+import io.micronaut.data.runtime.execution.QueryExecution;
 import io.micronaut.data.runtime.mapper.DTOMapper;
 import io.micronaut.data.runtime.mapper.TypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlDTOMapper;
@@ -77,18 +80,25 @@ import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
 import io.micronaut.data.runtime.support.AbstractConversionContext;
 import io.micronaut.http.codec.MediaTypeCodec;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.r2dbc.BasicR2dbcProperties;
 import io.micronaut.transaction.TransactionDefinition;
+import io.micronaut.transaction.TransactionRetryPolicy;
 import io.micronaut.transaction.exceptions.NoTransactionException;
 import io.micronaut.transaction.exceptions.TransactionSystemException;
 import io.micronaut.transaction.exceptions.TransactionUsageException;
 import io.micronaut.transaction.reactive.ReactiveTransactionOperations;
 import io.micronaut.transaction.reactive.ReactiveTransactionStatus;
 import io.micronaut.transaction.reactive.ReactorReactiveTransactionOperations;
+import io.micronaut.transaction.support.TransactionFlightRecorder;
+import io.micronaut.transaction.support.TransactionRetryClassifier;
+import io.micronaut.transaction.support.TransactionRetryListener;
 import io.micronaut.transaction.support.TransactionSynchronizationManager;
 import io.micronaut.transaction.support.TransactionUtil;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.R2dbcException;
 import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.Statement;
@@ -98,12 +108,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 import reactor.util.context.Context;
 import reactor.util.context.ContextView;
+import reactor.util.retry.Retry;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -114,7 +128,9 @@ import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -135,6 +151,10 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
     ReactorReactiveTransactionOperations<Connection>, ReactiveCascadeOperations.ReactiveCascadeOperationsHelper<DefaultR2dbcRepositoryOperations.R2dbcOperationContext> {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultR2dbcRepositoryOperations.class);
     private static final String NAME = "r2dbc";
+    /**
+     * Marks a row that doesn't produce a value, as a reactive stream cannot emit null.
+     */
+    private static final Object NO_VALUE = new Object();
     private final ConnectionFactory connectionFactory;
     private final ReactorReactiveRepositoryOperations reactiveOperations;
     private final String dataSourceName;
@@ -144,6 +164,12 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
     private final String txStatusKey;
     private final String txDefinitionKey;
     private final String currentConnectionKey;
+    private final ApplicationContext applicationContext;
+    private final TransactionRetryListener retryListener;
+    private volatile TransactionRetryClassifier retryClassifier;
+    private volatile FetchSizePolicy fetchSizePolicy;
+    private volatile Boolean cascadeBatch;
+    private volatile BulkPolicy bulkPolicy;
 
     /**
      * Default constructor.
@@ -191,6 +217,8 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         this.txStatusKey = ReactorReactiveTransactionOperations.TRANSACTION_STATUS_KEY_PREFIX + "." + NAME + "." + name;
         this.txDefinitionKey = ReactorReactiveTransactionOperations.TRANSACTION_DEFINITION_KEY_PREFIX + "." + NAME + "." + name;
         this.currentConnectionKey = "io.micronaut." + NAME + ".connection." + name;
+        this.applicationContext = applicationContext;
+        this.retryListener = TransactionRetryListener.of(new ArrayList<>(applicationContext.getBeansOfType(TransactionRetryListener.class)));
     }
 
     @Override
@@ -333,10 +361,14 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             LOG.debug("Creating a new Connection for DataSource: " + dataSourceName);
         }
         return Mono.from(connectionFactory.create()).flatMapMany(connection -> {
+            long acquiredAt = connectionAcquired(dataSourceName);
             Supplier<Publisher<Void>> cancelCallback = () -> {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Closing Connection for DataSource: " + dataSourceName);
                 }
+                if (acquiredAt != 0) {
+                    return Mono.from(connection.close()).doFinally(signal -> connectionReleased(dataSourceName, acquiredAt));
+                }
                 return connection.close();
             };
             return handler.apply(connection, cancelCallback);
@@ -411,49 +443,162 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 if (propagationBehavior == TransactionDefinition.Propagation.MANDATORY) {
                     return Flux.error(new NoTransactionException("Expected an existing transaction, but none was found in the Reactive context."));
                 }
-                return withConnectionWithCancelCallback((connection, cancelCallback) -> {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Transaction: {} begin for dataSource: {}", definition.getName(), dataSourceName);
+                TransactionRetryPolicy retryPolicy = definition.getRetryPolicy();
+                if (retryPolicy.isEnabled()) {
+                    return withRetriedNewTransaction(definition, handler, retryPolicy);
+                }
+                return withNewTransaction(definition, handler);
+            }
+        });
+    }
+
+    private <T> Flux<T> withNewTransaction(@NonNull TransactionDefinition definition,
+                                           @NonNull ReactiveTransactionOperations.TransactionalCallback<Connection, T> handler) {
+        return withConnectionWithCancelCallback((connection, cancelCallback) -> {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Transaction: {} begin for dataSource: {}", definition.getName(), dataSourceName);
+                }
+                DefaultReactiveTransactionStatus status = new DefaultReactiveTransactionStatus(definition, connection, true);
+                status.flightRecording = TransactionFlightRecorder.begin(definition);
+                Mono<Boolean> resourceSupplier;
+                if (definition.getIsolationLevel() != TransactionDefinition.DEFAULT.getIsolationLevel()) {
+                    IsolationLevel isolationLevel = getIsolationLevel(definition);
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Setting Isolation Level ({}) for transaction: {} for dataSource: {}", isolationLevel, definition.getName(), dataSourceName);
+                    }
+                    if (isolationLevel != null) {
+                        resourceSupplier = Flux.from(connection.setTransactionIsolationLevel(isolationLevel))
+                            .thenMany(connection.beginTransaction())
+                            .hasElements();
+                    } else {
+                        resourceSupplier = Flux.from(connection.beginTransaction()).hasElements();
+                    }
+                } else {
+                    resourceSupplier = Flux.from(connection.beginTransaction()).hasElements();
+                }
+
+                Function<Boolean, Publisher<?>> onSuccess = ignore -> doCommit(status, cancelCallback);
+                BiFunction<Boolean, Throwable, Publisher<?>> onException = (b, throwable) -> onException(status, definition, throwable, cancelCallback);
+
+                return Flux.usingWhen(resourceSupplier,
+                    (b) -> {
+                        try {
+                            return Flux.from(handler.doInTransaction(status)).contextWrite(context ->
+                                context.put(txStatusKey, status)
+                                    .put(txDefinitionKey, definition)
+                            );
+                        } catch (Exception e) {
+                            return Flux.error(new TransactionSystemException("Error invoking doInTransaction handler: " + e.getMessage(), e));
                         }
-                        DefaultReactiveTransactionStatus status = new DefaultReactiveTransactionStatus(definition, connection, true);
-                        Mono<Boolean> resourceSupplier;
-                        if (definition.getIsolationLevel() != TransactionDefinition.DEFAULT.getIsolationLevel()) {
-                            IsolationLevel isolationLevel = getIsolationLevel(definition);
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Setting Isolation Level ({}) for transaction: {} for dataSource: {}", isolationLevel, definition.getName(), dataSourceName);
-                            }
-                            if (isolationLevel != null) {
-                                resourceSupplier = Flux.from(connection.setTransactionIsolationLevel(isolationLevel))
-                                    .thenMany(connection.beginTransaction())
-                                    .hasElements();
-                            } else {
-                                resourceSupplier = Flux.from(connection.beginTransaction()).hasElements();
-                            }
-                        } else {
-                            resourceSupplier = Flux.from(connection.beginTransaction()).hasElements();
+                    },
+                    onSuccess,
+                    onException,
+                    onSuccess);
+            }
+        );
+    }
+
+    private <T> Flux<T> withRetriedNewTransaction(@NonNull TransactionDefinition definition,
+                                                  @NonNull ReactiveTransactionOperations.TransactionalCallback<Connection, T> handler,
+                                                  @NonNull TransactionRetryPolicy retryPolicy) {
+        AtomicInteger attempts = new AtomicInteger();
+        // The results are only emitted once the transaction committed, so that a retried attempt doesn't emit them twice
+        return Flux.defer(() -> {
+                attempts.incrementAndGet();
+                return withNewTransaction(definition, handler).collectList();
+            })
+            .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                Throwable failure = signal.failure();
+                int attempt = attempts.get();
+                if (!getRetryClassifier().isRetryable(failure)) {
+                    retryListener.onComplete(definition, attempt, TransactionRetryListener.Outcome.NOT_RETRYABLE, failure);
+                    return Mono.error(failure);
+                }
+                if (attempt >= retryPolicy.getMaxAttempts()) {
+                    retryListener.onComplete(definition, attempt, TransactionRetryListener.Outcome.EXHAUSTED, failure);
+                    return Mono.error(failure);
+                }
+                Duration delay = retryPolicy.nextDelay(attempt);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Retrying transaction: {} in {}ms after attempt {} failed: {} for dataSource {}",
+                        definition.getName(), delay.toMillis(), attempt, failure.getMessage(), dataSourceName);
+                }
+                retryListener.onRetry(definition, attempt, failure, delay);
+                return Mono.delay(delay);
+            })))
+            .doOnNext(ignore -> retryListener.onComplete(definition, attempts.get(), TransactionRetryListener.Outcome.SUCCESS, null))
+            .flatMapIterable(Function.identity());
+    }
+
+    private TransactionRetryClassifier getRetryClassifier() {
+        TransactionRetryClassifier retryClassifier = this.retryClassifier;
+        if (retryClassifier == null) {
+            Dialect dialect = findConfiguration()
+                .map(DataR2dbcConfiguration::getDialect)
+                .orElse(Dialect.ANSI);
+            retryClassifier = throwable -> {
+                Throwable cause = throwable;
+                while (cause != null) {
+                    if (cause instanceof R2dbcException) {
+                        R2dbcException r2dbcException = (R2dbcException) cause;
+                        if (dialect.isRetryableTransactionError(r2dbcException.getSqlState(), r2dbcException.getErrorCode())) {
+                            return true;
                         }
+                    }
+                    cause = TransactionRetryClassifier.nextCause(cause);
+                }
+                return false;
+            };
+            this.retryClassifier = retryClassifier;
+        }
+        return retryClassifier;
+    }
 
-                        Function<Boolean, Publisher<?>> onSuccess = ignore -> doCommit(status, cancelCallback);
-                        BiFunction<Boolean, Throwable, Publisher<?>> onException = (b, throwable) -> onException(status, definition, throwable, cancelCallback);
-
-                        return Flux.usingWhen(resourceSupplier,
-                            (b) -> {
-                                try {
-                                    return Flux.from(handler.doInTransaction(status)).contextWrite(context ->
-                                        context.put(txStatusKey, status)
-                                            .put(txDefinitionKey, definition)
-                                    );
-                                } catch (Exception e) {
-                                    return Flux.error(new TransactionSystemException("Error invoking doInTransaction handler: " + e.getMessage(), e));
-                                }
-                            },
-                            onSuccess,
-                            onException,
-                            onSuccess);
+    private FetchSizePolicy getFetchSizePolicy() {
+        FetchSizePolicy fetchSizePolicy = this.fetchSizePolicy;
+        if (fetchSizePolicy == null) {
+            fetchSizePolicy = findConfiguration()
+                .map(configuration -> new FetchSizePolicy(configuration.getFetchSize(), configuration.isAdaptiveFetchSize(), configuration.getMaxFetchSize()))
+                .orElseGet(() -> new FetchSizePolicy(0, false, DataR2dbcConfiguration.DEFAULT_MAX_FETCH_SIZE));
+            this.fetchSizePolicy = fetchSizePolicy;
+        }
+        return fetchSizePolicy;
+    }
+
+    private boolean isCascadeBatch() {
+        Boolean cascadeBatch = this.cascadeBatch;
+        if (cascadeBatch == null) {
+            cascadeBatch = findConfiguration().map(DataR2dbcConfiguration::isCascadeBatch).orElse(false);
+            this.cascadeBatch = cascadeBatch;
+        }
+        return cascadeBatch;
+    }
+
+    private BulkPolicy getBulkPolicy() {
+        BulkPolicy bulkPolicy = this.bulkPolicy;
+        if (bulkPolicy == null) {
+            synchronized (this) {
+                bulkPolicy = this.bulkPolicy;
+                if (bulkPolicy == null) {
+                    int windowSize = findConfiguration().map(DataR2dbcConfiguration::getBulkWindowSize).orElse(0);
+                    int concurrency = findConfiguration().map(DataR2dbcConfiguration::getBulkConcurrency).orElse(0);
+                    if (concurrency == 0) {
+                        // Don't run more windows than the pool has connections
+                        String name = dataSourceName == null ? "default" : dataSourceName;
+                        concurrency = applicationContext.getProperty(BasicR2dbcProperties.PREFIX + "." + name + ".options.maxSize", Integer.class)
+                            .orElse(1);
                     }
-                );
+                    bulkPolicy = new BulkPolicy(windowSize, concurrency);
+                    this.bulkPolicy = bulkPolicy;
+                }
             }
-        });
+        }
+        return bulkPolicy;
+    }
+
+    private Optional<DataR2dbcConfiguration> findConfiguration() {
+        // Resolved lazily as the configuration depends on this bean
+        return applicationContext.findBean(DataR2dbcConfiguration.class, Qualifiers.byName(dataSourceName == null ? "default" : dataSourceName));
     }
 
     private Flux<Void> onException(DefaultReactiveTransactionStatus status,
@@ -478,7 +623,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
     }
 
     private Flux<Void> rollback(DefaultReactiveTransactionStatus status, Supplier<Publisher<Void>> cancelConnection) {
-        return Flux.from(status.getConnection().rollbackTransaction()).as(flux -> finishTx(flux, status, cancelConnection));
+        return Flux.from(status.getConnection().rollbackTransaction()).as(flux -> finishTx(flux, status, TransactionFlightRecorder.ROLLBACK, cancelConnection));
     }
 
     private Flux<Void> doCommit(DefaultReactiveTransactionStatus status, Supplier<Publisher<Void>> cancelConnection) {
@@ -491,14 +636,15 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         if (LOG.isDebugEnabled()) {
             LOG.debug("Committing transaction: {} for dataSource {}", status.getDefinition().getName(), dataSourceName);
         }
-        return Flux.from(status.getConnection().commitTransaction()).as(flux -> finishTx(flux, status, cancelConnection));
+        return Flux.from(status.getConnection().commitTransaction()).as(flux -> finishTx(flux, status, TransactionFlightRecorder.COMMIT, cancelConnection));
 
     }
 
-    private Flux<Void> finishTx(Flux<Void> flux, DefaultReactiveTransactionStatus status, Supplier<Publisher<Void>> cancelConnection) {
+    private Flux<Void> finishTx(Flux<Void> flux, DefaultReactiveTransactionStatus status, String outcome, Supplier<Publisher<Void>> cancelConnection) {
         return flux.hasElements()
             .flatMapMany(ignore -> {
                 status.completed = true;
+                TransactionFlightRecorder.end(status.flightRecording, outcome);
                 return cancelConnection.get();
             });
     }
@@ -533,16 +679,30 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
     }
 
     private static <R> Mono<R> toSingleResult(Flux<R> flux) {
-        // Prevent canceling an active stream when converting to Mono by reading full flux and returning the first result
-        return Mono.fromDirect(flux.collectList().flatMap(result -> {
-            if (result.isEmpty()) {
-                return Mono.empty();
-            }
-            if (result.size() > 1) {
-                return Mono.error(new NonUniqueResultException());
-            }
-            return Mono.just(result.get(0));
-        }));
+        // Reads the flux to completion instead of cancelling it after the first result, cancelling a transactional flux
+        // would roll the transaction back. More than one result fails with NonUniqueResultException.
+        // The single result queries limit the rows they read themselves: exists cancels after the first row
+        // (hasElements) and findOne after the second one (take(2)), the remaining rows are never read.
+        return flux.collect(SingleResult<R>::new, SingleResult::add).flatMap(SingleResult::toMono);
+    }
+
+    private Object readSingleColumn(Row row, SqlPreparedQuery<?, ?> preparedQuery, Class<?> resultType) {
+        Object v = columnIndexResultSetReader.readDynamic(row, 0, preparedQuery.getResultDataType());
+        if (v == null) {
+            return NO_VALUE;
+        } else if (resultType.isInstance(v)) {
+            return v;
+        } else {
+            Object converted = columnIndexResultSetReader.convertRequired(v, resultType);
+            return converted == null ? NO_VALUE : converted;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> void skipNoValue(Object value, SynchronousSink<R> sink) {
+        if (value != NO_VALUE) {
+            sink.next((R) value);
+        }
     }
 
     @Override
@@ -550,24 +710,126 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return isSupportsBatchInsert(persistentEntity, context.dialect);
     }
 
-    private static <T> Flux<T> executeAndMapEachRow(Statement statement, Function<Row, T> mapper) {
+    @Override
+    public boolean isSupportsCascadeBatchInsert(R2dbcOperationContext context) {
+        return isCascadeBatch();
+    }
+
+    private static <T> Flux<T> executeAndMapEachRow(Statement statement, Function<Row, T> mapper, QueryExecution execution) {
         return Flux.from(statement.execute())
-            .flatMap(result -> Flux.from(result.map((row, rowMetadata) -> mapper.apply(row))));
+            .flatMap(result -> {
+                execution.executed();
+                return Flux.from(result.map((row, rowMetadata) -> {
+                    execution.addRows(1);
+                    return mapper.apply(row);
+                }));
+            });
     }
 
-    private static <T> Mono<T> executeAndMapEachRowSingle(Statement statement, Function<Row, T> mapper) {
-        return executeAndMapEachRow(statement, mapper).as(DefaultR2dbcRepositoryOperations::toSingleResult);
+    private static Mono<Void> executeAndConsumeEachRow(Statement statement, Consumer<Row> consumer, QueryExecution execution) {
+        return Flux.from(statement.execute())
+            .concatMap(result -> {
+                execution.executed();
+                return result.map((row, rowMetadata) -> {
+                    execution.addRows(1);
+                    consumer.accept(row);
+                    return Boolean.TRUE;
+                });
+            })
+            .then();
     }
 
-    private static Mono<Number> executeAndGetRowsUpdatedSingle(Statement statement) {
-        return executeAndGetRowsUpdated(statement)
+    private static <T> Mono<T> executeAndMapEachRowSingle(Statement statement, Function<Row, T> mapper, QueryExecution execution) {
+        return executeAndMapEachRow(statement, mapper, execution).as(DefaultR2dbcRepositoryOperations::toSingleResult);
+    }
+
+    private static Mono<Number> executeAndGetRowsUpdatedSingle(Statement statement, QueryExecution execution) {
+        return executeAndGetRowsUpdated(statement, execution)
             .as(DefaultR2dbcRepositoryOperations::toSingleResult);
     }
 
-    private static Flux<Number> executeAndGetRowsUpdated(Statement statement) {
+    private static Flux<Number> executeAndGetRowsUpdated(Statement statement, QueryExecution execution) {
         return Flux.from(statement.execute())
             .flatMap(Result::getRowsUpdated)
-            .map((Number n) -> n.longValue());
+            .map((Number n) -> {
+                execution.executed();
+                execution.addRows(n.longValue());
+                return n.longValue();
+            });
+    }
+
+    private <T> Flux<T> observe(Flux<T> results, QueryExecution execution) {
+        if (!execution.isRecording()) {
+            return results;
+        }
+        return results.doOnError(execution::failed).doFinally(signal -> finishQueryExecution(execution));
+    }
+
+    private <T> Mono<T> observe(Mono<T> result, QueryExecution execution) {
+        if (!execution.isRecording()) {
+            return result;
+        }
+        return result.doOnError(execution::failed).doFinally(signal -> finishQueryExecution(execution));
+    }
+
+    /**
+     * The windows of bulk operations, the permits are shared by the operations of the data source.
+     */
+    private static final class BulkPolicy {
+        private final int windowSize;
+        private final int concurrency;
+        private final ReactivePermits permits;
+
+        BulkPolicy(int windowSize, int concurrency) {
+            this.windowSize = windowSize;
+            this.concurrency = Math.max(1, concurrency);
+            this.permits = new ReactivePermits(this.concurrency);
+        }
+    }
+
+    /**
+     * The fetch size applied to queries returning multiple results.
+     */
+    private static final class FetchSizePolicy {
+        private final int fetchSize;
+        private final boolean adaptive;
+        private final int maxFetchSize;
+
+        FetchSizePolicy(int fetchSize, boolean adaptive, int maxFetchSize) {
+            this.fetchSize = fetchSize;
+            this.adaptive = adaptive;
+            this.maxFetchSize = maxFetchSize;
+        }
+
+        int fromDemand(long demand) {
+            // An unbounded demand reads in the largest batches, the configured fetch size is the lower bound
+            return (int) Math.max(Math.min(demand, maxFetchSize), Math.min(fetchSize, maxFetchSize));
+        }
+    }
+
+    /**
+     * Accumulates a single result, remembering whether more than one result was emitted.
+     *
+     * @param <R> The result type
+     */
+    private static final class SingleResult<R> {
+        private R value;
+        private boolean nonUnique;
+
+        void add(R value) {
+            if (this.value == null) {
+                this.value = value;
+            } else {
+                nonUnique = true;
+            }
+        }
+
+        Mono<R> toMono() {
+            if (nonUnique) {
+                return Mono.error(new NonUniqueResultException());
+            }
+            return Mono.justOrEmpty(value);
+        }
     }
 
     /**
@@ -579,6 +841,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         private final boolean isNew;
         private boolean rollbackOnly;
         private boolean completed;
+        private Object flightRecording;
 
         public DefaultReactiveTransactionStatus(TransactionDefinition definition, Connection connection, boolean isNew) {
             this.definition = definition;
@@ -628,8 +891,9 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 Connection connection = status.getConnection();
                 Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, true);
                 preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery.getDialect()));
-                return executeAndMapEachRow(statement, row -> true).collectList()
-                    .map(records -> !records.isEmpty() && records.stream().allMatch(v -> v));
+                QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+                // The first row answers the query, the remaining rows are cancelled
+                return observe(executeAndMapEachRow(statement, row -> true, execution).hasElements(), execution);
             });
         }
 
@@ -641,13 +905,96 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 Connection connection = status.getConnection();
                 Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, true);
                 preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery.getDialect()));
-                if (preparedQuery.getResultDataType() == DataType.ENTITY) {
-                    Class<R> resultType = preparedQuery.getResultType();
-                    RuntimePersistentEntity<R> persistentEntity = getEntity(resultType);
-                    SqlResultEntityTypeMapper<Row, R> mapper = new SqlResultEntityTypeMapper<>(
+                QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+                return observe(Flux.from(findOne(statement, preparedQuery, execution)), execution);
+            });
+        }
+
+        private <T, R> Publisher<R> findOne(Statement statement, SqlPreparedQuery<T, R> preparedQuery, QueryExecution execution) {
+            if (preparedQuery.getResultDataType() == DataType.ENTITY) {
+                Class<R> resultType = preparedQuery.getResultType();
+                RuntimePersistentEntity<R> persistentEntity = getEntity(resultType);
+                SqlResultEntityTypeMapper<Row, R> mapper = new SqlResultEntityTypeMapper<>(
+                    persistentEntity,
+                    columnNameResultSetReader,
+                    preparedQuery.getJoinFetchPaths(),
+                    jsonCodec,
+                    (loadedEntity, o) -> {
+                        if (loadedEntity.hasPostLoadEventListeners()) {
+                            return triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
+                        } else {
+                            return o;
+                        }
+                    },
+                    conversionService);
+                SqlResultEntityTypeMapper.PushingMapper<Row, R> rowsMapper = mapper.readOneWithJoins();
+                // The rows of the joined associations are pushed into the mapper without collecting them
+                return executeAndConsumeEachRow(statement, rowsMapper::processRow, execution)
+                    .then(Mono.fromSupplier(rowsMapper::getResult));
+            }
+            Class<R> resultType = preparedQuery.getResultType();
+            if (preparedQuery.isDtoProjection()) {
+                TypeMapper<Row, R> introspectedDataMapper = new DTOMapper<>(
+                    preparedQuery.getPersistentEntity(),
+                    columnNameResultSetReader,
+                    jsonCodec,
+                    conversionService);
+                // A second row is only read to detect a non-unique result
+                return executeAndMapEachRow(statement, row -> introspectedDataMapper.map(row, resultType), execution).take(2);
+            }
+            return executeAndMapEachRow(statement, row -> readSingleColumn(row, preparedQuery, resultType), execution)
+                .take(2)
+                .handle(DefaultR2dbcRepositoryOperations::skipNoValue);
+        }
+
+        @NonNull
+        @Override
+        public <T, R> Flux<R> findAll(@NonNull PreparedQuery<T, R> pq) {
+            SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+            return withNewOrExistingTransactionFlux(preparedQuery, false, status -> {
+                Connection connection = status.getConnection();
+                Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, false);
+                preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery.getDialect()));
+                QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.QUERY);
+                FetchSizePolicy fetchSizePolicy = getFetchSizePolicy();
+                Object hint = preparedQuery.getQueryHints().get(FETCH_SIZE_HINT);
+                if (hint != null) {
+                    statement.fetchSize(conversionService.convertRequired(hint, Integer.class));
+                } else if (fetchSizePolicy.adaptive) {
+                    // Execute once the initial demand is known, the first batch matches it
+                    return observe(new FirstRequestFlux<>(demand -> {
+                        statement.fetchSize(fetchSizePolicy.fromDemand(demand));
+                        return mapAll(statement, preparedQuery, execution);
+                    }), execution);
+                } else if (fetchSizePolicy.fetchSize > 0) {
+                    statement.fetchSize(fetchSizePolicy.fetchSize);
+                }
+                return observe(mapAll(statement, preparedQuery, execution), execution);
+            });
+        }
+
+        private <T, R> Flux<R> mapAll(Statement statement, SqlPreparedQuery<T, R> preparedQuery, QueryExecution execution) {
+            Class<R> resultType = preparedQuery.getResultType();
+            boolean dtoProjection = preparedQuery.isDtoProjection();
+            boolean isEntity = preparedQuery.getResultDataType() == DataType.ENTITY;
+            if (isEntity || dtoProjection) {
+                TypeMapper<Row, R> mapper;
+                RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
+                if (dtoProjection) {
+                    boolean isRawQuery = preparedQuery.getAnnotationMetadata().stringValue(Query.class, DataMethod.META_MEMBER_RAW_QUERY).isPresent();
+                    mapper = new SqlDTOMapper<>(
                         persistentEntity,
+                        isRawQuery ? getEntity(preparedQuery.getResultType()) : persistentEntity,
+                        columnNameResultSetReader,
+                        jsonCodec,
+                        conversionService
+                    );
+                } else {
+                    Set<JoinPath> joinFetchPaths = preparedQuery.getJoinFetchPaths();
+                    SqlResultEntityTypeMapper<Row, R> entityTypeMapper = new SqlResultEntityTypeMapper<>(
+                        getEntity(resultType),
                         columnNameResultSetReader,
-                        preparedQuery.getJoinFetchPaths(),
+                        joinFetchPaths,
                         jsonCodec,
                         (loadedEntity, o) -> {
                             if (loadedEntity.hasPostLoadEventListeners()) {
@@ -657,104 +1004,31 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                             }
                         },
                         conversionService);
-                    SqlResultEntityTypeMapper.PushingMapper<Row, R> rowsMapper = mapper.readOneWithJoins();
-                    return executeAndMapEachRow(statement, row -> {
-                        rowsMapper.processRow(row);
-                        return "";
-                    }).collectList().flatMap(ignore -> Mono.justOrEmpty(rowsMapper.getResult()));
-                }
-                Class<R> resultType = preparedQuery.getResultType();
-                if (preparedQuery.isDtoProjection()) {
-                    return executeAndMapEachRow(statement, row -> {
-                        TypeMapper<Row, R> introspectedDataMapper = new DTOMapper<>(
-                            preparedQuery.getPersistentEntity(),
-                            columnNameResultSetReader,
-                            jsonCodec,
-                            conversionService);
-                        return introspectedDataMapper.map(row, resultType);
-                    });
-                }
-                return executeAndMapEachRow(statement, row -> {
-                    Object v = columnIndexResultSetReader.readDynamic(row, 0, preparedQuery.getResultDataType());
-                    if (v == null) {
-                        return Flux.<R>empty();
-                    } else if (resultType.isInstance(v)) {
-                        return Flux.just((R) v);
-                    } else {
-                        return Flux.just(columnIndexResultSetReader.convertRequired(v, resultType));
+                    boolean onlySingleEndedJoins = isOnlySingleEndedJoins(persistentEntity, joinFetchPaths);
+                    if (!onlySingleEndedJoins && preparedQuery.isOrderedByIdentity()) {
+                        // The rows of an entity are consecutive, emit each entity once the next one starts
+                        SqlResultEntityTypeMapper.GroupingMapper<Row, R> groupingReader = entityTypeMapper.readAllWithJoinsGrouped();
+                        return executeAndMapEachRow(statement, row -> {
+                            R completed = groupingReader.processRow(row);
+                            return completed == null ? NO_VALUE : completed;
+                        }, execution).<R>handle(DefaultR2dbcRepositoryOperations::skipNoValue)
+                            .concatWith(Mono.fromSupplier(groupingReader::complete));
                     }
-                }).flatMap(m -> m);
-            });
-        }
-
-        @NonNull
-        @Override
-        public <T, R> Flux<R> findAll(@NonNull PreparedQuery<T, R> pq) {
-            SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
-            return withNewOrExistingTransactionFlux(preparedQuery, false, status -> {
-                Connection connection = status.getConnection();
-                Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, false);
-                preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery.getDialect()));
-                Class<R> resultType = preparedQuery.getResultType();
-                boolean dtoProjection = preparedQuery.isDtoProjection();
-                boolean isEntity = preparedQuery.getResultDataType() == DataType.ENTITY;
-                if (isEntity || dtoProjection) {
-                    TypeMapper<Row, R> mapper;
-                    RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
-                    if (dtoProjection) {
-                        boolean isRawQuery = preparedQuery.getAnnotationMetadata().stringValue(Query.class, DataMethod.META_MEMBER_RAW_QUERY).isPresent();
-                        mapper = new SqlDTOMapper<>(
-                            persistentEntity,
-                            isRawQuery ? getEntity(preparedQuery.getResultType()) : persistentEntity,
-                            columnNameResultSetReader,
-                            jsonCodec,
-                            conversionService
-                        );
+                    // Cannot stream ResultSet for "many" joined query without an order by identity
+                    if (!onlySingleEndedJoins) {
+                        SqlResultEntityTypeMapper.PushingMapper<Row, List<R>> manyReader = entityTypeMapper.readAllWithJoins();
+                        return executeAndMapEachRow(statement, row -> {
+                            manyReader.processRow(row);
+                            return "";
+                        }, execution).collectList().flatMapIterable(ignore -> manyReader.getResult());
                     } else {
-                        Set<JoinPath> joinFetchPaths = preparedQuery.getJoinFetchPaths();
-                        SqlResultEntityTypeMapper<Row, R> entityTypeMapper = new SqlResultEntityTypeMapper<>(
-                            getEntity(resultType),
-                            columnNameResultSetReader,
-                            joinFetchPaths,
-                            jsonCodec,
-                            (loadedEntity, o) -> {
-                                if (loadedEntity.hasPostLoadEventListeners()) {
-                                    return triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
-                                } else {
-                                    return o;
-                                }
-                            },
-                            conversionService);
-                        boolean onlySingleEndedJoins = isOnlySingleEndedJoins(persistentEntity, joinFetchPaths);
-                        // Cannot stream ResultSet for "many" joined query
-                        if (!onlySingleEndedJoins) {
-                            SqlResultEntityTypeMapper.PushingMapper<Row, List<R>> manyReader = entityTypeMapper.readAllWithJoins();
-                            return executeAndMapEachRow(statement, row -> {
-                                manyReader.processRow(row);
-                                return "";
-                            }).collectList().flatMapIterable(ignore -> manyReader.getResult());
-                        } else {
-                            mapper = entityTypeMapper;
-                        }
+                        mapper = entityTypeMapper;
                     }
-                    return executeAndMapEachRow(statement, row -> mapper.map(row, resultType));
                 }
-                return executeAndMapEachRow(statement, row -> {
-                    Object v = columnIndexResultSetReader.readDynamic(row, 0, preparedQuery.getResultDataType());
-                    if (v == null) {
-                        return Mono.<R>empty();
-                    } else if (resultType.isInstance(v)) {
-                        return Mono.just((R) v);
-                    } else {
-                        Object converted = columnIndexResultSetReader.convertRequired(v, resultType);
-                        if (converted != null) {
-                            return Mono.just((R) converted);
-                        } else {
-                            return Mono.<R>empty();
-                        }
-                    }
-                }).flatMap(m -> m);
-            });
+                return executeAndMapEachRow(statement, row -> mapper.map(row, resultType), execution);
+            }
+            return executeAndMapEachRow(statement, row -> readSingleColumn(row, preparedQuery, resultType), execution)
+                .handle(DefaultR2dbcRepositoryOperations::skipNoValue);
         }
 
         @NonNull
@@ -765,7 +1039,8 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 Connection connection = status.getConnection();
                 Statement statement = prepareStatement(connection::createStatement, preparedQuery, true, true);
                 preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery.getDialect()));
-                return executeAndGetRowsUpdatedSingle(statement)
+                QueryExecution execution = startQueryExecution(preparedQuery, QueryExecution.Kind.UPDATE);
+                return observe(executeAndGetRowsUpdatedSingle(statement, execution), execution)
                     .flatMap((Number rowsUpdated) -> {
                         if (QUERY_LOG.isTraceEnabled()) {
                             QUERY_LOG.trace("Update operation updated {} records", rowsUpdated);
@@ -809,6 +1084,17 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         @NonNull
         @Override
         public <T> Flux<T> persistAll(@NonNull InsertBatchOperation<T> operation) {
+            BulkPolicy bulkPolicy = getBulkPolicy();
+            if (bulkPolicy.windowSize > 0) {
+                List<InsertOperation<T>> inserts = operation.split();
+                if (inserts.size() > bulkPolicy.windowSize) {
+                    return executeWindows(operation, BatchOperationWindows.insertWindows(operation, inserts, bulkPolicy.windowSize), bulkPolicy, this::persistBatch);
+                }
+            }
+            return persistBatch(operation);
+        }
+
+        private <T> Flux<T> persistBatch(InsertBatchOperation<T> operation) {
             return withNewOrExistingTransactionFlux(operation, true, status -> {
                 final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
                 final RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
@@ -989,6 +1275,35 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         @NonNull
         @Override
         public <T> Flux<T> updateAll(@NonNull UpdateBatchOperation<T> operation) {
+            BulkPolicy bulkPolicy = getBulkPolicy();
+            if (bulkPolicy.windowSize > 0) {
+                List<UpdateOperation<T>> updates = operation.split();
+                if (updates.size() > bulkPolicy.windowSize) {
+                    return executeWindows(operation, BatchOperationWindows.updateWindows(operation, updates, bulkPolicy.windowSize), bulkPolicy, this::updateBatch);
+                }
+            }
+            return updateBatch(operation);
+        }
+
+        private <T, O extends BatchOperation<T>> Flux<T> executeWindows(BatchOperation<T> operation,
+                                                                          List<O> windows,
+                                                                          BulkPolicy bulkPolicy,
+                                                                          Function<O, Flux<T>> executor) {
+            if (operation.getParameterInRole(R2dbcRepository.PARAMETER_TX_STATUS, ReactiveTransactionStatus.class).isPresent()) {
+                return Flux.fromIterable(windows).concatMap(executor);
+            }
+            return Flux.deferContextual(contextView -> {
+                if (getTransactionStatus(contextView) != null) {
+                    // The windows share the connection of the existing transaction
+                    return Flux.fromIterable(windows).concatMap(executor);
+                }
+                // Each window runs in a new transaction, the entities are emitted in order as their window completes
+                return Flux.fromIterable(windows)
+                    .flatMapSequential(window -> bulkPolicy.permits.withPermit(() -> executor.apply(window)), bulkPolicy.concurrency, 1);
+            });
+        }
+
+        private <T> Flux<T> updateBatch(UpdateBatchOperation<T> operation) {
             return withNewOrExistingTransactionFlux(operation, true, status -> {
                 final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
                 final R2dbcOperationContext ctx = createContext(operation, status, storedQuery);
@@ -1010,7 +1325,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         }
 
         private <T> R2dbcOperationContext createContext(EntityOperation<T> operation, ReactiveTransactionStatus<Connection> status, SqlStoredQuery<T, ?> storedQuery) {
-            return new R2dbcOperationContext(operation.getAnnotationMetadata(), operation.getRepositoryType(), storedQuery.getDialect(), status.getConnection());
+            return new R2dbcOperationContext(operation.getAnnotationMetadata(), operation.getRepositoryType(), methodName(operation.getName()), storedQuery.getDialect(), status.getConnection());
         }
 
         @NonNull
@@ -1186,7 +1501,8 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                         return Mono.just(d);
                     }
                     RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
-                    return executeAndMapEachRowSingle(statement, row -> columnIndexResultSetReader.readDynamic(row, 0, identity.getDataType()))
+                    QueryExecution execution = startQueryExecution(ctx, storedQuery, QueryExecution.Kind.UPDATE);
+                    return observe(executeAndMapEachRowSingle(statement, row -> columnIndexResultSetReader.readDynamic(row, 0, identity.getDataType()), execution), execution)
                         .map(id -> {
                             BeanProperty<T, Object> property = (BeanProperty<T, Object>) identity.getProperty();
                             d.entity = updateEntityId(property, d.entity, id);
@@ -1198,7 +1514,8 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                     if (d.vetoed) {
                         return Mono.just(d);
                     }
-                    return executeAndGetRowsUpdatedSingle(statement).map(rowsUpdated -> {
+                    QueryExecution execution = startQueryExecution(ctx, storedQuery, QueryExecution.Kind.UPDATE);
+                    return observe(executeAndGetRowsUpdatedSingle(statement, execution), execution).map(rowsUpdated -> {
                         d.rowsUpdated = rowsUpdated.longValue();
                         return d;
                     });
@@ -1275,9 +1592,11 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                         if (notVetoedEntities.isEmpty()) {
                             return Flux.fromIterable(notVetoedEntities);
                         }
-                        Mono<List<Object>> ids = executeAndMapEachRow(statement, row
-                            -> columnIndexResultSetReader.readDynamic(row, 0, persistentEntity.getIdentity().getDataType())
-                        ).collectList();
+                        QueryExecution execution = startQueryExecution(ctx, storedQuery, QueryExecution.Kind.BATCH);
+                        execution.setBatchSize(notVetoedEntities.size());
+                        Mono<List<Object>> ids = observe(executeAndMapEachRow(statement, row
+                            -> columnIndexResultSetReader.readDynamic(row, 0, persistentEntity.getIdentity().getDataType()), execution
+                        ).collectList(), execution);
 
                         return ids.flatMapMany(idList -> {
                             Iterator<Object> iterator = idList.iterator();
@@ -1302,9 +1621,11 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                         if (notVetoedEntities.isEmpty()) {
                             return Mono.just(Tuples.of(e, 0L));
                         }
-                        return executeAndGetRowsUpdated(statement)
+                        QueryExecution execution = startQueryExecution(ctx, storedQuery, QueryExecution.Kind.BATCH);
+                        execution.setBatchSize(notVetoedEntities.size());
+                        return observe(executeAndGetRowsUpdated(statement, execution)
                             .map(Number::longValue)
-                            .reduce(0L, Long::sum)
+                            .reduce(0L, Long::sum), execution)
                             .map(rowsUpdated -> {
                                 if (storedQuery.isOptimisticLock()) {
                                     checkOptimisticLocking(notVetoedEntities.size(), rowsUpdated);
@@ -1324,7 +1645,11 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         private final Dialect dialect;
 
         public R2dbcOperationContext(AnnotationMetadata annotationMetadata, Class<?> repositoryType, Dialect dialect, Connection connection) {
-            super(annotationMetadata, repositoryType);
+            this(annotationMetadata, repositoryType, null, dialect, connection);
+        }
+
+        public R2dbcOperationContext(AnnotationMetadata annotationMetadata, Class<?> repositoryType, String methodName, Dialect dialect, Connection connection) {
+            super(annotationMetadata, repositoryType, methodName);
             this.dialect = dialect;
             this.connection = connection;
         }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.operations;
+
+import io.micronaut.core.annotation.Internal;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+
+/**
+ * A flux that creates its source once the subscriber requests the first elements, so that the source can be
+ * tuned to the initial demand.
+ *
+ * @param <T> The element type
+ * @since 3.8.2
+ */
+@Internal
+final class FirstRequestFlux<T> extends Flux<T> {
+
+    private final LongFunction<Publisher<T>> sourceFactory;
+
+    /**
+     * @param sourceFactory The source factory receiving the first requested amount
+     */
+    FirstRequestFlux(LongFunction<Publisher<T>> sourceFactory) {
+        this.sourceFactory = sourceFactory;
+    }
+
+    @Override
+    public void subscribe(CoreSubscriber<? super T> actual) {
+        actual.onSubscribe(new FirstRequestSubscriber<>(actual, sourceFactory));
+    }
+
+    private static final class FirstRequestSubscriber<T> extends Operators.DeferredSubscription implements CoreSubscriber<T> {
+
+        private final CoreSubscriber<? super T> actual;
+        private final LongFunction<Publisher<T>> sourceFactory;
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        FirstRequestSubscriber(CoreSubscriber<? super T> actual, LongFunction<Publisher<T>> sourceFactory) {
+            this.actual = actual;
+            this.sourceFactory = sourceFactory;
+        }
+
+        @Override
+        public void request(long n) {
+            if (!Operators.validate(n)) {
+                return;
+            }
+            // Record the demand before subscribing so it's forwarded once the source subscription is set
+            super.request(n);
+            if (!isCancelled() && started.compareAndSet(false, true)) {
+                Publisher<T> source;
+                try {
+                    source = sourceFactory.apply(n);
+                } catch (Throwable e) {
+                    actual.onError(Operators.onOperatorError(e, actual.currentContext()));
+                    return;
+                }
+                source.subscribe(this);
+            }
+        }
+
+        @Override
+        public Context currentContext() {
+            return actual.currentContext();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            set(s);
+        }
+
+        @Override
+        public void onNext(T t) {
+            actual.onNext(t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            actual.onComplete();
+        }
+    }
+}
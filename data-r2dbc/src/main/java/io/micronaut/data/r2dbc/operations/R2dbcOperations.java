@@ -31,6 +31,13 @@ import java.util.function.Function;
  * @since 1.0.0
  */
 public interface R2dbcOperations extends ReactiveTransactionOperations<Connection> {
+
+    /**
+     * The name of the {@link io.micronaut.data.annotation.QueryHint} defining the fetch size of a repository method.
+     * @since 3.8.2
+     */
+    String FETCH_SIZE_HINT = "io.micronaut.data.r2dbc.fetchSize";
+
     /**
      * Obtains the connection factory.
      * @return The connection factory
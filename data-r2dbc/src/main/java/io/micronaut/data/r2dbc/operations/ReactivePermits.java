@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.operations;
+
+import io.micronaut.core.annotation.Internal;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking permits limiting the number of publishers running at the same time.
+ *
+ * @since 3.8.2
+ */
+@Internal
+final class ReactivePermits {
+
+    private final AtomicInteger available;
+    private final Queue<Permit> waiting = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param permits The number of permits
+     */
+    ReactivePermits(int permits) {
+        this.available = new AtomicInteger(permits);
+    }
+
+    /**
+     * Subscribe to the publisher once a permit is available, the permit is released on termination or cancellation.
+     *
+     * @param supplier The publisher supplier
+     * @param <T>      The element type
+     * @return The flux
+     */
+    <T> Flux<T> withPermit(Supplier<Flux<T>> supplier) {
+        return Flux.usingWhen(
+            Mono.create(this::acquire),
+            permit -> supplier.get(),
+            Permit::releaseAsync,
+            (permit, throwable) -> permit.releaseAsync(),
+            Permit::releaseAsync
+        );
+    }
+
+    private void acquire(MonoSink<Permit> sink) {
+        Permit permit = new Permit(sink);
+        sink.onCancel(() -> {
+            if (!waiting.remove(permit)) {
+                // Already granted, the permit wasn't received by the subscriber
+                permit.release();
+            }
+        });
+        waiting.offer(permit);
+        drain();
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty()) {
+            int permits = available.get();
+            if (permits == 0) {
+                return;
+            }
+            if (available.compareAndSet(permits, permits - 1)) {
+                Permit permit = waiting.poll();
+                if (permit == null) {
+                    available.incrementAndGet();
+                } else {
+                    permit.sink.success(permit);
+                }
+            }
+        }
+    }
+
+    private final class Permit {
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                available.incrementAndGet();
+                drain();
+            }
+        }
+
+        private Mono<Void> releaseAsync() {
+            return Mono.fromRunnable(this::release);
+        }
+    }
+}
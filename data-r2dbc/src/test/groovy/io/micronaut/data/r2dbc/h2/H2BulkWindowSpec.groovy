@@ -0,0 +1,76 @@
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.r2dbc.operations.R2dbcOperations
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2BulkWindowSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + [
+            "r2dbc.datasources.default.bulk-window-size": "3",
+            "r2dbc.datasources.default.bulk-concurrency": "2"
+    ])
+
+    @Shared
+    BulkItemRepository itemRepository = applicationContext.getBean(BulkItemRepository)
+
+    @Shared
+    R2dbcOperations operations = applicationContext.getBean(R2dbcOperations)
+
+    void cleanup() {
+        itemRepository.deleteAll().block()
+    }
+
+    void 'test save and update all in windows'() {
+        when:
+            def items = itemRepository.saveAll((1..10).collect { new BulkItem(name: "Item $it") }).collectList().block()
+
+        then:
+            items*.name == (1..10).collect { "Item $it".toString() }
+            items.every { it.id != null }
+            itemRepository.count().block() == 10
+
+        when:
+            items.each { it.name = it.name + " updated" }
+            def updated = itemRepository.updateAll(items).collectList().block()
+
+        then:
+            updated*.id == items*.id
+            itemRepository.findAll().collectList().block().every { it.name.endsWith(" updated") }
+    }
+
+    void 'test windows share an existing transaction'() {
+        when:
+            Flux.from(operations.withTransaction(status ->
+                    itemRepository.saveAll((1..10).collect { new BulkItem(name: "Item $it") })
+                            .thenMany(Flux.error(new IllegalStateException("rollback")))
+            )).collectList().block()
+
+        then:
+            thrown(IllegalStateException)
+            itemRepository.count().block() == 0
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface BulkItemRepository extends ReactorCrudRepository<BulkItem, Long> {
+}
+
+@MappedEntity("b_item")
+class BulkItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
@@ -0,0 +1,179 @@
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.BeanCreatedEvent
+import io.micronaut.context.event.BeanCreatedEventListener
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.QueryHint
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.r2dbc.config.DataR2dbcConfiguration
+import io.micronaut.data.r2dbc.operations.R2dbcOperations
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import io.r2dbc.spi.Connection
+import io.r2dbc.spi.ConnectionFactory
+import io.r2dbc.spi.ConnectionFactoryMetadata
+import io.r2dbc.spi.Statement
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.lang.reflect.InvocationHandler
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.lang.reflect.Proxy
+import java.util.concurrent.CopyOnWriteArrayList
+
+class H2FetchSizeSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + [
+            "spec.name"                                    : "H2FetchSizeSpec",
+            "r2dbc.datasources.default.adaptive-fetch-size": "true",
+            "r2dbc.datasources.default.max-fetch-size"     : "5"
+    ])
+
+    @Shared
+    FetchedItemRepository itemRepository = applicationContext.getBean(FetchedItemRepository)
+
+    @Shared
+    FetchSizeRecorder recorder = applicationContext.getBean(FetchSizeRecorder)
+
+    void setupSpec() {
+        itemRepository.saveAll((1..20).collect { new FetchedItem(name: "Item $it") }).blockLast()
+    }
+
+    void setup() {
+        recorder.fetchSizes.clear()
+    }
+
+    void 'test fetch size configuration'() {
+        when:
+            def configuration = applicationContext.getBean(DataR2dbcConfiguration)
+
+        then:
+            configuration.adaptiveFetchSize
+            configuration.maxFetchSize == 5
+            configuration.fetchSize == 0
+    }
+
+    void 'test adaptive fetch size follows the subscriber demand'() {
+        expect:
+            itemRepository.findAll().limitRate(3).collectList().block().size() == 20
+            itemRepository.findAll().limitRate(3).take(4).collectList().block().size() == 4
+            itemRepository.findAll().limitRate(10).collectList().block().size() == 20
+            itemRepository.findAll().collectList().block().size() == 20
+
+        and:"the first request sets the fetch size, bounded by the max fetch size"
+            recorder.fetchSizes == [3, 3, 5, 5]
+    }
+
+    void 'test fetch size query hint'() {
+        expect:
+            itemRepository.findAllOrderByName().take(7).collectList().block().size() == 7
+            recorder.fetchSizes == [2]
+    }
+
+    void 'test global fetch size'() {
+        given:
+            def context = ApplicationContext.run(getProperties() + [
+                    "spec.name"                           : "H2FetchSizeSpec",
+                    "r2dbc.datasources.default.url"       : "r2dbc:h2:///fetchsizedb",
+                    "r2dbc.datasources.default.fetch-size": "4"
+            ])
+            def repository = context.getBean(FetchedItemRepository)
+            def globalRecorder = context.getBean(FetchSizeRecorder)
+            repository.saveAll((1..10).collect { new FetchedItem(name: "Item $it") }).blockLast()
+
+        when:
+            def all = repository.findAll().limitRate(3).collectList().block()
+            def hinted = repository.findAllOrderByName().collectList().block()
+
+        then:"the demand is ignored and the hint overrides the configured fetch size"
+            all.size() == 10
+            hinted.size() == 10
+            globalRecorder.fetchSizes == [4, 2]
+
+        cleanup:
+            context?.close()
+    }
+
+    /**
+     * Wraps the connection factory to record the fetch size set on the statements.
+     */
+    @Singleton
+    @Requires(property = "spec.name", value = "H2FetchSizeSpec")
+    static class FetchSizeRecorder implements BeanCreatedEventListener<ConnectionFactory> {
+
+        final List<Integer> fetchSizes = new CopyOnWriteArrayList<>()
+
+        @Override
+        ConnectionFactory onCreated(BeanCreatedEvent<ConnectionFactory> event) {
+            ConnectionFactory connectionFactory = event.bean
+            return new ConnectionFactory() {
+                @Override
+                Publisher<? extends Connection> create() {
+                    return Flux.from(connectionFactory.create()).map { Connection connection -> recording(connection) }
+                }
+
+                @Override
+                ConnectionFactoryMetadata getMetadata() {
+                    return connectionFactory.metadata
+                }
+            }
+        }
+
+        private Connection recording(Connection connection) {
+            return proxy(Connection, connection) { Method method, Object[] args, Object result ->
+                method.name == "createStatement" ? recording((Statement) result) : result
+            }
+        }
+
+        private Statement recording(Statement statement) {
+            return proxy(Statement, statement) { Method method, Object[] args, Object result ->
+                if (method.name == "fetchSize") {
+                    fetchSizes.add((Integer) args[0])
+                }
+                return result
+            }
+        }
+
+        private static <T> T proxy(Class<T> type, T target, Closure<Object> onResult) {
+            T proxy
+            proxy = (T) Proxy.newProxyInstance(type.classLoader, [type] as Class[], { Object self, Method method, Object[] args ->
+                Object result
+                try {
+                    result = method.invoke(target, args)
+                } catch (InvocationTargetException e) {
+                    throw e.cause
+                }
+                Object mapped = onResult.call(method, args, result)
+                // Keep the fluent methods returning the proxy
+                return mapped.is(target) ? proxy : mapped
+            } as InvocationHandler)
+            return proxy
+        }
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface FetchedItemRepository extends ReactorCrudRepository<FetchedItem, Long> {
+
+    @QueryHint(name = R2dbcOperations.FETCH_SIZE_HINT, value = "2")
+    Flux<FetchedItem> findAllOrderByName()
+}
+
+@MappedEntity("f_item")
+class FetchedItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
@@ -0,0 +1,124 @@
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Join
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Relation
+import io.micronaut.data.model.Sort
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2JoinStreamingSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    StreamingOwnerRepository ownerRepository = applicationContext.getBean(StreamingOwnerRepository)
+
+    void setupSpec() {
+        ownerRepository.saveAll((1..5).collect { i ->
+            def owner = new StreamingOwner(name: "Owner $i", pets: [])
+            (1..3).each { j -> owner.pets.add(new StreamingPet(name: "Pet $j of $i", owner: owner)) }
+            owner
+        }).blockLast()
+    }
+
+    void 'test many join ordered by id is grouped per entity'() {
+        when:
+            def owners = ownerRepository.findAllOrderById().collectList().block()
+
+        then:
+            owners.size() == 5
+            owners*.name == (1..5).collect { "Owner $it".toString() }
+            owners.every { it.pets.size() == 3 }
+    }
+
+    void 'test many join ordered by id respects demand'() {
+        when:
+            def owners = ownerRepository.findAllOrderById().limitRate(1).take(2).collectList().block()
+
+        then:
+            owners*.name == ["Owner 1", "Owner 2"]
+            owners.every { it.pets.size() == 3 }
+    }
+
+    void 'test many join sorted by id at runtime is grouped per entity'() {
+        when:
+            def owners = ownerRepository.findAll(Sort.of(Sort.Order.desc("id"))).limitRate(1).take(2).collectList().block()
+
+        then:
+            owners*.name == ["Owner 5", "Owner 4"]
+            owners.every { it.pets.size() == 3 }
+    }
+
+    void 'test many join sorted by root columns before the id is grouped per entity'() {
+        when:
+            def owners = ownerRepository.findAll(Sort.of(Sort.Order.desc("name"), Sort.Order.asc("id"))).limitRate(1).take(2).collectList().block()
+
+        then:
+            owners*.name == ["Owner 5", "Owner 4"]
+            owners.every { it.pets.size() == 3 }
+    }
+
+    void 'test many join sorted by a joined column before the id is buffered'() {
+        when:"the rows of the owners are interleaved by the pet names"
+            def owners = ownerRepository.findAll(Sort.of(Sort.Order.asc("pets.name"), Sort.Order.asc("id"))).collectList().block()
+
+        then:"every owner is emitted once with all its pets"
+            owners.size() == 5
+            owners*.id.unique().size() == 5
+            owners.every { it.pets.size() == 3 }
+    }
+
+    void 'test many join without an order by is buffered'() {
+        when:
+            def owners = ownerRepository.findAll().collectList().block()
+
+        then:
+            owners.size() == 5
+            owners.every { it.pets.size() == 3 }
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface StreamingOwnerRepository extends ReactorCrudRepository<StreamingOwner, Long> {
+
+    @Join(value = "pets", type = Join.Type.FETCH)
+    Flux<StreamingOwner> findAllOrderById()
+
+    @Join(value = "pets", type = Join.Type.FETCH)
+    @Override
+    Flux<StreamingOwner> findAll()
+
+    @Join(value = "pets", type = Join.Type.FETCH)
+    Flux<StreamingOwner> findAll(Sort sort)
+}
+
+@MappedEntity("s_owner")
+class StreamingOwner {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Relation(value = Relation.Kind.ONE_TO_MANY, mappedBy = "owner", cascade = Relation.Cascade.ALL)
+    List<StreamingPet> pets
+}
+
+@MappedEntity("s_pet")
+class StreamingPet {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Relation(value = Relation.Kind.MANY_TO_ONE)
+    StreamingOwner owner
+}
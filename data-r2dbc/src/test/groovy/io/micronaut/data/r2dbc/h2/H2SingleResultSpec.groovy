@@ -0,0 +1,137 @@
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.exceptions.NonUniqueResultException
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import io.micronaut.data.runtime.execution.QueryExecution
+import io.micronaut.data.runtime.execution.QueryExecutionListener
+import jakarta.inject.Singleton
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+class H2SingleResultSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + [
+            "spec.name": "H2SingleResultSpec"
+    ])
+
+    @Shared
+    SingleResultItemRepository itemRepository = applicationContext.getBean(SingleResultItemRepository)
+
+    @Shared
+    RowsRecordingListener listener = applicationContext.getBean(RowsRecordingListener)
+
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    void setupSpec() {
+        itemRepository.saveAll((1..10).collect { new SingleResultItem(name: "duplicate", score: it) }).blockLast()
+        itemRepository.save(new SingleResultItem(name: "unique", score: 42)).block()
+    }
+
+    void cleanup() {
+        listener.rows.clear()
+    }
+
+    void 'test exists completes on the first row'() {
+        expect:
+            itemRepository.existsByName("duplicate").block()
+            !itemRepository.existsByName("missing").block()
+
+        and:"the remaining rows are cancelled"
+            conditions.eventually {
+                assert listener.rows['existsByName'] == [1L, 0L]
+            }
+    }
+
+    void 'test single result reads at most two rows'() {
+        expect:
+            itemRepository.findScoreByName("unique").block() == 42
+            itemRepository.queryByName("unique").block().score == 42
+
+        when:
+            itemRepository.findScoreByName("duplicate").block()
+
+        then:
+            thrown(NonUniqueResultException)
+
+        when:
+            itemRepository.queryByName("duplicate").block()
+
+        then:
+            thrown(NonUniqueResultException)
+
+        and:"the rows after the second one are not read"
+            conditions.eventually {
+                assert listener.rows['findScoreByName'] == [1L, 2L]
+                assert listener.rows['queryByName'] == [1L, 2L]
+            }
+    }
+
+    void 'test the DTO mapper maps every row of a query'() {
+        when:
+            def dtos = itemRepository.searchByName("duplicate").collectList().block()
+
+        then:
+            dtos*.name.every { it == "duplicate" }
+            dtos*.score.toSorted() == (1..10).toList()
+
+        and:
+            conditions.eventually {
+                assert listener.rows['searchByName'] == [10L]
+            }
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "H2SingleResultSpec")
+    static class RowsRecordingListener implements QueryExecutionListener {
+
+        final Map<String, List<Long>> rows = [:].asSynchronized()
+
+        @Override
+        void onQueryExecuted(QueryExecution execution) {
+            rows.computeIfAbsent(execution.methodName, { new CopyOnWriteArrayList<Long>() }).add(execution.rows)
+        }
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface SingleResultItemRepository extends ReactorCrudRepository<SingleResultItem, Long> {
+
+    Mono<Boolean> existsByName(String name)
+
+    Mono<Integer> findScoreByName(String name)
+
+    Mono<SingleResultItemDto> queryByName(String name)
+
+    Flux<SingleResultItemDto> searchByName(String name)
+}
+
+@MappedEntity("sr_item")
+class SingleResultItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    Integer score
+}
+
+@Introspected
+class SingleResultItemDto {
+    String name
+    Integer score
+}
@@ -0,0 +1,185 @@
+package io.micronaut.data.r2dbc.h2
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.data.r2dbc.operations.R2dbcOperations
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.TransactionRetryPolicy
+import io.micronaut.transaction.support.DefaultTransactionDefinition
+import io.micronaut.transaction.support.TransactionRetryListener
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException
+import io.r2dbc.spi.R2dbcTransientResourceException
+import jakarta.inject.Singleton
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+
+class H2TransactionRetrySpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + [
+            "spec.name": "H2TransactionRetrySpec"
+    ])
+
+    @Shared
+    R2dbcOperations operations = applicationContext.getBean(R2dbcOperations)
+
+    @Shared
+    RecordingListener listener = applicationContext.getBean(RecordingListener)
+
+    @Shared
+    MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+    void setup() {
+        listener.reset()
+        meterRegistry.clear()
+    }
+
+    void 'test retryable error is retried in a new transaction'() {
+        given:
+            def attempts = []
+
+        when:
+            def result = Flux.from(operations.withTransaction(retried("serialization", 3), { status ->
+                attempts << status.newTransaction
+                if (attempts.size() < 3) {
+                    return Mono.error(new R2dbcTransientResourceException("could not serialize access", "40001"))
+                }
+                return Flux.just("a", "b")
+            })).collectList().block()
+
+        then:"the results of the committed attempt are emitted once"
+            result == ["a", "b"]
+            attempts == [true, true, true]
+            listener.retries == [1, 2]
+            listener.outcomes == [(TransactionRetryListener.Outcome.SUCCESS): 3]
+
+        and:"the metrics are recorded"
+            meterRegistry.get("micronaut.data.transaction.retries").tag("transaction", "serialization").counter().count() == 2
+            meterRegistry.get("micronaut.data.transaction.attempts").tag("outcome", "success").summary().totalAmount() == 3
+    }
+
+    void 'test retries stop at the max attempts'() {
+        given:
+            int attempts = 0
+
+        when:
+            Flux.from(operations.withTransaction(retried("exhausted", 2), { status ->
+                attempts++
+                return Mono.error(new R2dbcTransientResourceException("could not serialize access", "40001"))
+            })).blockLast()
+
+        then:
+            thrown(R2dbcTransientResourceException)
+            attempts == 2
+            listener.retries == [1]
+            listener.outcomes == [(TransactionRetryListener.Outcome.EXHAUSTED): 2]
+            meterRegistry.get("micronaut.data.transaction.attempts").tag("outcome", "exhausted").summary().totalAmount() == 2
+    }
+
+    void 'test non retryable error is not retried'() {
+        given:
+            int attempts = 0
+
+        when:
+            Flux.from(operations.withTransaction(retried("constraint", 3), { status ->
+                attempts++
+                return Mono.error(new R2dbcDataIntegrityViolationException("unique constraint violated", "23505"))
+            })).blockLast()
+
+        then:
+            thrown(R2dbcDataIntegrityViolationException)
+            attempts == 1
+            listener.retries.isEmpty()
+            listener.outcomes == [(TransactionRetryListener.Outcome.NOT_RETRYABLE): 1]
+            meterRegistry.find("micronaut.data.transaction.retries").counter() == null
+    }
+
+    void 'test joined transaction is not retried'() {
+        given:
+            int attempts = 0
+
+        when:
+            Flux.from(operations.withTransaction(TransactionDefinition.DEFAULT, { outer ->
+                return operations.withTransaction(retried("joined", 5), { inner ->
+                    assert !inner.newTransaction
+                    attempts++
+                    return Mono.error(new R2dbcTransientResourceException("could not serialize access", "40001"))
+                })
+            })).blockLast()
+
+        then:
+            thrown(R2dbcTransientResourceException)
+            attempts == 1
+            listener.retries.isEmpty()
+            listener.outcomes.isEmpty()
+    }
+
+    void 'test joined transaction is retried by the outer transaction'() {
+        given:
+            int outerAttempts = 0
+            int innerAttempts = 0
+
+        when:
+            Flux.from(operations.withTransaction(retried("outer", 2), { outer ->
+                outerAttempts++
+                return operations.withTransaction(retried("inner", 5), { inner ->
+                    innerAttempts++
+                    return Mono.error(new R2dbcTransientResourceException("could not serialize access", "40001"))
+                })
+            })).blockLast()
+
+        then:
+            thrown(R2dbcTransientResourceException)
+            outerAttempts == 2
+            innerAttempts == 2
+            listener.outcomes == [(TransactionRetryListener.Outcome.EXHAUSTED): 2]
+    }
+
+    private static TransactionDefinition retried(String name, int attempts) {
+        def definition = new DefaultTransactionDefinition()
+        definition.setName(name)
+        definition.setRetryPolicy(TransactionRetryPolicy.of(attempts, Duration.ofMillis(1)))
+        return definition
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "H2TransactionRetrySpec")
+    static class RecordingListener implements TransactionRetryListener {
+        List<Integer> retries = []
+        Map<TransactionRetryListener.Outcome, Integer> outcomes = [:]
+
+        void reset() {
+            retries.clear()
+            outcomes.clear()
+        }
+
+        @Override
+        void onRetry(TransactionDefinition definition, int failedAttempts, Throwable cause, Duration delay) {
+            retries << failedAttempts
+        }
+
+        @Override
+        void onComplete(TransactionDefinition definition, int attempts, TransactionRetryListener.Outcome outcome, Throwable failure) {
+            outcomes[outcome] = attempts
+        }
+    }
+
+    @Factory
+    @Requires(property = "spec.name", value = "H2TransactionRetrySpec")
+    static class MeterRegistryFactory {
+
+        @Singleton
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry()
+        }
+    }
+}
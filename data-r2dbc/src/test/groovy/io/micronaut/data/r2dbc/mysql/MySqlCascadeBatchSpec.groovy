@@ -0,0 +1,99 @@
+package io.micronaut.data.r2dbc.mysql
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Join
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Relation
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import io.micronaut.data.runtime.execution.QueryExecution
+import io.micronaut.data.runtime.execution.QueryExecutionListener
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+class MySqlCascadeBatchSpec extends Specification implements MySqlTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + [
+            "spec.name"                              : "MySqlCascadeBatchSpec",
+            "r2dbc.datasources.default.cascade-batch": "true"
+    ])
+
+    @Shared
+    BatchStudentRepository studentRepository = applicationContext.getBean(BatchStudentRepository)
+
+    @Shared
+    StatementsRecorder recorder = applicationContext.getBean(StatementsRecorder)
+
+    void 'test join table inserts are executed as one statement'() {
+        given:
+            def student = new BatchStudent(name: "Denis", courses: (1..5).collect { new BatchCourse(name: "Course $it") })
+
+        when:
+            student = studentRepository.save(student).block()
+            def inserts = recorder.executions.findAll { it.query.startsWith("INSERT") }
+
+        then:"the student and the courses with a generated identity are inserted one by one"
+            inserts.size() == 7
+            inserts.take(6).every { it.kind != QueryExecution.Kind.BATCH }
+
+        and:"the join table rows are inserted with one statement"
+            inserts.last().kind == QueryExecution.Kind.BATCH
+            inserts.last().batchSize == 5
+
+        when:
+            student = studentRepository.findById(student.id).block()
+
+        then:
+            student.name == "Denis"
+            student.courses*.name.sort() == (1..5).collect { "Course $it".toString() }
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "MySqlCascadeBatchSpec")
+    static class StatementsRecorder implements QueryExecutionListener {
+
+        final List<QueryExecution> executions = new CopyOnWriteArrayList<>()
+
+        @Override
+        void onQueryExecuted(QueryExecution execution) {
+            executions << execution
+        }
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.MYSQL)
+interface BatchStudentRepository extends ReactorCrudRepository<BatchStudent, Long> {
+
+    @Join(value = "courses", type = Join.Type.FETCH)
+    @Override
+    Mono<BatchStudent> findById(Long id)
+}
+
+@MappedEntity("cb_student")
+class BatchStudent {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Relation(value = Relation.Kind.MANY_TO_MANY, cascade = Relation.Cascade.PERSIST)
+    List<BatchCourse> courses
+}
+
+@MappedEntity("cb_course")
+class BatchCourse {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+}
@@ -17,6 +17,6 @@ trait MySqlTestPropertyProvider implements SharedDatabaseContainerTestPropertyPr
 
     @Override
     int sharedSpecsCount() {
-        return 9
+        return 10
     }
 }
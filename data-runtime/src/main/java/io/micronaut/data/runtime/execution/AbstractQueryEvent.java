@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * The base of the JFR events of the statements.
+ *
+ * @since 3.8.2
+ */
+@Category({"Micronaut", "Data"})
+@Enabled(false)
+@StackTrace(false)
+abstract class AbstractQueryEvent extends jdk.jfr.Event {
+
+    @Label("Data Source")
+    String dataSource;
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Query Hash")
+    int queryHash;
+
+    final void describe(QueryExecution execution) {
+        dataSource = execution.getDataSource();
+        repository = execution.getRepositoryName();
+        method = execution.getMethodName();
+        queryHash = execution.getQuery().hashCode();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR event of a connection released by the repository operations.
+ *
+ * @since 3.8.2
+ */
+@Name("io.micronaut.data.ConnectionReleased")
+@Label("Connection Released")
+@Description("A connection released by the repository operations")
+@Category({"Micronaut", "Data"})
+@Enabled(false)
+@StackTrace(false)
+final class ConnectionReleasedEvent extends jdk.jfr.Event {
+
+    @Label("Data Source")
+    String dataSource;
+
+    @Label("Held Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long heldTime;
+}
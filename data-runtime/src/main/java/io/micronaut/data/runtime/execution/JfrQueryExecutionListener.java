@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import jakarta.inject.Singleton;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+/**
+ * Emits the executed statements and the held connections as JFR events. The events are enabled with the JFR settings
+ * of the recordings, while no recording enables them the statements are not measured.
+ *
+ * @since 3.8.2
+ */
+@Singleton
+@Requires(classes = Event.class)
+@Internal
+final class JfrQueryExecutionListener implements QueryExecutionListener {
+
+    private final EventType queryExecuted = EventType.getEventType(QueryExecutedEvent.class);
+    private final EventType rowsMapped = EventType.getEventType(RowsMappedEvent.class);
+    private final EventType batchExecuted = EventType.getEventType(BatchExecutedEvent.class);
+    private final EventType connectionAcquired = EventType.getEventType(ConnectionAcquiredEvent.class);
+    private final EventType connectionReleased = EventType.getEventType(ConnectionReleasedEvent.class);
+
+    @Override
+    public boolean isEnabled() {
+        return queryExecuted.isEnabled()
+                || rowsMapped.isEnabled()
+                || batchExecuted.isEnabled()
+                || connectionAcquired.isEnabled()
+                || connectionReleased.isEnabled();
+    }
+
+    @Override
+    public void onQueryExecuted(QueryExecution execution) {
+        if (execution.getKind() == QueryExecution.Kind.BATCH) {
+            BatchExecutedEvent event = new BatchExecutedEvent();
+            if (event.shouldCommit()) {
+                event.describe(execution);
+                event.batchSize = execution.getBatchSize();
+                event.rows = execution.getRows();
+                event.totalTime = execution.getTotalNanos();
+                event.error = errorName(execution);
+                event.commit();
+            }
+            return;
+        }
+        QueryExecutedEvent event = new QueryExecutedEvent();
+        if (event.shouldCommit()) {
+            event.describe(execution);
+            event.kind = execution.getKind().name();
+            event.rows = execution.getRows();
+            event.executionTime = execution.getExecutionNanos();
+            event.totalTime = execution.getTotalNanos();
+            event.error = errorName(execution);
+            event.commit();
+        }
+        if (execution.getKind() == QueryExecution.Kind.QUERY && execution.getRows() > 0) {
+            RowsMappedEvent mappedEvent = new RowsMappedEvent();
+            if (mappedEvent.shouldCommit()) {
+                mappedEvent.describe(execution);
+                mappedEvent.rows = execution.getRows();
+                mappedEvent.mappingTime = execution.getMappingNanos();
+                mappedEvent.commit();
+            }
+        }
+    }
+
+    @Override
+    public void onConnectionAcquired(String dataSource) {
+        ConnectionAcquiredEvent event = new ConnectionAcquiredEvent();
+        if (event.shouldCommit()) {
+            event.dataSource = dataSource;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onConnectionReleased(String dataSource, long heldNanos) {
+        ConnectionReleasedEvent event = new ConnectionReleasedEvent();
+        if (event.shouldCommit()) {
+            event.dataSource = dataSource;
+            event.heldTime = heldNanos;
+            event.commit();
+        }
+    }
+
+    private static String errorName(QueryExecution execution) {
+        Throwable error = execution.getError();
+        return error == null ? null : error.getClass().getName();
+    }
+}
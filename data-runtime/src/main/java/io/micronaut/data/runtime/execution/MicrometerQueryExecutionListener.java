@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the executed statements with Micrometer, tagged by data source, repository, method and kind.
+ * <ul>
+ *     <li>{@value #QUERY} times the statements, publishing a percentile histogram</li>
+ *     <li>{@value #EXECUTION} times the preparing and executing of the statements</li>
+ *     <li>{@value #MAPPING} times the fetching and mapping of the rows</li>
+ *     <li>{@value #ROWS} summarizes the rows returned or affected</li>
+ *     <li>{@value #BATCH_SIZE} summarizes the sizes of the batches</li>
+ *     <li>{@value #ERRORS} counts the failed statements by exception</li>
+ *     <li>{@value #CONNECTION_HOLD} times the connections held by data source</li>
+ * </ul>
+ *
+ * @since 3.8.2
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Internal
+final class MicrometerQueryExecutionListener implements QueryExecutionListener {
+
+    static final String QUERY = "micronaut.data.query";
+    static final String EXECUTION = "micronaut.data.query.execution";
+    static final String MAPPING = "micronaut.data.query.mapping";
+    static final String ROWS = "micronaut.data.query.rows";
+    static final String BATCH_SIZE = "micronaut.data.query.batch.size";
+    static final String ERRORS = "micronaut.data.query.errors";
+    static final String CONNECTION_HOLD = "micronaut.data.connection.hold";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> connectionHoldTimers = new ConcurrentHashMap<>();
+
+    MicrometerQueryExecutionListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onQueryExecuted(QueryExecution execution) {
+        Meters m = meters.computeIfAbsent(new MeterKey(execution), this::register);
+        m.query.record(execution.getTotalNanos(), TimeUnit.NANOSECONDS);
+        m.execution.record(execution.getExecutionNanos(), TimeUnit.NANOSECONDS);
+        if (m.mapping != null) {
+            m.mapping.record(execution.getMappingNanos(), TimeUnit.NANOSECONDS);
+        }
+        m.rows.record(execution.getRows());
+        if (m.batchSize != null) {
+            m.batchSize.record(execution.getBatchSize());
+        }
+        Throwable error = execution.getError();
+        if (error != null) {
+            Counter.builder(ERRORS)
+                    .description("The failed repository statements")
+                    .tags(m.tags)
+                    .tag("exception", error.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    @Override
+    public void onConnectionReleased(String dataSource, long heldNanos) {
+        connectionHoldTimers.computeIfAbsent(dataSource, name -> Timer.builder(CONNECTION_HOLD)
+                .description("The time the repository operations held a connection")
+                .tag("dataSource", name)
+                .register(meterRegistry)
+        ).record(heldNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Meters register(MeterKey key) {
+        Tags tags = Tags.of(
+                "dataSource", key.dataSource,
+                "repository", key.repositoryType == null ? "none" : QueryExecution.repositoryName(key.repositoryType),
+                "method", key.methodName,
+                "kind", key.kind.name().toLowerCase()
+        );
+        return new Meters(
+                tags,
+                Timer.builder(QUERY)
+                        .description("The repository statements")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder(EXECUTION)
+                        .description("The time spent preparing and executing the repository statements")
+                        .tags(tags)
+                        .register(meterRegistry),
+                key.kind == QueryExecution.Kind.QUERY ? Timer.builder(MAPPING)
+                        .description("The time spent fetching and mapping the rows of the repository statements")
+                        .tags(tags)
+                        .register(meterRegistry) : null,
+                DistributionSummary.builder(ROWS)
+                        .description("The rows returned or affected by the repository statements")
+                        .tags(tags)
+                        .register(meterRegistry),
+                key.kind == QueryExecution.Kind.BATCH ? DistributionSummary.builder(BATCH_SIZE)
+                        .description("The number of statements in the repository batches")
+                        .tags(tags)
+                        .register(meterRegistry) : null
+        );
+    }
+
+    private static final class Meters {
+        private final Tags tags;
+        private final Timer query;
+        private final Timer execution;
+        private final Timer mapping;
+        private final DistributionSummary rows;
+        private final DistributionSummary batchSize;
+
+        private Meters(Tags tags, Timer query, Timer execution, Timer mapping, DistributionSummary rows, DistributionSummary batchSize) {
+            this.tags = tags;
+            this.query = query;
+            this.execution = execution;
+            this.mapping = mapping;
+            this.rows = rows;
+            this.batchSize = batchSize;
+        }
+    }
+
+    private static final class MeterKey {
+        private final String dataSource;
+        private final Class<?> repositoryType;
+        private final String methodName;
+        private final QueryExecution.Kind kind;
+        private final int hashCode;
+
+        private MeterKey(QueryExecution execution) {
+            this.dataSource = execution.getDataSource() == null ? "default" : execution.getDataSource();
+            this.repositoryType = execution.getRepositoryType();
+            this.methodName = execution.getMethodName() == null ? "none" : execution.getMethodName();
+            this.kind = execution.getKind();
+            this.hashCode = Objects.hash(dataSource, repositoryType, methodName, kind);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MeterKey)) {
+                return false;
+            }
+            MeterKey that = (MeterKey) o;
+            return repositoryType == that.repositoryType
+                    && kind == that.kind
+                    && dataSource.equals(that.dataSource)
+                    && methodName.equals(that.methodName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micronaut.aop.Intercepted;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * The execution of a single statement by the repository operations. The operations create an execution only when at
+ * least one {@link QueryExecutionListener} is registered, otherwise the shared {@link #DISABLED} execution is used and
+ * nothing is measured.
+ *
+ * <p>The time taken by the execution is split at the moment the statement returned its first result: the execution
+ * phase covers preparing, binding and executing the statement, the mapping phase covers fetching and mapping the rows.</p>
+ *
+ * @since 3.8.2
+ */
+public final class QueryExecution {
+
+    /**
+     * The execution not recording anything, used when no listener is registered.
+     */
+    public static final QueryExecution DISABLED = new QueryExecution(null, null, null, "", Kind.QUERY, AnnotationMetadata.EMPTY_METADATA, false);
+
+    /**
+     * The kind of the executed statement.
+     */
+    public enum Kind {
+        /**
+         * A statement returning rows.
+         */
+        QUERY,
+        /**
+         * A statement modifying rows.
+         */
+        UPDATE,
+        /**
+         * A batch of statements modifying rows.
+         */
+        BATCH
+    }
+
+    private final boolean recording;
+    private final String dataSource;
+    private final Class<?> repositoryType;
+    private final String methodName;
+    private final String query;
+    private final Kind kind;
+    private final AnnotationMetadata annotationMetadata;
+    private final long startNanos;
+    private long executedNanos;
+    private long endNanos;
+    private boolean executed;
+    private boolean finished;
+    private long rows;
+    private int batchSize;
+    private Throwable error;
+    private Object[] parameters;
+
+    /**
+     * Starts a new execution.
+     *
+     * @param dataSource     The data source name
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param query          The query
+     * @param kind           The kind of the statement
+     */
+    public QueryExecution(@Nullable String dataSource,
+                          @Nullable Class<?> repositoryType,
+                          @Nullable String methodName,
+                          @NonNull String query,
+                          @NonNull Kind kind) {
+        this(dataSource, repositoryType, methodName, query, kind, AnnotationMetadata.EMPTY_METADATA, true);
+    }
+
+    /**
+     * Starts a new execution.
+     *
+     * @param dataSource         The data source name
+     * @param repositoryType     The repository type
+     * @param methodName         The repository method name
+     * @param query              The query
+     * @param kind               The kind of the statement
+     * @param annotationMetadata The annotation metadata of the repository method
+     */
+    public QueryExecution(@Nullable String dataSource,
+                          @Nullable Class<?> repositoryType,
+                          @Nullable String methodName,
+                          @NonNull String query,
+                          @NonNull Kind kind,
+                          @NonNull AnnotationMetadata annotationMetadata) {
+        this(dataSource, repositoryType, methodName, query, kind, annotationMetadata, true);
+    }
+
+    private QueryExecution(String dataSource, Class<?> repositoryType, String methodName, String query, Kind kind,
+                           AnnotationMetadata annotationMetadata, boolean recording) {
+        this.recording = recording;
+        this.dataSource = dataSource;
+        this.repositoryType = repositoryType;
+        this.methodName = methodName;
+        this.query = query;
+        this.kind = kind;
+        this.annotationMetadata = annotationMetadata;
+        this.startNanos = recording ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Marks the end of the execution phase, subsequent calls are ignored.
+     */
+    public void executed() {
+        if (recording && !executed) {
+            executed = true;
+            executedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Adds the rows returned or affected.
+     *
+     * @param rows The rows
+     */
+    public void addRows(long rows) {
+        if (recording) {
+            this.rows += rows;
+        }
+    }
+
+    /**
+     * Sets the number of statements in the batch.
+     *
+     * @param batchSize The batch size
+     */
+    public void setBatchSize(int batchSize) {
+        if (recording) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    /**
+     * Sets the parameters the statement was executed with.
+     *
+     * @param parameters The parameters
+     */
+    public void setParameters(@Nullable Object[] parameters) {
+        if (recording) {
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * Records the error the execution failed with.
+     *
+     * @param error The error
+     */
+    public void failed(@NonNull Throwable error) {
+        if (recording && this.error == null) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * Marks the end of the execution.
+     *
+     * @return true if the execution was recording and was not finished before
+     */
+    public boolean finish() {
+        if (!recording || finished) {
+            return false;
+        }
+        finished = true;
+        endNanos = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * @return Whether the execution is recording
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * @return The data source name
+     */
+    @Nullable
+    public String getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @return The repository type, null for operations executed outside a repository
+     */
+    @Nullable
+    public Class<?> getRepositoryType() {
+        return repositoryType;
+    }
+
+    /**
+     * @return The simple name of the repository, null for operations executed outside a repository
+     */
+    @Nullable
+    public String getRepositoryName() {
+        return repositoryName(repositoryType);
+    }
+
+    /**
+     * @return The repository method name, null for operations executed outside a repository
+     */
+    @Nullable
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * @return The query
+     */
+    @NonNull
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return The kind of the statement
+     */
+    @NonNull
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return The rows returned or affected
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of statements in the batch, 0 if the statement was not batched
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return The annotation metadata of the repository method, empty for operations executed outside a repository
+     */
+    @NonNull
+    public AnnotationMetadata getAnnotationMetadata() {
+        return annotationMetadata;
+    }
+
+    /**
+     * @return The parameters of the repository method the statement was executed with, null if they are not known
+     */
+    @Nullable
+    public Object[] getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return The error the execution failed with
+     */
+    @Nullable
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * @return The total time of the execution in nanoseconds
+     */
+    public long getTotalNanos() {
+        return endNanos - startNanos;
+    }
+
+    /**
+     * @return The time spent preparing and executing the statement in nanoseconds
+     */
+    public long getExecutionNanos() {
+        return (executed ? executedNanos : endNanos) - startNanos;
+    }
+
+    /**
+     * @return The time spent fetching and mapping the rows in nanoseconds
+     */
+    public long getMappingNanos() {
+        return executed ? endNanos - executedNanos : 0;
+    }
+
+    /**
+     * Resolves the simple name of a repository, the name of the repository declaring the methods for the intercepted
+     * implementations.
+     *
+     * @param repositoryType The repository type
+     * @return The simple name
+     */
+    @Nullable
+    static String repositoryName(@Nullable Class<?> repositoryType) {
+        if (repositoryType == null) {
+            return null;
+        }
+        if (Intercepted.class.isAssignableFrom(repositoryType)) {
+            Class<?> superclass = repositoryType.getSuperclass();
+            if (superclass != null && superclass != Object.class) {
+                return superclass.getSimpleName();
+            }
+            for (Class<?> repositoryInterface : repositoryType.getInterfaces()) {
+                if (!Intercepted.class.isAssignableFrom(repositoryInterface)) {
+                    return repositoryInterface.getSimpleName();
+                }
+            }
+        }
+        return repositoryType.getSimpleName();
+    }
+}
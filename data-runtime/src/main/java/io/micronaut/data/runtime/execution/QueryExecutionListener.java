@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.List;
+
+/**
+ * Receives the statements executed and the connections held by the repository operations. Registering an enabled
+ * listener bean enables the measurements, without any the operations don't measure anything.
+ *
+ * @since 3.8.2
+ */
+public interface QueryExecutionListener {
+
+    /**
+     * The listener ignoring all events.
+     */
+    QueryExecutionListener NOOP = new QueryExecutionListener() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Whether the listener currently observes the statements, checked before each statement and connection.
+     *
+     * @return true if enabled
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Invoked once a statement has completed, successfully or not. The execution must not be retained.
+     *
+     * @param execution The execution
+     */
+    default void onQueryExecuted(@NonNull QueryExecution execution) {
+    }
+
+    /**
+     * Invoked once an operation acquired a connection.
+     *
+     * @param dataSource The data source name
+     */
+    default void onConnectionAcquired(@NonNull String dataSource) {
+    }
+
+    /**
+     * Invoked once an operation released the connection it acquired.
+     *
+     * @param dataSource The data source name
+     * @param heldNanos  The time the connection was held in nanoseconds
+     */
+    default void onConnectionReleased(@NonNull String dataSource, long heldNanos) {
+    }
+
+    /**
+     * Combines the listeners.
+     *
+     * @param listeners The listeners
+     * @return The listener notifying all the listeners
+     */
+    @NonNull
+    static QueryExecutionListener of(@NonNull List<? extends QueryExecutionListener> listeners) {
+        if (listeners.isEmpty()) {
+            return NOOP;
+        }
+        if (listeners.size() == 1) {
+            return listeners.get(0);
+        }
+        return new QueryExecutionListener() {
+            @Override
+            public boolean isEnabled() {
+                for (QueryExecutionListener listener : listeners) {
+                    if (listener.isEnabled()) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public void onQueryExecuted(QueryExecution execution) {
+                for (QueryExecutionListener listener : listeners) {
+                    listener.onQueryExecuted(execution);
+                }
+            }
+
+            @Override
+            public void onConnectionAcquired(String dataSource) {
+                for (QueryExecutionListener listener : listeners) {
+                    listener.onConnectionAcquired(dataSource);
+                }
+            }
+
+            @Override
+            public void onConnectionReleased(String dataSource, long heldNanos) {
+                for (QueryExecutionListener listener : listeners) {
+                    listener.onConnectionReleased(dataSource, heldNanos);
+                }
+            }
+        };
+    }
+}
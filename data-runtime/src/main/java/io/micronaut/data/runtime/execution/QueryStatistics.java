@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * The statistics of the executions of a query, collected by the {@link QueryStatisticsRegistry}.
+ *
+ * @since 3.8.2
+ */
+@Introspected
+public final class QueryStatistics {
+
+    private final String dataSource;
+    private final String query;
+    private final String repository;
+    private final String method;
+    private final long calls;
+    private final long errors;
+    private final long rows;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * Default constructor.
+     *
+     * @param dataSource The data source name
+     * @param query      The query
+     * @param repository The repository that first executed the query
+     * @param method     The repository method that first executed the query
+     * @param calls      The number of executions
+     * @param errors     The number of failed executions
+     * @param rows       The rows returned or affected
+     * @param totalNanos The total time of the executions in nanoseconds
+     * @param maxNanos   The maximum time of an execution in nanoseconds
+     */
+    public QueryStatistics(@Nullable String dataSource,
+                           @NonNull String query,
+                           @Nullable String repository,
+                           @Nullable String method,
+                           long calls,
+                           long errors,
+                           long rows,
+                           long totalNanos,
+                           long maxNanos) {
+        this.dataSource = dataSource;
+        this.query = query;
+        this.repository = repository;
+        this.method = method;
+        this.calls = calls;
+        this.errors = errors;
+        this.rows = rows;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @return The data source name
+     */
+    @Nullable
+    public String getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @return The query
+     */
+    @NonNull
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return The simple name of the repository that first executed the query
+     */
+    @Nullable
+    public String getRepository() {
+        return repository;
+    }
+
+    /**
+     * @return The repository method that first executed the query
+     */
+    @Nullable
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return The number of executions
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * @return The number of failed executions
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return The rows returned or affected
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The total time of the executions in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return The mean time of the executions in nanoseconds
+     */
+    public long getMeanNanos() {
+        return calls == 0 ? 0 : totalNanos / calls;
+    }
+
+    /**
+     * @return The maximum time of an execution in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryStatistics{" +
+                "dataSource='" + dataSource + '\'' +
+                ", query='" + query + '\'' +
+                ", calls=" + calls +
+                ", errors=" + errors +
+                ", rows=" + rows +
+                ", totalNanos=" + totalNanos +
+                ", maxNanos=" + maxNanos +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.data.runtime.config.DataSettings;
+
+/**
+ * Configuration of the {@link QueryStatisticsRegistry}.
+ *
+ * @since 3.8.2
+ */
+@ConfigurationProperties(QueryStatisticsConfiguration.PREFIX)
+public class QueryStatisticsConfiguration {
+
+    /**
+     * The prefix of the configuration.
+     */
+    public static final String PREFIX = DataSettings.PREFIX + ".query-statistics";
+
+    /**
+     * The default maximum number of tracked queries.
+     */
+    public static final int DEFAULT_MAX_QUERIES = 1000;
+
+    private boolean enabled;
+    private int maxQueries = DEFAULT_MAX_QUERIES;
+
+    /**
+     * @return Whether the statistics of the queries are collected
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the statistics of the queries are collected. Default value (false).
+     *
+     * @param enabled Whether the statistics are collected
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum number of tracked queries
+     */
+    public int getMaxQueries() {
+        return maxQueries;
+    }
+
+    /**
+     * Sets the maximum number of tracked queries, the executions of further queries are only counted as untracked
+     * until the registry is reset. Default value ({@value #DEFAULT_MAX_QUERIES}).
+     *
+     * @param maxQueries The maximum number of tracked queries
+     */
+    public void setMaxQueries(int maxQueries) {
+        if (maxQueries > 0) {
+            this.maxQueries = maxQueries;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.management.endpoint.annotation.Delete;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+
+import java.util.List;
+
+/**
+ * Exposes the {@link QueryStatisticsRegistry} as a management endpoint, listing the queries with the highest total
+ * time and resetting the statistics.
+ *
+ * @since 3.8.2
+ */
+@Endpoint(id = QueryStatisticsEndpoint.NAME, defaultEnabled = false)
+@Requires(classes = Endpoint.class)
+@Requires(beans = QueryStatisticsRegistry.class)
+public class QueryStatisticsEndpoint {
+
+    /**
+     * The name of the endpoint.
+     */
+    public static final String NAME = "query-statistics";
+
+    /**
+     * The default number of listed queries.
+     */
+    public static final int DEFAULT_LIMIT = 20;
+
+    private final QueryStatisticsRegistry registry;
+
+    /**
+     * Default constructor.
+     *
+     * @param registry The registry
+     */
+    public QueryStatisticsEndpoint(QueryStatisticsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @param limit The maximum number of queries, {@value #DEFAULT_LIMIT} by default
+     * @return The statistics of the queries with the highest total time
+     */
+    @Read
+    public List<QueryStatistics> statistics(@Nullable Integer limit) {
+        return registry.getTop(limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    /**
+     * Discards the collected statistics.
+     */
+    @Delete
+    public void reset() {
+        registry.reset();
+    }
+}
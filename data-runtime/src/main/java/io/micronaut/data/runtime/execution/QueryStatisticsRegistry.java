@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates the statistics of the queries executed by the repository operations, keyed by data source and query.
+ * The queries are spread over lock-protected stripes so that executions of different queries rarely contend.
+ *
+ * @since 3.8.2
+ */
+@Singleton
+@Requires(property = QueryStatisticsConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public final class QueryStatisticsRegistry implements QueryExecutionListener {
+
+    private static final int STRIPES = 64;
+    private static final Comparator<QueryStatistics> BY_TOTAL_TIME = Comparator.comparingLong(QueryStatistics::getTotalNanos).reversed();
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int maxQueries;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * Default constructor.
+     *
+     * @param configuration The configuration
+     */
+    public QueryStatisticsRegistry(QueryStatisticsConfiguration configuration) {
+        this.maxQueries = configuration.getMaxQueries();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public void onQueryExecuted(QueryExecution execution) {
+        Key key = new Key(execution.getDataSource(), execution.getQuery());
+        Stripe stripe = stripes[key.hashCode & (STRIPES - 1)];
+        synchronized (stripe) {
+            Accumulator accumulator = stripe.accumulators.get(key);
+            if (accumulator == null) {
+                if (size.incrementAndGet() > maxQueries) {
+                    size.decrementAndGet();
+                    untracked.increment();
+                    return;
+                }
+                accumulator = new Accumulator(execution.getRepositoryName(), execution.getMethodName());
+                stripe.accumulators.put(key, accumulator);
+            }
+            accumulator.calls++;
+            if (execution.getError() != null) {
+                accumulator.errors++;
+            }
+            accumulator.rows += execution.getRows();
+            long nanos = execution.getTotalNanos();
+            accumulator.totalNanos += nanos;
+            if (nanos > accumulator.maxNanos) {
+                accumulator.maxNanos = nanos;
+            }
+        }
+    }
+
+    /**
+     * @return The statistics of all tracked queries
+     */
+    @NonNull
+    public List<QueryStatistics> getStatistics() {
+        List<QueryStatistics> statistics = new ArrayList<>(size.get());
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (Map.Entry<Key, Accumulator> entry : stripe.accumulators.entrySet()) {
+                    Key key = entry.getKey();
+                    Accumulator accumulator = entry.getValue();
+                    statistics.add(new QueryStatistics(key.dataSource, key.query, accumulator.repository, accumulator.method,
+                            accumulator.calls, accumulator.errors, accumulator.rows, accumulator.totalNanos, accumulator.maxNanos));
+                }
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * @param limit The maximum number of queries
+     * @return The statistics of the queries with the highest total time, highest first
+     */
+    @NonNull
+    public List<QueryStatistics> getTop(int limit) {
+        List<QueryStatistics> statistics = getStatistics();
+        statistics.sort(BY_TOTAL_TIME);
+        return statistics.size() > limit ? new ArrayList<>(statistics.subList(0, Math.max(0, limit))) : statistics;
+    }
+
+    /**
+     * @return The number of executions of queries not tracked because the maximum number of queries was reached
+     */
+    public long getUntrackedExecutions() {
+        return untracked.sum();
+    }
+
+    /**
+     * Discards the collected statistics.
+     */
+    public void reset() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size.addAndGet(-stripe.accumulators.size());
+                stripe.accumulators.clear();
+            }
+        }
+        untracked.reset();
+    }
+
+    /**
+     * A stripe of the registry, guarding its accumulators.
+     */
+    private static final class Stripe {
+        private final Map<Key, Accumulator> accumulators = new HashMap<>();
+    }
+
+    /**
+     * The statistics of a query, guarded by its stripe.
+     */
+    private static final class Accumulator {
+        private final String repository;
+        private final String method;
+        private long calls;
+        private long errors;
+        private long rows;
+        private long totalNanos;
+        private long maxNanos;
+
+        Accumulator(String repository, String method) {
+            this.repository = repository;
+            this.method = method;
+        }
+    }
+
+    /**
+     * The data source and the query.
+     */
+    private static final class Key {
+        private final String dataSource;
+        private final String query;
+        private final int hashCode;
+
+        Key(String dataSource, String query) {
+            this.dataSource = dataSource;
+            this.query = query;
+            int h = 31 * Objects.hashCode(dataSource) + query.hashCode();
+            this.hashCode = h ^ (h >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(dataSource, key.dataSource) && query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
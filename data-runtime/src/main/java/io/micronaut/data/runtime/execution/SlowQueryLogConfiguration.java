@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.runtime.config.DataSettings;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configuration of the log of the slow statements executed by the repository operations.
+ *
+ * @since 3.8.2
+ */
+@ConfigurationProperties(SlowQueryLogConfiguration.PREFIX)
+public class SlowQueryLogConfiguration {
+
+    /**
+     * The prefix of the configuration.
+     */
+    public static final String PREFIX = DataSettings.PREFIX + ".slow-query-log";
+
+    /**
+     * The name of the {@link io.micronaut.data.annotation.QueryHint} overriding the threshold of a repository method.
+     */
+    public static final String THRESHOLD_HINT = "io.micronaut.data.slowQueryThreshold";
+
+    /**
+     * The default threshold.
+     */
+    public static final Duration DEFAULT_THRESHOLD = Duration.ofSeconds(1);
+
+    /**
+     * How the parameters of the slow statements are logged.
+     */
+    public enum ParameterLogging {
+        /**
+         * The parameters are not logged.
+         */
+        NONE,
+        /**
+         * The types of the parameters are logged instead of their values.
+         */
+        MASKED,
+        /**
+         * The values of the parameters are logged.
+         */
+        VALUES
+    }
+
+    private boolean enabled;
+    private Duration threshold = DEFAULT_THRESHOLD;
+    private Map<String, Duration> dataSources = Collections.emptyMap();
+    private ParameterLogging parameters = ParameterLogging.MASKED;
+    private double sampleRate = 1;
+
+    /**
+     * @return Whether the slow statements are logged
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the slow statements are logged. Default value (false).
+     *
+     * @param enabled Whether the slow statements are logged
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The time a statement takes to be logged
+     */
+    @NonNull
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets the time a statement takes to be logged. Default value (1s).
+     *
+     * @param threshold The threshold
+     */
+    public void setThreshold(@NonNull Duration threshold) {
+        if (threshold != null) {
+            this.threshold = threshold;
+        }
+    }
+
+    /**
+     * @return The thresholds by data source name
+     */
+    @NonNull
+    public Map<String, Duration> getDataSources() {
+        return dataSources;
+    }
+
+    /**
+     * Sets the thresholds by data source name, overriding the {@link #getThreshold() threshold} for the data sources.
+     *
+     * @param dataSources The thresholds by data source name
+     */
+    public void setDataSources(@NonNull Map<String, Duration> dataSources) {
+        this.dataSources = dataSources == null ? Collections.emptyMap() : dataSources;
+    }
+
+    /**
+     * @return How the parameters are logged
+     */
+    @NonNull
+    public ParameterLogging getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Sets how the parameters of the repository methods are logged. Default value (MASKED).
+     *
+     * @param parameters How the parameters are logged
+     */
+    public void setParameters(@NonNull ParameterLogging parameters) {
+        if (parameters != null) {
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * @return The fraction of the slow statements logged
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Sets the fraction of the slow statements logged, between 0 and 1. Default value (1).
+     *
+     * @param sampleRate The sample rate
+     */
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.QueryHint;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs the statements taking longer than the threshold of their repository method or data source at WARN level.
+ *
+ * @since 3.8.2
+ */
+@Singleton
+@Requires(property = SlowQueryLogConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Internal
+final class SlowQueryLogger implements QueryExecutionListener {
+
+    static final Logger LOG = LoggerFactory.getLogger("io.micronaut.data.query.slow");
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    private final long threshold;
+    private final Map<String, Long> dataSourceThresholds;
+    private final SlowQueryLogConfiguration.ParameterLogging parameters;
+    private final double sampleRate;
+    private final Map<MethodKey, Long> methodThresholds = new ConcurrentHashMap<>();
+
+    SlowQueryLogger(SlowQueryLogConfiguration configuration) {
+        this.threshold = configuration.getThreshold().toNanos();
+        this.dataSourceThresholds = new HashMap<>(configuration.getDataSources().size());
+        configuration.getDataSources().forEach((name, duration) -> dataSourceThresholds.put(name, duration.toNanos()));
+        this.parameters = configuration.getParameters();
+        this.sampleRate = configuration.getSampleRate();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return LOG.isWarnEnabled() && sampleRate > 0;
+    }
+
+    @Override
+    public void onQueryExecuted(QueryExecution execution) {
+        if (isSlow(execution) && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            LOG.warn(describe(execution));
+        }
+    }
+
+    /**
+     * @param execution The execution
+     * @return Whether the execution took longer than its threshold
+     */
+    boolean isSlow(QueryExecution execution) {
+        return execution.getTotalNanos() >= threshold(execution);
+    }
+
+    private long threshold(QueryExecution execution) {
+        if (execution.getMethodName() == null) {
+            return dataSourceThreshold(execution.getDataSource());
+        }
+        // The hint is resolved once per method, an invalid value falls back to the threshold of the data source
+        return methodThresholds.computeIfAbsent(new MethodKey(execution), key -> methodThreshold(execution));
+    }
+
+    private long methodThreshold(QueryExecution execution) {
+        for (AnnotationValue<QueryHint> hint : execution.getAnnotationMetadata().getAnnotationValuesByType(QueryHint.class)) {
+            if (SlowQueryLogConfiguration.THRESHOLD_HINT.equals(hint.stringValue("name").orElse(null))) {
+                String value = hint.stringValue("value").orElse(null);
+                if (value != null) {
+                    Duration duration = parseDuration(value);
+                    if (duration != null && !duration.isNegative()) {
+                        return duration.toNanos();
+                    }
+                    LOG.warn("Ignoring invalid {} query hint [{}] of {}.{}", SlowQueryLogConfiguration.THRESHOLD_HINT,
+                            value, execution.getRepositoryName(), execution.getMethodName());
+                }
+            }
+        }
+        return dataSourceThreshold(execution.getDataSource());
+    }
+
+    private static Duration parseDuration(String value) {
+        try {
+            return ConversionService.SHARED.convert(value, Duration.class).orElse(null);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private long dataSourceThreshold(String dataSource) {
+        if (dataSource == null) {
+            return threshold;
+        }
+        return dataSourceThresholds.getOrDefault(dataSource, threshold);
+    }
+
+    /**
+     * @param execution The execution
+     * @return The log message of the execution
+     */
+    String describe(QueryExecution execution) {
+        StringBuilder message = new StringBuilder(128 + execution.getQuery().length())
+                .append("Slow ").append(execution.getKind().name().toLowerCase())
+                .append(" took ").append(millis(execution.getTotalNanos())).append("ms");
+        if (execution.getKind() == QueryExecution.Kind.QUERY) {
+            message.append(" (execution ").append(millis(execution.getExecutionNanos()))
+                    .append("ms, mapping ").append(millis(execution.getMappingNanos())).append("ms)");
+        }
+        if (execution.getMethodName() != null) {
+            message.append(" in ").append(execution.getRepositoryName()).append('.').append(execution.getMethodName());
+        }
+        if (execution.getDataSource() != null) {
+            message.append(" on data source [").append(execution.getDataSource()).append(']');
+        }
+        message.append(", ").append(execution.getRows()).append(" rows");
+        if (execution.getBatchSize() > 0) {
+            message.append(", batch size ").append(execution.getBatchSize());
+        }
+        Throwable error = execution.getError();
+        if (error != null) {
+            message.append(", failed with ").append(error.getClass().getName());
+        }
+        message.append(": ").append(execution.getQuery());
+        Object[] values = execution.getParameters();
+        if (parameters != SlowQueryLogConfiguration.ParameterLogging.NONE && values != null && values.length > 0) {
+            message.append(" with parameters [");
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    message.append(", ");
+                }
+                appendParameter(message, values[i]);
+            }
+            message.append(']');
+        }
+        return message.toString();
+    }
+
+    private void appendParameter(StringBuilder message, Object value) {
+        if (value == null) {
+            message.append("null");
+        } else if (parameters == SlowQueryLogConfiguration.ParameterLogging.MASKED) {
+            message.append('<').append(value.getClass().getSimpleName()).append('>');
+        } else {
+            String string = String.valueOf(value);
+            if (string.length() > MAX_PARAMETER_LENGTH) {
+                message.append(string, 0, MAX_PARAMETER_LENGTH).append("...");
+            } else {
+                message.append(string);
+            }
+        }
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * The repository method executing a statement.
+     */
+    private static final class MethodKey {
+        private final String dataSource;
+        private final Class<?> repositoryType;
+        private final String methodName;
+        private final int hashCode;
+
+        MethodKey(QueryExecution execution) {
+            this.dataSource = execution.getDataSource();
+            this.repositoryType = execution.getRepositoryType();
+            this.methodName = execution.getMethodName();
+            this.hashCode = Objects.hash(dataSource, repositoryType, methodName);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            MethodKey that = (MethodKey) o;
+            return Objects.equals(dataSource, that.dataSource)
+                    && repositoryType == that.repositoryType
+                    && Objects.equals(methodName, that.methodName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.runtime.operations.SingleQueryPageOperations;
 
 import java.util.List;
 
@@ -50,13 +51,19 @@ public class DefaultFindPageInterceptor<T, R> extends AbstractQueryInterceptor<T
         Class<R> returnType = context.getReturnType().getType();
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
-            PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
+            Page<R> page = null;
+            if (operations instanceof SingleQueryPageOperations) {
+                page = (Page<R>) ((SingleQueryPageOperations) operations).findPageInSingleQuery(preparedQuery);
+            }
+            if (page == null) {
+                PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
 
-            Iterable<?> iterable = operations.findAll(preparedQuery);
-            List<R> resultList = (List<R>) CollectionUtils.iterableToList(iterable);
-            Number n = operations.findOne(countQuery);
-            Long result = n != null ? n.longValue() : 0;
-            Page<R> page = Page.of(resultList, getPageable(context), result);
+                Iterable<?> iterable = operations.findAll(preparedQuery);
+                List<R> resultList = (List<R>) CollectionUtils.iterableToList(iterable);
+                Number n = operations.findOne(countQuery);
+                Long result = n != null ? n.longValue() : 0;
+                page = Page.of(resultList, getPageable(context), result);
+            }
             if (returnType.isInstance(page)) {
                 return (R) page;
             } else {
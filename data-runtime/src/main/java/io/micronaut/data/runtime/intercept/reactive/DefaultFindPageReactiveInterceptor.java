@@ -23,6 +23,7 @@ import io.micronaut.data.intercept.reactive.FindPageReactiveInterceptor;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.runtime.operations.ReactiveSingleQueryPageOperations;
 import io.micronaut.transaction.support.TransactionSynchronizationManager;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -48,6 +49,12 @@ public class DefaultFindPageReactiveInterceptor extends AbstractPublisherInterce
     public Publisher<?> interceptPublisher(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
+            if (reactiveOperations instanceof ReactiveSingleQueryPageOperations) {
+                Publisher<? extends Page<?>> page = ((ReactiveSingleQueryPageOperations) reactiveOperations).findPageInSingleQuery(preparedQuery);
+                if (page != null) {
+                    return page;
+                }
+            }
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
 
             TransactionSynchronizationManager.TransactionSynchronizationState state = TransactionSynchronizationManager.getState();
@@ -319,6 +319,50 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         };
     }
 
+    /**
+     * Read multiple entities with a grouping mapper. The rows must be ordered by the identity of the root entity,
+     * an entity is completed as soon as a row of the next entity is pushed.
+     *
+     * @return The grouping mapper
+     * @since 3.8.2
+     */
+    public GroupingMapper<RS, R> readAllWithJoinsGrouped() {
+        return new GroupingMapper<RS, R>() {
+
+            MappingContext<R> current;
+            Object currentId;
+
+            @Override
+            public R processRow(RS row) {
+                MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+                Object id = readEntityId(row, ctx);
+                if (id == null) {
+                    throw new IllegalStateException("Entity doesn't have an id!");
+                }
+                if (current != null && id.equals(currentId)) {
+                    readChildren(row, current.entity, null, current);
+                    return null;
+                }
+                R completed = complete();
+                ctx.entity = readEntity(row, ctx, null, id);
+                current = ctx;
+                currentId = id;
+                return completed;
+            }
+
+            @Override
+            public R complete() {
+                if (current == null) {
+                    return null;
+                }
+                MappingContext<R> ctx = current;
+                current = null;
+                currentId = null;
+                return (R) setChildrenAndTriggerPostLoad(ctx.entity, ctx, null);
+            }
+        };
+    }
+
     private void readChildren(RS rs, Object instance, Object parent, MappingContext<R> ctx) {
         if (ctx.manyAssociations != null) {
             Object id = readEntityId(rs, ctx);
@@ -864,6 +908,34 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
     }
 
+    /**
+     * The grouping mapper helper interface, completing an entity once its rows are read.
+     *
+     * @param <RS> The row type
+     * @param <R>  The result type
+     * @since 3.8.2
+     */
+    public interface GroupingMapper<RS, R> {
+
+        /**
+         * Process row.
+         *
+         * @param row The row
+         * @return The previous entity if the row starts a new one, otherwise null
+         */
+        @Nullable
+        R processRow(@NonNull RS row);
+
+        /**
+         * Complete the entity of the last processed rows.
+         *
+         * @return The last entity or null if there is none
+         */
+        @Nullable
+        R complete();
+
+    }
+
     /**
      * The pushing mapper helper interface.
      *
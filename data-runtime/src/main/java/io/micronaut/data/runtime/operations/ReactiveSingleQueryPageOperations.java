@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.runtime.PreparedQuery;
+import org.reactivestreams.Publisher;
+
+/**
+ * Reactive variation of {@link SingleQueryPageOperations}.
+ *
+ * @since 3.8.2
+ */
+@Experimental
+public interface ReactiveSingleQueryPageOperations {
+
+    /**
+     * Retrieves the page and the total count in a single query.
+     *
+     * @param preparedQuery The paged query
+     * @param <E>           The entity type
+     * @param <R>           The result type
+     * @return The page publisher or null if the query should be executed with a separate count query
+     */
+    @Nullable
+    <E, R> Publisher<Page<R>> findPageInSingleQuery(@NonNull PreparedQuery<E, R> preparedQuery);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.runtime.PreparedQuery;
+
+/**
+ * Operations that can retrieve a page together with the total count in a single query, avoiding the separate count query.
+ *
+ * @since 3.8.2
+ */
+@Experimental
+public interface SingleQueryPageOperations {
+
+    /**
+     * Retrieves the page and the total count in a single query.
+     *
+     * @param preparedQuery The paged query
+     * @param <E>           The entity type
+     * @param <R>           The result type
+     * @return The page or null if the query should be executed with a separate count query
+     */
+    @Nullable
+    <E, R> Page<R> findPageInSingleQuery(@NonNull PreparedQuery<E, R> preparedQuery);
+}
@@ -20,6 +20,7 @@ import io.micronaut.context.ApplicationContextProvider;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.event.EntityEventContext;
@@ -36,9 +37,12 @@ import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.date.DateTimeProvider;
 import io.micronaut.data.runtime.event.DefaultEntityEventContext;
+import io.micronaut.data.runtime.execution.QueryExecution;
+import io.micronaut.data.runtime.execution.QueryExecutionListener;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.codec.MediaTypeCodec;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -60,6 +64,7 @@ public abstract class AbstractRepositoryOperations implements ApplicationContext
     protected final DataConversionService<?> conversionService;
     protected final AttributeConverterRegistry attributeConverterRegistry;
     private final Map<Class, RuntimePersistentProperty> idReaders = new ConcurrentHashMap<>(10);
+    private volatile QueryExecutionListener queryExecutionListener;
 
     /**
      * Default constructor.
@@ -96,6 +101,119 @@ public abstract class AbstractRepositoryOperations implements ApplicationContext
         return runtimeEntityRegistry.getApplicationContext();
     }
 
+    /**
+     * @return The listener of the executed statements, {@link QueryExecutionListener#NOOP} if none is registered
+     */
+    @NonNull
+    protected final QueryExecutionListener getQueryExecutionListener() {
+        QueryExecutionListener listener = this.queryExecutionListener;
+        if (listener == null) {
+            synchronized (this) { // double check
+                listener = this.queryExecutionListener;
+                if (listener == null) {
+                    listener = QueryExecutionListener.of(new ArrayList<>(getApplicationContext().getBeansOfType(QueryExecutionListener.class)));
+                    this.queryExecutionListener = listener;
+                }
+            }
+        }
+        return listener;
+    }
+
+    /**
+     * Starts the execution of a statement.
+     *
+     * @param dataSource     The data source name
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param query          The query
+     * @param kind           The kind of the statement
+     * @return The execution, {@link QueryExecution#DISABLED} if there is no enabled listener
+     */
+    @NonNull
+    protected final QueryExecution startQueryExecution(@Nullable String dataSource,
+                                                       @Nullable Class<?> repositoryType,
+                                                       @Nullable String methodName,
+                                                       @NonNull String query,
+                                                       @NonNull QueryExecution.Kind kind) {
+        return startQueryExecution(dataSource, repositoryType, methodName, query, kind, AnnotationMetadata.EMPTY_METADATA);
+    }
+
+    /**
+     * Starts the execution of a statement of a repository method.
+     *
+     * @param dataSource         The data source name
+     * @param repositoryType     The repository type
+     * @param methodName         The repository method name
+     * @param query              The query
+     * @param kind               The kind of the statement
+     * @param annotationMetadata The annotation metadata of the repository method
+     * @return The execution, {@link QueryExecution#DISABLED} if there is no enabled listener
+     */
+    @NonNull
+    protected final QueryExecution startQueryExecution(@Nullable String dataSource,
+                                                       @Nullable Class<?> repositoryType,
+                                                       @Nullable String methodName,
+                                                       @NonNull String query,
+                                                       @NonNull QueryExecution.Kind kind,
+                                                       @NonNull AnnotationMetadata annotationMetadata) {
+        if (!getQueryExecutionListener().isEnabled()) {
+            return QueryExecution.DISABLED;
+        }
+        return new QueryExecution(dataSource, repositoryType, methodName, query, kind, annotationMetadata);
+    }
+
+    /**
+     * Finishes the execution of a statement and notifies the listener, only the first call has an effect.
+     *
+     * @param execution The execution
+     */
+    protected final void finishQueryExecution(@NonNull QueryExecution execution) {
+        if (execution.finish()) {
+            getQueryExecutionListener().onQueryExecuted(execution);
+        }
+    }
+
+    /**
+     * Notifies the listener that an operation acquired a connection.
+     *
+     * @param dataSource The data source name
+     * @return The time the connection was acquired at to pass to {@link #connectionReleased(String, long)}, 0 if there is no enabled listener
+     */
+    protected final long connectionAcquired(@NonNull String dataSource) {
+        QueryExecutionListener listener = getQueryExecutionListener();
+        if (!listener.isEnabled()) {
+            return 0;
+        }
+        listener.onConnectionAcquired(dataSource);
+        return System.nanoTime();
+    }
+
+    /**
+     * Notifies the listener that the connection acquired by an operation was released.
+     *
+     * @param dataSource The data source name
+     * @param acquiredAt The time returned by {@link #connectionAcquired(String)}
+     */
+    protected final void connectionReleased(@NonNull String dataSource, long acquiredAt) {
+        if (acquiredAt != 0) {
+            getQueryExecutionListener().onConnectionReleased(dataSource, System.nanoTime() - acquiredAt);
+        }
+    }
+
+    /**
+     * Resolves the repository method name of an entity operation named after the repository and the method.
+     *
+     * @param operationName The operation name
+     * @return The method name
+     */
+    @Nullable
+    protected static String methodName(@Nullable String operationName) {
+        if (operationName == null) {
+            return null;
+        }
+        return operationName.substring(operationName.lastIndexOf('.') + 1);
+    }
+
     private MediaTypeCodec resolveJsonCodec(List<MediaTypeCodec> codecs) {
         return CollectionUtils.isNotEmpty(codecs) ? codecs.stream().filter(c -> c.getMediaTypes().contains(MediaType.APPLICATION_JSON_TYPE)).findFirst().orElse(null) : null;
     }
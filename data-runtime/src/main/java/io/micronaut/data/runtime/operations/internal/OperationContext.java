@@ -35,11 +35,17 @@ import java.util.Set;
 public class OperationContext {
     public final AnnotationMetadata annotationMetadata;
     public final Class<?> repositoryType;
+    public final String methodName;
     public final List<Association> associations = Collections.emptyList();
     public final Set<Object> persisted = new HashSet<>(5);
 
     public OperationContext(AnnotationMetadata annotationMetadata, Class<?> repositoryType) {
+        this(annotationMetadata, repositoryType, null);
+    }
+
+    public OperationContext(AnnotationMetadata annotationMetadata, Class<?> repositoryType, String methodName) {
         this.annotationMetadata = annotationMetadata;
         this.repositoryType = repositoryType;
+        this.methodName = methodName;
     }
 }
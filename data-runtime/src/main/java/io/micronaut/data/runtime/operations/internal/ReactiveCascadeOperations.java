@@ -162,7 +162,8 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
                         return childrenFlux.collectList();
                     });
                 } else if (cascadeType == Relation.Cascade.PERSIST) {
-                    if (helper.isSupportsBatchInsert(ctx, persistentEntity)) {
+                    if (helper.isSupportsBatchInsert(ctx, persistentEntity)
+                            || helper.isSupportsCascadeBatchInsert(ctx) && !hasGeneratedIdentity(childPersistentEntity)) {
                         monoEntity = updateChildren(ctx, monoEntity, cascadeOp, cascadeManyOp, childPersistentEntity, e -> {
                             if (LOG.isDebugEnabled()) {
                                 LOG.debug("Cascading many PERSIST for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
@@ -212,7 +213,8 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
             T entityAfterCascade = afterCascadedMany(e, cascadeOp.ctx.associations, cascadeManyOp.children, newChildren);
             RuntimeAssociation<Object> association = (RuntimeAssociation) cascadeOp.ctx.getAssociation();
             if (SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
-                if (helper.isSupportsBatchInsert(ctx, cascadeOp.ctx.parentPersistentEntity)) {
+                // The join table rows have no generated values
+                if (helper.isSupportsBatchInsert(ctx, cascadeOp.ctx.parentPersistentEntity) || helper.isSupportsCascadeBatchInsert(ctx)) {
                     Predicate<Object> veto = ctx.persisted::contains;
                     Mono<Void> op = helper.persistManyAssociationBatch(ctx, association, cascadeOp.ctx.parent, cascadeOp.ctx.parentPersistentEntity, newChildren, childPersistentEntity, veto);
                     return op.thenReturn(entityAfterCascade);
@@ -234,6 +236,11 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
         return monoEntity;
     }
 
+    private static boolean hasGeneratedIdentity(RuntimePersistentEntity<Object> persistentEntity) {
+        RuntimePersistentProperty<Object> identity = persistentEntity.getIdentity();
+        return identity != null && identity.isGenerated();
+    }
+
     /**
      * The cascade operations helper.
      *
@@ -252,6 +259,19 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
             return true;
         }
 
+        /**
+         * Whether the cascaded join table rows and children without a generated identity are inserted with one
+         * statement per cascade level, even if {@link #isSupportsBatchInsert(OperationContext, RuntimePersistentEntity)}
+         * doesn't support it for the parent entity.
+         *
+         * @param ctx The context
+         * @return True if supports
+         * @since 3.8.2
+         */
+        default boolean isSupportsCascadeBatchInsert(Ctx ctx) {
+            return false;
+        }
+
         /**
          * Is supports batch update.
          *
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The executor service starting a new virtual thread for each task.
+ * The number of tasks running concurrently can be limited, the tasks waiting for a permit block only their virtual thread.
+ *
+ * @since 3.8.2
+ */
+@Internal
+public final class VirtualThreadExecutorService extends AbstractExecutorService {
+
+    @Nullable
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutorFactory();
+
+    private final ExecutorService delegate;
+    @Nullable
+    private final Semaphore permits;
+
+    private VirtualThreadExecutorService(ExecutorService delegate, int maxConcurrency) {
+        this.delegate = delegate;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    /**
+     * @return true if the JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates a new virtual thread executor service.
+     *
+     * @param maxConcurrency The maximum number of tasks running concurrently, zero or less for unlimited
+     * @return The executor service
+     * @throws IllegalStateException if virtual threads are not supported
+     */
+    @NonNull
+    public static ExecutorService create(int maxConcurrency) {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new IllegalStateException("Virtual threads are not supported by the JVM");
+        }
+        try {
+            return new VirtualThreadExecutorService((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(), maxConcurrency);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create virtual thread executor: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        Semaphore permits = this.permits;
+        if (permits == null) {
+            delegate.execute(command);
+            return;
+        }
+        delegate.execute(() -> {
+            // The task must run to complete its future, so the wait isn't interruptible
+            permits.acquireUninterruptibly();
+            try {
+                command.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @NonNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Nullable
+    private static MethodHandle findVirtualThreadPerTaskExecutorFactory() {
+        try {
+            MethodHandle methodHandle = MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            // Fails on JDKs having virtual threads as a preview feature that is not enabled
+            ((ExecutorService) methodHandle.invoke()).shutdown();
+            return methodHandle;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
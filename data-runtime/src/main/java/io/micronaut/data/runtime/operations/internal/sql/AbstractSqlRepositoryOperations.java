@@ -50,9 +50,11 @@ import io.micronaut.data.repository.GenericRepository;
 import io.micronaut.data.runtime.config.DataSettings;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.date.DateTimeProvider;
+import io.micronaut.data.runtime.execution.QueryExecution;
 import io.micronaut.data.runtime.mapper.QueryStatement;
 import io.micronaut.data.runtime.mapper.ResultReader;
 import io.micronaut.data.runtime.operations.internal.AbstractRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
 import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.internal.BasicStoredQuery;
@@ -102,6 +104,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     private final Map<QueryKey, SqlStoredQuery> entityInserts = new ConcurrentHashMap<>(10);
     private final Map<QueryKey, SqlStoredQuery> entityUpdates = new ConcurrentHashMap<>(10);
     private final Map<Association, String> associationInserts = new ConcurrentHashMap<>(10);
+    private final String dataSourceName;
 
     /**
      * Default constructor.
@@ -132,6 +135,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         this.columnNameResultSetReader = columnNameResultSetReader;
         this.columnIndexResultSetReader = columnIndexResultSetReader;
         this.preparedStatementWriter = preparedStatementWriter;
+        this.dataSourceName = dataSourceName;
         Collection<BeanDefinition<GenericRepository>> beanDefinitions = beanContext
                 .getBeanDefinitions(GenericRepository.class, Qualifiers.byStereotype(Repository.class));
         for (BeanDefinition<GenericRepository> beanDefinition : beanDefinitions) {
@@ -144,6 +148,36 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         }
     }
 
+    /**
+     * Starts the execution of a prepared query.
+     *
+     * @param preparedQuery The prepared query
+     * @param kind          The kind of the statement
+     * @return The execution
+     */
+    @NonNull
+    protected final QueryExecution startQueryExecution(@NonNull PreparedQuery<?, ?> preparedQuery, @NonNull QueryExecution.Kind kind) {
+        QueryExecution execution = startQueryExecution(dataSourceName, preparedQuery.getRepositoryType(), preparedQuery.getName(),
+            preparedQuery.getQuery(), kind, preparedQuery.getAnnotationMetadata());
+        if (execution.isRecording()) {
+            execution.setParameters(preparedQuery.getParameterArray());
+        }
+        return execution;
+    }
+
+    /**
+     * Starts the execution of an entity operation statement.
+     *
+     * @param ctx         The operation context
+     * @param storedQuery The stored query
+     * @param kind        The kind of the statement
+     * @return The execution
+     */
+    @NonNull
+    protected final QueryExecution startQueryExecution(@NonNull OperationContext ctx, @NonNull StoredQuery<?, ?> storedQuery, @NonNull QueryExecution.Kind kind) {
+        return startQueryExecution(dataSourceName, ctx.repositoryType, ctx.methodName, storedQuery.getQuery(), kind, ctx.annotationMetadata);
+    }
+
     @Override
     public <E, R> PreparedQuery<E, R> decorate(PreparedQuery<E, R> preparedQuery) {
         return new DefaultSqlPreparedQuery<>(preparedQuery);
@@ -457,7 +491,6 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         return true;
     }
 
-
     /**
      * Used to cache queries for entities.
      */
@@ -18,7 +18,9 @@ package io.micronaut.data.runtime.operations.internal.sql;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.model.Association;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.PersistentPropertyPath;
 import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.query.builder.AbstractSqlLikeQueryBuilder;
 import io.micronaut.data.model.query.builder.sql.Dialect;
@@ -50,6 +52,7 @@ public final class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParamete
 
     private final SqlStoredQuery<E, R> sqlStoredQuery;
     private String query;
+    private boolean sortedByIdentity;
 
     public DefaultSqlPreparedQuery(PreparedQuery<E, R> preparedQuery) {
         this(preparedQuery, (SqlStoredQuery<E, R>) ((DelegateStoredQuery<Object, Object>) preparedQuery).getStoredQueryDelegate());
@@ -102,6 +105,11 @@ public final class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParamete
         return sqlStoredQuery.collectAutoPopulatedPreviousValues(entity);
     }
 
+    @Override
+    public boolean isOrderedByIdentity() {
+        return sortedByIdentity || sqlStoredQuery.isOrderedByIdentity();
+    }
+
     /**
      * Check if query need to be modified to expand parameters.
      *
@@ -156,6 +164,7 @@ public final class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParamete
                 sort = sortById(persistentEntity);
                 added.append(queryBuilder.buildOrderBy(persistentEntity, sort).getQuery());
             }
+            sortedByIdentity = isSortedByIdentity(persistentEntity, sort);
             if (isSingleResult && pageable.getOffset() > 0) {
                 pageable = Pageable.from(pageable.getNumber(), 1);
             }
@@ -172,6 +181,25 @@ public final class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParamete
         }
     }
 
+    private static boolean isSortedByIdentity(RuntimePersistentEntity<?> persistentEntity, Sort sort) {
+        RuntimePersistentProperty<?> identity = persistentEntity.getIdentity();
+        if (identity == null || identity instanceof Association || !sort.isSorted()) {
+            return false;
+        }
+        // The rows of an entity are consecutive only if every key before the identity is a column of the root entity
+        for (Sort.Order order : sort.getOrderBy()) {
+            String property = order.getProperty();
+            if (property.equals(identity.getName())) {
+                return true;
+            }
+            PersistentPropertyPath path = persistentEntity.getPropertyPath(property);
+            if (path == null || !path.getAssociations().isEmpty() || path.getProperty() instanceof Association) {
+                return false;
+            }
+        }
+        return false;
+    }
+
     /**
      * Build a sort for ID for the given entity.
      *
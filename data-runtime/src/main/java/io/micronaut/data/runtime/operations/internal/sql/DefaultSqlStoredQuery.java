@@ -18,10 +18,13 @@ package io.micronaut.data.runtime.operations.internal.sql;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.beans.BeanWrapper;
 import io.micronaut.core.type.Argument;
+import io.micronaut.data.model.Association;
+import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersStoredQuery;
 
@@ -45,6 +48,7 @@ public final class DefaultSqlStoredQuery<E, R> extends DefaultBindableParameters
 
     private final boolean expandableQuery;
     private final SqlQueryBuilder queryBuilder;
+    private volatile Boolean orderedByIdentity;
 
     /**
      * @param storedQuery             The stored query
@@ -79,6 +83,37 @@ public final class DefaultSqlStoredQuery<E, R> extends DefaultBindableParameters
         return queryBuilder;
     }
 
+    @Override
+    public boolean isOrderedByIdentity() {
+        Boolean orderedByIdentity = this.orderedByIdentity;
+        if (orderedByIdentity == null) {
+            orderedByIdentity = findOrderByIdentity();
+            this.orderedByIdentity = orderedByIdentity;
+        }
+        return orderedByIdentity;
+    }
+
+    private boolean findOrderByIdentity() {
+        RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
+        RuntimePersistentProperty<E> identity = persistentEntity.getIdentity();
+        if (identity == null || identity instanceof Association) {
+            return false;
+        }
+        String orderById = queryBuilder.buildOrderBy(persistentEntity, Sort.of(Sort.Order.asc(identity.getName()))).getQuery();
+        // Strip the direction, both directions keep the rows of an entity together
+        int directionIndex = orderById.lastIndexOf(' ');
+        if (directionIndex > 0) {
+            orderById = orderById.substring(0, directionIndex);
+        }
+        String query = getQuery();
+        int index = query.lastIndexOf(orderById);
+        if (index == -1) {
+            return false;
+        }
+        int end = index + orderById.length();
+        return end == query.length() || query.charAt(end) == ' ' || query.charAt(end) == ',';
+    }
+
     @Override
     public Map<QueryParameterBinding, Object> collectAutoPopulatedPreviousValues(E entity) {
         StoredQuery<E, R> storedQuery = getStoredQueryDelegate();
@@ -59,4 +59,13 @@ public interface SqlStoredQuery<E, R> extends BindableParametersStoredQuery<E, R
      */
     Map<QueryParameterBinding, Object> collectAutoPopulatedPreviousValues(E entity);
 
+    /**
+     * Is the query result ordered by the identity of the root entity, so that the rows of an entity
+     * fetched with a many-valued join are consecutive.
+     *
+     * @return true if ordered by the identity
+     * @since 3.8.2
+     */
+    boolean isOrderedByIdentity();
+
 }
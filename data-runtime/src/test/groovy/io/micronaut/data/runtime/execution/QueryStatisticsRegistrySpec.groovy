@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution
+
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+class QueryStatisticsRegistrySpec extends Specification {
+
+    void "test the executions of a query are accumulated"() {
+        given:
+        def registry = registry()
+
+        when:
+        registry.onQueryExecuted(execution("default", "SELECT 1", 10, 2))
+        registry.onQueryExecuted(execution("default", "SELECT 1", 30, 3))
+        registry.onQueryExecuted(execution("default", "SELECT 1", 20, 0, new IllegalStateException()))
+        def statistics = registry.statistics
+
+        then:
+        statistics.size() == 1
+        statistics[0].dataSource == "default"
+        statistics[0].query == "SELECT 1"
+        statistics[0].repository == "QueryStatisticsRegistrySpec"
+        statistics[0].method == "findAll"
+        statistics[0].calls == 3
+        statistics[0].errors == 1
+        statistics[0].rows == 5
+        statistics[0].totalNanos == 60
+        statistics[0].meanNanos == 20
+        statistics[0].maxNanos == 30
+    }
+
+    void "test the same query of different data sources is tracked separately"() {
+        given:
+        def registry = registry()
+
+        when:
+        registry.onQueryExecuted(execution("default", "SELECT 1", 10))
+        registry.onQueryExecuted(execution("other", "SELECT 1", 20))
+        registry.onQueryExecuted(execution(null, "SELECT 1", 30))
+
+        then:
+        registry.statistics.collectEntries { [(it.dataSource): it.totalNanos] } == [default: 10L, other: 20L, (null): 30L]
+    }
+
+    void "test the queries over the maximum are counted as untracked"() {
+        given:
+        def registry = registry(2)
+
+        when:
+        registry.onQueryExecuted(execution("default", "SELECT 1", 10))
+        registry.onQueryExecuted(execution("default", "SELECT 2", 10))
+        registry.onQueryExecuted(execution("default", "SELECT 3", 10))
+        registry.onQueryExecuted(execution("default", "SELECT 3", 10))
+        registry.onQueryExecuted(execution("default", "SELECT 1", 10))
+
+        then:"the tracked queries are still accumulated"
+        registry.statistics.collectEntries { [(it.query): it.calls] } == ["SELECT 1": 2L, "SELECT 2": 1L]
+        registry.untrackedExecutions == 2
+
+        when:
+        registry.reset()
+        registry.onQueryExecuted(execution("default", "SELECT 3", 10))
+
+        then:"the reset frees the tracked queries"
+        registry.statistics*.query == ["SELECT 3"]
+        registry.untrackedExecutions == 0
+    }
+
+    void "test the top queries are ordered by total time"() {
+        given:
+        def registry = registry()
+        registry.onQueryExecuted(execution("default", "fast", 5))
+        registry.onQueryExecuted(execution("default", "fast", 5))
+        registry.onQueryExecuted(execution("default", "slow", 100))
+        registry.onQueryExecuted(execution("default", "frequent", 30))
+        registry.onQueryExecuted(execution("default", "frequent", 30))
+        registry.onQueryExecuted(execution("default", "frequent", 30))
+
+        expect:
+        registry.getTop(limit)*.query == expected
+
+        where:
+        limit | expected
+        0     | []
+        2     | ["slow", "frequent"]
+        3     | ["slow", "frequent", "fast"]
+        10    | ["slow", "frequent", "fast"]
+    }
+
+    void "test concurrent executions are all counted"() {
+        given:
+        def registry = registry()
+        ExecutorService executor = Executors.newFixedThreadPool(8)
+
+        when:
+        def futures = (1..8).collect { thread ->
+            CompletableFuture.runAsync({
+                1000.times { i -> registry.onQueryExecuted(execution("default", "SELECT " + (i % 10), 1, 1)) }
+            }, executor)
+        }
+        CompletableFuture.allOf(futures as CompletableFuture[]).get()
+
+        then:
+        registry.statistics.size() == 10
+        registry.statistics.every { it.calls == 800 && it.rows == 800 && it.totalNanos == 800 }
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    private static QueryStatisticsRegistry registry(int maxQueries = QueryStatisticsConfiguration.DEFAULT_MAX_QUERIES) {
+        return new QueryStatisticsRegistry(new QueryStatisticsConfiguration(maxQueries: maxQueries))
+    }
+
+    private static QueryExecution execution(String dataSource, String query, long nanos, long rows = 0, Throwable error = null) {
+        def execution = new QueryExecution(dataSource, QueryStatisticsRegistrySpec, "findAll", query, QueryExecution.Kind.QUERY)
+        execution.addRows(rows)
+        if (error != null) {
+            execution.failed(error)
+        }
+        execution.finish()
+        // The total time is the only value not controlled by the caller
+        execution.@endNanos = execution.@startNanos + nanos
+        return execution
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.execution
+
+import io.micronaut.core.annotation.AnnotationValue
+import io.micronaut.data.annotation.QueryHint
+import io.micronaut.data.annotation.repeatable.QueryHints
+import io.micronaut.inject.annotation.MutableAnnotationMetadata
+import spock.lang.Specification
+
+import java.time.Duration
+
+class SlowQueryLoggerSpec extends Specification {
+
+    void "test the threshold of the data source is used"() {
+        given:
+        def configuration = new SlowQueryLogConfiguration(
+                threshold: Duration.ofHours(1),
+                dataSources: [other: Duration.ZERO])
+        def logger = new SlowQueryLogger(configuration)
+
+        expect:
+        logger.isSlow(execution("other"))
+        !logger.isSlow(execution("default"))
+    }
+
+    void "test the threshold hint of the method overrides the data source"() {
+        given:
+        def logger = new SlowQueryLogger(new SlowQueryLogConfiguration(threshold: Duration.ofHours(1)))
+        def metadata = new MutableAnnotationMetadata()
+        metadata.addRepeatable(QueryHints.name, AnnotationValue.builder(QueryHint)
+                .member("name", SlowQueryLogConfiguration.THRESHOLD_HINT)
+                .member("value", "0ms")
+                .build())
+
+        expect:
+        logger.isSlow(execution("default", "findByName", metadata))
+        !logger.isSlow(execution("default", "findByTitle"))
+    }
+
+    void "test an invalid threshold hint falls back to the data source threshold"() {
+        given:
+        def logger = new SlowQueryLogger(new SlowQueryLogConfiguration(
+                threshold: Duration.ofHours(1),
+                dataSources: [other: Duration.ZERO]))
+        def metadata = new MutableAnnotationMetadata()
+        metadata.addRepeatable(QueryHints.name, AnnotationValue.builder(QueryHint)
+                .member("name", SlowQueryLogConfiguration.THRESHOLD_HINT)
+                .member("value", value)
+                .build())
+
+        expect:
+        !logger.isSlow(execution("default", "findByName", metadata))
+        logger.isSlow(execution("other", "findByName", metadata))
+
+        when:"the listener is notified"
+        logger.onQueryExecuted(execution("default", "findByName", metadata))
+
+        then:
+        noExceptionThrown()
+
+        where:
+        value << ["fast", "-5ms"]
+    }
+
+    void "test the parameters are logged as configured"() {
+        given:
+        def logger = new SlowQueryLogger(new SlowQueryLogConfiguration(parameters: parameters))
+        def execution = execution("default")
+        execution.addRows(2)
+
+        expect:
+        logger.describe(execution).startsWith("Slow query took ")
+        logger.describe(execution).contains("in SlowQueryLoggerSpec.findByName on data source [default], 2 rows: SELECT 1")
+        logger.describe(execution).endsWith(expected)
+
+        where:
+        parameters                                          | expected
+        SlowQueryLogConfiguration.ParameterLogging.NONE     | "SELECT 1"
+        SlowQueryLogConfiguration.ParameterLogging.MASKED   | "SELECT 1 with parameters [<String>, null]"
+        SlowQueryLogConfiguration.ParameterLogging.VALUES   | "SELECT 1 with parameters [Fred, null]"
+    }
+
+    private static QueryExecution execution(String dataSource,
+                                            String methodName = "findByName",
+                                            MutableAnnotationMetadata metadata = new MutableAnnotationMetadata()) {
+        def execution = new QueryExecution(dataSource, SlowQueryLoggerSpec, methodName, "SELECT 1", QueryExecution.Kind.QUERY, metadata)
+        execution.setParameters(["Fred", null] as Object[])
+        execution.executed()
+        execution.finish()
+        return execution
+    }
+}
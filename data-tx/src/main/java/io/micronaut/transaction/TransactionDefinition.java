@@ -339,6 +339,18 @@ public interface TransactionDefinition {
         return null;
     }
 
+    /**
+     * Return the policy to retry the transaction when it fails with a transient error.
+     * <p>Only applies to newly started transactions.
+     * <p>The default is {@link TransactionRetryPolicy#NONE}.
+     * @return the retry policy
+     * @since 3.8.2
+     */
+    @NonNull
+    default TransactionRetryPolicy getRetryPolicy() {
+        return TransactionRetryPolicy.NONE;
+    }
+
     /**
      * Create a new {@link TransactionDefinition} for the given behaviour.
      * @param propagationBehaviour The behaviour
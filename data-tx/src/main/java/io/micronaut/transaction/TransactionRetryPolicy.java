@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The policy to retry a transaction that failed with a transient error, such as a serialization failure or a deadlock.
+ * <p>Only a new transaction is retried: a transaction participating in an existing one propagates the
+ * error so that the outermost transaction can be retried as a whole.</p>
+ *
+ * @since 3.8.2
+ */
+public final class TransactionRetryPolicy implements Serializable {
+
+    /**
+     * The policy that never retries.
+     */
+    public static final TransactionRetryPolicy NONE = new TransactionRetryPolicy(1, Duration.ZERO, Duration.ZERO, 1, 0);
+
+    private final int maxAttempts;
+    private final Duration delay;
+    private final Duration maxDelay;
+    private final double multiplier;
+    private final double jitter;
+
+    /**
+     * Default constructor.
+     *
+     * @param maxAttempts The maximum number of attempts including the first one
+     * @param delay       The delay before the first retry
+     * @param maxDelay    The maximum delay between attempts
+     * @param multiplier  The multiplier applied to the delay after each retry
+     * @param jitter      The fraction of the delay, between 0 and 1, that is randomized
+     */
+    public TransactionRetryPolicy(int maxAttempts,
+                                  @NonNull Duration delay,
+                                  @NonNull Duration maxDelay,
+                                  double multiplier,
+                                  double jitter) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1");
+        }
+        Objects.requireNonNull(delay, "Delay cannot be null");
+        Objects.requireNonNull(maxDelay, "Max delay cannot be null");
+        if (delay.isNegative() || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Delays cannot be negative");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be at least 1");
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.delay = delay;
+        this.maxDelay = maxDelay.compareTo(delay) < 0 ? delay : maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Creates a policy with an exponential backoff doubling the delay up to 20 times the initial delay, half of it randomized.
+     *
+     * @param maxAttempts The maximum number of attempts including the first one
+     * @param delay       The delay before the first retry
+     * @return The policy
+     */
+    @NonNull
+    public static TransactionRetryPolicy of(int maxAttempts, @NonNull Duration delay) {
+        return new TransactionRetryPolicy(maxAttempts, delay, delay.multipliedBy(20), 2, 0.5);
+    }
+
+    /**
+     * @return Whether the policy retries at all
+     */
+    public boolean isEnabled() {
+        return maxAttempts > 1;
+    }
+
+    /**
+     * @return The maximum number of attempts including the first one
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return The delay before the first retry
+     */
+    @NonNull
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * @return The maximum delay between attempts
+     */
+    @NonNull
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * @return The multiplier applied to the delay after each retry
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * @return The fraction of the delay that is randomized
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Computes the delay to wait before the next attempt. The exponential delay is capped by the max delay
+     * and then reduced by a random part of up to {@link #getJitter()} of its value, so that concurrent
+     * transactions failing together don't retry in lockstep.
+     *
+     * @param failedAttempts The number of attempts that failed so far
+     * @return The delay
+     */
+    @NonNull
+    public Duration nextDelay(int failedAttempts) {
+        long delayNanos = delay.toNanos();
+        if (delayNanos == 0) {
+            return Duration.ZERO;
+        }
+        double backoff = delayNanos * Math.pow(multiplier, Math.max(0, failedAttempts - 1));
+        double capped = Math.min(backoff, maxDelay.toNanos());
+        if (jitter > 0) {
+            capped -= capped * jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return Duration.ofNanos((long) capped);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TransactionRetryPolicy that = (TransactionRetryPolicy) o;
+        return maxAttempts == that.maxAttempts
+                && Double.compare(that.multiplier, multiplier) == 0
+                && Double.compare(that.jitter, jitter) == 0
+                && delay.equals(that.delay)
+                && maxDelay.equals(that.maxDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxAttempts, delay, maxDelay, multiplier, jitter);
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionRetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", delay=" + delay +
+                ", maxDelay=" + maxDelay +
+                ", multiplier=" + multiplier +
+                ", jitter=" + jitter +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Retries a transactional method when its transaction fails with a transient error, such as a serialization
+ * failure or a deadlock. Must be combined with a transactional annotation like {@code javax.transaction.Transactional}.
+ *
+ * <p>Each attempt re-executes the whole method in a new transaction, so the method should not have side effects outside of it.
+ * Only new transactions are retried: a method participating in an existing transaction propagates the error.</p>
+ *
+ * @see io.micronaut.transaction.TransactionRetryPolicy
+ * @since 3.8.2
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TransactionalRetry {
+
+    /**
+     * @return The maximum number of attempts including the first one
+     */
+    int attempts() default 3;
+
+    /**
+     * @return The delay before the first retry
+     */
+    String delay() default "20ms";
+
+    /**
+     * @return The maximum delay between attempts
+     */
+    String maxDelay() default "1s";
+
+    /**
+     * @return The multiplier applied to the delay after each retry
+     */
+    double multiplier() default 2;
+
+    /**
+     * @return The fraction of the delay, between 0 and 1, that is randomized
+     */
+    double jitter() default 0.5;
+}
@@ -36,6 +36,7 @@ import io.micronaut.transaction.async.AsyncTransactionOperations;
 import io.micronaut.transaction.exceptions.NoTransactionException;
 import io.micronaut.transaction.reactive.ReactiveTransactionOperations;
 import io.micronaut.transaction.reactive.ReactiveTransactionStatus;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
 import io.micronaut.transaction.support.TransactionUtil;
 import jakarta.inject.Singleton;
 import org.reactivestreams.Publisher;
@@ -68,6 +69,16 @@ public final class TransactionalInterceptor implements MethodInterceptor<Object,
                     return "Current aspect-driven transaction";
                 }
             };
+    /**
+     * The resource key of the current {@link TransactionInfo} when the
+     * {@link TransactionSynchronizationManager.StateBackend#SCOPED} state backend is used.
+     */
+    private static final Object TRANSACTION_INFO_KEY = new Object() {
+        @Override
+        public String toString() {
+            return "Current aspect-driven transaction";
+        }
+    };
     private final Map<ExecutableMethod, TransactionInvocation> transactionInvocationMap = new ConcurrentHashMap<>(30);
 
     @NonNull
@@ -126,7 +137,7 @@ public final class TransactionalInterceptor implements MethodInterceptor<Object,
                             reactiveTransactionOperations.withTransaction(definition, (status) -> {
                                 context.setAttribute(ReactiveTransactionStatus.STATUS, status);
                                 context.setAttribute(ReactiveTransactionStatus.ATTRIBUTE, definition);
-                                return Publishers.convertPublisher(context.proceed(), Publisher.class);
+                                return Publishers.convertPublisher(proceed(context, definition), Publisher.class);
                             })
                     );
                 case COMPLETION_STAGE:
@@ -143,17 +154,12 @@ public final class TransactionalInterceptor implements MethodInterceptor<Object,
                 case SYNCHRONOUS:
                     SynchronousTransactionManager<?> transactionManager = Objects.requireNonNull(transactionInvocation.transactionManager);
                     return transactionManager.execute(definition, status -> {
-                        TransactionInfo prev = TRANSACTION_INFO_HOLDER.get();
+                        TransactionInfo<?> prev = getTransactionInfo();
                         try {
-                            TransactionInfo<?> transactionInfo = new TransactionInfo<>(definition, status);
-                            TRANSACTION_INFO_HOLDER.set(transactionInfo);
-                            return context.proceed();
+                            setTransactionInfo(new TransactionInfo<>(definition, status));
+                            return proceed(context, definition);
                         } finally {
-                            if (prev == null) {
-                                TRANSACTION_INFO_HOLDER.remove();
-                            } else {
-                                TRANSACTION_INFO_HOLDER.set(prev);
-                            }
+                            setTransactionInfo(prev);
                         }
                     });
                 default:
@@ -165,6 +171,20 @@ public final class TransactionalInterceptor implements MethodInterceptor<Object,
         }
     }
 
+    /**
+     * Proceeds with the invocation. A transaction with a retry policy can proceed several times, so it resumes from this interceptor.
+     *
+     * @param context    The context
+     * @param definition The definition
+     * @return The result
+     */
+    private Object proceed(MethodInvocationContext<Object, Object> context, TransactionDefinition definition) {
+        if (definition.getRetryPolicy().isEnabled()) {
+            return context.proceed(this);
+        }
+        return context.proceed();
+    }
+
     /**
      * Return the transaction status of the current method invocation.
      * Mainly intended for code that wants to set the current transaction
@@ -176,13 +196,34 @@ public final class TransactionalInterceptor implements MethodInterceptor<Object,
      *                                because the method was invoked outside an AOP invocation context
      */
     public static <T> TransactionStatus<T> currentTransactionStatus() throws NoTransactionException {
-        TransactionInfo<T> info = TRANSACTION_INFO_HOLDER.get();
+        TransactionInfo<T> info = getTransactionInfo();
         if (info == null) {
             throw new NoTransactionException("No transaction aspect-managed TransactionStatus in scope");
         }
         return info.transactionStatus;
     }
 
+    @Nullable
+    private static <T> TransactionInfo<T> getTransactionInfo() {
+        if (TransactionSynchronizationManager.getStateBackend() == TransactionSynchronizationManager.StateBackend.SCOPED) {
+            return (TransactionInfo<T>) TransactionSynchronizationManager.getResource(TRANSACTION_INFO_KEY);
+        }
+        return TRANSACTION_INFO_HOLDER.get();
+    }
+
+    private static void setTransactionInfo(@Nullable TransactionInfo<?> transactionInfo) {
+        if (TransactionSynchronizationManager.getStateBackend() == TransactionSynchronizationManager.StateBackend.SCOPED) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_INFO_KEY);
+            if (transactionInfo != null) {
+                TransactionSynchronizationManager.bindResource(TRANSACTION_INFO_KEY, transactionInfo);
+            }
+        } else if (transactionInfo == null) {
+            TRANSACTION_INFO_HOLDER.remove();
+        } else {
+            TRANSACTION_INFO_HOLDER.set(transactionInfo);
+        }
+    }
+
     /**
      * @param executableMethod The method
      * @return The {@link TransactionDefinition}
@@ -98,6 +98,8 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
 
     private boolean enforceReadOnly = false;
 
+    private boolean lazyConnectionAcquisition = false;
+
     /**
      * Create a new DataSourceTransactionManager instance.
      * @param dataSource the JDBC DataSource to manage transactions for
@@ -156,6 +158,29 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
         return this.enforceReadOnly;
     }
 
+    /**
+     * Specify whether the physical JDBC connection of a new transaction should be acquired lazily.
+     * <p>If enabled, beginning a transaction only records the {@link TransactionDefinition}.
+     * The connection is fetched from the {@link DataSource} (and the isolation level, read-only flag
+     * and auto-commit mode are applied) when it is first requested, typically right before the first
+     * statement is executed. Transactions that never access the connection don't hold a pooled connection
+     * and their commit or rollback is a no-op.
+     * @param lazyConnectionAcquisition True if the connection should be acquired on first use
+     * @since 3.8.2
+     */
+    public void setLazyConnectionAcquisition(boolean lazyConnectionAcquisition) {
+        this.lazyConnectionAcquisition = lazyConnectionAcquisition;
+    }
+
+    /**
+     * @return Return whether the physical JDBC connection is acquired lazily on first use.
+     * @since 3.8.2
+     * @see #setLazyConnectionAcquisition
+     */
+    public boolean isLazyConnectionAcquisition() {
+        return this.lazyConnectionAcquisition;
+    }
+
     @Override
     public DataSource getResourceFactory() {
         return getDataSource();
@@ -197,31 +222,25 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
 
         try {
             if (!txObject.hasConnectionHolder() || txObject.getConnectionHolder().isSynchronizedWithTransaction()) {
-                Connection newCon = dataSource.getConnection();
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Acquired Connection [" + newCon + "] for JDBC transaction");
+                if (lazyConnectionAcquisition) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Deferring JDBC Connection acquisition for transaction until first use");
+                    }
+                    txObject.setConnectionHolder(new ConnectionHolder(new LazyConnectionHandle(txObject, definition)), true);
+                } else {
+                    Connection newCon = dataSource.getConnection();
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Acquired Connection [" + newCon + "] for JDBC transaction");
+                    }
+                    txObject.setConnectionHolder(new ConnectionHolder(newCon), true);
                 }
-                txObject.setConnectionHolder(new ConnectionHolder(newCon), true);
             }
 
             txObject.getConnectionHolder().setSynchronizedWithTransaction(true);
-            con = txObject.getConnectionHolder().getConnection();
-
-            TransactionDefinition.Isolation previousIsolationLevel = DataSourceUtils.prepareConnectionForTransaction(con, definition);
-            txObject.setPreviousIsolationLevel(previousIsolationLevel);
-
-            // Switch to manual commit if necessary. This is very expensive in some JDBC drivers,
-            // so we don't want to do it unnecessarily (for example if we've explicitly
-            // configured the connection pool to set it already).
-            if (con.getAutoCommit()) {
-                txObject.setMustRestoreAutoCommit(true);
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Switching JDBC Connection [" + con + "] to manual commit");
-                }
-                con.setAutoCommit(false);
+            if (isConnectionAcquired(txObject)) {
+                con = txObject.getConnectionHolder().getConnection();
+                prepareConnection(txObject, con, definition);
             }
-
-            prepareTransactionalConnection(con, definition);
             txObject.getConnectionHolder().setTransactionActive(true);
 
             Duration timeout = determineTimeout(definition);
@@ -243,6 +262,40 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
         }
     }
 
+    /**
+     * Applies the transaction definition to a newly acquired transactional connection.
+     * @param txObject The transaction object
+     * @param con The connection
+     * @param definition The transaction definition
+     * @throws SQLException if thrown by JDBC API
+     */
+    private void prepareConnection(DataSourceTransactionObject txObject, Connection con, TransactionDefinition definition) throws SQLException {
+        TransactionDefinition.Isolation previousIsolationLevel = DataSourceUtils.prepareConnectionForTransaction(con, definition);
+        txObject.setPreviousIsolationLevel(previousIsolationLevel);
+
+        // Switch to manual commit if necessary. This is very expensive in some JDBC drivers,
+        // so we don't want to do it unnecessarily (for example if we've explicitly
+        // configured the connection pool to set it already).
+        if (con.getAutoCommit()) {
+            txObject.setMustRestoreAutoCommit(true);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Switching JDBC Connection [" + con + "] to manual commit");
+            }
+            con.setAutoCommit(false);
+        }
+
+        prepareTransactionalConnection(con, definition);
+    }
+
+    /**
+     * @param txObject The transaction object
+     * @return Whether the physical connection of the transaction was already acquired
+     */
+    private boolean isConnectionAcquired(DataSourceTransactionObject txObject) {
+        ConnectionHandle connectionHandle = txObject.getConnectionHolder().getConnectionHandle();
+        return !(connectionHandle instanceof LazyConnectionHandle) || ((LazyConnectionHandle) connectionHandle).isAcquired();
+    }
+
     @Override
     protected Object doSuspend(Object transaction) {
         DataSourceTransactionObject txObject = (DataSourceTransactionObject) transaction;
@@ -258,6 +311,12 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
     @Override
     protected void doCommit(DefaultTransactionStatus status) {
         DataSourceTransactionObject txObject = (DataSourceTransactionObject) status.getTransaction();
+        if (!isConnectionAcquired(txObject)) {
+            if (status.isDebug()) {
+                logger.debug("Skipping commit of JDBC transaction that never acquired a Connection");
+            }
+            return;
+        }
         Connection con = txObject.getConnectionHolder().getConnection();
         if (status.isDebug()) {
             logger.debug("Committing JDBC transaction on Connection [" + con + "]");
@@ -272,6 +331,12 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
     @Override
     protected void doRollback(DefaultTransactionStatus status) {
         DataSourceTransactionObject txObject = (DataSourceTransactionObject) status.getTransaction();
+        if (!isConnectionAcquired(txObject)) {
+            if (status.isDebug()) {
+                logger.debug("Skipping rollback of JDBC transaction that never acquired a Connection");
+            }
+            return;
+        }
         Connection con = txObject.getConnectionHolder().getConnection();
         if (status.isDebug()) {
             logger.debug("Rolling back JDBC transaction on Connection [" + con + "]");
@@ -287,8 +352,8 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
     protected void doSetRollbackOnly(DefaultTransactionStatus status) {
         DataSourceTransactionObject txObject = (DataSourceTransactionObject) status.getTransaction();
         if (status.isDebug()) {
-            logger.debug("Setting JDBC transaction [" + txObject.getConnectionHolder().getConnection() +
-                    "] rollback-only");
+            Object con = isConnectionAcquired(txObject) ? txObject.getConnectionHolder().getConnection() : txObject.getConnectionHolder().getConnectionHandle();
+            logger.debug("Setting JDBC transaction [" + con + "] rollback-only");
         }
         txObject.setRollbackOnly();
     }
@@ -302,6 +367,12 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
             TransactionSynchronizationManager.unbindResource(dataSource);
         }
 
+        if (!isConnectionAcquired(txObject)) {
+            // Lazy connection was never used: nothing to reset or release.
+            txObject.getConnectionHolder().clear();
+            return;
+        }
+
         // Reset connection.
         Connection con = txObject.getConnectionHolder().getConnection();
         try {
@@ -412,4 +483,60 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
         }
     }
 
+    /**
+     * Connection handle that defers fetching the transactional connection until it's requested.
+     * The fetched connection is kept until the transaction completes.
+     */
+    private final class LazyConnectionHandle implements ConnectionHandle {
+
+        private final DataSourceTransactionObject txObject;
+
+        private final TransactionDefinition definition;
+
+        @Nullable
+        private Connection connection;
+
+        LazyConnectionHandle(DataSourceTransactionObject txObject, TransactionDefinition definition) {
+            this.txObject = txObject;
+            this.definition = definition;
+        }
+
+        /**
+         * @return Whether the physical connection was acquired
+         */
+        boolean isAcquired() {
+            return connection != null;
+        }
+
+        @Override
+        public Connection getConnection() {
+            if (connection == null) {
+                Connection newCon = null;
+                try {
+                    newCon = dataSource.getConnection();
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Lazily acquired Connection [" + newCon + "] for JDBC transaction");
+                    }
+                    prepareConnection(txObject, newCon, definition);
+                } catch (Throwable ex) {
+                    if (newCon != null) {
+                        try {
+                            DataSourceUtils.doCloseConnection(newCon, dataSource);
+                        } catch (Throwable closeEx) {
+                            logger.debug("Could not close JDBC Connection", closeEx);
+                        }
+                    }
+                    throw new CannotGetJdbcConnectionException("Could not open JDBC Connection for transaction", ex);
+                }
+                connection = newCon;
+            }
+            return connection;
+        }
+
+        @Override
+        public String toString() {
+            return "LazyConnectionHandle: " + (connection != null ? connection : "<not acquired>");
+        }
+    }
+
 }
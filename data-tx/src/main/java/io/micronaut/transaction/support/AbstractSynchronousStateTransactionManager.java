@@ -20,6 +20,7 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.transaction.TransactionCallback;
 import io.micronaut.transaction.TransactionDefinition;
+import io.micronaut.transaction.TransactionRetryPolicy;
 import io.micronaut.transaction.TransactionStatus;
 import io.micronaut.transaction.exceptions.IllegalTransactionStateException;
 import io.micronaut.transaction.exceptions.InvalidTimeoutException;
@@ -38,6 +39,7 @@ import java.io.Serializable;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * NOTICE: This is a fork of Spring's {@code AbstractPlatformTransactionManager} modernizing it
@@ -135,11 +137,82 @@ public abstract class AbstractSynchronousStateTransactionManager<T> implements S
 
     private boolean rollbackOnCommitFailure = false;
 
+    private transient TransactionRetryClassifier retryClassifier = TransactionRetryClassifier.SQL_STATE;
+
+    private transient TransactionRetryListener retryListener = TransactionRetryListener.NOOP;
+
     @Override
     public <R> R execute(@NonNull SynchronousTransactionState state, @NonNull TransactionDefinition definition, @NonNull TransactionCallback<T, R> callback) {
+        return executeWithState(() -> state, definition, callback);
+    }
+
+    /**
+     * Execute the callback in a transaction, retrying it according to the {@link TransactionDefinition#getRetryPolicy() retry policy}.
+     *
+     * @param stateSupplier The supplier of the state of each attempt, as the state of a completed transaction can be destroyed
+     * @param definition    The transaction definition
+     * @param callback      The callback
+     * @param <R>           The result type
+     * @return The result of the callback
+     * @since 3.8.2
+     */
+    protected final <R> R executeWithState(@NonNull Supplier<SynchronousTransactionState> stateSupplier,
+                                           @NonNull TransactionDefinition definition,
+                                           @NonNull TransactionCallback<T, R> callback) {
         Objects.requireNonNull(definition, "Definition should not be null");
         Objects.requireNonNull(callback, "Callback should not be null");
-        TransactionStatus<T> status = getTransaction(state, definition);
+        TransactionRetryPolicy retryPolicy = definition.getRetryPolicy();
+        if (!retryPolicy.isEnabled()) {
+            SynchronousTransactionState state = stateSupplier.get();
+            return executeInTransaction(state, definition, getTransaction(state, definition), callback);
+        }
+        int attempt = 1;
+        while (true) {
+            SynchronousTransactionState state = stateSupplier.get();
+            TransactionStatus<T> status = getTransaction(state, definition);
+            R result;
+            try {
+                result = executeInTransaction(state, definition, status, callback);
+            } catch (Throwable ex) {
+                if (!status.isNewTransaction()) {
+                    // Only the outermost transaction can be retried
+                    return ExceptionUtil.sneakyThrow(ex);
+                }
+                if (!retryClassifier.isRetryable(ex)) {
+                    retryListener.onComplete(definition, attempt, TransactionRetryListener.Outcome.NOT_RETRYABLE, ex);
+                    return ExceptionUtil.sneakyThrow(ex);
+                }
+                if (attempt >= retryPolicy.getMaxAttempts()) {
+                    retryListener.onComplete(definition, attempt, TransactionRetryListener.Outcome.EXHAUSTED, ex);
+                    return ExceptionUtil.sneakyThrow(ex);
+                }
+                Duration delay = retryPolicy.nextDelay(attempt);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Retrying transaction [" + definition.getName() + "] in " + delay.toMillis() + "ms after attempt " + attempt + " failed: " + ex.getMessage());
+                }
+                retryListener.onRetry(definition, attempt, ex, delay);
+                try {
+                    if (!delay.isZero()) {
+                        Thread.sleep(delay.toMillis(), delay.getNano() % 1_000_000);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return ExceptionUtil.sneakyThrow(ex);
+                }
+                attempt++;
+                continue;
+            }
+            if (status.isNewTransaction()) {
+                retryListener.onComplete(definition, attempt, TransactionRetryListener.Outcome.SUCCESS, null);
+            }
+            return result;
+        }
+    }
+
+    private <R> R executeInTransaction(@NonNull SynchronousTransactionState state,
+                                       @NonNull TransactionDefinition definition,
+                                       @NonNull TransactionStatus<T> status,
+                                       @NonNull TransactionCallback<T, R> callback) {
         R result;
         try {
             result = callback.call(status);
@@ -367,6 +440,46 @@ public abstract class AbstractSynchronousStateTransactionManager<T> implements S
         return this.rollbackOnCommitFailure;
     }
 
+    /**
+     * Set the classifier deciding which errors a transaction with a {@link TransactionRetryPolicy} is retried on.
+     * <p>Default retries the serialization failures and deadlocks reported by a {@link java.sql.SQLException}.
+     *
+     * @param retryClassifier The retry classifier
+     * @see TransactionDefinition#getRetryPolicy()
+     * @since 3.8.2
+     */
+    public final void setRetryClassifier(@NonNull TransactionRetryClassifier retryClassifier) {
+        this.retryClassifier = Objects.requireNonNull(retryClassifier, "Retry classifier cannot be null");
+    }
+
+    /**
+     * @return The classifier deciding which errors a transaction is retried on.
+     * @since 3.8.2
+     */
+    @NonNull
+    public final TransactionRetryClassifier getRetryClassifier() {
+        return this.retryClassifier;
+    }
+
+    /**
+     * Set the listener notified of the attempts and outcomes of transactions with a {@link TransactionRetryPolicy}.
+     *
+     * @param retryListener The retry listener
+     * @since 3.8.2
+     */
+    public final void setRetryListener(@NonNull TransactionRetryListener retryListener) {
+        this.retryListener = Objects.requireNonNull(retryListener, "Retry listener cannot be null");
+    }
+
+    /**
+     * @return The listener notified of the retries.
+     * @since 3.8.2
+     */
+    @NonNull
+    public final TransactionRetryListener getRetryListener() {
+        return this.retryListener;
+    }
+
 
     //---------------------------------------------------------------------
     // Implementation of PlatformTransactionManager
@@ -420,6 +533,7 @@ public abstract class AbstractSynchronousStateTransactionManager<T> implements S
                     DefaultTransactionStatus<T> status = newTransactionStatus(
                             state, definition, transaction, true, newSynchronization, debugEnabled, suspendedResources);
                     doBegin(transaction, definition);
+                    status.setFlightRecording(TransactionFlightRecorder.begin(definition));
                     prepareSynchronization(state, status, definition);
                     return status;
                 } catch (RuntimeException | Error ex) {
@@ -540,6 +654,7 @@ public abstract class AbstractSynchronousStateTransactionManager<T> implements S
             DefaultTransactionStatus<T> status = newTransactionStatus(
                     state, definition, transaction, true, nestedNewSynchronization, debugEnabled, null);
             doBegin(transaction, definition);
+            status.setFlightRecording(TransactionFlightRecorder.begin(definition));
             prepareSynchronization(state, status, definition);
             return status;
         }
@@ -557,6 +672,7 @@ public abstract class AbstractSynchronousStateTransactionManager<T> implements S
             DefaultTransactionStatus<T> status = newTransactionStatus(
                     state, definition, transaction, true, requiresNewIsNewSynchronization, debugEnabled, requiresNewSuspendedResources);
             doBegin(transaction, definition);
+            status.setFlightRecording(TransactionFlightRecorder.begin(definition));
             prepareSynchronization(state, status, definition);
             return status;
         } catch (RuntimeException | Error beginEx) {
@@ -1060,6 +1176,10 @@ public abstract class AbstractSynchronousStateTransactionManager<T> implements S
     private void triggerAfterCompletion(@NonNull SynchronousTransactionState state,
                                         @NonNull DefaultTransactionStatus<T> status,
                                         TransactionSynchronization.Status completionStatus) {
+        Object flightRecording = status.takeFlightRecording();
+        if (flightRecording != null) {
+            TransactionFlightRecorder.end(flightRecording, outcome(completionStatus));
+        }
         if (status.isNewSynchronization()) {
             List<TransactionSynchronization> synchronizations = state.getSynchronizations();
             state.clearSynchronization();
@@ -1079,6 +1199,17 @@ public abstract class AbstractSynchronousStateTransactionManager<T> implements S
         }
     }
 
+    private static String outcome(TransactionSynchronization.Status completionStatus) {
+        switch (completionStatus) {
+            case COMMITTED:
+                return TransactionFlightRecorder.COMMIT;
+            case ROLLED_BACK:
+                return TransactionFlightRecorder.ROLLBACK;
+            default:
+                return TransactionFlightRecorder.UNKNOWN;
+        }
+    }
+
     /**
      * Actually invoke the {@code afterCompletion} methods of the
      * given Spring TransactionSynchronization objects.
@@ -1401,6 +1532,8 @@ public abstract class AbstractSynchronousStateTransactionManager<T> implements S
 
         // Initialize transient fields.
         this.logger = LoggerFactory.getLogger(getClass());
+        this.retryClassifier = TransactionRetryClassifier.SQL_STATE;
+        this.retryListener = TransactionRetryListener.NOOP;
     }
 
     /**
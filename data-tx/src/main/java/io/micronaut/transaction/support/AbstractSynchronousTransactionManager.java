@@ -141,7 +141,7 @@ public abstract class AbstractSynchronousTransactionManager<T> extends AbstractS
     @Override
     public <R> R execute(@NonNull TransactionDefinition definition, @NonNull TransactionCallback<T, R> callback) {
         try (TransactionSynchronizationManager.TransactionSynchronizationStateOp ignore = TransactionSynchronizationManager.withGuardedState()) {
-            return execute(findOrCreateState(), definition, callback);
+            return executeWithState(this::findOrCreateState, definition, callback);
         }
     }
 
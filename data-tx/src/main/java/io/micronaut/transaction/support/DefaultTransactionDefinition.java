@@ -18,6 +18,7 @@ package io.micronaut.transaction.support;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.transaction.TransactionDefinition;
+import io.micronaut.transaction.TransactionRetryPolicy;
 
 import java.io.Serializable;
 import java.time.Duration;
@@ -83,6 +84,8 @@ public class DefaultTransactionDefinition implements TransactionDefinition, Seri
 
     private Collection<Class<? extends Throwable>> dontRollbackOn = Collections.emptyList();
 
+    private TransactionRetryPolicy retryPolicy = TransactionRetryPolicy.NONE;
+
     /**
      * Create a new DefaultTransactionDefinition, with default settings.
      * Can be modified through bean property setters.
@@ -112,6 +115,7 @@ public class DefaultTransactionDefinition implements TransactionDefinition, Seri
         this.name = other.getName();
         this.rollbackOn = other.getRollbackOn();
         this.dontRollbackOn = other.getDontRollbackOn();
+        this.retryPolicy = other.getRetryPolicy();
     }
 
     /**
@@ -289,6 +293,22 @@ public class DefaultTransactionDefinition implements TransactionDefinition, Seri
         return dontRollbackOn;
     }
 
+    /**
+     * Set the policy to retry the transaction when it fails with a transient error.
+     *
+     * @param retryPolicy The retry policy
+     * @since 3.8.2
+     */
+    public void setRetryPolicy(@Nullable TransactionRetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy == null ? TransactionRetryPolicy.NONE : retryPolicy;
+    }
+
+    @Override
+    @NonNull
+    public TransactionRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
     /**
      * This implementation compares the {@code toString()} results.
      * @see #toString()
@@ -329,6 +349,9 @@ public class DefaultTransactionDefinition implements TransactionDefinition, Seri
         if (!dontRollbackOn.isEmpty()) {
             sb.append(", dontRollbackOn=").append(dontRollbackOn);
         }
+        if (retryPolicy.isEnabled()) {
+            sb.append(", retryPolicy=").append(retryPolicy);
+        }
         sb.append(']');
         return sb.toString();
     }
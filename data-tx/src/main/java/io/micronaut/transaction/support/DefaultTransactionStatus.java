@@ -67,6 +67,9 @@ public class DefaultTransactionStatus<T> extends AbstractTransactionStatus<T> {
 
     private final Supplier<T> connectionSupplier;
 
+    @Nullable
+    private Object flightRecording;
+
     /**
      * Create a new {@code DefaultTransactionStatus} instance.
      * @param transaction underlying transaction object that can hold state
@@ -96,6 +99,26 @@ public class DefaultTransactionStatus<T> extends AbstractTransactionStatus<T> {
         this.suspendedResources = suspendedResources;
     }
 
+    /**
+     * @param flightRecording The JFR recording of the transaction
+     * @see TransactionFlightRecorder
+     */
+    void setFlightRecording(@Nullable Object flightRecording) {
+        this.flightRecording = flightRecording;
+    }
+
+    /**
+     * Removes the JFR recording of the transaction.
+     *
+     * @return The recording, null if the transaction is not recorded
+     */
+    @Nullable
+    Object takeFlightRecording() {
+        Object flightRecording = this.flightRecording;
+        this.flightRecording = null;
+        return flightRecording;
+    }
+
     @NonNull
     @Override
     public T getConnection() {
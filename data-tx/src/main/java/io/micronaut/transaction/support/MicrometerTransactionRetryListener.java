@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.transaction.TransactionDefinition;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+
+/**
+ * Records the transaction retries with Micrometer.
+ * <ul>
+ *     <li>{@value #RETRIES} counts the retried attempts by transaction</li>
+ *     <li>{@value #ATTEMPTS} summarizes the attempts made by transaction and outcome</li>
+ * </ul>
+ *
+ * @since 3.8.2
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Internal
+final class MicrometerTransactionRetryListener implements TransactionRetryListener {
+
+    static final String RETRIES = "micronaut.data.transaction.retries";
+    static final String ATTEMPTS = "micronaut.data.transaction.attempts";
+
+    private final MeterRegistry meterRegistry;
+
+    MicrometerTransactionRetryListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onRetry(TransactionDefinition definition, int failedAttempts, Throwable cause, Duration delay) {
+        Counter.builder(RETRIES)
+                .description("The retried transaction attempts")
+                .tag("transaction", name(definition))
+                .tag("exception", cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void onComplete(TransactionDefinition definition, int attempts, Outcome outcome, Throwable failure) {
+        DistributionSummary.builder(ATTEMPTS)
+                .description("The attempts made by transactions with a retry policy")
+                .tag("transaction", name(definition))
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry)
+                .record(attempts);
+    }
+
+    private static String name(TransactionDefinition definition) {
+        String name = definition.getName();
+        return name == null ? "unnamed" : name;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.support;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JFR event of a transaction, starting when the transaction began and ending when it completed.
+ *
+ * @since 3.8.2
+ */
+@Name("io.micronaut.data.Transaction")
+@Label("Transaction")
+@Category({"Micronaut", "Data"})
+@Description("A transaction from its begin to its commit or rollback")
+@Enabled(false)
+@StackTrace(false)
+final class TransactionEvent extends jdk.jfr.Event {
+
+    @Label("Name")
+    String name;
+
+    @Label("Propagation")
+    String propagation;
+
+    @Label("Isolation")
+    String isolation;
+
+    @Label("Read Only")
+    boolean readOnly;
+
+    @Label("Outcome")
+    @Description("commit, rollback or unknown")
+    String outcome;
+}
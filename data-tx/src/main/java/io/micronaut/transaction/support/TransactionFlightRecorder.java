@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.support;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.transaction.TransactionDefinition;
+
+/**
+ * Records the transactions as JFR events when the JVM supports JFR and a recording enables the
+ * {@code io.micronaut.data.Transaction} event.
+ *
+ * @since 3.8.2
+ */
+@Internal
+public final class TransactionFlightRecorder {
+
+    /**
+     * The outcome of a committed transaction.
+     */
+    public static final String COMMIT = "commit";
+    /**
+     * The outcome of a rolled back transaction.
+     */
+    public static final String ROLLBACK = "rollback";
+    /**
+     * The outcome of a transaction in an unknown state.
+     */
+    public static final String UNKNOWN = "unknown";
+
+    private static final boolean AVAILABLE = ClassUtils.isPresent("jdk.jfr.Event", TransactionFlightRecorder.class.getClassLoader());
+
+    private TransactionFlightRecorder() {
+    }
+
+    /**
+     * Records the begin of a new transaction.
+     *
+     * @param definition The transaction definition
+     * @return The recording to pass to {@link #end(Object, String)}, null if the event is not enabled
+     */
+    @Nullable
+    public static Object begin(@NonNull TransactionDefinition definition) {
+        if (!AVAILABLE) {
+            return null;
+        }
+        TransactionEvent event = new TransactionEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        event.name = definition.getName();
+        event.propagation = definition.getPropagationBehavior().name();
+        event.isolation = definition.getIsolationLevel().name();
+        event.readOnly = definition.isReadOnly();
+        return event;
+    }
+
+    /**
+     * Records the completion of a transaction.
+     *
+     * @param recording The recording returned by {@link #begin(TransactionDefinition)}
+     * @param outcome   The outcome
+     */
+    public static void end(@Nullable Object recording, @NonNull String outcome) {
+        if (recording == null) {
+            return;
+        }
+        TransactionEvent event = (TransactionEvent) recording;
+        event.end();
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
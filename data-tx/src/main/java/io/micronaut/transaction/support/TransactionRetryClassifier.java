@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.support;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.sql.SQLException;
+import java.util.function.BiPredicate;
+
+/**
+ * Decides whether a failed transaction can be retried.
+ *
+ * @see io.micronaut.transaction.TransactionRetryPolicy
+ * @since 3.8.2
+ */
+@FunctionalInterface
+public interface TransactionRetryClassifier {
+
+    /**
+     * The classifier retrying serialization failures ({@code 40001}) and deadlocks ({@code 40P01}) reported by a {@link SQLException}.
+     */
+    TransactionRetryClassifier SQL_STATE = sqlState((sqlState, errorCode) -> "40001".equals(sqlState) || "40P01".equals(sqlState));
+
+    /**
+     * @param throwable The error the transaction failed with
+     * @return Whether the transaction can be retried
+     */
+    boolean isRetryable(@NonNull Throwable throwable);
+
+    /**
+     * Creates a classifier matching the SQL state and vendor code of any {@link SQLException} in the cause chain.
+     *
+     * @param predicate The predicate receiving the SQL state and the vendor code
+     * @return The classifier
+     */
+    @NonNull
+    static TransactionRetryClassifier sqlState(@NonNull BiPredicate<String, Integer> predicate) {
+        return throwable -> {
+            Throwable cause = throwable;
+            while (cause != null) {
+                if (cause instanceof SQLException) {
+                    SQLException sqlException = (SQLException) cause;
+                    if (predicate.test(sqlException.getSQLState(), sqlException.getErrorCode())) {
+                        return true;
+                    }
+                }
+                cause = nextCause(cause);
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the next cause in the chain, stopping on self references.
+     *
+     * @param throwable The throwable
+     * @return The cause or null
+     */
+    @Nullable
+    static Throwable nextCause(@NonNull Throwable throwable) {
+        Throwable cause = throwable.getCause();
+        return cause == throwable ? null : cause;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.support;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Receives the attempts and outcomes of transactions executed with a {@link io.micronaut.transaction.TransactionRetryPolicy}.
+ *
+ * @since 3.8.2
+ */
+public interface TransactionRetryListener {
+
+    /**
+     * The listener ignoring all events.
+     */
+    TransactionRetryListener NOOP = new TransactionRetryListener() {
+    };
+
+    /**
+     * The outcome of a transaction executed with retries.
+     */
+    enum Outcome {
+        /**
+         * The transaction committed.
+         */
+        SUCCESS,
+        /**
+         * The transaction failed with an error that cannot be retried.
+         */
+        NOT_RETRYABLE,
+        /**
+         * The transaction failed on its last allowed attempt.
+         */
+        EXHAUSTED
+    }
+
+    /**
+     * Invoked before a failed transaction is retried.
+     *
+     * @param definition     The transaction definition
+     * @param failedAttempts The number of attempts that failed so far
+     * @param cause          The error of the last attempt
+     * @param delay          The delay before the next attempt
+     */
+    default void onRetry(@NonNull TransactionDefinition definition, int failedAttempts, @NonNull Throwable cause, @NonNull Duration delay) {
+    }
+
+    /**
+     * Invoked once the transaction has completed.
+     *
+     * @param definition The transaction definition
+     * @param attempts   The number of attempts made
+     * @param outcome    The outcome
+     * @param failure    The error of the last attempt if it failed
+     */
+    default void onComplete(@NonNull TransactionDefinition definition, int attempts, @NonNull Outcome outcome, @Nullable Throwable failure) {
+    }
+
+    /**
+     * Combines the listeners.
+     *
+     * @param listeners The listeners
+     * @return The listener notifying all the listeners
+     */
+    @NonNull
+    static TransactionRetryListener of(@NonNull List<? extends TransactionRetryListener> listeners) {
+        if (listeners.isEmpty()) {
+            return NOOP;
+        }
+        if (listeners.size() == 1) {
+            return listeners.get(0);
+        }
+        return new TransactionRetryListener() {
+            @Override
+            public void onRetry(TransactionDefinition definition, int failedAttempts, Throwable cause, Duration delay) {
+                for (TransactionRetryListener listener : listeners) {
+                    listener.onRetry(definition, failedAttempts, cause, delay);
+                }
+            }
+
+            @Override
+            public void onComplete(TransactionDefinition definition, int attempts, Outcome outcome, Throwable failure) {
+                for (TransactionRetryListener listener : listeners) {
+                    listener.onComplete(definition, attempts, outcome, failure);
+                }
+            }
+        };
+    }
+}
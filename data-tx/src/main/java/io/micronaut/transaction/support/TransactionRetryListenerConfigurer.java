@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.support;
+
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.annotation.Internal;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+
+/**
+ * Registers the {@link TransactionRetryListener} beans with the transaction managers.
+ *
+ * @since 3.8.2
+ */
+@Singleton
+@Internal
+@SuppressWarnings("rawtypes")
+final class TransactionRetryListenerConfigurer implements BeanCreatedEventListener<AbstractSynchronousStateTransactionManager> {
+
+    private final TransactionRetryListener retryListener;
+
+    TransactionRetryListenerConfigurer(List<TransactionRetryListener> retryListeners) {
+        this.retryListener = TransactionRetryListener.of(retryListeners);
+    }
+
+    @Override
+    public AbstractSynchronousStateTransactionManager onCreated(BeanCreatedEvent<AbstractSynchronousStateTransactionManager> event) {
+        AbstractSynchronousStateTransactionManager transactionManager = event.getBean();
+        if (retryListener != TransactionRetryListener.NOOP) {
+            transactionManager.setRetryListener(retryListener);
+        }
+        return transactionManager;
+    }
+}
@@ -22,11 +22,15 @@ import io.micronaut.transaction.TransactionDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
@@ -72,9 +76,22 @@ public abstract class TransactionSynchronizationManager {
 
     public static final Object DEFAULT_STATE_KEY = new Object();
 
+    /**
+     * The system property used to select the {@link StateBackend} at startup.
+     *
+     * @since 3.8.2
+     */
+    public static final String STATE_BACKEND_PROPERTY = "micronaut.transaction.state-backend";
+
     private static final Logger LOG = LoggerFactory.getLogger(TransactionSynchronizationManager.class);
 
-    private static final ThreadLocal<MutableTransactionSynchronizationState> STATE = new ThreadLocal<MutableTransactionSynchronizationState>() {
+    private static final StateBackend STATE_BACKEND = StateBackend.valueOf(
+        System.getProperty(STATE_BACKEND_PROPERTY, StateBackend.THREAD_LOCAL.name()).replace('-', '_').toUpperCase(Locale.ENGLISH)
+    );
+
+    private static final ScopedTransactionSynchronizationState EMPTY_SCOPED_STATE = new ScopedTransactionSynchronizationState();
+
+    private static final ThreadLocal<AbstractTransactionSynchronizationState> STATE = new ThreadLocal<AbstractTransactionSynchronizationState>() {
         @Override
         public String toString() {
             return "The state";
@@ -82,22 +99,33 @@ public abstract class TransactionSynchronizationManager {
     };
 
     @NonNull
-    private static MutableTransactionSynchronizationState getOrCreateInternalState() {
-        MutableTransactionSynchronizationState mutableState = STATE.get();
-        if (mutableState == null) {
-            mutableState = new MutableTransactionSynchronizationState();
-            STATE.set(mutableState);
+    private static AbstractTransactionSynchronizationState getOrCreateInternalState() {
+        AbstractTransactionSynchronizationState state = STATE.get();
+        if (state == null) {
+            state = STATE_BACKEND == StateBackend.SCOPED ? new ScopedTransactionSynchronizationState() : new MutableTransactionSynchronizationState();
+            STATE.set(state);
         }
-        return mutableState;
+        return state;
     }
 
     @NonNull
-    private static MutableTransactionSynchronizationState getInternalState() {
-        MutableTransactionSynchronizationState mutableState = STATE.get();
-        if (mutableState == null) {
-            mutableState = new MutableTransactionSynchronizationState();
+    private static AbstractTransactionSynchronizationState getInternalState() {
+        AbstractTransactionSynchronizationState state = STATE.get();
+        if (state == null) {
+            // The empty scoped state is never modified: binding always goes through getOrCreateInternalState
+            state = STATE_BACKEND == StateBackend.SCOPED ? EMPTY_SCOPED_STATE : new MutableTransactionSynchronizationState();
         }
-        return mutableState;
+        return state;
+    }
+
+    /**
+     * @return The state backend selected at startup with {@link #STATE_BACKEND_PROPERTY}
+     * @since 3.8.2
+     */
+    @Internal
+    @NonNull
+    public static StateBackend getStateBackend() {
+        return STATE_BACKEND;
     }
 
     //-------------------------------------------------------------------------
@@ -613,9 +641,8 @@ public abstract class TransactionSynchronizationManager {
             STATE.remove();
             return;
         }
-        if (state instanceof MutableTransactionSynchronizationState) {
-            MutableTransactionSynchronizationState mutableState = (MutableTransactionSynchronizationState) state;
-            STATE.set(mutableState);
+        if (state instanceof AbstractTransactionSynchronizationState) {
+            STATE.set((AbstractTransactionSynchronizationState) state);
         } else {
             throw new IllegalStateException("Unknown state: " + state);
         }
@@ -748,6 +775,24 @@ public abstract class TransactionSynchronizationManager {
         TransactionSynchronizationState copy();
     }
 
+    /**
+     * The backend used to store the transaction synchronization state of the current thread.
+     *
+     * @since 3.8.2
+     */
+    public enum StateBackend {
+        /**
+         * Each thread holds mutable maps of the bound resources and states.
+         * Propagating the state to another thread copies the maps.
+         */
+        THREAD_LOCAL,
+        /**
+         * Each thread holds a reference to immutable, structurally shared bindings, similar to a scoped value.
+         * Propagating the state to another thread (for example a forked virtual thread) only shares the reference,
+         * lookups don't lock and reading the state of a thread without bindings doesn't allocate.
+         */
+        SCOPED
+    }
 
     /**
      * The transaction synchronization state autocloseable operation.
@@ -770,13 +815,25 @@ public abstract class TransactionSynchronizationManager {
         void close();
     }
 
+    /**
+     * The state holding the resources and the synchronous transaction states.
+     */
+    private abstract static class AbstractTransactionSynchronizationState implements TransactionSynchronizationState {
+
+        @NonNull
+        abstract Map<Object, Object> getResources();
+
+        @NonNull
+        abstract Map<Object, SynchronousTransactionState> getStates();
+    }
+
     /**
      * The copy-state of the thread-local values.
      *
      * @author Denis Stepanov
      * @since 3.4.0
      */
-    private static final class MutableTransactionSynchronizationState implements TransactionSynchronizationState {
+    private static final class MutableTransactionSynchronizationState extends AbstractTransactionSynchronizationState {
         private final Map<Object, Object> resources;
         private final Map<Object, SynchronousTransactionState> states;
 
@@ -789,11 +846,13 @@ public abstract class TransactionSynchronizationManager {
             this.states = states;
         }
 
+        @Override
         @NonNull
         public synchronized Map<Object, Object> getResources() {
             return resources;
         }
 
+        @Override
         @NonNull
         public synchronized Map<Object, SynchronousTransactionState> getStates() {
             return states;
@@ -805,4 +864,161 @@ public abstract class TransactionSynchronizationManager {
         }
     }
 
+    /**
+     * The state backed by persistent bindings: copying the state is constant time and shares the bindings.
+     *
+     * @since 3.8.2
+     */
+    private static final class ScopedTransactionSynchronizationState extends AbstractTransactionSynchronizationState {
+        private final PersistentMap<Object> resources;
+        private final PersistentMap<SynchronousTransactionState> states;
+
+        private ScopedTransactionSynchronizationState() {
+            this(new PersistentMap<>(null), new PersistentMap<>(null));
+        }
+
+        private ScopedTransactionSynchronizationState(PersistentMap<Object> resources, PersistentMap<SynchronousTransactionState> states) {
+            this.resources = resources;
+            this.states = states;
+        }
+
+        @Override
+        @NonNull
+        Map<Object, Object> getResources() {
+            return resources;
+        }
+
+        @Override
+        @NonNull
+        Map<Object, SynchronousTransactionState> getStates() {
+            return states;
+        }
+
+        @Override
+        public ScopedTransactionSynchronizationState copy() {
+            return new ScopedTransactionSynchronizationState(resources.fork(), states.fork());
+        }
+    }
+
+    /**
+     * A map view of immutable bindings. Modifications replace the head of the bindings,
+     * the unchanged tail is shared with the forked maps. The map is expected to contain only a few entries.
+     *
+     * @param <V> The value type
+     * @since 3.8.2
+     */
+    private static final class PersistentMap<V> extends AbstractMap<Object, V> {
+
+        @Nullable
+        private volatile Binding<V> head;
+
+        private PersistentMap(@Nullable Binding<V> head) {
+            this.head = head;
+        }
+
+        /**
+         * @return A new map sharing the current bindings
+         */
+        PersistentMap<V> fork() {
+            return new PersistentMap<>(head);
+        }
+
+        @Override
+        public V get(Object key) {
+            Binding<V> binding = find(head, key);
+            return binding == null ? null : binding.value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return find(head, key) != null;
+        }
+
+        @Override
+        public synchronized V put(Object key, V value) {
+            Binding<V> current = head;
+            Binding<V> existing = find(current, key);
+            head = new Binding<>(key, value, existing == null ? current : without(current, key));
+            return existing == null ? null : existing.value;
+        }
+
+        @Override
+        public synchronized V remove(Object key) {
+            Binding<V> current = head;
+            Binding<V> existing = find(current, key);
+            if (existing == null) {
+                return null;
+            }
+            head = without(current, key);
+            return existing.value;
+        }
+
+        @Override
+        public synchronized void clear() {
+            head = null;
+        }
+
+        @Override
+        public int size() {
+            Binding<V> current = head;
+            return current == null ? 0 : current.size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return head == null;
+        }
+
+        @Override
+        public Set<Entry<Object, V>> entrySet() {
+            Set<Entry<Object, V>> entries = new LinkedHashSet<>();
+            for (Binding<V> binding = head; binding != null; binding = binding.next) {
+                entries.add(new SimpleImmutableEntry<>(binding.key, binding.value));
+            }
+            return Collections.unmodifiableSet(entries);
+        }
+
+        @Nullable
+        private static <V> Binding<V> find(@Nullable Binding<V> binding, Object key) {
+            for (; binding != null; binding = binding.next) {
+                if (binding.key.equals(key)) {
+                    return binding;
+                }
+            }
+            return null;
+        }
+
+        @Nullable
+        private static <V> Binding<V> without(@Nullable Binding<V> binding, Object key) {
+            if (binding == null) {
+                return null;
+            }
+            if (binding.key.equals(key)) {
+                return binding.next;
+            }
+            Binding<V> next = without(binding.next, key);
+            return next == binding.next ? binding : new Binding<>(binding.key, binding.value, next);
+        }
+    }
+
+    /**
+     * An immutable key-value binding.
+     *
+     * @param <V> The value type
+     */
+    private static final class Binding<V> {
+        private final Object key;
+        private final V value;
+        @Nullable
+        private final Binding<V> next;
+        private final int size;
+
+        private Binding(Object key, V value, @Nullable Binding<V> next) {
+            this.key = key;
+            this.value = value;
+            this.next = next;
+            this.size = next == null ? 1 : next.size + 1;
+        }
+    }
+
 }
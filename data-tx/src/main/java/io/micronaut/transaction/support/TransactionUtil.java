@@ -21,7 +21,9 @@ import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.transaction.TransactionDefinition;
+import io.micronaut.transaction.TransactionRetryPolicy;
 import io.micronaut.transaction.annotation.TransactionalAdvice;
+import io.micronaut.transaction.annotation.TransactionalRetry;
 
 import java.time.Duration;
 import java.util.Arrays;
@@ -66,6 +68,16 @@ public final class TransactionUtil {
                 .ifPresent(definition::setPropagationBehavior);
         annotation.enumValue("isolation", TransactionDefinition.Isolation.class)
                 .ifPresent(definition::setIsolationLevel);
+        AnnotationValue<TransactionalRetry> retry = annotationMetadataProvider.getAnnotation(TransactionalRetry.class);
+        if (retry != null) {
+            definition.setRetryPolicy(new TransactionRetryPolicy(
+                    retry.intValue("attempts").orElse(3),
+                    retry.get("delay", Duration.class).orElse(Duration.ofMillis(20)),
+                    retry.get("maxDelay", Duration.class).orElse(Duration.ofSeconds(1)),
+                    retry.doubleValue("multiplier").orElse(2),
+                    retry.doubleValue("jitter").orElse(0.5)
+            ));
+        }
         return definition;
     }
 
@@ -0,0 +1,98 @@
+package io.micronaut.transaction.jdbc
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionCallback
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.TransactionStatus
+import io.micronaut.transaction.support.DefaultTransactionDefinition
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+class LazyConnectionTransactionManagerSpec extends Specification {
+
+    @Inject
+    DataSource dataSource
+
+    CountingDataSource countingDataSource
+    DataSourceTransactionManager transactionManager
+
+    void setup() {
+        countingDataSource = new CountingDataSource(target: DelegatingDataSource.unwrapDataSource(dataSource))
+        transactionManager = new DataSourceTransactionManager(countingDataSource)
+        transactionManager.setLazyConnectionAcquisition(true)
+    }
+
+    void "test transaction without statements doesn't acquire a connection"() {
+        when:"a transaction returns without touching the connection"
+        def result = transactionManager.executeWrite({ TransactionStatus status ->
+            "cached"
+        } as TransactionCallback)
+
+        then:"no connection was acquired"
+        result == "cached"
+        countingDataSource.acquired == 0
+
+        when:"a transaction fails without touching the connection"
+        transactionManager.executeWrite({ TransactionStatus status ->
+            throw new RuntimeException("Bad things happened")
+        } as TransactionCallback)
+
+        then:"the rollback is a no-op"
+        def e = thrown(RuntimeException)
+        e.message == 'Bad things happened'
+        countingDataSource.acquired == 0
+    }
+
+    void "test connection is acquired and prepared on first use"() {
+        given:
+        def definition = new DefaultTransactionDefinition()
+        definition.setIsolationLevel(TransactionDefinition.Isolation.SERIALIZABLE)
+
+        when:"the connection is used within the transaction"
+        def result = transactionManager.execute(definition, { TransactionStatus<Connection> status ->
+            assert countingDataSource.acquired == 0
+            def connection = status.connection
+            assert !connection.autoCommit
+            assert connection.transactionIsolation == Connection.TRANSACTION_SERIALIZABLE
+            def ps = connection.prepareStatement("select 1")
+            ps.withCloseable {
+                def rs = it.executeQuery()
+                rs.next()
+                rs.getInt(1)
+            }
+        } as TransactionCallback)
+
+        then:"a single connection was acquired"
+        result == 1
+        countingDataSource.acquired == 1
+    }
+
+    void "test connection is acquired once per transaction"() {
+        when:
+        transactionManager.executeWrite({ TransactionStatus<Connection> status ->
+            assert status.connection.is(DataSourceUtils.getConnection(countingDataSource))
+            assert status.connection.is(transactionManager.getConnection())
+        } as TransactionCallback)
+
+        then:
+        countingDataSource.acquired == 1
+    }
+
+    static class CountingDataSource implements DataSource {
+        @Delegate
+        DataSource target
+        int acquired
+
+        @Override
+        Connection getConnection() {
+            acquired++
+            return target.getConnection()
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.micronaut.transaction.jdbc
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionCallback
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.TransactionRetryPolicy
+import io.micronaut.transaction.TransactionStatus
+import io.micronaut.transaction.support.DefaultTransactionDefinition
+import io.micronaut.transaction.support.TransactionRetryListener
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.SQLException
+import java.sql.SQLTransactionRollbackException
+import java.time.Duration
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+class TransactionRetrySpec extends Specification {
+
+    @Inject
+    DataSource dataSource
+
+    DataSourceTransactionManager transactionManager
+    RecordingListener listener = new RecordingListener()
+
+    void setup() {
+        transactionManager = new DataSourceTransactionManager(DelegatingDataSource.unwrapDataSource(dataSource))
+        transactionManager.setRetryListener(listener)
+    }
+
+    void "test serialization failure is retried in a new transaction"() {
+        given:
+        def definition = retried(3)
+        def connections = []
+
+        when:
+        def result = transactionManager.execute(definition, { TransactionStatus status ->
+            connections << status.connection
+            if (connections.size() < 3) {
+                throw new SQLTransactionRollbackException("could not serialize access", "40001")
+            }
+            "done"
+        } as TransactionCallback)
+
+        then:
+        result == "done"
+        connections.size() == 3
+        listener.retries == 2
+        listener.outcomes == [(TransactionRetryListener.Outcome.SUCCESS): 3]
+    }
+
+    void "test retries are exhausted"() {
+        when:
+        int attempts = 0
+        transactionManager.execute(retried(2), { TransactionStatus status ->
+            attempts++
+            throw new SQLTransactionRollbackException("deadlock detected", "40P01")
+        } as TransactionCallback)
+
+        then:
+        thrown(SQLTransactionRollbackException)
+        attempts == 2
+        listener.outcomes == [(TransactionRetryListener.Outcome.EXHAUSTED): 2]
+    }
+
+    void "test non transient errors are not retried"() {
+        when:
+        int attempts = 0
+        transactionManager.execute(retried(3), { TransactionStatus status ->
+            attempts++
+            throw new SQLException("unique constraint violated", "23505")
+        } as TransactionCallback)
+
+        then:
+        thrown(SQLException)
+        attempts == 1
+        listener.outcomes == [(TransactionRetryListener.Outcome.NOT_RETRYABLE): 1]
+    }
+
+    void "test participating transaction is only retried by the outer transaction"() {
+        when:
+        int outerAttempts = 0
+        int innerAttempts = 0
+        transactionManager.execute(retried(2), { TransactionStatus outer ->
+            outerAttempts++
+            transactionManager.execute(retried(5), { TransactionStatus inner ->
+                assert !inner.newTransaction
+                innerAttempts++
+                throw new SQLTransactionRollbackException("could not serialize access", "40001")
+            } as TransactionCallback)
+        } as TransactionCallback)
+
+        then:
+        thrown(SQLTransactionRollbackException)
+        outerAttempts == 2
+        innerAttempts == 2
+    }
+
+    void "test backoff delay is capped and jittered"() {
+        given:
+        def policy = new TransactionRetryPolicy(5, Duration.ofMillis(100), Duration.ofMillis(300), 2, 0.5)
+
+        expect:
+        (1..10).every {
+            def delay = policy.nextDelay(1).toMillis()
+            delay >= 50 && delay <= 100
+        }
+        (1..10).every {
+            def delay = policy.nextDelay(4).toMillis()
+            delay >= 150 && delay <= 300
+        }
+        TransactionRetryPolicy.NONE.nextDelay(1) == Duration.ZERO
+    }
+
+    private static TransactionDefinition retried(int attempts) {
+        def definition = new DefaultTransactionDefinition()
+        definition.setRetryPolicy(TransactionRetryPolicy.of(attempts, Duration.ofMillis(1)))
+        return definition
+    }
+
+    static class RecordingListener implements TransactionRetryListener {
+        int retries
+        Map<TransactionRetryListener.Outcome, Integer> outcomes = [:]
+
+        @Override
+        void onRetry(TransactionDefinition definition, int failedAttempts, Throwable cause, Duration delay) {
+            retries++
+        }
+
+        @Override
+        void onComplete(TransactionDefinition definition, int attempts, TransactionRetryListener.Outcome outcome, Throwable failure) {
+            outcomes[outcome] = attempts
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package io.micronaut.transaction.scoped
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.SynchronousTransactionManager
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.exceptions.NoTransactionException
+import io.micronaut.transaction.interceptor.TransactionalInterceptor
+import io.micronaut.transaction.jdbc.ConnectionHolder
+import io.micronaut.transaction.support.TransactionSynchronization
+import io.micronaut.transaction.support.TransactionSynchronizationManager
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import spock.lang.Requires
+import spock.lang.Specification
+
+import javax.transaction.Transactional
+import java.sql.Connection
+import java.util.concurrent.CompletableFuture
+import java.util.function.Supplier
+
+/**
+ * Runs with {@code micronaut.transaction.state-backend=scoped}, see the {@code scopedStateBackendTest} task.
+ */
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Requires({ sys['micronaut.transaction.state-backend'] == 'scoped' })
+class ScopedTransactionStateSpec extends Specification {
+
+    @Inject SynchronousTransactionManager<Connection> transactionManager
+    @Inject TestService testService
+
+    void cleanup() {
+        TransactionSynchronizationManager.setState(null)
+    }
+
+    void "test nested transaction joins the outer transaction"() {
+        when:
+            def result = transactionManager.executeWrite { outer ->
+                def outerHolder = currentConnectionHolder()
+                def inner = transactionManager.executeWrite { inner ->
+                    [status: inner, holder: currentConnectionHolder()]
+                }
+                [outer: outer, outerHolder: outerHolder, inner: inner.status, innerHolder: inner.holder, holderAfter: currentConnectionHolder()]
+            }
+
+        then:
+            result.outer.newTransaction
+            !result.inner.newTransaction
+            result.outerHolder != null
+            result.innerHolder.is(result.outerHolder)
+            result.holderAfter.is(result.outerHolder)
+
+        and:"the bindings are released once the transaction completes"
+            currentConnectionHolder() == null
+    }
+
+    void "test suspended transaction is resumed with its resources and synchronizations"() {
+        given:
+            def synchronization = new RecordingSynchronization()
+
+        when:
+            def result = transactionManager.executeWrite { outer ->
+                TransactionSynchronizationManager.registerSynchronization(synchronization)
+                def outerHolder = currentConnectionHolder()
+                def inner = transactionManager.execute(TransactionDefinition.of(TransactionDefinition.Propagation.REQUIRES_NEW)) { inner ->
+                    [status           : inner,
+                     holder           : currentConnectionHolder(),
+                     synchronizations : new ArrayList<>(TransactionSynchronizationManager.synchronizations)]
+                }
+                [outerHolder     : outerHolder,
+                 inner           : inner,
+                 holderAfter     : currentConnectionHolder(),
+                 synchronizations: new ArrayList<>(TransactionSynchronizationManager.synchronizations)]
+            }
+
+        then:"the inner transaction uses its own connection and doesn't see the outer synchronizations"
+            result.inner.status.newTransaction
+            !result.inner.holder.is(result.outerHolder)
+            result.inner.synchronizations.isEmpty()
+
+        and:"the outer transaction is resumed"
+            result.holderAfter.is(result.outerHolder)
+            result.synchronizations == [synchronization]
+            synchronization.events == ["suspend", "resume", "beforeCommit", "beforeCompletion", "afterCommit", "afterCompletion"]
+            currentConnectionHolder() == null
+    }
+
+    void "test a forked task sees the transaction bound when forking"() {
+        when:
+            def result = transactionManager.executeWrite { status ->
+                def state = TransactionSynchronizationManager.state.copy()
+                def forked = CompletableFuture.supplyAsync({
+                    TransactionSynchronizationManager.withState(state, { currentConnectionHolder() })
+                }).get()
+                [holder: currentConnectionHolder(), forked: forked]
+            }
+
+        then:
+            result.forked.is(result.holder)
+    }
+
+    void "test TransactionalInterceptor resolves the current transaction status"() {
+        when:
+            TransactionalInterceptor.currentTransactionStatus()
+
+        then:
+            thrown(NoTransactionException)
+
+        when:
+            def result = testService.inTransaction {
+                def outer = TransactionalInterceptor.currentTransactionStatus()
+                def joined = testService.inTransaction { TransactionalInterceptor.currentTransactionStatus() }
+                def suspending = testService.inNewTransaction { TransactionalInterceptor.currentTransactionStatus() }
+                [outer: outer, joined: joined, suspending: suspending, after: TransactionalInterceptor.currentTransactionStatus()]
+            }
+
+        then:
+            result.outer.newTransaction
+            !result.joined.newTransaction
+            !result.joined.is(result.outer)
+            result.suspending.newTransaction
+            !result.suspending.is(result.outer)
+            result.after.is(result.outer)
+
+        when:"the transaction is completed"
+            TransactionalInterceptor.currentTransactionStatus()
+
+        then:
+            thrown(NoTransactionException)
+    }
+
+    private static ConnectionHolder currentConnectionHolder() {
+        return (ConnectionHolder) TransactionSynchronizationManager.resourceMap.values().find { it instanceof ConnectionHolder }
+    }
+
+    static class RecordingSynchronization implements TransactionSynchronization {
+        final List<String> events = []
+
+        @Override
+        void suspend() {
+            events << "suspend"
+        }
+
+        @Override
+        void resume() {
+            events << "resume"
+        }
+
+        @Override
+        void beforeCommit(boolean readOnly) {
+            events << "beforeCommit"
+        }
+
+        @Override
+        void beforeCompletion() {
+            events << "beforeCompletion"
+        }
+
+        @Override
+        void afterCommit() {
+            events << "afterCommit"
+        }
+
+        @Override
+        void afterCompletion(TransactionSynchronization.Status status) {
+            events << "afterCompletion"
+        }
+    }
+
+    @Singleton
+    static class TestService {
+
+        @Transactional
+        <T> T inTransaction(Supplier<T> supplier) {
+            return supplier.get()
+        }
+
+        @Transactional(Transactional.TxType.REQUIRES_NEW)
+        <T> T inNewTransaction(Supplier<T> supplier) {
+            return supplier.get()
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package io.micronaut.transaction.scoped
+
+import io.micronaut.core.order.Ordered
+import io.micronaut.transaction.support.DefaultSynchronousTransactionState
+import io.micronaut.transaction.support.TransactionSynchronization
+import io.micronaut.transaction.support.TransactionSynchronizationManager
+import spock.lang.Requires
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Runs with {@code micronaut.transaction.state-backend=scoped}, see the {@code scopedStateBackendTest} task.
+ */
+@Requires({ sys['micronaut.transaction.state-backend'] == 'scoped' })
+class ScopedTransactionSynchronizationManagerSpec extends Specification {
+
+    ExecutorService executor = Executors.newSingleThreadExecutor()
+
+    void cleanup() {
+        TransactionSynchronizationManager.setState(null)
+        executor.shutdownNow()
+    }
+
+    void "test the scoped backend is selected"() {
+        expect:
+            TransactionSynchronizationManager.stateBackend == TransactionSynchronizationManager.StateBackend.SCOPED
+    }
+
+    void "test reading without bindings doesn't create a state"() {
+        expect:
+            !TransactionSynchronizationManager.hasResource("key")
+            TransactionSynchronizationManager.getResource("key") == null
+            TransactionSynchronizationManager.resourceMap.isEmpty()
+            TransactionSynchronizationManager.unbindResourceIfPossible("key") == null
+            TransactionSynchronizationManager.state == null
+    }
+
+    void "test bind and unbind resources"() {
+        when:
+            TransactionSynchronizationManager.bindResource("key1", "value1")
+            TransactionSynchronizationManager.bindResource("key2", "value2")
+
+        then:
+            TransactionSynchronizationManager.hasResource("key1")
+            TransactionSynchronizationManager.getResource("key1") == "value1"
+            TransactionSynchronizationManager.getResource("key2") == "value2"
+            TransactionSynchronizationManager.resourceMap == [key1: "value1", key2: "value2"]
+
+        when:
+            TransactionSynchronizationManager.bindResource("key1", "other")
+
+        then:
+            thrown(IllegalStateException)
+
+        when:
+            TransactionSynchronizationManager.rebindResource("key1", "other")
+
+        then:
+            TransactionSynchronizationManager.getResource("key1") == "other"
+            TransactionSynchronizationManager.resourceMap.size() == 2
+
+        when:
+            def unbound = TransactionSynchronizationManager.unbindResource("key1")
+
+        then:
+            unbound == "other"
+            !TransactionSynchronizationManager.hasResource("key1")
+            TransactionSynchronizationManager.resourceMap == [key2: "value2"]
+            TransactionSynchronizationManager.unbindResourceIfPossible("key1") == null
+
+        when:
+            TransactionSynchronizationManager.unbindResource("key1")
+
+        then:
+            thrown(IllegalStateException)
+
+        when:
+            TransactionSynchronizationManager.unbindResource("key2")
+
+        then:
+            TransactionSynchronizationManager.resourceMap.isEmpty()
+    }
+
+    void "test register and clear synchronizations"() {
+        given:
+            def first = new OrderedSynchronization(1)
+            def second = new OrderedSynchronization(2)
+            TransactionSynchronizationManager.bindSynchronousTransactionState(TransactionSynchronizationManager.DEFAULT_STATE_KEY, new DefaultSynchronousTransactionState())
+
+        expect:
+            !TransactionSynchronizationManager.synchronizationActive
+
+        when:
+            TransactionSynchronizationManager.registerSynchronization(first)
+
+        then:
+            thrown(IllegalStateException)
+
+        when:
+            TransactionSynchronizationManager.initSynchronization()
+            TransactionSynchronizationManager.registerSynchronization(second)
+            TransactionSynchronizationManager.registerSynchronization(first)
+
+        then:
+            TransactionSynchronizationManager.synchronizationActive
+            TransactionSynchronizationManager.synchronizations == [first, second]
+
+        when:
+            TransactionSynchronizationManager.clearSynchronization()
+
+        then:
+            !TransactionSynchronizationManager.synchronizationActive
+
+        when:
+            TransactionSynchronizationManager.synchronizations
+
+        then:
+            thrown(IllegalStateException)
+
+        when:
+            TransactionSynchronizationManager.unbindSynchronousTransactionState(TransactionSynchronizationManager.DEFAULT_STATE_KEY)
+
+        then:
+            TransactionSynchronizationManager.getSynchronousTransactionState(TransactionSynchronizationManager.DEFAULT_STATE_KEY) == null
+    }
+
+    void "test the state copied to a forked task is isolated from later changes"() {
+        given:
+            TransactionSynchronizationManager.bindResource("shared", "value")
+            def forkedState = TransactionSynchronizationManager.state.copy()
+
+        when:"the forked task changes its bindings"
+            def forkedResources = CompletableFuture.supplyAsync({
+                TransactionSynchronizationManager.withState(forkedState, {
+                    def seen = new LinkedHashMap<>(TransactionSynchronizationManager.resourceMap)
+                    TransactionSynchronizationManager.unbindResource("shared")
+                    TransactionSynchronizationManager.bindResource("forked", "value")
+                    [seen: seen, after: new LinkedHashMap<>(TransactionSynchronizationManager.resourceMap)]
+                })
+            }, executor).get()
+
+        then:"the forked task started with the bindings of the parent"
+            forkedResources.seen == [shared: "value"]
+            forkedResources.after == [forked: "value"]
+
+        and:"the parent bindings are untouched"
+            TransactionSynchronizationManager.resourceMap == [shared: "value"]
+
+        when:"the parent changes its bindings after the fork"
+            TransactionSynchronizationManager.bindResource("parent", "value")
+            def forkedAfterParentChange = CompletableFuture.supplyAsync({
+                TransactionSynchronizationManager.withState(forkedState, {
+                    new LinkedHashMap<>(TransactionSynchronizationManager.resourceMap)
+                })
+            }, executor).get()
+
+        then:"the forked state doesn't see them"
+            forkedAfterParentChange == [forked: "value"]
+            TransactionSynchronizationManager.resourceMap == [parent: "value", shared: "value"]
+    }
+
+    void "test the state propagated with decorateToPropagateState is restored after the task"() {
+        given:
+            TransactionSynchronizationManager.bindResource("shared", "value")
+            def task = TransactionSynchronizationManager.decorateToPropagateState({
+                TransactionSynchronizationManager.getResource("shared")
+            })
+
+        when:
+            def result = CompletableFuture.supplyAsync({
+                def value = task.get()
+                [value: value, stateAfter: TransactionSynchronizationManager.state]
+            }, executor).get()
+
+        then:
+            result.value == "value"
+            result.stateAfter == null
+    }
+
+    static class OrderedSynchronization implements TransactionSynchronization, Ordered {
+        final int order
+
+        OrderedSynchronization(int order) {
+            this.order = order
+        }
+
+        @Override
+        int getOrder() {
+            return order
+        }
+    }
+}